@@ -0,0 +1,66 @@
+package com.notifications.benchmarks;
+
+import com.notifications.NotificationService;
+import com.notifications.core.ChannelType;
+import com.notifications.core.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos compartidos por los benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static NotificationService service(long latencyMicros) {
+        StubProvider provider = new StubProvider(latencyMicros);
+        return new NotificationService.Builder()
+                .withEmailChannel(provider)
+                .withSmsChannel(provider)
+                .withPushChannel(provider)
+                .build();
+    }
+
+    static Notification email(int i) {
+        return Notification.builder()
+                .id("bench-email-" + i)
+                .recipient("usuario" + i + "@ejemplo.com")
+                .subject("Bienvenido")
+                .content("Gracias por registrarte en nuestra plataforma")
+                .build();
+    }
+
+    static Notification sms(int i) {
+        return Notification.builder()
+                .id("bench-sms-" + i)
+                .recipient("+54911" + (10_000_000 + i))
+                .content("Tu código de verificación es: 123456")
+                .preferredChannel(ChannelType.SMS)
+                .build();
+    }
+
+    static Notification push(int i) {
+        return Notification.builder()
+                .id("bench-push-" + i)
+                .recipient("device-token-" + i)
+                .subject("Nueva promoción")
+                .content("Aprovecha 50% de descuento")
+                .preferredChannel(ChannelType.PUSH)
+                .build();
+    }
+
+    static List<Notification> mixed(int size) {
+        List<Notification> notifications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            switch (i % 3) {
+                case 0 -> notifications.add(email(i));
+                case 1 -> notifications.add(sms(i));
+                default -> notifications.add(push(i));
+            }
+        }
+        return notifications;
+    }
+}
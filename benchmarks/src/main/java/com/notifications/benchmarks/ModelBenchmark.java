@@ -0,0 +1,69 @@
+package com.notifications.benchmarks;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la construcción de {@link Notification} mediante los builders {@code @Singular} de Lombok
+ * con conjuntos grandes de destinatarios, y la creación de {@link NotificationResult}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ModelBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int recipients;
+
+    private List<String> addresses;
+
+    @Setup
+    public void setUp() {
+        addresses = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            addresses.add("usuario" + i + "@ejemplo.com");
+        }
+    }
+
+    @Benchmark
+    public Notification buildWithRecipientCollection() {
+        return Notification.builder()
+                .id("bench-1")
+                .recipients(addresses)
+                .subject("Bienvenido")
+                .content("Gracias por registrarte")
+                .metadata("campaign", "onboarding")
+                .build();
+    }
+
+    @Benchmark
+    public Notification buildWithSingularRecipients() {
+        Notification.NotificationBuilder builder = Notification.builder()
+                .id("bench-1")
+                .subject("Bienvenido")
+                .content("Gracias por registrarte");
+        for (String address : addresses) {
+            builder.recipient(address);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public NotificationResult successResult() {
+        return NotificationResult.success("bench-1", ChannelType.EMAIL, "sg_1");
+    }
+
+    @Benchmark
+    public NotificationResult failureResult() {
+        return NotificationResult.failure("bench-1", ChannelType.EMAIL, "Error al enviar email");
+    }
+}
@@ -0,0 +1,62 @@
+package com.notifications.benchmarks;
+
+import com.notifications.core.Notification;
+import com.notifications.outbox.NotificationCodec;
+import com.notifications.outbox.WriteAheadLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mide las aceptaciones durables por segundo del {@link WriteAheadLog} con confirmación en disco
+ * por grupos. Con varios hilos escribiendo, un mismo {@code force()} confirma muchas entradas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@Threads(32)
+public class OutboxBenchmark {
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    private Path directory;
+    private WriteAheadLog wal;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("outbox-bench");
+        wal = new WriteAheadLog(directory, 64 * 1024 * 1024, fsync);
+        payload = NotificationCodec.encode(Notification.builder()
+                .id("bench-1")
+                .recipient("usuario@ejemplo.com")
+                .subject("Bienvenido")
+                .content("Gracias por registrarte")
+                .metadata("campaign", "onboarding")
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        wal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long durableAccept() {
+        long sequence = wal.append(payload).join();
+        wal.acknowledge(sequence);
+        return sequence;
+    }
+}
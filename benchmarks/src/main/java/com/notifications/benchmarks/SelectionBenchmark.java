@@ -0,0 +1,106 @@
+package com.notifications.benchmarks;
+
+import com.notifications.NotificationService;
+import com.notifications.channels.email.EmailChannel;
+import com.notifications.channels.sms.SmsChannel;
+import com.notifications.core.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Mide la selección de canal y la validación de destinatarios de los canales de email y SMS,
+ * comparando el clasificador actual con las expresiones regulares que reemplazó.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class SelectionBenchmark {
+
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PHONE_PATTERN =
+            Pattern.compile("^\\+?[1-9]\\d{1,14}$");
+
+    private NotificationService service;
+    private MethodHandle selectChannel;
+    private EmailChannel emailChannel;
+    private SmsChannel smsChannel;
+    private Notification email;
+    private Notification sms;
+    private Notification push;
+    private RecipientClassifier classifier;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        service = Fixtures.service(0);
+        selectChannel = MethodHandles.privateLookupIn(NotificationService.class, MethodHandles.lookup())
+                .findVirtual(NotificationService.class, "selectChannel",
+                        MethodType.methodType(NotificationChannel.class, Notification.class));
+
+        StubProvider provider = new StubProvider(0);
+        emailChannel = new EmailChannel(provider);
+        smsChannel = new SmsChannel(provider);
+        email = Fixtures.email(1);
+        sms = Fixtures.sms(1);
+        push = Fixtures.push(1);
+        classifier = new RecipientClassifier(1024);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public NotificationChannel selectChannelEmail() throws Throwable {
+        return (NotificationChannel) selectChannel.invokeExact(service, email);
+    }
+
+    @Benchmark
+    public NotificationChannel selectChannelPush() throws Throwable {
+        return (NotificationChannel) selectChannel.invokeExact(service, push);
+    }
+
+    @Benchmark
+    public NotificationResult emailChannelSend() throws NotificationException {
+        return emailChannel.send(email);
+    }
+
+    @Benchmark
+    public NotificationResult smsChannelSend() throws NotificationException {
+        return smsChannel.send(sms);
+    }
+
+    @Benchmark
+    public RecipientClassification classifyRecipients() {
+        return classifier.classifyAll(email.getRecipients());
+    }
+
+    @Benchmark
+    public boolean emailScanner() {
+        return RecipientClassifier.isEmail("usuario1@ejemplo.com");
+    }
+
+    @Benchmark
+    public boolean emailRegexBaseline() {
+        return EMAIL_PATTERN.matcher("usuario1@ejemplo.com").matches();
+    }
+
+    @Benchmark
+    public boolean phoneScanner() {
+        return RecipientClassifier.isPhone("+5491110000001");
+    }
+
+    @Benchmark
+    public boolean phoneRegexBaseline() {
+        return PHONE_PATTERN.matcher("+5491110000001").matches();
+    }
+}
@@ -0,0 +1,67 @@
+package com.notifications.benchmarks;
+
+import com.notifications.NotificationService;
+import com.notifications.core.BatchOptions;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el camino completo de envío del servicio con proveedores simulados.
+ * Ejecutar con {@code -prof gc} para obtener la tasa de asignación de memoria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class SendBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"0", "200"})
+    public long latencyMicros;
+
+    private NotificationService service;
+    private Notification email;
+    private List<Notification> batch;
+
+    @Setup
+    public void setUp() {
+        service = Fixtures.service(latencyMicros);
+        email = Fixtures.email(1);
+        batch = Fixtures.mixed(BATCH_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public NotificationResult send() throws NotificationException {
+        return service.send(email);
+    }
+
+    @Benchmark
+    public NotificationResult sendAsync() {
+        return service.sendAsync(email).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<NotificationResult> sendBatchSequential() {
+        return service.sendBatch(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<NotificationResult> sendBatchParallel() {
+        return service.sendBatch(batch, BatchOptions.defaults());
+    }
+}
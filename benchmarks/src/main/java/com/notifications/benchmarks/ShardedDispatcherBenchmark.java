@@ -0,0 +1,72 @@
+package com.notifications.benchmarks;
+
+import com.notifications.NotificationService;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import com.notifications.sharding.ShardedDispatcher;
+import com.notifications.sharding.ShardedDispatcherConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cómo escala el rendimiento del {@link ShardedDispatcher} con la cantidad de shards.
+ * Cada operación despacha un lote de notificaciones repartidas entre muchos destinatarios y espera
+ * todos los resultados; comparar los resultados de cada valor de {@code shards} con la cantidad de
+ * procesadores de la máquina.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ShardedDispatcherBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    @Param({"0", "20"})
+    public long latencyMicros;
+
+    private ShardedDispatcher dispatcher;
+    private Notification[] batch;
+
+    @Setup
+    public void setUp() {
+        dispatcher = ShardedDispatcher.start(
+                ShardedDispatcherConfig.builder().shards(shards).build(),
+                shard -> {
+                    StubProvider provider = new StubProvider(latencyMicros);
+                    return new NotificationService.Builder()
+                            .withEmailChannel(provider)
+                            .withSmsChannel(provider)
+                            .withPushChannel(provider);
+                });
+        batch = new Notification[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = Fixtures.email(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public NotificationResult dispatch() {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[BATCH_SIZE];
+        CompletableFuture<NotificationResult> last = null;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            last = dispatcher.dispatch(batch[i]);
+            results[i] = last;
+        }
+        CompletableFuture.allOf(results).join();
+        return last.join();
+    }
+}
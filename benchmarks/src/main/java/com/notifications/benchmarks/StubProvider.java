@@ -0,0 +1,50 @@
+package com.notifications.benchmarks;
+
+import com.notifications.channels.email.EmailProvider;
+import com.notifications.channels.push.PushProvider;
+import com.notifications.channels.sms.SmsProvider;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Proveedor simulado para los benchmarks, con latencia configurable y sin E/S real.
+ * Implementa los tres tipos de proveedor para poder configurar todos los canales.
+ */
+public class StubProvider implements EmailProvider, SmsProvider, PushProvider {
+
+    private final long latencyNanos;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param latencyMicros Latencia simulada de cada llamada en microsegundos (0 responde de inmediato)
+     */
+    public StubProvider(long latencyMicros) {
+        this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+    }
+
+    @Override
+    public String sendEmail(Set<String> recipients, String subject, String content, Map<String, Object> metadata) {
+        return respond("sg_");
+    }
+
+    @Override
+    public String sendSms(Set<String> recipients, String message, Map<String, Object> metadata) {
+        return respond("tw_");
+    }
+
+    @Override
+    public String sendPush(Set<String> deviceTokens, String title, String body, Map<String, Object> metadata) {
+        return respond("fcm_");
+    }
+
+    private String respond(String prefix) {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        return prefix + sequence.incrementAndGet();
+    }
+}
@@ -0,0 +1,1283 @@
+package com.notifications;
+
+import com.notifications.broadcast.BroadcastAggregator;
+import com.notifications.broadcast.BroadcastOptions;
+import com.notifications.broadcast.BroadcastResult;
+import com.notifications.coalescing.CoalescingChannel;
+import com.notifications.coalescing.CoalescingConfig;
+import com.notifications.core.*;
+import com.notifications.dedup.DeduplicationCache;
+import com.notifications.dedup.DeduplicationConfig;
+import com.notifications.dedup.DeduplicationStats;
+import com.notifications.digest.DigestChannel;
+import com.notifications.digest.DigestConfig;
+import com.notifications.dispatch.PriorityDispatcher;
+import com.notifications.dispatch.PriorityDispatcherConfig;
+import com.notifications.dispatch.PriorityLevelMetrics;
+import com.notifications.frequency.FrequencyCapConfig;
+import com.notifications.frequency.FrequencyCappedChannel;
+import com.notifications.metrics.MetricsListener;
+import com.notifications.metrics.NoopMetricsListener;
+import com.notifications.metrics.Phase;
+import com.notifications.outbox.Outbox;
+import com.notifications.outbox.OutboxConfig;
+import com.notifications.scheduling.NotificationScheduler;
+import com.notifications.scheduling.ScheduledNotification;
+import com.notifications.scheduling.SchedulerConfig;
+import com.notifications.streaming.IteratorPublisher;
+import com.notifications.streaming.NotificationStream;
+import com.notifications.streaming.StreamingOptions;
+import com.notifications.suppression.SuppressingChannel;
+import com.notifications.suppression.SuppressionList;
+import com.notifications.template.TemplateEngine;
+import com.notifications.tracking.DeliveryTracker;
+import com.notifications.tracking.DeliveryTrackingConfig;
+import com.notifications.tracking.TrackingChannel;
+import com.notifications.resilience.Bulkhead;
+import com.notifications.resilience.BulkheadConfig;
+import com.notifications.resilience.BulkheadMetrics;
+import com.notifications.resilience.AdaptiveConcurrencyChannel;
+import com.notifications.resilience.AdaptiveConcurrencyConfig;
+import com.notifications.resilience.AdaptiveConcurrencyLimiter;
+import com.notifications.resilience.CircuitBreaker;
+import com.notifications.resilience.CircuitBreakerChannel;
+import com.notifications.resilience.CircuitBreakerConfig;
+import com.notifications.resilience.CircuitBreakerSnapshot;
+import com.notifications.resilience.ConcurrencyLimitSnapshot;
+import com.notifications.resilience.RateLimitConfig;
+import com.notifications.resilience.RateLimitedChannel;
+import com.notifications.resilience.RetryBudget;
+import com.notifications.resilience.RetryPolicy;
+import com.notifications.resilience.RetryingChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Servicio principal para el envío de notificaciones.
+ * Implementa los patrones Facade y Builder para simplificar la interacción con múltiples canales.
+ */
+@Slf4j
+public class NotificationService implements AutoCloseable {
+
+    private static final int PRIORITY_LEVELS = Notification.Priority.values().length;
+
+    /**
+     * Errores con los que las etapas del servicio rechazan un envío sin llamar al proveedor.
+     */
+    private static final Set<NotificationException.ErrorType> LOCAL_REJECTIONS = EnumSet.of(
+            NotificationException.ErrorType.CAPACITY_ERROR,
+            NotificationException.ErrorType.RATE_LIMIT_ERROR,
+            NotificationException.ErrorType.CIRCUIT_OPEN_ERROR,
+            NotificationException.ErrorType.FREQUENCY_CAP_ERROR,
+            NotificationException.ErrorType.SUPPRESSED_ERROR
+    );
+
+    private final Map<ChannelType, NotificationChannel> channels = new EnumMap<>(ChannelType.class);
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final Map<ChannelType, Bulkhead> bulkheads = new EnumMap<>(ChannelType.class);
+    private final RetryBudget retryBudget;
+    private final Map<ChannelType, CircuitBreaker> circuitBreakers = new EnumMap<>(ChannelType.class);
+    private final Map<ChannelType, AdaptiveConcurrencyLimiter> concurrencyLimiters = new EnumMap<>(ChannelType.class);
+    private final MetricsListener metricsListener;
+    private final DeduplicationCache deduplication;
+    private final DeliveryTracker deliveryTracker;
+    private final Outbox outbox;
+    private final PriorityDispatcherConfig priorityDispatcherConfig;
+    private volatile PriorityDispatcher priorityDispatcher;
+    private volatile boolean closed;
+    private final NotificationScheduler scheduledDelivery;
+
+    /**
+     * Crea el servicio con los canales indicados, un ejecutor de hilos virtuales
+     * y un bulkhead con la configuración por defecto para cada canal.
+     *
+     * @param channels Canales disponibles por tipo
+     */
+    public NotificationService(Map<ChannelType, NotificationChannel> channels) {
+        this(new Builder().withChannels(channels));
+    }
+
+    private NotificationService(Builder builder) {
+        this.ownsExecutor = builder.executor == null;
+        this.executor = ownsExecutor ? Executors.newVirtualThreadPerTaskExecutor() : builder.executor;
+        this.scheduler = builder.coalescingConfig != null || builder.retryPolicy != null || builder.digestConfig != null
+                || builder.schedulerConfig != null ? newScheduler() : null;
+        this.retryBudget = builder.retryBudget != null ? builder.retryBudget : RetryBudget.defaults();
+        this.metricsListener = builder.metricsListener;
+        this.deduplication = builder.deduplicationConfig != null ? new DeduplicationCache(builder.deduplicationConfig) : null;
+        this.deliveryTracker = builder.deliveryTrackingConfig != null
+                ? new DeliveryTracker(builder.deliveryTrackingConfig) : null;
+
+        ChannelContext context = new ChannelContext(metricsListener, builder.templateEngine);
+        builder.channels.forEach((type, factory) -> {
+            channels.put(type, decorate(type, factory.apply(context), builder));
+            BulkheadConfig config = builder.bulkheadConfigs.getOrDefault(type, builder.defaultBulkheadConfig);
+            bulkheads.put(type, new Bulkhead(type, config, executor));
+        });
+
+        // Sin configuración explícita el despachador por prioridad se crea con el primer submit, para no
+        // reservar sus colas en los servicios que no lo usan
+        this.priorityDispatcherConfig = builder.priorityDispatcherConfig;
+        if (priorityDispatcherConfig != null) {
+            this.priorityDispatcher = new PriorityDispatcher(priorityDispatcherConfig, this::send, executor);
+        }
+
+        // El outbox se abre al final porque su despachador comienza a entregar las entradas recuperadas.
+        this.outbox = builder.outboxConfig != null ? openOutbox(builder.outboxConfig) : null;
+        // Los envíos programados recuperados pueden vencer de inmediato, así que se abren con el camino de envío completo
+        this.scheduledDelivery = builder.schedulerConfig != null ? openScheduler(builder.schedulerConfig) : null;
+    }
+
+    private NotificationScheduler openScheduler(SchedulerConfig config) {
+        try {
+            return new NotificationScheduler(config, this::sendAsync, scheduler, executor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron recuperar los envíos programados de " + config.getSnapshotFile(), e);
+        }
+    }
+
+    private Outbox openOutbox(OutboxConfig config) {
+        try {
+            return new Outbox(config, this::send, executor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el outbox en " + config.getDirectory(), e);
+        }
+    }
+
+    /**
+     * Aplica las etapas configuradas alrededor del canal.
+     */
+    private NotificationChannel decorate(ChannelType type, NotificationChannel channel, Builder builder) {
+        NotificationChannel decorated = channel;
+        AdaptiveConcurrencyConfig concurrency =
+                builder.concurrencyConfigs.getOrDefault(type, builder.defaultConcurrencyConfig);
+        if (concurrency != null) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(type, concurrency, metricsListener);
+            concurrencyLimiters.put(type, limiter);
+            decorated = new AdaptiveConcurrencyChannel(decorated, limiter);
+        }
+        RateLimitConfig rateLimit = builder.rateLimitConfigs.get(type);
+        if (rateLimit != null) {
+            decorated = new RateLimitedChannel(decorated, rateLimit, executor);
+        }
+        if (builder.retryPolicy != null) {
+            decorated = new RetryingChannel(decorated, builder.retryPolicy, retryBudget, scheduler, executor);
+        }
+        CircuitBreakerConfig circuitBreakerConfig =
+                builder.circuitBreakerConfigs.getOrDefault(type, builder.defaultCircuitBreakerConfig);
+        if (circuitBreakerConfig != null) {
+            CircuitBreaker circuitBreaker = new CircuitBreaker(type, circuitBreakerConfig);
+            circuitBreakers.put(type, circuitBreaker);
+            decorated = new CircuitBreakerChannel(decorated, circuitBreaker);
+        }
+        if (builder.coalescingConfig != null) {
+            decorated = new CoalescingChannel(decorated, builder.coalescingConfig, scheduler, executor);
+        }
+        FrequencyCapConfig frequencyCap = builder.frequencyCapConfigs.get(type);
+        if (frequencyCap != null) {
+            decorated = new FrequencyCappedChannel(decorated, frequencyCap);
+        }
+        if (builder.digestConfig != null) {
+            decorated = new DigestChannel(decorated, builder.digestConfig, scheduler, executor);
+        }
+        if (builder.suppressionList != null) {
+            decorated = new SuppressingChannel(decorated, builder.suppressionList);
+        }
+        if (deliveryTracker != null) {
+            decorated = new TrackingChannel(decorated, deliveryTracker);
+        }
+        return decorated;
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("notifications-scheduler").daemon().factory());
+    }
+
+    /**
+     * Envía una notificación utilizando el canal apropiado.
+     *
+     * @param notification Notificación a enviar
+     * @return Resultado del envío
+     * @throws NotificationException Si ocurre un error durante el proceso
+     */
+    public NotificationResult send(Notification notification) throws NotificationException {
+        NotificationChannel channel = resolveChannel(notification);
+        return deliver(channel, notification);
+    }
+
+    /**
+     * Envía la notificación por el canal seleccionado, descartando los duplicados recientes
+     * si la deduplicación está configurada.
+     */
+    private NotificationResult deliver(NotificationChannel channel, Notification notification)
+            throws NotificationException {
+        try {
+            if (deduplication == null) {
+                return channel.send(notification);
+            }
+            return deduplication.execute(notification, channel::send);
+        } catch (NotificationException e) {
+            recordRejection(channel.getType(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Registra la falla de un envío rechazado por una etapa del servicio antes de llegar al proveedor.
+     * Los canales solo registran los errores de validación y de envío, de modo que estos rechazos se
+     * registran aquí, una vez por notificación y sin proveedor.
+     */
+    private void recordRejection(ChannelType type, Throwable error) {
+        if (metricsListener.isEnabled() && AsyncResults.unwrap(error) instanceof NotificationException e
+                && LOCAL_REJECTIONS.contains(e.getErrorType())) {
+            metricsListener.recordFailure(type, null, e.getErrorType());
+        }
+    }
+
+    /**
+     * Registra con {@link #recordRejection(ChannelType, Throwable)} el error del envío, si lo hay.
+     */
+    private CompletableFuture<NotificationResult> recordingRejections(ChannelType type,
+                                                                      CompletableFuture<NotificationResult> sent) {
+        if (metricsListener.isEnabled()) {
+            sent.whenComplete((result, error) -> {
+                if (error != null) {
+                    recordRejection(type, error);
+                }
+            });
+        }
+        return sent;
+    }
+
+    /**
+     * Versión asíncrona de {@link #deliver(NotificationChannel, Notification)}.
+     */
+    private CompletableFuture<NotificationResult> deliverAsync(NotificationChannel channel, Notification notification) {
+        if (deduplication == null) {
+            return channel.sendAsync(notification);
+        }
+        return deduplication.executeAsync(notification, channel::sendAsync);
+    }
+
+    /**
+     * Envía la notificación por uno de los canales de un envío múltiple. La deduplicación se aplica
+     * por canal, para que la entrega por un canal no descarte la de los demás.
+     */
+    private CompletableFuture<NotificationResult> deliverAsync(NotificationChannel channel, ChannelType type,
+                                                               Notification notification) {
+        if (deduplication == null) {
+            return channel.sendAsync(notification);
+        }
+        return deduplication.executeAsync(notification, type, channel::sendAsync);
+    }
+
+    /**
+     * Envía una notificación de manera asíncrona.
+     * El envío se ejecuta en el bulkhead del canal seleccionado, de modo que un proveedor lento
+     * no consume la capacidad de los demás canales. Los errores completan el CompletableFuture
+     * con la {@link NotificationException} original.
+     * <p>
+     * El envío se compone con las llamadas asíncronas del proveedor: el permiso del bulkhead se
+     * conserva hasta la respuesta, pero ningún hilo queda bloqueado esperándola si el proveedor
+     * implementa su variante asíncrona.
+     * <p>
+     * Con el outbox configurado, la notificación se persiste antes del envío y la entrega la realiza
+     * el despachador del outbox.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado del envío
+     */
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        NotificationChannel channel;
+        try {
+            channel = resolveChannel(notification);
+        } catch (NotificationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (outbox != null) {
+            return outbox.submit(notification);
+        }
+        return recordingRejections(channel.getType(),
+                bulkheads.get(channel.getType()).submitAsync(() -> deliverAsync(channel, notification)));
+    }
+
+    /**
+     * Encola una notificación en el despachador por prioridad.
+     * Las notificaciones URGENT se envían antes que cualquier otra; HIGH, NORMAL y LOW se reparten
+     * la capacidad según su peso, y las que esperan demasiado se adelantan para no quedar postergadas.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado del envío, o con CAPACITY_ERROR si la cola de su nivel está llena
+     */
+    public CompletableFuture<NotificationResult> submit(Notification notification) {
+        return priorityDispatcher().submit(notification);
+    }
+
+    /**
+     * Programa el envío de una notificación para el momento indicado. Al vencer se envía con
+     * {@link #sendAsync(Notification)}; si el momento ya pasó, se envía de inmediato.
+     *
+     * @param notification Notificación a enviar
+     * @param at           Momento del envío
+     * @return Envío programado, que permite cancelarlo y esperar su resultado
+     * @throws NotificationException Si los envíos programados no están configurados o ningún canal soporta la notificación
+     */
+    public ScheduledNotification schedule(Notification notification, Instant at) throws NotificationException {
+        if (scheduledDelivery == null) {
+            throw new NotificationException(
+                    "Los envíos programados no están configurados",
+                    NotificationException.ErrorType.CONFIGURATION_ERROR,
+                    null
+            );
+        }
+        resolveChannel(notification);
+        return scheduledDelivery.schedule(notification, at);
+    }
+
+    /**
+     * Programa el envío de una notificación tras la demora indicada.
+     *
+     * @param notification Notificación a enviar
+     * @param delay        Demora desde ahora
+     * @return Envío programado
+     * @throws NotificationException Si los envíos programados no están configurados o ningún canal soporta la notificación
+     */
+    public ScheduledNotification schedule(Notification notification, Duration delay) throws NotificationException {
+        return schedule(notification, Instant.now().plus(delay));
+    }
+
+    /**
+     * Programa el envío de una notificación para la próxima vez que sea la hora indicada en la zona
+     * horaria del destinatario, por ejemplo las 09:00 locales.
+     *
+     * @param notification Notificación a enviar
+     * @param time         Hora local del envío
+     * @param zone         Zona horaria del destinatario
+     * @return Envío programado
+     * @throws NotificationException Si los envíos programados no están configurados o ningún canal soporta la notificación
+     */
+    public ScheduledNotification schedule(Notification notification, LocalTime time, ZoneId zone)
+            throws NotificationException {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime at = now.with(time);
+        if (!at.isAfter(now)) {
+            at = now.plusDays(1).with(time);
+        }
+        return schedule(notification, at.toInstant());
+    }
+
+    /**
+     * Cancela un envío programado que aún no venció.
+     *
+     * @param id Identificador del envío programado
+     * @return true si se canceló
+     */
+    public boolean cancelScheduled(long id) {
+        return scheduledDelivery != null && scheduledDelivery.cancel(id);
+    }
+
+    /**
+     * Cantidad de envíos programados pendientes.
+     *
+     * @return Envíos pendientes, o 0 si no están configurados
+     */
+    public int getScheduledCount() {
+        return scheduledDelivery != null ? scheduledDelivery.getPending() : 0;
+    }
+
+    /**
+     * Acepta una notificación de forma durable y la entrega en segundo plano.
+     * El CompletableFuture se completa en cuanto la notificación está persistida en el outbox;
+     * si la JVM se detiene antes de la entrega, la notificación se envía al reiniciar el servicio.
+     *
+     * @param notification Notificación a aceptar
+     * @return CompletableFuture completado cuando la notificación es durable
+     */
+    public CompletableFuture<Void> accept(Notification notification) {
+        if (outbox == null) {
+            return CompletableFuture.failedFuture(new NotificationException(
+                    "El outbox no está configurado",
+                    NotificationException.ErrorType.CONFIGURATION_ERROR,
+                    null
+            ));
+        }
+        try {
+            resolveChannel(notification);
+        } catch (NotificationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return outbox.accept(notification);
+    }
+
+    /**
+     * Envía una notificación por varios canales en paralelo y espera el resultado agregado.
+     *
+     * @param notification Notificación a enviar
+     * @param options      Canales y condición de finalización
+     * @return Resultado agregado de los canales
+     * @throws NotificationException Si ningún canal puede recibir la notificación
+     */
+    public BroadcastResult broadcast(Notification notification, BroadcastOptions options) throws NotificationException {
+        try {
+            return broadcastAsync(notification, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(
+                    "Envío múltiple interrumpido",
+                    NotificationException.ErrorType.SEND_ERROR,
+                    null,
+                    e
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof NotificationException notificationException) {
+                throw notificationException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NotificationException(
+                    "Error en el envío múltiple: " + e.getCause().getMessage(),
+                    NotificationException.ErrorType.SEND_ERROR,
+                    null,
+                    e.getCause()
+            );
+        }
+    }
+
+    /**
+     * Envía una notificación por varios canales en paralelo.
+     * Cada canal envía en su propio bulkhead; los canales con el circuito abierto o que no soportan
+     * la notificación figuran con un resultado fallido. El resultado se completa según el modo:
+     * con todos los resultados, con la primera entrega exitosa o al alcanzar el quórum. Los envíos
+     * que siguen en curso al completarse continúan en segundo plano.
+     *
+     * @param notification Notificación a enviar
+     * @param options      Canales y condición de finalización
+     * @return CompletableFuture con el resultado agregado
+     */
+    public CompletableFuture<BroadcastResult> broadcastAsync(Notification notification, BroadcastOptions options) {
+        log.info("Procesando notificación en modo múltiple: {}", notification.getId());
+
+        Set<ChannelType> targets;
+        BroadcastAggregator aggregator;
+        try {
+            targets = broadcastTargets(notification, options);
+            aggregator = new BroadcastAggregator(notification.getId(), options, targets);
+        } catch (NotificationException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        for (ChannelType type : targets) {
+            NotificationChannel channel = channels.get(type);
+            if (!channel.supports(notification)) {
+                aggregator.complete(type, NotificationResult.failure(notification.getId(), type,
+                        "El canal no soporta los destinatarios de la notificación"));
+            } else if (!isAvailable(channel)) {
+                recordRejection(type, new NotificationException("El circuito del canal está abierto",
+                        NotificationException.ErrorType.CIRCUIT_OPEN_ERROR, type));
+                aggregator.complete(type, NotificationResult.failure(notification.getId(), type,
+                        "El circuito del canal está abierto"));
+            } else {
+                recordingRejections(type, bulkheads.get(type).submitAsync(() -> deliverAsync(channel, type, notification)))
+                        .whenComplete((result, error) -> {
+                            if (error != null) {
+                                aggregator.completeExceptionally(type, error);
+                            } else {
+                                aggregator.complete(type, result);
+                            }
+                        });
+            }
+        }
+        return aggregator.result();
+    }
+
+    /**
+     * Determina los canales de un envío múltiple: los solicitados, o todos los que soportan la notificación.
+     */
+    private Set<ChannelType> broadcastTargets(Notification notification, BroadcastOptions options)
+            throws NotificationException {
+        ensureOpen();
+        if (channels.isEmpty()) {
+            throw new NotificationException(
+                    "No hay canales de notificación configurados",
+                    NotificationException.ErrorType.CONFIGURATION_ERROR,
+                    null
+            );
+        }
+
+        Set<ChannelType> targets = EnumSet.noneOf(ChannelType.class);
+        if (!options.getChannels().isEmpty()) {
+            for (ChannelType type : options.getChannels()) {
+                if (!channels.containsKey(type)) {
+                    throw new NotificationException(
+                            "El canal " + type + " no está configurado",
+                            NotificationException.ErrorType.CONFIGURATION_ERROR,
+                            type
+                    );
+                }
+                targets.add(type);
+            }
+            return targets;
+        }
+
+        channels.forEach((type, channel) -> {
+            if (channel.supports(notification)) {
+                targets.add(type);
+            }
+        });
+        if (targets.isEmpty()) {
+            throw new NotificationException(
+                    "No se encontró un canal compatible para los destinatarios especificados",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    null
+            );
+        }
+        return targets;
+    }
+
+    /**
+     * Obtiene las métricas de los bulkheads de todos los canales configurados.
+     *
+     * @return Métricas por tipo de canal
+     */
+    public Map<ChannelType, BulkheadMetrics> getBulkheadMetrics() {
+        Map<ChannelType, BulkheadMetrics> metrics = new EnumMap<>(ChannelType.class);
+        bulkheads.forEach((type, bulkhead) -> metrics.put(type, bulkhead.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Obtiene la profundidad de cola, los contadores y el tiempo de espera de cada nivel de prioridad.
+     *
+     * @return Métricas por prioridad; vacío si el despachador no se configuró y aún no se usó {@code submit}
+     */
+    public Map<Notification.Priority, PriorityLevelMetrics> getPriorityMetrics() {
+        PriorityDispatcher dispatcher = priorityDispatcher;
+        return dispatcher != null ? dispatcher.getMetrics() : Map.of();
+    }
+
+    private PriorityDispatcher priorityDispatcher() {
+        PriorityDispatcher dispatcher = priorityDispatcher;
+        if (dispatcher == null) {
+            synchronized (this) {
+                dispatcher = priorityDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new PriorityDispatcher(PriorityDispatcherConfig.defaults(), this::send, executor);
+                    priorityDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Obtiene el estado de los circuit breakers de los canales protegidos.
+     *
+     * @return Instantánea de cada circuito por tipo de canal
+     */
+    public Map<ChannelType, CircuitBreakerSnapshot> getCircuitBreakers() {
+        Map<ChannelType, CircuitBreakerSnapshot> snapshots = new EnumMap<>(ChannelType.class);
+        circuitBreakers.forEach((type, circuitBreaker) -> snapshots.put(type, circuitBreaker.getSnapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Obtiene el estado de los límites de concurrencia adaptativos de los canales que los tienen.
+     *
+     * @return Instantánea de cada límite por tipo de canal
+     */
+    public Map<ChannelType, ConcurrencyLimitSnapshot> getConcurrencyLimits() {
+        Map<ChannelType, ConcurrencyLimitSnapshot> snapshots = new EnumMap<>(ChannelType.class);
+        concurrencyLimiters.forEach((type, limiter) -> snapshots.put(type, limiter.getSnapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Obtiene el estado del circuito de un canal.
+     *
+     * @param type Tipo de canal
+     * @return Estado del circuito, o vacío si el canal no tiene circuit breaker
+     */
+    public Optional<CircuitBreaker.State> getCircuitBreakerState(ChannelType type) {
+        return Optional.ofNullable(circuitBreakers.get(type)).map(CircuitBreaker::getState);
+    }
+
+    /**
+     * Obtiene el listener de métricas del servicio.
+     *
+     * @return Listener configurado, o {@link NoopMetricsListener#INSTANCE} si no se configuró ninguno
+     */
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Obtiene el outbox durable del servicio.
+     *
+     * @return Outbox, o vacío si no está configurado
+     */
+    public Optional<Outbox> getOutbox() {
+        return Optional.ofNullable(outbox);
+    }
+
+    /**
+     * Obtiene los contadores de la caché de deduplicación.
+     *
+     * @return Aciertos, envíos agrupados y entradas recordadas, o vacío si la deduplicación no está configurada
+     */
+    public Optional<DeduplicationStats> getDeduplicationStats() {
+        return Optional.ofNullable(deduplication).map(DeduplicationCache::getStats);
+    }
+
+    /**
+     * Obtiene el registro de estados de entrega, donde se consultan los envíos y se aplican
+     * las actualizaciones recibidas de los webhooks de los proveedores.
+     *
+     * @return Registro de entregas, o vacío si no está configurado
+     */
+    public Optional<DeliveryTracker> getDeliveryTracker() {
+        return Optional.ofNullable(deliveryTracker);
+    }
+
+    /**
+     * Obtiene el presupuesto global de reintentos.
+     *
+     * @return Presupuesto compartido por los canales
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Libera los recursos del servicio.
+     * Guarda o descarta los envíos programados pendientes, detiene el outbox, deja de aceptar envíos, envía las
+     * notificaciones retenidas por las etapas de los canales y, si el ejecutor fue creado por el servicio,
+     * espera a que terminen los envíos en curso. Los envíos que ya estaban en un bulkhead llegan a etapas
+     * cerradas, que los entregan sin retenerlos.
+     */
+    @Override
+    public void close() {
+        if (scheduledDelivery != null) {
+            scheduledDelivery.close();
+        }
+        if (outbox != null) {
+            outbox.close();
+        }
+        closed = true;
+        for (NotificationChannel channel : channels.values()) {
+            if (channel instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Error al cerrar el canal {}", channel.getType(), e);
+                }
+            }
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (ownsExecutor && executor instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+
+    /**
+     * Envía múltiples notificaciones en lote.
+     *
+     * @param notifications Lista de notificaciones a enviar
+     * @return Lista de resultados correspondientes a cada notificación
+     */
+    public List<NotificationResult> sendBatch(List<Notification> notifications) {
+        List<NotificationResult> results = new ArrayList<>();
+
+        for (Notification notification : notifications) {
+            try {
+                NotificationResult result = send(notification);
+                results.add(result);
+            } catch (NotificationException e) {
+                results.add(toBatchFailure(notification, e));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Envía múltiples notificaciones en paralelo utilizando hilos virtuales.
+     * La concurrencia queda acotada por el límite global y por el límite de cada canal
+     * definidos en las opciones; las notificaciones que esperan a un canal saturado quedan en la cola del canal
+     * sin ocupar un hilo ni el límite global, de modo que no retrasan a las de otros canales. Las notificaciones se inician de mayor a menor prioridad y, dentro
+     * de cada nivel, en el orden de la lista. Los resultados conservan el orden de la lista de entrada.
+     *
+     * @param notifications Lista de notificaciones a enviar
+     * @param options       Límites de concurrencia del lote
+     * @return Lista de resultados correspondientes a cada notificación, en el mismo orden
+     */
+    public List<NotificationResult> sendBatch(List<Notification> notifications, BatchOptions options) {
+        if (options.getMaxConcurrency() <= 0) {
+            throw new IllegalArgumentException("La concurrencia máxima del lote debe ser positiva");
+        }
+
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        Semaphore batchPermits = new Semaphore(options.getMaxConcurrency());
+        Map<ChannelType, BatchLane> lanes = new EnumMap<>(ChannelType.class);
+        options.getChannelConcurrency().forEach((type, limit) -> {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("La concurrencia del canal " + type + " debe ser positiva");
+            }
+            lanes.put(type, new BatchLane(limit));
+        });
+
+        int[] order = priorityOrder(notifications);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < order.length; i++) {
+                int index = order[i];
+                Notification notification = notifications.get(index);
+
+                try {
+                    batchPermits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Envío en lote interrumpido tras {} notificaciones", i);
+                    for (int j = i; j < order.length; j++) {
+                        results[order[j]] = NotificationResult.failure(
+                                notifications.get(order[j]).getId(), null, "Envío en lote interrumpido");
+                    }
+                    break;
+                }
+
+                executor.execute(() -> {
+                    try {
+                        sendWithinLimit(index, notification, results, lanes);
+                    } finally {
+                        batchPermits.release();
+                    }
+                });
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Envía las notificaciones de un publicador a medida que llegan, sin materializar la entrada
+     * ni los resultados. Las notificaciones se solicitan a la fuente según el consumo de resultados
+     * y su cantidad retenida queda acotada por las opciones. Los resultados se publican en orden
+     * de finalización; los errores de envío se publican como resultados fallidos.
+     *
+     * @param notifications Fuente de notificaciones
+     * @param options       Límite de notificaciones en curso
+     * @return Publicador de resultados, que admite un único suscriptor
+     */
+    public Flow.Publisher<NotificationResult> sendStream(Flow.Publisher<? extends Notification> notifications,
+                                                         StreamingOptions options) {
+        return new NotificationStream(notifications, this::sendForStream, options);
+    }
+
+    /**
+     * Envía las notificaciones de un iterador a medida que el consumidor de resultados las demanda.
+     *
+     * @param notifications Iterador de notificaciones, que puede generarlas de forma perezosa
+     * @param options       Límite de notificaciones en curso
+     * @return Publicador de resultados, que admite un único suscriptor
+     * @see #sendStream(Flow.Publisher, StreamingOptions)
+     */
+    public Flow.Publisher<NotificationResult> sendStream(Iterator<? extends Notification> notifications,
+                                                         StreamingOptions options) {
+        return sendStream(new IteratorPublisher<>(notifications), options);
+    }
+
+    /**
+     * Envía las notificaciones de un {@link Stream} a medida que el consumidor
+     * de resultados las demanda. El stream se recorre de forma perezosa; cerrarlo sigue siendo
+     * responsabilidad del llamador.
+     *
+     * @param notifications Stream de notificaciones
+     * @param options       Límite de notificaciones en curso
+     * @return Publicador de resultados, que admite un único suscriptor
+     * @see #sendStream(Flow.Publisher, StreamingOptions)
+     */
+    public Flow.Publisher<NotificationResult> sendStream(Stream<? extends Notification> notifications,
+                                                         StreamingOptions options) {
+        return sendStream(notifications.iterator(), options);
+    }
+
+    /**
+     * Envía una notificación del streaming: el límite de notificaciones en curso del propio envío
+     * reemplaza al bulkhead, y los errores se convierten en resultados fallidos como en los lotes.
+     */
+    private CompletableFuture<NotificationResult> sendForStream(Notification notification) {
+        NotificationChannel channel;
+        try {
+            channel = resolveChannel(notification);
+        } catch (NotificationException e) {
+            return CompletableFuture.completedFuture(toBatchFailure(notification, e));
+        }
+        return recordingRejections(channel.getType(), deliverAsync(channel, notification)).exceptionally(error -> {
+            Throwable cause = AsyncResults.unwrap(error);
+            if (cause instanceof NotificationException notificationException) {
+                return toBatchFailure(notification, notificationException);
+            }
+            log.error("Error inesperado al enviar notificación en streaming: {}", notification.getId(), cause);
+            return NotificationResult.failure(notification.getId(), channel.getType(), cause.getMessage());
+        });
+    }
+
+    /**
+     * Calcula el orden de inicio de un lote: de URGENT a LOW, estable dentro de cada nivel.
+     */
+    private static int[] priorityOrder(List<Notification> notifications) {
+        int[] starts = new int[PRIORITY_LEVELS + 1];
+        for (Notification notification : notifications) {
+            starts[rank(notification) + 1]++;
+        }
+        for (int level = 1; level < starts.length; level++) {
+            starts[level] += starts[level - 1];
+        }
+        int[] order = new int[notifications.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[starts[rank(notifications.get(i))]++] = i;
+        }
+        return order;
+    }
+
+    private static int rank(Notification notification) {
+        Notification.Priority priority = notification.getPriority() != null
+                ? notification.getPriority() : Notification.Priority.NORMAL;
+        return PRIORITY_LEVELS - 1 - priority.ordinal();
+    }
+
+    /**
+     * Envía una notificación del lote respetando el límite de concurrencia de su canal.
+     * Se invoca con un permiso global; si el canal está saturado, la notificación queda en la cola del canal
+     * y el hilo termina, devolviendo el permiso global para que las notificaciones de otros canales no queden
+     * detrás. El envío que libera un permiso del canal continúa con la siguiente notificación encolada,
+     * conservando su permiso global. Convierte cualquier error en un resultado fallido para no interrumpir el lote.
+     */
+    private void sendWithinLimit(int index, Notification notification, NotificationResult[] results,
+                                 Map<ChannelType, BatchLane> lanes) {
+        NotificationChannel channel;
+        try {
+            channel = resolveChannel(notification);
+        } catch (NotificationException e) {
+            results[index] = toBatchFailure(notification, e);
+            return;
+        } catch (RuntimeException e) {
+            log.error("Error inesperado al enviar notificación en lote: {}", notification.getId(), e);
+            results[index] = NotificationResult.failure(notification.getId(), null, e.getMessage());
+            return;
+        }
+
+        BatchLane lane = lanes.get(channel.getType());
+        if (lane == null) {
+            results[index] = deliverInBatch(channel, notification);
+            return;
+        }
+        PendingSend next = new PendingSend(index, channel, notification);
+        if (!lane.acquireOrEnqueue(next)) {
+            return;
+        }
+        do {
+            results[next.index()] = deliverInBatch(next.channel(), next.notification());
+            next = lane.releaseOrHandOver();
+        } while (next != null);
+    }
+
+    private NotificationResult deliverInBatch(NotificationChannel channel, Notification notification) {
+        try {
+            return deliver(channel, notification);
+        } catch (NotificationException e) {
+            return toBatchFailure(notification, e);
+        } catch (RuntimeException e) {
+            log.error("Error inesperado al enviar notificación en lote: {}", notification.getId(), e);
+            return NotificationResult.failure(notification.getId(), channel.getType(), e.getMessage());
+        }
+    }
+
+    private NotificationResult toBatchFailure(Notification notification, NotificationException e) {
+        log.error("Error al enviar notificación en lote: {}", notification.getId(), e);
+        return NotificationResult.failure(
+                notification.getId(),
+                e.getChannelType(),
+                e.getMessage()
+        );
+    }
+
+    private void ensureOpen() throws NotificationException {
+        if (closed) {
+            throw new NotificationException(
+                    "El servicio de notificaciones está cerrado",
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    null
+            );
+        }
+    }
+
+    /**
+     * Verifica la configuración y selecciona el canal para la notificación.
+     */
+    private NotificationChannel resolveChannel(Notification notification) throws NotificationException {
+        log.info("Procesando notificación: {}", notification.getId());
+
+        ensureOpen();
+        if (channels.isEmpty()) {
+            throw new NotificationException(
+                    "No hay canales de notificación configurados",
+                    NotificationException.ErrorType.CONFIGURATION_ERROR,
+                    null
+            );
+        }
+
+        long selectionStart = metricsListener.isEnabled() ? System.nanoTime() : 0L;
+        NotificationChannel channel = selectChannel(notification);
+        if (selectionStart != 0L) {
+            metricsListener.recordLatency(channel.getType(), null, Phase.SELECTION, System.nanoTime() - selectionStart);
+        }
+        return channel;
+    }
+
+    /**
+     * Selecciona el canal apropiado para la notificación.
+     * Prioriza el canal preferido si está disponible, de lo contrario selecciona automáticamente.
+     * Los canales con el circuito abierto se omiten y se conmuta al siguiente canal compatible.
+     */
+    private NotificationChannel selectChannel(Notification notification) throws NotificationException {
+        if (notification.getPreferredChannel() != null) {
+            NotificationChannel preferredChannel = channels.get(notification.getPreferredChannel());
+            if (preferredChannel != null && preferredChannel.supports(notification)
+                    && isAvailable(preferredChannel)) {
+                return preferredChannel;
+            }
+
+            log.warn("Canal preferido {} no disponible, seleccionando automáticamente",
+                    notification.getPreferredChannel());
+        }
+
+        boolean skippedOpenCircuit = false;
+        for (NotificationChannel channel : channels.values()) {
+            if (channel.supports(notification)) {
+                if (isAvailable(channel)) {
+                    return channel;
+                }
+                skippedOpenCircuit = true;
+            }
+        }
+
+        if (skippedOpenCircuit) {
+            throw new NotificationException(
+                    "Todos los canales compatibles tienen el circuito abierto",
+                    NotificationException.ErrorType.CIRCUIT_OPEN_ERROR,
+                    null
+            );
+        }
+
+        throw new NotificationException(
+                "No se encontró un canal compatible para los destinatarios especificados",
+                NotificationException.ErrorType.VALIDATION_ERROR,
+                null
+        );
+    }
+
+    private boolean isAvailable(NotificationChannel channel) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(channel.getType());
+        return circuitBreaker == null || circuitBreaker.isCallPermitted();
+    }
+
+    /**
+     * Dependencias compartidas que reciben los canales integrados al construirse.
+     */
+    private record ChannelContext(MetricsListener metrics, TemplateEngine templates) {
+    }
+
+    /**
+     * Límite de concurrencia de un canal dentro de un lote. Los envíos que llegan con el canal saturado
+     * esperan en una cola, y cada envío que termina entrega su permiso al siguiente encolado.
+     */
+    private static final class BatchLane {
+        private final Queue<PendingSend> pending = new ArrayDeque<>();
+        private int available;
+
+        private BatchLane(int limit) {
+            this.available = limit;
+        }
+
+        /**
+         * Reserva un permiso del canal o, si no queda ninguno, encola el envío.
+         *
+         * @return true si el envío obtuvo el permiso y debe iniciarse
+         */
+        synchronized boolean acquireOrEnqueue(PendingSend send) {
+            if (available > 0) {
+                available--;
+                return true;
+            }
+            pending.add(send);
+            return false;
+        }
+
+        /**
+         * Entrega el permiso de un envío terminado al siguiente encolado, o lo libera si la cola está vacía.
+         *
+         * @return Siguiente envío, que ya tiene el permiso, o null
+         */
+        synchronized PendingSend releaseOrHandOver() {
+            PendingSend next = pending.poll();
+            if (next == null) {
+                available++;
+            }
+            return next;
+        }
+    }
+
+    private record PendingSend(int index, NotificationChannel channel, Notification notification) {
+    }
+
+    /**
+     * Builder para la construcción fluida del servicio.
+     */
+    public static class Builder {
+        private final Map<ChannelType, Function<ChannelContext, NotificationChannel>> channels = new HashMap<>();
+        private final Map<ChannelType, BulkheadConfig> bulkheadConfigs = new EnumMap<>(ChannelType.class);
+        private BulkheadConfig defaultBulkheadConfig = BulkheadConfig.defaults();
+        private Executor executor;
+        private CoalescingConfig coalescingConfig;
+        private DigestConfig digestConfig;
+        private SuppressionList suppressionList;
+        private final Map<ChannelType, RateLimitConfig> rateLimitConfigs = new EnumMap<>(ChannelType.class);
+        private final Map<ChannelType, FrequencyCapConfig> frequencyCapConfigs = new EnumMap<>(ChannelType.class);
+        private RetryPolicy retryPolicy;
+        private RetryBudget retryBudget;
+        private final Map<ChannelType, CircuitBreakerConfig> circuitBreakerConfigs = new EnumMap<>(ChannelType.class);
+        private CircuitBreakerConfig defaultCircuitBreakerConfig;
+        private final Map<ChannelType, AdaptiveConcurrencyConfig> concurrencyConfigs = new EnumMap<>(ChannelType.class);
+        private AdaptiveConcurrencyConfig defaultConcurrencyConfig;
+        private MetricsListener metricsListener = NoopMetricsListener.INSTANCE;
+        private OutboxConfig outboxConfig;
+        private DeduplicationConfig deduplicationConfig;
+        private DeliveryTrackingConfig deliveryTrackingConfig;
+        private SchedulerConfig schedulerConfig;
+        private TemplateEngine templateEngine;
+        private PriorityDispatcherConfig priorityDispatcherConfig;
+
+        public Builder withEmailChannel(com.notifications.channels.email.EmailProvider emailProvider) {
+            channels.put(ChannelType.EMAIL,
+                    context -> new com.notifications.channels.email.EmailChannel(
+                            emailProvider, context.metrics(), context.templates()));
+            return this;
+        }
+
+        public Builder withSmsChannel(com.notifications.channels.sms.SmsProvider smsProvider) {
+            channels.put(ChannelType.SMS,
+                    context -> new com.notifications.channels.sms.SmsChannel(
+                            smsProvider, context.metrics(), context.templates()));
+            return this;
+        }
+
+        public Builder withPushChannel(com.notifications.channels.push.PushProvider pushProvider) {
+            channels.put(ChannelType.PUSH,
+                    context -> new com.notifications.channels.push.PushChannel(
+                            pushProvider, context.metrics(), context.templates()));
+            return this;
+        }
+
+        public Builder withCustomChannel(ChannelType type, NotificationChannel channel) {
+            channels.put(type, context -> channel);
+            return this;
+        }
+
+        private Builder withChannels(Map<ChannelType, NotificationChannel> channels) {
+            channels.forEach(this::withCustomChannel);
+            return this;
+        }
+
+        /**
+         * Define el ejecutor de los envíos asíncronos.
+         * Por defecto se utiliza un hilo virtual por tarea. El servicio no cierra ejecutores externos.
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Define la configuración del bulkhead para un canal específico.
+         */
+        public Builder withBulkhead(ChannelType type, BulkheadConfig config) {
+            bulkheadConfigs.put(type, config);
+            return this;
+        }
+
+        /**
+         * Define la configuración del bulkhead para los canales sin configuración específica.
+         */
+        public Builder withDefaultBulkhead(BulkheadConfig config) {
+            this.defaultBulkheadConfig = config;
+            return this;
+        }
+
+        /**
+         * Agrupa notificaciones idénticas en llamadas multi-destinatario al proveedor de cada canal.
+         */
+        public Builder withCoalescing(CoalescingConfig config) {
+            this.coalescingConfig = config;
+            return this;
+        }
+
+        /**
+         * Combina en un resumen por destinatario las notificaciones LOW y NORMAL que llegan dentro de la ventana.
+         */
+        public Builder withDigest(DigestConfig config) {
+            this.digestConfig = config;
+            return this;
+        }
+
+        /**
+         * Quita de cada notificación los destinatarios suprimidos antes de enviarla por cualquier canal.
+         * El servicio no cierra la lista.
+         */
+        public Builder withSuppression(SuppressionList list) {
+            this.suppressionList = list;
+            return this;
+        }
+
+        /**
+         * Limita la tasa de llamadas al proveedor del canal indicado.
+         * Los canales que comparten cuenta de proveedor pueden recibir configuraciones con el mismo limitador.
+         */
+        public Builder withRateLimit(ChannelType type, RateLimitConfig config) {
+            rateLimitConfigs.put(type, config);
+            return this;
+        }
+
+        /**
+         * Limita la cantidad de notificaciones que cada destinatario recibe por el canal indicado dentro de una ventana.
+         */
+        public Builder withFrequencyCap(ChannelType type, FrequencyCapConfig config) {
+            frequencyCapConfigs.put(type, config);
+            return this;
+        }
+
+        /**
+         * Reintenta los envíos fallidos por errores transitorios en todos los canales.
+         */
+        public Builder withRetry(RetryPolicy policy) {
+            this.retryPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Define el presupuesto global de reintentos compartido por todos los canales.
+         */
+        public Builder withRetryBudget(RetryBudget budget) {
+            this.retryBudget = budget;
+            return this;
+        }
+
+        /**
+         * Protege todos los canales con un circuit breaker.
+         */
+        public Builder withCircuitBreaker(CircuitBreakerConfig config) {
+            this.defaultCircuitBreakerConfig = config;
+            return this;
+        }
+
+        /**
+         * Protege el canal indicado con un circuit breaker de configuración específica.
+         */
+        public Builder withCircuitBreaker(ChannelType type, CircuitBreakerConfig config) {
+            circuitBreakerConfigs.put(type, config);
+            return this;
+        }
+
+        /**
+         * Limita las llamadas en curso a cada proveedor con un límite que se ajusta según su latencia y sus fallos.
+         */
+        public Builder withAdaptiveConcurrency(AdaptiveConcurrencyConfig config) {
+            this.defaultConcurrencyConfig = config;
+            return this;
+        }
+
+        /**
+         * Aplica al canal indicado un límite de concurrencia adaptativo de configuración específica.
+         */
+        public Builder withAdaptiveConcurrency(ChannelType type, AdaptiveConcurrencyConfig config) {
+            concurrencyConfigs.put(type, config);
+            return this;
+        }
+
+        /**
+         * Reporta las métricas de selección y de los canales integrados al listener indicado.
+         * Los canales personalizados reciben su propio listener al construirse.
+         */
+        public Builder withMetrics(MetricsListener listener) {
+            this.metricsListener = listener;
+            return this;
+        }
+
+        /**
+         * Persiste las notificaciones asíncronas en un registro durable antes de entregarlas.
+         */
+        public Builder withOutbox(OutboxConfig config) {
+            this.outboxConfig = config;
+            return this;
+        }
+
+        /**
+         * Define las colas, pesos y política de desborde del despachador por prioridad de {@code submit}.
+         */
+        public Builder withPriorityDispatch(PriorityDispatcherConfig config) {
+            this.priorityDispatcherConfig = config;
+            return this;
+        }
+
+        /**
+         * Descarta las notificaciones ya enviadas recientemente, devolviendo el resultado original.
+         */
+        public Builder withDeduplication(DeduplicationConfig config) {
+            this.deduplicationConfig = config;
+            return this;
+        }
+
+        /**
+         * Registra el estado de entrega de cada mensaje enviado, indexado por el identificador del proveedor.
+         */
+        public Builder withDeliveryTracking(DeliveryTrackingConfig config) {
+            this.deliveryTrackingConfig = config;
+            return this;
+        }
+
+        /**
+         * Habilita los envíos programados para un momento futuro.
+         */
+        public Builder withScheduling(SchedulerConfig config) {
+            this.schedulerConfig = config;
+            return this;
+        }
+
+        /**
+         * Permite que los canales integrados envíen notificaciones que referencian una plantilla.
+         */
+        public Builder withTemplates(TemplateEngine engine) {
+            this.templateEngine = engine;
+            return this;
+        }
+
+        public NotificationService build() {
+            if (channels.isEmpty()) {
+                throw new IllegalStateException("Debe configurarse al menos un canal");
+            }
+            return new NotificationService(this);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.notifications.broadcast;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationResult;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Reúne los resultados de los canales de un envío múltiple y completa el resultado agregado
+ * en cuanto se cumple la condición de finalización. Los resultados que llegan después se descartan.
+ */
+public class BroadcastAggregator {
+
+    private final String notificationId;
+    private final BroadcastMode mode;
+    private final int required;
+    private final int total;
+    private final Map<ChannelType, NotificationResult> results = new EnumMap<>(ChannelType.class);
+    private final Set<ChannelType> pending;
+    private final CompletableFuture<BroadcastResult> future = new CompletableFuture<>();
+    private int successes;
+    private int failures;
+
+    /**
+     * Crea el agregador para los canales indicados.
+     *
+     * @param notificationId Identificador de la notificación
+     * @param options        Condición de finalización
+     * @param channels       Canales que participan del envío
+     * @throws IllegalArgumentException Si no hay canales o el quórum no es alcanzable
+     */
+    public BroadcastAggregator(String notificationId, BroadcastOptions options, Set<ChannelType> channels) {
+        if (channels.isEmpty()) {
+            throw new IllegalArgumentException("El envío múltiple requiere al menos un canal");
+        }
+        this.notificationId = notificationId;
+        this.mode = options.getMode();
+        this.total = channels.size();
+        this.required = switch (mode) {
+            case ALL -> total;
+            case FIRST_SUCCESS -> 1;
+            case QUORUM -> options.getQuorum();
+        };
+        if (required <= 0 || required > total) {
+            throw new IllegalArgumentException("El quórum debe estar entre 1 y la cantidad de canales (" + total + ")");
+        }
+        this.pending = EnumSet.copyOf(channels);
+    }
+
+    /**
+     * Obtiene el resultado agregado, que se completa al cumplirse la condición de finalización.
+     *
+     * @return CompletableFuture con el resultado agregado
+     */
+    public CompletableFuture<BroadcastResult> result() {
+        return future;
+    }
+
+    /**
+     * Registra el resultado de un canal.
+     *
+     * @param type   Tipo de canal
+     * @param result Resultado del envío por el canal
+     */
+    public void complete(ChannelType type, NotificationResult result) {
+        BroadcastResult aggregated;
+        synchronized (this) {
+            if (future.isDone() || !pending.remove(type)) {
+                return;
+            }
+            results.put(type, result);
+            if (result.isSuccess()) {
+                successes++;
+            } else {
+                failures++;
+            }
+            aggregated = aggregateIfDone();
+        }
+        if (aggregated != null) {
+            future.complete(aggregated);
+        }
+    }
+
+    /**
+     * Registra el error de un canal como un resultado fallido.
+     *
+     * @param type  Tipo de canal
+     * @param error Error del envío por el canal
+     */
+    public void completeExceptionally(ChannelType type, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        complete(type, NotificationResult.failure(notificationId, type, cause.getMessage()));
+    }
+
+    private BroadcastResult aggregateIfDone() {
+        if (successes >= required && (mode != BroadcastMode.ALL || pending.isEmpty())) {
+            return new BroadcastResult(notificationId, mode, true, results, pending);
+        }
+        // Con ALL se esperan todos los resultados aunque ya no pueda ser exitoso
+        boolean unreachable = total - failures < required;
+        if (pending.isEmpty() || (unreachable && mode != BroadcastMode.ALL)) {
+            return new BroadcastResult(notificationId, mode, false, results, pending);
+        }
+        return null;
+    }
+}
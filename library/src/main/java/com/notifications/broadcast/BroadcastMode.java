@@ -0,0 +1,13 @@
+package com.notifications.broadcast;
+
+/**
+ * Condición con la que se considera completado el envío de una notificación por varios canales.
+ */
+public enum BroadcastMode {
+    /** Se espera el resultado de todos los canales; es exitoso si todos entregaron la notificación */
+    ALL,
+    /** Se completa con la primera entrega exitosa, o cuando todos los canales fallaron */
+    FIRST_SUCCESS,
+    /** Se completa cuando la cantidad de entregas exitosas alcanza el quórum, o cuando ya no puede alcanzarlo */
+    QUORUM
+}
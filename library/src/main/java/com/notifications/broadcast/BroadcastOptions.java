@@ -0,0 +1,44 @@
+package com.notifications.broadcast;
+
+import com.notifications.core.ChannelType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Set;
+
+/**
+ * Opciones para el envío de una notificación por varios canales a la vez.
+ */
+@Getter
+@Builder
+public class BroadcastOptions {
+
+    /**
+     * Canales por los que se envía la notificación.
+     * Si está vacío, se utilizan todos los canales configurados que soportan la notificación.
+     */
+    @Singular
+    private final Set<ChannelType> channels;
+
+    /**
+     * Condición de finalización del envío.
+     */
+    @Builder.Default
+    private final BroadcastMode mode = BroadcastMode.ALL;
+
+    /**
+     * Cantidad de entregas exitosas requeridas con {@link BroadcastMode#QUORUM}.
+     */
+    @Builder.Default
+    private final int quorum = 1;
+
+    /**
+     * Crea las opciones por defecto: todos los canales compatibles, esperando a todos.
+     *
+     * @return Opciones con los valores predeterminados
+     */
+    public static BroadcastOptions defaults() {
+        return BroadcastOptions.builder().build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.notifications.broadcast;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationResult;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resultado agregado del envío de una notificación por varios canales.
+ * Contiene el resultado de cada canal que terminó antes de cumplirse la condición de finalización;
+ * los canales restantes continúan el envío en segundo plano y figuran como pendientes.
+ */
+@Getter
+public class BroadcastResult {
+
+    private final String notificationId;
+    private final BroadcastMode mode;
+    private final boolean success;
+    private final Map<ChannelType, NotificationResult> results;
+    private final Set<ChannelType> pendingChannels;
+
+    BroadcastResult(String notificationId, BroadcastMode mode, boolean success,
+                    Map<ChannelType, NotificationResult> results, Set<ChannelType> pendingChannels) {
+        this.notificationId = notificationId;
+        this.mode = mode;
+        this.success = success;
+        this.results = Collections.unmodifiableMap(new EnumMap<>(results));
+        this.pendingChannels = Collections.unmodifiableSet(
+                pendingChannels.isEmpty() ? EnumSet.noneOf(ChannelType.class) : EnumSet.copyOf(pendingChannels));
+    }
+
+    /**
+     * Obtiene los canales que entregaron la notificación.
+     *
+     * @return Canales con resultado exitoso
+     */
+    public Set<ChannelType> getSuccessfulChannels() {
+        Set<ChannelType> successful = EnumSet.noneOf(ChannelType.class);
+        results.forEach((type, result) -> {
+            if (result.isSuccess()) {
+                successful.add(type);
+            }
+        });
+        return successful;
+    }
+
+    /**
+     * Obtiene el resultado de un canal.
+     *
+     * @param type Tipo de canal
+     * @return Resultado del canal, o null si no participó o sigue pendiente
+     */
+    public NotificationResult getResult(ChannelType type) {
+        return results.get(type);
+    }
+}
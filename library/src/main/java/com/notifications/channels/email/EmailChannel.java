@@ -0,0 +1,141 @@
+package com.notifications.channels.email;
+
+import com.notifications.core.*;
+import com.notifications.metrics.ChannelMetrics;
+import com.notifications.metrics.MetricsListener;
+import com.notifications.metrics.NoopMetricsListener;
+import com.notifications.metrics.Phase;
+import com.notifications.template.RenderedMessage;
+import com.notifications.template.TemplateEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Canal para el envío de notificaciones por correo electrónico.
+ * Implementa validación de direcciones y delegación al proveedor configurado; solo entrega a los
+ * destinatarios que son direcciones de email.
+ */
+@Slf4j
+public class EmailChannel implements NotificationChannel {
+
+    private final EmailProvider provider;
+    private final ChannelMetrics metrics;
+    private final TemplateEngine templates;
+
+    public EmailChannel(EmailProvider provider) {
+        this(provider, NoopMetricsListener.INSTANCE);
+    }
+
+    /**
+     * Crea el canal reportando sus métricas al listener indicado.
+     */
+    public EmailChannel(EmailProvider provider, MetricsListener metricsListener) {
+        this(provider, metricsListener, null);
+    }
+
+    /**
+     * Crea el canal con métricas y con el motor que genera las notificaciones con plantilla.
+     */
+    public EmailChannel(EmailProvider provider, MetricsListener metricsListener, TemplateEngine templates) {
+        this.provider = provider;
+        this.metrics = new ChannelMetrics(metricsListener, ChannelType.EMAIL, provider);
+        this.templates = templates;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        return AsyncResults.await(sendAsync(notification), ChannelType.EMAIL);
+    }
+
+    /**
+     * Envía la notificación sin bloquear: las llamadas al proveedor de cada mensaje generado
+     * se inician juntas y el resultado se completa cuando terminan todas.
+     */
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        List<RenderedMessage> messages;
+        long validationStart = metrics.start();
+        try {
+            validateNotification(notification);
+            // Los destinatarios de otros tipos corresponden a otros canales
+            messages = TemplateEngine.messagesFor(templates,
+                    notification.withRecipientsOf(RecipientType.EMAIL), ChannelType.EMAIL);
+        } catch (NotificationException e) {
+            metrics.failure(e.getErrorType());
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            metrics.phase(Phase.VALIDATION, validationStart);
+        }
+
+        log.info("Enviando notificación por email: {}", notification.getId());
+
+        List<Set<String>> recipients = new ArrayList<>(messages.size());
+        List<CompletableFuture<List<RecipientResult>>> calls = new ArrayList<>(messages.size());
+        for (RenderedMessage message : messages) {
+            recipients.add(message.getRecipients());
+            String subject = message.getSubject();
+            if (subject == null || subject.trim().isEmpty()) {
+                subject = "Notificación";
+            }
+            calls.add(call(message.getRecipients(), subject, message.getContent(), notification.getMetadata()));
+        }
+
+        return AsyncResults.collect(notification, ChannelType.EMAIL, recipients, calls, 0, "Error al enviar email")
+                .whenComplete(metrics::completed);
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return notification.getRecipientClassification().hasEmail();
+    }
+
+    @Override
+    public ChannelType getType() {
+        return ChannelType.EMAIL;
+    }
+
+    private CompletableFuture<List<RecipientResult>> call(Set<String> recipients, String subject, String content, Map<String, Object> metadata) {
+        long callStart = metrics.callStarted();
+        CompletableFuture<List<RecipientResult>> call;
+        try {
+            call = provider.sendEmailPerRecipient(recipients, subject, content, metadata);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.whenComplete((results, error) -> metrics.callFinished(callStart));
+    }
+
+    private void validateNotification(Notification notification) throws NotificationException {
+        if (notification.getRecipients().isEmpty()) {
+            throw new NotificationException(
+                    "Se requiere al menos un destinatario para enviar email",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.EMAIL
+            );
+        }
+
+        boolean hasValidEmail = notification.getRecipientClassification().hasEmail();
+
+        if (!hasValidEmail) {
+            throw new NotificationException(
+                    "No se encontraron direcciones de email válidas en los destinatarios",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.EMAIL
+            );
+        }
+
+        if (notification.getTemplate() == null
+                && (notification.getContent() == null || notification.getContent().trim().isEmpty())) {
+            throw new NotificationException(
+                    "El contenido del email no puede estar vacío",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.EMAIL
+            );
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.notifications.channels.email;
+
+import com.notifications.core.RecipientResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interfaz para proveedores de correo electrónico.
+ * Implementa el patrón Strategy para permitir intercambio de proveedores.
+ */
+public interface EmailProvider {
+
+    /**
+     * Envía un correo electrónico.
+     *
+     * @param recipients Conjunto de destinatarios
+     * @param subject    Asunto del correo
+     * @param content    Contenido del mensaje
+     * @param metadata   Metadatos adicionales
+     * @return Identificador del mensaje asignado por el proveedor
+     * @throws Exception Si ocurre un error durante el envío
+     */
+    String sendEmail(
+            Set<String> recipients,
+            String subject,
+            String content,
+            Map<String, Object> metadata
+    ) throws Exception;
+
+    /**
+     * Envía un correo electrónico sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #sendEmail} en el hilo actual; los proveedores con un
+     * cliente no bloqueante deben sobrescribirla para mantener muchas llamadas en curso sin ocupar hilos.
+     *
+     * @param recipients Conjunto de destinatarios
+     * @param subject    Asunto del correo
+     * @param content    Contenido del mensaje
+     * @param metadata   Metadatos adicionales
+     * @return CompletableFuture con el identificador del mensaje asignado por el proveedor
+     */
+    default CompletableFuture<String> sendEmailAsync(
+            Set<String> recipients,
+            String subject,
+            String content,
+            Map<String, Object> metadata
+    ) {
+        try {
+            return CompletableFuture.completedFuture(sendEmail(recipients, subject, content, metadata));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Envía un correo electrónico e informa el resultado de cada destinatario, sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #sendEmailAsync} una sola vez y asigna a todos los
+     * destinatarios el identificador devuelto; los proveedores que envían un mensaje por destinatario
+     * deben sobrescribirla para informar cada identificador y los destinatarios que fallaron.
+     *
+     * @param recipients Conjunto de destinatarios
+     * @param subject    Asunto del correo
+     * @param content    Contenido del mensaje
+     * @param metadata   Metadatos adicionales
+     * @return CompletableFuture con el resultado de cada destinatario, o con el error del envío si
+     * ningún destinatario recibió el mensaje
+     */
+    default CompletableFuture<List<RecipientResult>> sendEmailPerRecipient(
+            Set<String> recipients,
+            String subject,
+            String content,
+            Map<String, Object> metadata
+    ) {
+        return sendEmailAsync(recipients, subject, content, metadata)
+                .thenApply(messageId -> RecipientResult.deliveredAll(recipients, messageId));
+    }
+}
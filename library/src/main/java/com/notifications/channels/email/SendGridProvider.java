@@ -0,0 +1,106 @@
+package com.notifications.channels.email;
+
+import com.notifications.providers.http.JsonWriter;
+import com.notifications.providers.http.ProviderHttpClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proveedor de correo electrónico sobre la API v3 de SendGrid ({@code POST /v3/mail/send}).
+ * Cada destinatario recibe su propia personalización, de modo que no ve las direcciones de los demás.
+ * El identificador del mensaje es el encabezado {@code X-Message-Id} de la respuesta.
+ */
+@Slf4j
+public class SendGridProvider implements EmailProvider {
+
+    /**
+     * Metadato con el remitente del correo, si no se configuró uno en el proveedor.
+     */
+    public static final String FROM_METADATA = "from";
+
+    private static final URI DEFAULT_BASE_URI = URI.create("https://api.sendgrid.com");
+
+    private final String apiKey;
+    private final String fromEmail;
+    private final URI endpoint;
+    private final ProviderHttpClient client;
+
+    /**
+     * Crea el proveedor tomando el remitente del metadato {@value #FROM_METADATA} de cada notificación.
+     */
+    public SendGridProvider(String apiKey) {
+        this(apiKey, null);
+    }
+
+    public SendGridProvider(String apiKey, String fromEmail) {
+        this(apiKey, fromEmail, DEFAULT_BASE_URI, ProviderHttpClient.shared());
+    }
+
+    /**
+     * Crea el proveedor contra una URL base y un cliente HTTP específicos.
+     *
+     * @param apiKey    API key de SendGrid
+     * @param fromEmail Remitente por defecto, o null para tomarlo de los metadatos
+     * @param baseUri   URL base de la API
+     * @param client    Cliente HTTP
+     */
+    public SendGridProvider(String apiKey, String fromEmail, URI baseUri, ProviderHttpClient client) {
+        this.apiKey = apiKey;
+        this.fromEmail = fromEmail;
+        this.endpoint = baseUri.resolve("/v3/mail/send");
+        this.client = client;
+    }
+
+    @Override
+    public String sendEmail(Set<String> recipients, String subject, String content, Map<String, Object> metadata)
+            throws Exception {
+        return ProviderHttpClient.await(sendEmailAsync(recipients, subject, content, metadata));
+    }
+
+    @Override
+    public CompletableFuture<String> sendEmailAsync(Set<String> recipients, String subject, String content,
+                                                    Map<String, Object> metadata) {
+        Object from = metadata.getOrDefault(FROM_METADATA, fromEmail);
+        if (from == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "SendGrid requiere un remitente: configúrelo en el proveedor o en el metadato '" + FROM_METADATA + "'"));
+        }
+
+        JsonWriter body = new JsonWriter().beginObject()
+                .name("personalizations").beginArray();
+        for (String recipient : recipients) {
+            body.beginObject()
+                    .name("to").beginArray()
+                    .beginObject().field("email", recipient).endObject()
+                    .endArray()
+                    .endObject();
+        }
+        body.endArray()
+                .name("from").beginObject().field("email", from.toString()).endObject()
+                .field("subject", subject)
+                .name("content").beginArray()
+                .beginObject().field("type", "text/plain").field("value", content).endObject()
+                .endArray()
+                .endObject();
+
+        log.debug("[SENDGRID] Enviando email a {} destinatarios", recipients.size());
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .POST(body.publisher());
+
+        return client.send("SendGrid", request).thenApply(response -> {
+            String messageId = response.headers().firstValue("X-Message-Id").orElse(null);
+            if (messageId == null) {
+                throw new IllegalStateException("SendGrid no devolvió el encabezado X-Message-Id");
+            }
+            log.debug("[SENDGRID] Email enviado. ID: {}", messageId);
+            return messageId;
+        });
+    }
+}
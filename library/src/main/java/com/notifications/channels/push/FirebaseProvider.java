@@ -0,0 +1,141 @@
+package com.notifications.channels.push;
+
+import com.notifications.core.RecipientResult;
+import com.notifications.providers.http.JsonFields;
+import com.notifications.providers.http.JsonWriter;
+import com.notifications.providers.http.ProviderHttpClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proveedor de notificaciones push sobre la API HTTP v1 de Firebase Cloud Messaging
+ * ({@code POST /v1/projects/{proyecto}/messages:send}).
+ * Se autentica con el JSON de una cuenta de servicio; la API acepta un token de dispositivo por mensaje,
+ * por lo que se envía una petición por dispositivo, con a lo sumo {@code maxRequestsPerSend} en paralelo,
+ * y se informa el nombre del mensaje o el error de cada dispositivo. Los metadatos se envían como el
+ * bloque {@code data} del mensaje.
+ */
+@Slf4j
+public class FirebaseProvider implements PushProvider {
+
+    private static final URI DEFAULT_BASE_URI = URI.create("https://fcm.googleapis.com");
+
+    private final String serviceAccountKey;
+    private final URI baseUri;
+    private final ProviderHttpClient client;
+    private volatile ServiceAccountCredentials credentials;
+
+    /**
+     * Crea el proveedor con el JSON de la cuenta de servicio. La cuenta se interpreta en el primer envío.
+     */
+    public FirebaseProvider(String serviceAccountKey) {
+        this(serviceAccountKey, DEFAULT_BASE_URI, ProviderHttpClient.shared());
+    }
+
+    /**
+     * Crea el proveedor contra una URL base y un cliente HTTP específicos.
+     *
+     * @param serviceAccountKey JSON de la cuenta de servicio
+     * @param baseUri           URL base de la API
+     * @param client            Cliente HTTP
+     */
+    public FirebaseProvider(String serviceAccountKey, URI baseUri, ProviderHttpClient client) {
+        this.serviceAccountKey = serviceAccountKey;
+        this.baseUri = baseUri;
+        this.client = client;
+    }
+
+    @Override
+    public String sendPush(Set<String> deviceTokens, String title, String body, Map<String, Object> metadata)
+            throws Exception {
+        return ProviderHttpClient.await(sendPushAsync(deviceTokens, title, body, metadata));
+    }
+
+    /**
+     * Envía la notificación a todos los dispositivos y devuelve el nombre del primer mensaje; falla si
+     * algún dispositivo no la recibió. {@link #sendPushPerRecipient} informa el nombre de cada mensaje.
+     */
+    @Override
+    public CompletableFuture<String> sendPushAsync(Set<String> deviceTokens, String title, String body,
+                                                   Map<String, Object> metadata) {
+        return sendPushPerRecipient(deviceTokens, title, body, metadata).thenApply(FirebaseProvider::firstOrFail);
+    }
+
+    @Override
+    public CompletableFuture<List<RecipientResult>> sendPushPerRecipient(Set<String> deviceTokens, String title,
+                                                                         String body, Map<String, Object> metadata) {
+        ServiceAccountCredentials account;
+        try {
+            account = credentials();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        URI endpoint = baseUri.resolve("/v1/projects/"
+                + URLEncoder.encode(account.projectId(), StandardCharsets.UTF_8) + "/messages:send");
+
+        log.debug("[FIREBASE] Enviando push a {} dispositivos", deviceTokens.size());
+        return account.accessToken().thenCompose(accessToken -> client.sendToEach(deviceTokens, deviceToken -> {
+            HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("Content-Type", "application/json")
+                    .POST(message(deviceToken, title, body, metadata).publisher());
+            return client.send("Firebase", request).thenApply(response -> {
+                String name = JsonFields.string(response.body(), "name");
+                if (name == null) {
+                    throw new IllegalStateException("Firebase no devolvió el nombre del mensaje");
+                }
+                log.debug("[FIREBASE] Push enviado. ID: {}", name);
+                return name;
+            });
+        }));
+    }
+
+    private static JsonWriter message(String deviceToken, String title, String body, Map<String, Object> metadata) {
+        JsonWriter json = new JsonWriter().beginObject()
+                .name("message").beginObject()
+                .field("token", deviceToken)
+                .name("notification").beginObject()
+                .field("title", title)
+                .field("body", body)
+                .endObject();
+        if (!metadata.isEmpty()) {
+            // FCM solo admite valores de texto en el bloque data
+            json.name("data").beginObject();
+            metadata.forEach((key, value) -> json.field(key, String.valueOf(value)));
+            json.endObject();
+        }
+        return json.endObject().endObject();
+    }
+
+    private static String firstOrFail(List<RecipientResult> results) {
+        for (RecipientResult result : results) {
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Firebase no entregó el push a " + result.getRecipient()
+                        + ": " + result.getErrorMessage());
+            }
+        }
+        return results.isEmpty() ? null : results.get(0).getProviderMessageId();
+    }
+
+    private ServiceAccountCredentials credentials() {
+        ServiceAccountCredentials account = credentials;
+        if (account == null) {
+            synchronized (this) {
+                account = credentials;
+                if (account == null) {
+                    account = ServiceAccountCredentials.parse(serviceAccountKey, client);
+                    credentials = account;
+                }
+            }
+        }
+        return account;
+    }
+}
@@ -0,0 +1,137 @@
+package com.notifications.channels.push;
+
+import com.notifications.core.*;
+import com.notifications.metrics.ChannelMetrics;
+import com.notifications.metrics.MetricsListener;
+import com.notifications.metrics.NoopMetricsListener;
+import com.notifications.metrics.Phase;
+import com.notifications.template.RenderedMessage;
+import com.notifications.template.TemplateEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Canal para el envío de notificaciones push.
+ * Soporta envío a dispositivos móviles mediante tokens de dispositivo; los destinatarios que
+ * son emails o teléfonos se omiten.
+ */
+@Slf4j
+public class PushChannel implements NotificationChannel {
+
+    private final PushProvider provider;
+    private final ChannelMetrics metrics;
+    private final TemplateEngine templates;
+
+    public PushChannel(PushProvider provider) {
+        this(provider, NoopMetricsListener.INSTANCE);
+    }
+
+    /**
+     * Crea el canal reportando sus métricas al listener indicado.
+     */
+    public PushChannel(PushProvider provider, MetricsListener metricsListener) {
+        this(provider, metricsListener, null);
+    }
+
+    /**
+     * Crea el canal con métricas y con el motor que genera las notificaciones con plantilla.
+     */
+    public PushChannel(PushProvider provider, MetricsListener metricsListener, TemplateEngine templates) {
+        this.provider = provider;
+        this.metrics = new ChannelMetrics(metricsListener, ChannelType.PUSH, provider);
+        this.templates = templates;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        return AsyncResults.await(sendAsync(notification), ChannelType.PUSH);
+    }
+
+    /**
+     * Envía la notificación sin bloquear: las llamadas al proveedor de cada mensaje generado
+     * se inician juntas y el resultado se completa cuando terminan todas.
+     */
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        List<RenderedMessage> messages;
+        long validationStart = metrics.start();
+        try {
+            validateNotification(notification);
+            // Los destinatarios de otros tipos corresponden a otros canales
+            messages = TemplateEngine.messagesFor(templates,
+                    notification.withRecipientsOf(RecipientType.DEVICE_TOKEN), ChannelType.PUSH);
+        } catch (NotificationException e) {
+            metrics.failure(e.getErrorType());
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            metrics.phase(Phase.VALIDATION, validationStart);
+        }
+
+        log.info("Enviando notificación push: {}", notification.getId());
+
+        List<Set<String>> recipients = new ArrayList<>(messages.size());
+        List<CompletableFuture<List<RecipientResult>>> calls = new ArrayList<>(messages.size());
+        for (RenderedMessage message : messages) {
+            recipients.add(message.getRecipients());
+            String title = message.getSubject() != null ?
+                    message.getSubject() : "Notificación";
+            calls.add(call(message.getRecipients(), title, message.getContent(), notification.getMetadata()));
+        }
+
+        return AsyncResults.collect(notification, ChannelType.PUSH, recipients, calls, 0, "Error al enviar notificación push")
+                .whenComplete(metrics::completed);
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return notification.getRecipientClassification().hasDeviceToken();
+    }
+
+    @Override
+    public ChannelType getType() {
+        return ChannelType.PUSH;
+    }
+
+    private CompletableFuture<List<RecipientResult>> call(Set<String> deviceTokens, String title, String body, Map<String, Object> metadata) {
+        long callStart = metrics.callStarted();
+        CompletableFuture<List<RecipientResult>> call;
+        try {
+            call = provider.sendPushPerRecipient(deviceTokens, title, body, metadata);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.whenComplete((results, error) -> metrics.callFinished(callStart));
+    }
+
+    private void validateNotification(Notification notification) throws NotificationException {
+        if (notification.getRecipients().isEmpty()) {
+            throw new NotificationException(
+                    "Se requiere al menos un destinatario para enviar notificación push",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.PUSH
+            );
+        }
+
+        if (!notification.getRecipientClassification().hasDeviceToken()) {
+            throw new NotificationException(
+                    "No se encontraron tokens de dispositivo en los destinatarios",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.PUSH
+            );
+        }
+
+        if (notification.getTemplate() == null
+                && (notification.getContent() == null || notification.getContent().trim().isEmpty())) {
+            throw new NotificationException(
+                    "El contenido de la notificación push no puede estar vacío",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.PUSH
+            );
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.notifications.channels.push;
+
+import com.notifications.core.RecipientResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interfaz para proveedores de notificaciones push.
+ * Implementa el patrón Strategy para permitir intercambio de proveedores.
+ */
+public interface PushProvider {
+
+    /**
+     * Envía una notificación push.
+     *
+     * @param deviceTokens Conjunto de tokens de dispositivo destinatarios
+     * @param title        Título de la notificación
+     * @param body         Cuerpo del mensaje
+     * @param metadata     Metadatos adicionales
+     * @return Identificador del mensaje asignado por el proveedor
+     * @throws Exception Si ocurre un error durante el envío
+     */
+    String sendPush(
+            Set<String> deviceTokens,
+            String title,
+            String body,
+            Map<String, Object> metadata
+    ) throws Exception;
+
+    /**
+     * Envía una notificación push sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #sendPush} en el hilo actual; los proveedores con un
+     * cliente no bloqueante deben sobrescribirla para mantener muchas llamadas en curso sin ocupar hilos.
+     *
+     * @param deviceTokens Conjunto de tokens de dispositivo destinatarios
+     * @param title        Título de la notificación
+     * @param body         Cuerpo del mensaje
+     * @param metadata     Metadatos adicionales
+     * @return CompletableFuture con el identificador del mensaje asignado por el proveedor
+     */
+    default CompletableFuture<String> sendPushAsync(
+            Set<String> deviceTokens,
+            String title,
+            String body,
+            Map<String, Object> metadata
+    ) {
+        try {
+            return CompletableFuture.completedFuture(sendPush(deviceTokens, title, body, metadata));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Envía una notificación push e informa el resultado de cada destinatario, sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #sendPushAsync} una sola vez y asigna a todos los
+     * destinatarios el identificador devuelto; los proveedores que envían un mensaje por destinatario
+     * deben sobrescribirla para informar cada identificador y los destinatarios que fallaron.
+     *
+     * @param deviceTokens Conjunto de tokens de dispositivo destinatarios
+     * @param title        Título de la notificación
+     * @param body         Cuerpo del mensaje
+     * @param metadata     Metadatos adicionales
+     * @return CompletableFuture con el resultado de cada destinatario, o con el error del envío si
+     * ningún destinatario recibió el mensaje
+     */
+    default CompletableFuture<List<RecipientResult>> sendPushPerRecipient(
+            Set<String> deviceTokens,
+            String title,
+            String body,
+            Map<String, Object> metadata
+    ) {
+        return sendPushAsync(deviceTokens, title, body, metadata)
+                .thenApply(messageId -> RecipientResult.deliveredAll(deviceTokens, messageId));
+    }
+}
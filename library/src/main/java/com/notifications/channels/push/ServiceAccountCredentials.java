@@ -0,0 +1,133 @@
+package com.notifications.channels.push;
+
+import com.notifications.providers.http.JsonFields;
+import com.notifications.providers.http.JsonWriter;
+import com.notifications.providers.http.ProviderHttpClient;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tokens de acceso OAuth 2.0 de una cuenta de servicio de Google, obtenidos con una aserción JWT firmada
+ * con RS256. El token se reutiliza hasta un minuto antes de su vencimiento y las renovaciones concurrentes
+ * comparten una sola petición.
+ */
+final class ServiceAccountCredentials {
+
+    private static final String SCOPE = "https://www.googleapis.com/auth/firebase.messaging";
+    private static final String DEFAULT_TOKEN_URI = "https://oauth2.googleapis.com/token";
+    private static final long REFRESH_MARGIN_SECONDS = 60;
+
+    private final String projectId;
+    private final String clientEmail;
+    private final PrivateKey privateKey;
+    private final URI tokenUri;
+    private final ProviderHttpClient client;
+
+    private CompletableFuture<String> token;
+    private long expiresAt;
+
+    private ServiceAccountCredentials(String projectId, String clientEmail, PrivateKey privateKey,
+                                      URI tokenUri, ProviderHttpClient client) {
+        this.projectId = projectId;
+        this.clientEmail = clientEmail;
+        this.privateKey = privateKey;
+        this.tokenUri = tokenUri;
+        this.client = client;
+    }
+
+    /**
+     * Interpreta el JSON de la cuenta de servicio.
+     *
+     * @throws IllegalArgumentException Si falta algún campo o la clave privada es inválida
+     */
+    static ServiceAccountCredentials parse(String json, ProviderHttpClient client) {
+        String projectId = JsonFields.string(json, "project_id");
+        String clientEmail = JsonFields.string(json, "client_email");
+        String pem = JsonFields.string(json, "private_key");
+        if (projectId == null || clientEmail == null || pem == null) {
+            throw new IllegalArgumentException(
+                    "La cuenta de servicio de Firebase debe incluir project_id, client_email y private_key");
+        }
+        String tokenUri = JsonFields.string(json, "token_uri");
+        return new ServiceAccountCredentials(projectId, clientEmail, privateKey(pem),
+                URI.create(tokenUri != null ? tokenUri : DEFAULT_TOKEN_URI), client);
+    }
+
+    String projectId() {
+        return projectId;
+    }
+
+    /**
+     * Obtiene un token de acceso vigente, renovándolo si es necesario.
+     */
+    synchronized CompletableFuture<String> accessToken() {
+        long now = Instant.now().getEpochSecond();
+        if (token != null && (!token.isDone() || (!token.isCompletedExceptionally() && now < expiresAt))) {
+            return token;
+        }
+
+        String assertion;
+        try {
+            assertion = assertion(now);
+        } catch (GeneralSecurityException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(tokenUri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "grant_type=" + URLEncoder.encode("urn:ietf:params:oauth:grant-type:jwt-bearer", StandardCharsets.UTF_8)
+                                + "&assertion=" + assertion));
+        token = client.send("Google OAuth", request).thenApply(response -> {
+            String accessToken = JsonFields.string(response.body(), "access_token");
+            if (accessToken == null) {
+                throw new IllegalStateException("Google OAuth no devolvió access_token");
+            }
+            long expiresIn = JsonFields.number(response.body(), "expires_in", 3600);
+            synchronized (this) {
+                expiresAt = now + expiresIn - REFRESH_MARGIN_SECONDS;
+            }
+            return accessToken;
+        });
+        return token;
+    }
+
+    private String assertion(long now) throws GeneralSecurityException {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String claims = encoder.encodeToString(new JsonWriter().beginObject()
+                .field("iss", clientEmail)
+                .field("scope", SCOPE)
+                .field("aud", tokenUri.toString())
+                .name("iat").value(now)
+                .name("exp").value(now + 3600)
+                .endObject()
+                .toString()
+                .getBytes(StandardCharsets.UTF_8));
+
+        String unsigned = header + "." + claims;
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(privateKey);
+        signature.update(unsigned.getBytes(StandardCharsets.US_ASCII));
+        return unsigned + "." + encoder.encodeToString(signature.sign());
+    }
+
+    private static PrivateKey privateKey(String pem) {
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        try {
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Clave privada de la cuenta de servicio inválida", e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.notifications.channels.sms;
+
+import com.notifications.core.*;
+import com.notifications.metrics.ChannelMetrics;
+import com.notifications.metrics.MetricsListener;
+import com.notifications.metrics.NoopMetricsListener;
+import com.notifications.metrics.Phase;
+import com.notifications.template.RenderedMessage;
+import com.notifications.template.TemplateEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Canal para el envío de notificaciones por SMS.
+ * Implementa validación de números telefónicos y divide los mensajes largos en SMS concatenados
+ * según su codificación, hasta {@value #MAX_SEGMENTS} segmentos. Solo entrega a los destinatarios
+ * que son números telefónicos.
+ */
+@Slf4j
+public class SmsChannel implements NotificationChannel {
+
+    /**
+     * Máximo de segmentos de un SMS concatenado que aceptan los operadores.
+     */
+    public static final int MAX_SEGMENTS = 10;
+
+    private final SmsProvider provider;
+    private final ChannelMetrics metrics;
+    private final TemplateEngine templates;
+
+    public SmsChannel(SmsProvider provider) {
+        this(provider, NoopMetricsListener.INSTANCE);
+    }
+
+    /**
+     * Crea el canal reportando sus métricas al listener indicado.
+     */
+    public SmsChannel(SmsProvider provider, MetricsListener metricsListener) {
+        this(provider, metricsListener, null);
+    }
+
+    /**
+     * Crea el canal con métricas y con el motor que genera las notificaciones con plantilla.
+     */
+    public SmsChannel(SmsProvider provider, MetricsListener metricsListener, TemplateEngine templates) {
+        this.provider = provider;
+        this.metrics = new ChannelMetrics(metricsListener, ChannelType.SMS, provider);
+        this.templates = templates;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        return AsyncResults.await(sendAsync(notification), ChannelType.SMS);
+    }
+
+    /**
+     * Envía la notificación sin bloquear: las llamadas al proveedor de cada mensaje generado
+     * se inician juntas y el resultado se completa cuando terminan todas.
+     */
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        List<RenderedMessage> messages;
+        List<String> texts;
+        long validationStart = metrics.start();
+        int segments = 0;
+        try {
+            validateNotification(notification);
+            // Los destinatarios de otros tipos corresponden a otros canales
+            messages = TemplateEngine.messagesFor(templates,
+                    notification.withRecipientsOf(RecipientType.PHONE), ChannelType.SMS);
+            texts = new ArrayList<>(messages.size());
+            for (RenderedMessage rendered : messages) {
+                String message = rendered.getContent();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Notificación";
+                }
+                segments += segment(message) * rendered.getRecipients().size();
+                texts.add(message);
+            }
+        } catch (NotificationException e) {
+            metrics.failure(e.getErrorType());
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            metrics.phase(Phase.VALIDATION, validationStart);
+        }
+
+        log.info("Enviando notificación por SMS: {}", notification.getId());
+
+        List<Set<String>> recipients = new ArrayList<>(messages.size());
+        List<CompletableFuture<List<RecipientResult>>> calls = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            recipients.add(messages.get(i).getRecipients());
+            calls.add(call(messages.get(i).getRecipients(), texts.get(i), notification.getMetadata()));
+        }
+        return AsyncResults.collect(notification, ChannelType.SMS, recipients, calls, segments, "Error al enviar SMS")
+                .whenComplete(metrics::completed);
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return notification.getRecipientClassification().hasPhone();
+    }
+
+    @Override
+    public ChannelType getType() {
+        return ChannelType.SMS;
+    }
+
+    private CompletableFuture<List<RecipientResult>> call(Set<String> recipients, String message, Map<String, Object> metadata) {
+        long callStart = metrics.callStarted();
+        CompletableFuture<List<RecipientResult>> call;
+        try {
+            call = provider.sendSmsPerRecipient(recipients, message, metadata);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.whenComplete((results, error) -> metrics.callFinished(callStart));
+    }
+
+    /**
+     * Calcula los segmentos de un mensaje; el proveedor recibe el texto completo y lo envía concatenado.
+     *
+     * @return Segmentos del mensaje
+     * @throws NotificationException Si el mensaje supera {@link #MAX_SEGMENTS} segmentos
+     */
+    private static int segment(String message) throws NotificationException {
+        SmsSegmentation segmentation = SmsSegmenter.analyze(message);
+        if (segmentation.segments() > MAX_SEGMENTS) {
+            throw new NotificationException(
+                    "El SMS ocupa " + segmentation.segments() + " segmentos en " + segmentation.encoding()
+                            + " y el máximo es " + MAX_SEGMENTS,
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.SMS
+            );
+        }
+        if (segmentation.isMultipart()) {
+            log.debug("Mensaje SMS de {} unidades en {}: {} segmentos",
+                    segmentation.units(), segmentation.encoding(), segmentation.segments());
+        }
+        return segmentation.segments();
+    }
+
+    private void validateNotification(Notification notification) throws NotificationException {
+        if (notification.getRecipients().isEmpty()) {
+            throw new NotificationException(
+                    "Se requiere al menos un destinatario para enviar SMS",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.SMS
+            );
+        }
+
+        boolean hasValidPhone = notification.getRecipientClassification().hasPhone();
+
+        if (!hasValidPhone) {
+            throw new NotificationException(
+                    "No se encontraron números telefónicos válidos en los destinatarios",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.SMS
+            );
+        }
+
+        if (notification.getTemplate() == null
+                && (notification.getContent() == null || notification.getContent().trim().isEmpty())) {
+            throw new NotificationException(
+                    "El contenido del SMS no puede estar vacío",
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    ChannelType.SMS
+            );
+        }
+    }
+}
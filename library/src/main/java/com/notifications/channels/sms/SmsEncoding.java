@@ -0,0 +1,15 @@
+package com.notifications.channels.sms;
+
+/**
+ * Codificación con la que se envía un SMS.
+ */
+public enum SmsEncoding {
+    /**
+     * Alfabeto GSM 03.38 de 7 bits, con su tabla de extensión: 160 caracteres por mensaje simple.
+     */
+    GSM_7,
+    /**
+     * UCS-2 de 16 bits, necesaria si algún carácter no pertenece al alfabeto GSM: 70 caracteres por mensaje simple.
+     */
+    UCS_2
+}
@@ -0,0 +1,73 @@
+package com.notifications.channels.sms;
+
+import com.notifications.core.RecipientResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interfaz para proveedores de SMS.
+ * Implementa el patrón Strategy para permitir intercambio de proveedores.
+ */
+public interface SmsProvider {
+
+    /**
+     * Envía un mensaje SMS.
+     *
+     * @param recipients Conjunto de números telefónicos destinatarios
+     * @param message    Contenido del mensaje
+     * @param metadata   Metadatos adicionales
+     * @return Identificador del mensaje asignado por el proveedor
+     * @throws Exception Si ocurre un error durante el envío
+     */
+    String sendSms(
+            Set<String> recipients,
+            String message,
+            Map<String, Object> metadata
+    ) throws Exception;
+
+    /**
+     * Envía un mensaje SMS sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #sendSms} en el hilo actual; los proveedores con un
+     * cliente no bloqueante deben sobrescribirla para mantener muchas llamadas en curso sin ocupar hilos.
+     *
+     * @param recipients Conjunto de números telefónicos destinatarios
+     * @param message    Contenido del mensaje
+     * @param metadata   Metadatos adicionales
+     * @return CompletableFuture con el identificador del mensaje asignado por el proveedor
+     */
+    default CompletableFuture<String> sendSmsAsync(
+            Set<String> recipients,
+            String message,
+            Map<String, Object> metadata
+    ) {
+        try {
+            return CompletableFuture.completedFuture(sendSms(recipients, message, metadata));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Envía un mensaje SMS e informa el resultado de cada destinatario, sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #sendSmsAsync} una sola vez y asigna a todos los
+     * destinatarios el identificador devuelto; los proveedores que envían un mensaje por destinatario
+     * deben sobrescribirla para informar cada identificador y los destinatarios que fallaron.
+     *
+     * @param recipients Conjunto de números telefónicos destinatarios
+     * @param message    Contenido del mensaje
+     * @param metadata   Metadatos adicionales
+     * @return CompletableFuture con el resultado de cada destinatario, o con el error del envío si
+     * ningún destinatario recibió el mensaje
+     */
+    default CompletableFuture<List<RecipientResult>> sendSmsPerRecipient(
+            Set<String> recipients,
+            String message,
+            Map<String, Object> metadata
+    ) {
+        return sendSmsAsync(recipients, message, metadata)
+                .thenApply(messageId -> RecipientResult.deliveredAll(recipients, messageId));
+    }
+}
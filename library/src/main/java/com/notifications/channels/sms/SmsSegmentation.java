@@ -0,0 +1,18 @@
+package com.notifications.channels.sms;
+
+/**
+ * Resultado de analizar el texto de un SMS.
+ *
+ * @param encoding Codificación necesaria para el texto
+ * @param units    Unidades que ocupa el texto: septetos en GSM-7 o unidades UTF-16 en UCS-2
+ * @param segments Cantidad de segmentos en que se envía; cada uno se factura como un SMS
+ */
+public record SmsSegmentation(SmsEncoding encoding, int units, int segments) {
+
+    /**
+     * Indica si el texto se envía como SMS concatenado.
+     */
+    public boolean isMultipart() {
+        return segments > 1;
+    }
+}
@@ -0,0 +1,137 @@
+package com.notifications.channels.sms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calcula la codificación y los segmentos de un SMS.
+ * <p>
+ * Un texto se envía en GSM-7 si todos sus caracteres pertenecen a la tabla básica o a la de extensión
+ * de GSM 03.38; los de extensión ocupan dos septetos. En otro caso se envía en UCS-2. Un mensaje simple
+ * admite 160 septetos o 70 unidades UCS-2; los mensajes concatenados reservan la cabecera UDH en cada
+ * segmento y admiten 153 septetos o 67 unidades. Un carácter de extensión o un par sustituto nunca se
+ * divide entre dos segmentos.
+ */
+public final class SmsSegmenter {
+
+    public static final int GSM_7_SINGLE = 160;
+    public static final int GSM_7_MULTIPART = 153;
+    public static final int UCS_2_SINGLE = 70;
+    public static final int UCS_2_MULTIPART = 67;
+
+    private static final String GSM_7_BASIC = "@£$¥èéùìòÇ\nØø\rÅåΔ_ΦΓΛΩΠΨΣΘΞÆæßÉ !\"#¤%&'()*+,-./0123456789:;<=>?"
+            + "¡ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÑÜ§¿abcdefghijklmnopqrstuvwxyzäöñüà";
+    private static final String GSM_7_EXTENSION = "\f^{}\\[~]|";
+    private static final char EURO = '€';
+
+    /**
+     * Septetos de cada carácter hasta U+03FF: 1 en la tabla básica, 2 en la de extensión y 0 si no es GSM-7.
+     */
+    private static final byte[] SEPTETS = new byte[0x400];
+
+    static {
+        for (int i = 0; i < GSM_7_BASIC.length(); i++) {
+            SEPTETS[GSM_7_BASIC.charAt(i)] = 1;
+        }
+        for (int i = 0; i < GSM_7_EXTENSION.length(); i++) {
+            SEPTETS[GSM_7_EXTENSION.charAt(i)] = 2;
+        }
+    }
+
+    private SmsSegmenter() {
+    }
+
+    /**
+     * Analiza el texto en una sola pasada y sin reservar memoria intermedia, contando a la vez
+     * los segmentos en GSM-7 y en UCS-2 hasta saber qué codificación corresponde.
+     *
+     * @param text Texto del SMS
+     * @return Codificación, unidades y segmentos del texto
+     */
+    public static SmsSegmentation analyze(CharSequence text) {
+        int length = text.length();
+        boolean gsm = true;
+        int septets = 0;
+        int gsmSegments = 1;
+        int gsmFill = 0;
+        int ucs2Segments = 1;
+        int ucs2Fill = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (gsm) {
+                int units = septets(c);
+                if (units == 0) {
+                    gsm = false;
+                } else {
+                    septets += units;
+                    if (gsmFill + units > GSM_7_MULTIPART) {
+                        gsmSegments++;
+                        gsmFill = units;
+                    } else {
+                        gsmFill += units;
+                    }
+                }
+            }
+            int units = ucs2Units(text, i, length);
+            if (ucs2Fill + units > UCS_2_MULTIPART) {
+                ucs2Segments++;
+                ucs2Fill = units;
+            } else {
+                ucs2Fill += units;
+            }
+            i += units - 1;
+        }
+
+        if (gsm) {
+            return new SmsSegmentation(SmsEncoding.GSM_7, septets, septets <= GSM_7_SINGLE ? 1 : gsmSegments);
+        }
+        return new SmsSegmentation(SmsEncoding.UCS_2, length, length <= UCS_2_SINGLE ? 1 : ucs2Segments);
+    }
+
+    /**
+     * Divide el texto en las partes de un SMS concatenado, cada una dentro del límite de su codificación.
+     *
+     * @param text Texto del SMS
+     * @return Partes del mensaje; el propio texto si cabe en un mensaje simple
+     */
+    public static List<String> split(String text) {
+        SmsSegmentation segmentation = analyze(text);
+        if (!segmentation.isMultipart()) {
+            return List.of(text);
+        }
+
+        boolean gsm = segmentation.encoding() == SmsEncoding.GSM_7;
+        int capacity = gsm ? GSM_7_MULTIPART : UCS_2_MULTIPART;
+        int length = text.length();
+        List<String> parts = new ArrayList<>(segmentation.segments());
+        int start = 0;
+        int fill = 0;
+        for (int i = 0; i < length; ) {
+            int chars = ucs2Units(text, i, length);
+            int units = gsm ? septets(text.charAt(i)) : chars;
+            if (fill + units > capacity) {
+                parts.add(text.substring(start, i));
+                start = i;
+                fill = 0;
+            }
+            fill += units;
+            i += chars;
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+
+    private static int septets(char c) {
+        if (c < SEPTETS.length) {
+            return SEPTETS[c];
+        }
+        return c == EURO ? 2 : 0;
+    }
+
+    private static int ucs2Units(CharSequence text, int index, int length) {
+        return Character.isHighSurrogate(text.charAt(index))
+                && index + 1 < length
+                && Character.isLowSurrogate(text.charAt(index + 1)) ? 2 : 1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.notifications.channels.sms;
+
+import com.notifications.core.RecipientResult;
+import com.notifications.providers.http.JsonFields;
+import com.notifications.providers.http.ProviderHttpClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proveedor de SMS sobre la API REST de Twilio ({@code POST /2010-04-01/Accounts/{sid}/Messages.json}).
+ * La API acepta un destinatario por mensaje, por lo que se envía una petición por número, con a lo sumo
+ * {@code maxRequestsPerSend} en paralelo, y se informa el SID o el error de cada destinatario.
+ */
+@Slf4j
+public class TwilioProvider implements SmsProvider {
+
+    private static final URI DEFAULT_BASE_URI = URI.create("https://api.twilio.com");
+
+    private final String fromNumber;
+    private final String authorization;
+    private final URI endpoint;
+    private final ProviderHttpClient client;
+
+    public TwilioProvider(String accountSid, String authToken, String fromNumber) {
+        this(accountSid, authToken, fromNumber, DEFAULT_BASE_URI, ProviderHttpClient.shared());
+    }
+
+    /**
+     * Crea el proveedor contra una URL base y un cliente HTTP específicos.
+     *
+     * @param accountSid Account SID de Twilio
+     * @param authToken  Auth Token de Twilio
+     * @param fromNumber Número de origen
+     * @param baseUri    URL base de la API
+     * @param client     Cliente HTTP
+     */
+    public TwilioProvider(String accountSid, String authToken, String fromNumber, URI baseUri, ProviderHttpClient client) {
+        this.fromNumber = fromNumber;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((accountSid + ":" + authToken).getBytes(StandardCharsets.UTF_8));
+        this.endpoint = baseUri.resolve("/2010-04-01/Accounts/"
+                + URLEncoder.encode(accountSid, StandardCharsets.UTF_8) + "/Messages.json");
+        this.client = client;
+    }
+
+    @Override
+    public String sendSms(Set<String> recipients, String message, Map<String, Object> metadata) throws Exception {
+        return ProviderHttpClient.await(sendSmsAsync(recipients, message, metadata));
+    }
+
+    /**
+     * Envía el SMS a todos los destinatarios y devuelve el SID del primer mensaje; falla si algún
+     * destinatario no lo recibió. {@link #sendSmsPerRecipient} informa el SID de cada destinatario.
+     */
+    @Override
+    public CompletableFuture<String> sendSmsAsync(Set<String> recipients, String message, Map<String, Object> metadata) {
+        return sendSmsPerRecipient(recipients, message, metadata).thenApply(TwilioProvider::firstOrFail);
+    }
+
+    @Override
+    public CompletableFuture<List<RecipientResult>> sendSmsPerRecipient(Set<String> recipients, String message,
+                                                                        Map<String, Object> metadata) {
+        log.debug("[TWILIO] Enviando SMS desde {} a {} destinatarios", fromNumber, recipients.size());
+
+        return client.sendToEach(recipients, recipient -> {
+            String form = "To=" + URLEncoder.encode(recipient, StandardCharsets.UTF_8)
+                    + "&From=" + URLEncoder.encode(fromNumber, StandardCharsets.UTF_8)
+                    + "&Body=" + URLEncoder.encode(message, StandardCharsets.UTF_8);
+            HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form));
+            return client.send("Twilio", request).thenApply(response -> {
+                String sid = JsonFields.string(response.body(), "sid");
+                if (sid == null) {
+                    throw new IllegalStateException("Twilio no devolvió el SID del mensaje");
+                }
+                log.debug("[TWILIO] SMS enviado a {}. SID: {}", recipient, sid);
+                return sid;
+            });
+        });
+    }
+
+    private static String firstOrFail(List<RecipientResult> results) {
+        for (RecipientResult result : results) {
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Twilio no entregó el SMS a " + result.getRecipient()
+                        + ": " + result.getErrorMessage());
+            }
+        }
+        return results.isEmpty() ? null : results.get(0).getProviderMessageId();
+    }
+}
@@ -0,0 +1,320 @@
+package com.notifications.coalescing;
+
+import com.notifications.core.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Decorador de canal que agrupa notificaciones con el mismo asunto, contenido, metadatos
+ * y prioridad en una sola llamada multi-destinatario al proveedor.
+ * Cada notificación original recibe su propio resultado con los mensajes de sus destinatarios. Las
+ * notificaciones que repiten un destinatario de la ventana abierta no se agrupan con ella: la ventana
+ * se envía y la notificación abre la siguiente, de modo que cada destinatario recibe todos sus mensajes.
+ * Tras cerrar el canal las notificaciones se envían de inmediato, sin agrupar.
+ */
+@Slf4j
+public class CoalescingChannel implements NotificationChannel, AutoCloseable {
+
+    private final NotificationChannel delegate;
+    private final CoalescingConfig config;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final ConcurrentMap<CoalescingKey, Window> windows = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public CoalescingChannel(NotificationChannel delegate,
+                             CoalescingConfig config,
+                             ScheduledExecutorService scheduler,
+                             Executor executor) {
+        if (config.getMaxBatchSize() <= 0 || config.getMaxRecipients() <= 0) {
+            throw new IllegalArgumentException("Los límites de agrupación deben ser positivos");
+        }
+        this.delegate = delegate;
+        this.config = config;
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        // Las notificaciones que el canal no acepta se envían solas para conservar su error de validación,
+        // y las que usan plantilla porque su contenido depende de las variables de cada destinatario
+        if (!delegate.supports(notification) || notification.getTemplate() != null || closed) {
+            return delegate.send(notification);
+        }
+
+        CompletableFuture<NotificationResult> future = enqueue(notification);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(
+                    "Envío interrumpido mientras esperaba la agrupación",
+                    NotificationException.ErrorType.SEND_ERROR,
+                    getType(),
+                    e
+            );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NotificationException notificationException) {
+                throw notificationException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NotificationException(
+                    "Error al enviar notificación agrupada: " + cause.getMessage(),
+                    NotificationException.ErrorType.SEND_ERROR,
+                    getType(),
+                    cause
+            );
+        }
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        if (!delegate.supports(notification) || notification.getTemplate() != null || closed) {
+            return delegate.sendAsync(notification);
+        }
+        return enqueue(notification);
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    /**
+     * Envía de inmediato todas las ventanas abiertas sin esperar a que venzan.
+     */
+    public void flush() {
+        for (Window window : windows.values()) {
+            if (window.tryClose()) {
+                windows.remove(window.key, window);
+                if (window.timer != null) {
+                    window.timer.cancel(false);
+                }
+                deliver(window);
+            }
+        }
+    }
+
+    /**
+     * Envía de inmediato todas las ventanas abiertas y deja de agrupar.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    private CompletableFuture<NotificationResult> enqueue(Notification notification) {
+        CoalescingKey key = CoalescingKey.of(notification);
+        Pending pending = new Pending(notification);
+        int size = notification.getRecipients().size();
+
+        while (true) {
+            Window window = windows.computeIfAbsent(key, this::openWindow);
+            boolean added = false;
+            boolean full = false;
+
+            synchronized (window) {
+                if (window.closed) {
+                    // Otro hilo la cerró y aún no la quitó del mapa; se quita para no volver a obtenerla
+                    windows.remove(key, window);
+                    continue;
+                }
+                if (!window.pending.isEmpty() && (window.recipients.size() + size > config.getMaxRecipients()
+                        || overlaps(window, notification))) {
+                    window.closed = true;
+                    full = true;
+                } else {
+                    window.pending.add(pending);
+                    window.recipients.addAll(notification.getRecipients());
+                    added = true;
+                    if (window.pending.size() >= config.getMaxBatchSize()
+                            || window.recipients.size() >= config.getMaxRecipients()) {
+                        window.closed = true;
+                        full = true;
+                    }
+                }
+            }
+
+            if (full) {
+                windows.remove(key, window);
+                if (window.timer != null) {
+                    window.timer.cancel(false);
+                }
+                dispatch(window);
+            }
+            if (added) {
+                // Si el canal se cerró mientras se agregaba, o no hay temporizador, nadie enviaría la ventana
+                if (closed || window.timer == null) {
+                    expire(window);
+                }
+                return pending.future;
+            }
+        }
+    }
+
+    /**
+     * Indica si la notificación comparte destinatarios con la ventana. Un destinatario repetido recibiría
+     * un solo mensaje en el envío agrupado, así que la notificación espera a la ventana siguiente.
+     */
+    private static boolean overlaps(Window window, Notification notification) {
+        for (String recipient : notification.getRecipients()) {
+            if (window.recipients.contains(recipient)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Window openWindow(CoalescingKey key) {
+        Window window = new Window(key);
+        try {
+            window.timer = scheduler.schedule(() -> expire(window),
+                    config.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Planificador detenido; la ventana de {} se envía sin esperar", getType());
+        }
+        return window;
+    }
+
+    private void expire(Window window) {
+        if (window.tryClose()) {
+            windows.remove(window.key, window);
+            dispatch(window);
+        }
+    }
+
+    private void dispatch(Window window) {
+        try {
+            executor.execute(() -> deliver(window));
+        } catch (RejectedExecutionException e) {
+            deliver(window);
+        }
+    }
+
+    private void deliver(Window window) {
+        List<Pending> batch = window.pending;
+        if (batch.isEmpty()) {
+            // El temporizador o el cierre ganaron la carrera al primer envío, que abrirá otra ventana
+            return;
+        }
+        Notification first = batch.get(0).notification;
+
+        Notification merged = first;
+        if (batch.size() > 1) {
+            Set<String> recipients = new LinkedHashSet<>();
+            for (Pending pending : batch) {
+                recipients.addAll(pending.notification.getRecipients());
+            }
+            merged = first.toBuilder()
+                    .clearRecipients()
+                    .recipients(recipients)
+                    .build();
+            log.debug("Agrupando {} notificaciones con {} destinatarios en un solo envío por {}",
+                    batch.size(), recipients.size(), getType());
+        }
+
+        int mergedRecipients = merged.getRecipients().size();
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = delegate.sendAsync(merged);
+        } catch (Throwable e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = AsyncResults.unwrap(error);
+                for (Pending pending : batch) {
+                    pending.future.completeExceptionally(cause);
+                }
+                return;
+            }
+            // Todas comparten el texto, así que cada destinatario ocupa los mismos segmentos
+            int segmentsPerRecipient = result.getSegments() / Math.max(1, mergedRecipients);
+            for (Pending pending : batch) {
+                pending.future.complete(resultFor(pending.notification, result, segmentsPerRecipient));
+            }
+        });
+    }
+
+    /**
+     * Obtiene el resultado de una notificación original a partir del envío agrupado. Si el canal informa
+     * cada destinatario, la notificación solo recibe los resultados de sus propios destinatarios y es
+     * exitosa si todos ellos recibieron el mensaje, aunque otros del grupo hayan fallado.
+     */
+    private static NotificationResult resultFor(Notification notification, NotificationResult merged,
+                                                int segmentsPerRecipient) {
+        int segments = segmentsPerRecipient * notification.getRecipients().size();
+        if (merged.getRecipientResults().isEmpty()) {
+            return merged.toBuilder()
+                    .notificationId(notification.getId())
+                    .segments(segments)
+                    .build();
+        }
+        List<RecipientResult> own = new ArrayList<>(notification.getRecipients().size());
+        for (RecipientResult recipient : merged.getRecipientResults()) {
+            if (notification.getRecipients().contains(recipient.getRecipient())) {
+                own.add(recipient);
+            }
+        }
+        return NotificationResult.of(notification.getId(), merged.getChannelType(), own, segments);
+    }
+
+    /**
+     * Clave de compatibilidad: solo se agrupan notificaciones cuyo envío sería idéntico salvo por los destinatarios.
+     */
+    private record CoalescingKey(String subject,
+                                 String content,
+                                 Map<String, Object> metadata,
+                                 Notification.Priority priority) {
+
+        static CoalescingKey of(Notification notification) {
+            return new CoalescingKey(
+                    notification.getSubject(),
+                    notification.getContent(),
+                    notification.getMetadata(),
+                    notification.getPriority()
+            );
+        }
+    }
+
+    private static final class Window {
+        private final CoalescingKey key;
+        private final List<Pending> pending = new ArrayList<>();
+        private final Set<String> recipients = new HashSet<>();
+        private boolean closed;
+        private volatile ScheduledFuture<?> timer;
+
+        private Window(CoalescingKey key) {
+            this.key = key;
+        }
+
+        private synchronized boolean tryClose() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+    }
+
+    private static final class Pending {
+        private final Notification notification;
+        private final CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+
+        private Pending(Notification notification) {
+            this.notification = notification;
+        }
+    }
+}
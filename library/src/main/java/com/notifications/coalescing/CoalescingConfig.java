@@ -0,0 +1,42 @@
+package com.notifications.coalescing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la etapa de agrupación de notificaciones idénticas.
+ * Una ventana se envía al proveedor cuando vence su tiempo o cuando alcanza alguno de los límites de tamaño.
+ */
+@Getter
+@Builder
+public class CoalescingConfig {
+
+    /**
+     * Tiempo máximo que una notificación espera a otras compatibles antes del envío.
+     */
+    @Builder.Default
+    private final Duration window = Duration.ofMillis(20);
+
+    /**
+     * Cantidad máxima de notificaciones agrupadas en una sola llamada al proveedor.
+     */
+    @Builder.Default
+    private final int maxBatchSize = 500;
+
+    /**
+     * Cantidad máxima de destinatarios en una sola llamada al proveedor.
+     */
+    @Builder.Default
+    private final int maxRecipients = 1000;
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static CoalescingConfig defaults() {
+        return CoalescingConfig.builder().build();
+    }
+}
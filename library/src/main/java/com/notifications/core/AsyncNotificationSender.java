@@ -0,0 +1,19 @@
+package com.notifications.core;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Función de envío asíncrono, contraparte de {@link NotificationSender} para los componentes
+ * que componen envíos sin bloquear hilos.
+ */
+@FunctionalInterface
+public interface AsyncNotificationSender {
+
+    /**
+     * Envía una notificación sin bloquear el hilo llamador.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado, o con la {@link NotificationException} del envío
+     */
+    CompletableFuture<NotificationResult> sendAsync(Notification notification);
+}
@@ -0,0 +1,137 @@
+package com.notifications.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Utilidades para combinar los envíos asíncronos con la API síncrona de los canales.
+ */
+@Slf4j
+public final class AsyncResults {
+
+    private AsyncResults() {
+    }
+
+    /**
+     * Espera el resultado de un envío asíncrono y propaga su error original.
+     *
+     * @param future      Envío en curso
+     * @param channelType Canal del envío, para los errores
+     * @return Resultado del envío
+     * @throws NotificationException Si el envío falla o el hilo es interrumpido
+     */
+    public static <T> T await(CompletableFuture<T> future, ChannelType channelType) throws NotificationException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(
+                    "Envío interrumpido mientras esperaba el resultado",
+                    NotificationException.ErrorType.SEND_ERROR,
+                    channelType,
+                    e
+            );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NotificationException notificationException) {
+                throw notificationException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NotificationException(
+                    "Error en el envío: " + cause.getMessage(),
+                    NotificationException.ErrorType.SEND_ERROR,
+                    channelType,
+                    cause
+            );
+        }
+    }
+
+    /**
+     * Obtiene el error original de una etapa dependiente, que llega envuelto en una {@link CompletionException}.
+     *
+     * @param error Error recibido por la etapa
+     * @return Error original
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Combina las llamadas al proveedor de los mensajes de una notificación en un único resultado.
+     * Un mensaje fallido no anula a los destinatarios que ya lo recibieron: sus destinatarios se informan
+     * como fallidos y el resultado es parcial. Si ningún destinatario recibió el mensaje, el envío falla
+     * con el primer error.
+     *
+     * @param notification Notificación enviada
+     * @param channelType  Canal del envío
+     * @param recipients   Destinatarios de cada llamada, en el mismo orden que {@code calls}
+     * @param calls        Llamadas al proveedor con el resultado de cada destinatario
+     * @param segments     Segmentos facturables del envío
+     * @param failure      Inicio del mensaje de error, por ejemplo "Error al enviar SMS"
+     * @return CompletableFuture con el resultado combinado o el error del envío
+     */
+    public static CompletableFuture<NotificationResult> collect(Notification notification,
+                                                                ChannelType channelType,
+                                                                List<? extends Collection<String>> recipients,
+                                                                List<CompletableFuture<List<RecipientResult>>> calls,
+                                                                int segments,
+                                                                String failure) {
+        CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+        CompletableFuture.allOf(calls.toArray(CompletableFuture<?>[]::new)).whenComplete((ignored, error) -> {
+            List<RecipientResult> results = new ArrayList<>();
+            Throwable cause = null;
+            for (int i = 0; i < calls.size(); i++) {
+                CompletableFuture<List<RecipientResult>> call = calls.get(i);
+                if (!call.isCompletedExceptionally()) {
+                    results.addAll(call.join());
+                    continue;
+                }
+                Throwable callError = unwrap(call.exceptionNow());
+                cause = cause == null ? callError : cause;
+                for (String recipient : recipients.get(i)) {
+                    results.add(RecipientResult.failed(recipient, callError.getMessage()));
+                }
+            }
+            if (cause == null || results.stream().anyMatch(RecipientResult::isSuccess)) {
+                NotificationResult sent = NotificationResult.of(notification.getId(), channelType, results, segments);
+                if (!sent.isSuccess()) {
+                    log.warn("Notificación {} entregada solo en parte: {}", notification.getId(), sent.getMessage());
+                }
+                result.complete(sent);
+                return;
+            }
+
+            log.error("Error al enviar notificación por {}: {}", channelType, notification.getId(), cause);
+            result.completeExceptionally(new NotificationException(
+                    failure + ": " + cause.getMessage(),
+                    NotificationException.ErrorType.SEND_ERROR,
+                    channelType,
+                    cause
+            ));
+        });
+        return result;
+    }
+
+    /**
+     * Adapta un envío síncrono a un CompletableFuture ya completado.
+     *
+     * @param sender       Envío síncrono
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado o el error del envío
+     */
+    public static CompletableFuture<NotificationResult> completed(NotificationSender sender, Notification notification) {
+        try {
+            return CompletableFuture.completedFuture(sender.send(notification));
+        } catch (NotificationException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
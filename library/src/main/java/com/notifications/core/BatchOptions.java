@@ -0,0 +1,38 @@
+package com.notifications.core;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Map;
+
+/**
+ * Opciones para el envío paralelo de lotes de notificaciones.
+ * Permite acotar la concurrencia total del lote y la de cada canal por separado.
+ */
+@Getter
+@Builder
+public class BatchOptions {
+
+    /**
+     * Cantidad máxima de envíos en curso para todo el lote.
+     */
+    @Builder.Default
+    private final int maxConcurrency = 256;
+
+    /**
+     * Cantidad máxima de envíos en curso por canal.
+     * Los canales sin entrada solo quedan acotados por el límite global.
+     */
+    @Singular("channelConcurrency")
+    private final Map<ChannelType, Integer> channelConcurrency;
+
+    /**
+     * Crea las opciones por defecto.
+     *
+     * @return Opciones con los valores predeterminados
+     */
+    public static BatchOptions defaults() {
+        return BatchOptions.builder().build();
+    }
+}
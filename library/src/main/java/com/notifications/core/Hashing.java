@@ -0,0 +1,38 @@
+package com.notifications.core;
+
+/**
+ * Hashes de 64 bits compartidos por las estructuras indexadas por destinatario o identificador.
+ * Los valores son estables entre ejecuciones, así que pueden guardarse en disco.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits de los caracteres del texto, con el finalizador de SplitMix64
+     * para repartir bien los bits altos y bajos.
+     *
+     * @param value Texto a resumir
+     * @return Hash del texto
+     */
+    public static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Finalizador de SplitMix64: una biyección que hace que cada bit de la entrada afecte a todos los de la salida.
+     *
+     * @param value Valor a mezclar
+     * @return Valor mezclado
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,103 @@
+package com.notifications.core;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Modelo que representa una notificación genérica.
+ * Utiliza el patrón Builder para facilitar la construcción de instancias inmutables.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class Notification {
+
+    /**
+     * Identificador único de la notificación.
+     */
+    private final String id;
+
+    /**
+     * Conjunto de destinatarios.
+     */
+    @Singular
+    private final Set<String> recipients;
+
+    /**
+     * Contenido del mensaje.
+     */
+    private final String content;
+
+    /**
+     * Asunto de la notificación (aplicable a canales como email).
+     */
+    private final String subject;
+
+    /**
+     * Metadatos adicionales específicos del canal.
+     */
+    @Singular("metadata")
+    private final Map<String, Object> metadata;
+
+    /**
+     * Prioridad de la notificación.
+     */
+    @Builder.Default
+    private final Priority priority = Priority.NORMAL;
+
+    /**
+     * Canal preferido para el envío.
+     */
+    private final ChannelType preferredChannel;
+
+    /**
+     * Plantilla con la que se genera el asunto y el contenido, en lugar de los valores literales.
+     */
+    private final TemplateRef template;
+
+    /**
+     * Variables de la plantilla específicas de cada destinatario. Tienen precedencia sobre los metadatos.
+     */
+    @Singular("recipientVariables")
+    private final Map<String, Map<String, Object>> recipientVariables;
+
+    /**
+     * Clasificación de los destinatarios, calculada una sola vez en el primer acceso.
+     */
+    @Getter(lazy = true)
+    private final RecipientClassification recipientClassification =
+            RecipientClassifier.getDefault().classifyAll(recipients);
+
+    /**
+     * Obtiene la notificación dirigida solo a los destinatarios del tipo indicado, para que cada canal
+     * entregue únicamente a las direcciones que le corresponden.
+     *
+     * @param type Tipo de destinatario que atiende el canal
+     * @return Esta misma notificación si todos sus destinatarios son de ese tipo, o una copia con los
+     * destinatarios de ese tipo
+     */
+    public Notification withRecipientsOf(RecipientType type) {
+        if (getRecipientClassification().count(type) == recipients.size()) {
+            return this;
+        }
+        RecipientClassifier classifier = RecipientClassifier.getDefault();
+        Set<String> matching = new LinkedHashSet<>();
+        for (String recipient : recipients) {
+            if (classifier.classify(recipient) == type) {
+                matching.add(recipient);
+            }
+        }
+        return toBuilder().clearRecipients().recipients(matching).build();
+    }
+
+    /**
+     * Niveles de prioridad disponibles.
+     */
+    public enum Priority {
+        LOW, NORMAL, HIGH, URGENT
+    }
+}
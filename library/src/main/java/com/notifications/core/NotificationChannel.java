@@ -1,5 +1,7 @@
 package com.notifications.core;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interfaz base para todos los canales de notificación.
  * Define el contrato que deben implementar los canales específicos.
@@ -15,6 +17,18 @@ public interface NotificationChannel {
      */
     NotificationResult send(Notification notification) throws NotificationException;
 
+    /**
+     * Envía una notificación sin bloquear el hilo llamador.
+     * La implementación por defecto invoca {@link #send(Notification)} en el hilo actual; los canales
+     * integrados y los decoradores la sobrescriben para componer las llamadas asíncronas del proveedor.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado, o con la {@link NotificationException} del envío
+     */
+    default CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        return AsyncResults.completed(this::send, notification);
+    }
+
     /**
      * Verifica si este canal puede procesar la notificación especificada.
      *
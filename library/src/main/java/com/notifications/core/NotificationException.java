@@ -35,6 +35,16 @@ public class NotificationException extends Exception {
         /** Error durante el proceso de envío */
         SEND_ERROR,
         /** Error reportado por el proveedor externo */
-        PROVIDER_ERROR
+        PROVIDER_ERROR,
+        /** Capacidad del canal agotada (permisos y cola del bulkhead ocupados) */
+        CAPACITY_ERROR,
+        /** Límite de tasa del proveedor alcanzado antes de intentar el envío */
+        RATE_LIMIT_ERROR,
+        /** Circuito del canal abierto tras una tasa de fallos excesiva */
+        CIRCUIT_OPEN_ERROR,
+        /** Límite de notificaciones por destinatario alcanzado en la ventana del canal */
+        FREQUENCY_CAP_ERROR,
+        /** Todos los destinatarios están en la lista de supresión */
+        SUPPRESSED_ERROR
     }
 }
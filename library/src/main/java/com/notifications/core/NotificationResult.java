@@ -0,0 +1,148 @@
+package com.notifications.core;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Representa el resultado del envío de una notificación.
+ * Proporciona métodos de fábrica para crear resultados exitosos o fallidos.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class NotificationResult {
+
+    private final boolean success;
+    private final String notificationId;
+    private final ChannelType channelType;
+    private final String message;
+
+    @Builder.Default
+    private final LocalDateTime timestamp = LocalDateTime.now();
+
+    /**
+     * Identificador asignado por el proveedor cuando el envío generó un único mensaje. Si generó
+     * varios, por ejemplo uno por destinatario, es null y cada identificador figura en
+     * {@link #getRecipientResults()}.
+     */
+    private final String providerMessageId;
+
+    /**
+     * Resultado de cada destinatario, en los canales que lo informan; vacía en los demás.
+     */
+    @Singular
+    private final List<RecipientResult> recipientResults;
+
+    /**
+     * Segmentos SMS enviados en total, sumando todos los destinatarios; 0 en los demás canales.
+     */
+    private final int segments;
+
+    /**
+     * Crea un resultado exitoso.
+     *
+     * @param notificationId    Identificador de la notificación
+     * @param channelType       Tipo de canal utilizado
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @return Resultado exitoso
+     */
+    public static NotificationResult success(String notificationId,
+                                             ChannelType channelType,
+                                             String providerMessageId) {
+        return NotificationResult.builder()
+                .success(true)
+                .notificationId(notificationId)
+                .channelType(channelType)
+                .message("Notificación enviada exitosamente")
+                .providerMessageId(providerMessageId)
+                .build();
+    }
+
+    /**
+     * Crea un resultado exitoso de un envío por SMS, indicando los segmentos enviados.
+     *
+     * @param notificationId    Identificador de la notificación
+     * @param channelType       Tipo de canal utilizado
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @param segments          Segmentos SMS enviados en total
+     * @return Resultado exitoso
+     */
+    public static NotificationResult success(String notificationId,
+                                             ChannelType channelType,
+                                             String providerMessageId,
+                                             int segments) {
+        return NotificationResult.builder()
+                .success(true)
+                .notificationId(notificationId)
+                .channelType(channelType)
+                .message("Notificación enviada exitosamente")
+                .providerMessageId(providerMessageId)
+                .segments(segments)
+                .build();
+    }
+
+    /**
+     * Crea el resultado de un envío a partir del resultado de cada destinatario. Es exitoso si todos
+     * los destinatarios recibieron el mensaje; si solo algunos lo recibieron es fallido, y los
+     * destinatarios fallidos pueden reintentarse sin repetir el envío a los demás.
+     *
+     * @param notificationId   Identificador de la notificación
+     * @param channelType      Tipo de canal utilizado
+     * @param recipientResults Resultado de cada destinatario
+     * @param segments         Segmentos SMS enviados en total; 0 en los demás canales
+     * @return Resultado del envío
+     */
+    public static NotificationResult of(String notificationId,
+                                        ChannelType channelType,
+                                        List<RecipientResult> recipientResults,
+                                        int segments) {
+        int delivered = 0;
+        String providerMessageId = null;
+        boolean singleMessage = true;
+        for (RecipientResult recipient : recipientResults) {
+            if (!recipient.isSuccess()) {
+                continue;
+            }
+            if (delivered++ == 0) {
+                providerMessageId = recipient.getProviderMessageId();
+            } else if (providerMessageId == null || !providerMessageId.equals(recipient.getProviderMessageId())) {
+                singleMessage = false;
+            }
+        }
+
+        boolean success = delivered == recipientResults.size();
+        return NotificationResult.builder()
+                .success(success)
+                .notificationId(notificationId)
+                .channelType(channelType)
+                .message(success
+                        ? "Notificación enviada exitosamente"
+                        : "Notificación enviada a " + delivered + " de " + recipientResults.size() + " destinatarios")
+                .providerMessageId(singleMessage ? providerMessageId : null)
+                .recipientResults(recipientResults)
+                .segments(segments)
+                .build();
+    }
+
+    /**
+     * Crea un resultado fallido.
+     *
+     * @param notificationId Identificador de la notificación
+     * @param channelType    Tipo de canal utilizado
+     * @param errorMessage   Mensaje de error
+     * @return Resultado fallido
+     */
+    public static NotificationResult failure(String notificationId,
+                                             ChannelType channelType,
+                                             String errorMessage) {
+        return NotificationResult.builder()
+                .success(false)
+                .notificationId(notificationId)
+                .channelType(channelType)
+                .message(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.notifications.core;
+
+/**
+ * Función de envío utilizada por los componentes que entregan notificaciones en nombre del servicio,
+ * como el outbox o el despachador por prioridad.
+ */
+@FunctionalInterface
+public interface NotificationSender {
+
+    /**
+     * Envía una notificación.
+     *
+     * @param notification Notificación a enviar
+     * @return Resultado del envío
+     * @throws NotificationException Si ocurre un error durante el envío
+     */
+    NotificationResult send(Notification notification) throws NotificationException;
+}
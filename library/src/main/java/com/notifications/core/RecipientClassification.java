@@ -0,0 +1,36 @@
+package com.notifications.core;
+
+/**
+ * Resultado de clasificar los destinatarios de una notificación.
+ * Se calcula una sola vez por notificación y lo comparten la selección de canal y la validación.
+ */
+public class RecipientClassification {
+
+    private final int[] counts = new int[RecipientType.values().length];
+
+    void add(RecipientType type) {
+        counts[type.ordinal()]++;
+    }
+
+    /**
+     * Obtiene la cantidad de destinatarios del tipo indicado.
+     *
+     * @param type Tipo de destinatario
+     * @return Cantidad de destinatarios de ese tipo
+     */
+    public int count(RecipientType type) {
+        return counts[type.ordinal()];
+    }
+
+    public boolean hasEmail() {
+        return count(RecipientType.EMAIL) > 0;
+    }
+
+    public boolean hasPhone() {
+        return count(RecipientType.PHONE) > 0;
+    }
+
+    public boolean hasDeviceToken() {
+        return count(RecipientType.DEVICE_TOKEN) > 0;
+    }
+}
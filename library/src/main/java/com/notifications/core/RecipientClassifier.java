@@ -0,0 +1,180 @@
+package com.notifications.core;
+
+import java.util.Collection;
+
+/**
+ * Clasifica destinatarios como email, teléfono E.164 o token de dispositivo.
+ * Utiliza analizadores escritos a mano que recorren la cadena una sola vez sin reservar memoria,
+ * con la misma semántica que las expresiones regulares usadas anteriormente por los canales:
+ * <ul>
+ *     <li>Email: {@code ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}</li>
+ *     <li>Teléfono: {@code ^\+?[1-9]\d{1,14}$}</li>
+ * </ul>
+ * Los destinatarios recientes se guardan en una caché acotada de correspondencia directa:
+ * cada dirección ocupa una posición fija según su hash y una colisión reemplaza la entrada anterior.
+ */
+public class RecipientClassifier {
+
+    private static final RecipientClassifier DEFAULT = new RecipientClassifier(1 << 16);
+
+    private final Entry[] cache;
+    private final int mask;
+
+    /**
+     * @param cacheSize Cantidad de entradas de la caché, redondeada a la potencia de dos siguiente
+     */
+    public RecipientClassifier(int cacheSize) {
+        int size = Integer.highestOneBit(Math.max(1, cacheSize - 1)) << 1;
+        this.cache = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Obtiene el clasificador compartido utilizado por las notificaciones.
+     *
+     * @return Clasificador por defecto
+     */
+    public static RecipientClassifier getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Clasifica todos los destinatarios de una colección.
+     *
+     * @param recipients Destinatarios a clasificar
+     * @return Clasificación agregada
+     */
+    public RecipientClassification classifyAll(Collection<String> recipients) {
+        RecipientClassification classification = new RecipientClassification();
+        for (String recipient : recipients) {
+            classification.add(classify(recipient));
+        }
+        return classification;
+    }
+
+    /**
+     * Clasifica un destinatario, consultando primero la caché.
+     *
+     * @param recipient Destinatario a clasificar
+     * @return Tipo de destinatario
+     */
+    public RecipientType classify(String recipient) {
+        if (recipient == null || recipient.isEmpty()) {
+            return RecipientType.INVALID;
+        }
+
+        int hash = recipient.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Entry entry = cache[index];
+        if (entry != null && entry.recipient.equals(recipient)) {
+            return entry.type;
+        }
+
+        RecipientType type = scan(recipient);
+        cache[index] = new Entry(recipient, type);
+        return type;
+    }
+
+    /**
+     * Clasifica un destinatario sin utilizar la caché.
+     *
+     * @param recipient Destinatario no vacío
+     * @return Tipo de destinatario
+     */
+    public static RecipientType scan(String recipient) {
+        if (isEmail(recipient)) {
+            return RecipientType.EMAIL;
+        }
+        if (isPhone(recipient)) {
+            return RecipientType.PHONE;
+        }
+        return recipient.isBlank() ? RecipientType.INVALID : RecipientType.DEVICE_TOKEN;
+    }
+
+    /**
+     * Verifica si la cadena es una dirección de email válida.
+     *
+     * @param value Cadena a verificar
+     * @return true si la cadena es un email
+     */
+    public static boolean isEmail(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        int length = value.length();
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isAsciiAlphanumeric(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+                    return false;
+                }
+            } else {
+                if (c == '.') {
+                    lastDot = i;
+                } else if (!isAsciiAlphanumeric(c) && c != '-') {
+                    return false;
+                }
+            }
+        }
+
+        // Parte local no vacía, dominio no vacío antes del último punto y extensión de al menos dos letras
+        if (at <= 0 || lastDot - at < 2 || length - lastDot < 3) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si la cadena es un número telefónico E.164 válido.
+     *
+     * @param value Cadena a verificar
+     * @return true si la cadena es un teléfono
+     */
+    public static boolean isPhone(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        int start = !value.isEmpty() && value.charAt(0) == '+' ? 1 : 0;
+        int digits = value.length() - start;
+        if (digits < 2 || digits > 15) {
+            return false;
+        }
+
+        char first = value.charAt(start);
+        if (first < '1' || first > '9') {
+            return false;
+        }
+        for (int i = start + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private record Entry(String recipient, RecipientType type) {
+    }
+}
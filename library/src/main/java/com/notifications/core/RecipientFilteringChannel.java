@@ -0,0 +1,152 @@
+package com.notifications.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base de los decoradores que quitan destinatarios de cada notificación antes de enviarla.
+ * <p>
+ * Los destinatarios descartados se informan en el resultado como fallidos, con el motivo de
+ * {@link #rejectionReason()}, y el resto recibe la notificación normalmente. Si no queda ninguno,
+ * el envío falla con {@link #rejectAll(Notification)} sin llegar al canal decorado. Al cerrarse
+ * cierra el canal decorado.
+ */
+@Slf4j
+public abstract class RecipientFilteringChannel implements NotificationChannel, AutoCloseable {
+
+    protected final NotificationChannel delegate;
+
+    protected RecipientFilteringChannel(NotificationChannel delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Indica si el destinatario recibe la notificación. Se invoca una vez por destinatario y envío.
+     *
+     * @param recipient Destinatario
+     * @return true si se conserva en la notificación
+     */
+    protected abstract boolean admits(String recipient);
+
+    /**
+     * Motivo con el que se informa cada destinatario descartado.
+     *
+     * @return Descripción del descarte
+     */
+    protected abstract String rejectionReason();
+
+    /**
+     * Error del envío cuando se descartan todos los destinatarios.
+     *
+     * @param notification Notificación original
+     * @return Error a propagar
+     */
+    protected abstract NotificationException rejectAll(Notification notification);
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        Filtered filtered = filter(notification);
+        if (filtered.rejected == null) {
+            return delegate.send(notification);
+        }
+        return merge(delegate.send(filtered.admitted), filtered);
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        Filtered filtered;
+        try {
+            filtered = filter(notification);
+        } catch (NotificationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (filtered.rejected == null) {
+            return delegate.sendAsync(notification);
+        }
+        return delegate.sendAsync(filtered.admitted).thenApply(result -> merge(result, filtered));
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Filtered filter(Notification notification) throws NotificationException {
+        List<String> admitted = null;
+        List<String> rejected = null;
+        int index = 0;
+        for (String recipient : notification.getRecipients()) {
+            boolean admits = admits(recipient);
+            if (!admits && rejected == null) {
+                // Solo se copian los destinatarios cuando aparece el primero descartado
+                rejected = new ArrayList<>();
+                admitted = new ArrayList<>(notification.getRecipients().size());
+                int copied = 0;
+                for (String previous : notification.getRecipients()) {
+                    if (copied++ == index) {
+                        break;
+                    }
+                    admitted.add(previous);
+                }
+            }
+            if (rejected != null) {
+                (admits ? admitted : rejected).add(recipient);
+            }
+            index++;
+        }
+
+        if (rejected == null) {
+            return new Filtered(notification, null);
+        }
+        if (admitted.isEmpty()) {
+            log.debug("Notificación {} descartada en {}: {}", notification.getId(), getType(), rejectionReason());
+            throw rejectAll(notification);
+        }
+        return new Filtered(notification.toBuilder()
+                .clearRecipients()
+                .recipients(admitted)
+                .build(), rejected);
+    }
+
+    /**
+     * Agrega al resultado del envío un resultado fallido por cada destinatario descartado.
+     * Si el canal decorado no informa cada destinatario, sus resultados se deducen del resultado general.
+     */
+    private NotificationResult merge(NotificationResult result, Filtered filtered) {
+        List<RecipientResult> recipients = new ArrayList<>(
+                filtered.admitted.getRecipients().size() + filtered.rejected.size());
+        if (!result.getRecipientResults().isEmpty()) {
+            recipients.addAll(result.getRecipientResults());
+        } else if (result.isSuccess()) {
+            recipients.addAll(RecipientResult.deliveredAll(
+                    filtered.admitted.getRecipients(), result.getProviderMessageId()));
+        } else {
+            for (String recipient : filtered.admitted.getRecipients()) {
+                recipients.add(RecipientResult.failed(recipient, result.getMessage()));
+            }
+        }
+        for (String recipient : filtered.rejected) {
+            recipients.add(RecipientResult.failed(recipient, rejectionReason()));
+        }
+        return NotificationResult.of(result.getNotificationId(), result.getChannelType(), recipients,
+                result.getSegments());
+    }
+
+    private record Filtered(Notification admitted, List<String> rejected) {
+    }
+}
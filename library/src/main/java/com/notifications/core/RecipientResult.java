@@ -0,0 +1,75 @@
+package com.notifications.core;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resultado del envío a un destinatario de la notificación.
+ */
+@Getter
+@Builder
+public class RecipientResult {
+
+    private final String recipient;
+    private final boolean success;
+
+    /**
+     * Identificador del mensaje asignado por el proveedor, o null si el envío falló.
+     */
+    private final String providerMessageId;
+
+    /**
+     * Descripción del error, o null si el envío fue exitoso.
+     */
+    private final String errorMessage;
+
+    /**
+     * Crea el resultado de una entrega exitosa.
+     *
+     * @param recipient         Destinatario
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @return Resultado exitoso
+     */
+    public static RecipientResult delivered(String recipient, String providerMessageId) {
+        return RecipientResult.builder()
+                .recipient(recipient)
+                .success(true)
+                .providerMessageId(providerMessageId)
+                .build();
+    }
+
+    /**
+     * Crea el resultado de una entrega fallida.
+     *
+     * @param recipient    Destinatario
+     * @param errorMessage Descripción del error
+     * @return Resultado fallido
+     */
+    public static RecipientResult failed(String recipient, String errorMessage) {
+        return RecipientResult.builder()
+                .recipient(recipient)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    /**
+     * Crea los resultados de un mensaje entregado a todos sus destinatarios con un único identificador,
+     * como los proveedores que aceptan varios destinatarios por llamada.
+     *
+     * @param recipients        Destinatarios del mensaje
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @return Un resultado exitoso por destinatario
+     */
+    public static List<RecipientResult> deliveredAll(Collection<String> recipients, String providerMessageId) {
+        List<RecipientResult> results = new ArrayList<>(recipients.size());
+        for (String recipient : recipients) {
+            results.add(delivered(recipient, providerMessageId));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,15 @@
+package com.notifications.core;
+
+/**
+ * Tipos de destinatario reconocidos por el clasificador.
+ */
+public enum RecipientType {
+    /** Dirección de correo electrónico */
+    EMAIL,
+    /** Número telefónico en formato E.164 */
+    PHONE,
+    /** Token de dispositivo para notificaciones push */
+    DEVICE_TOKEN,
+    /** Destinatario nulo o vacío */
+    INVALID
+}
@@ -0,0 +1,39 @@
+package com.notifications.core;
+
+import java.time.Duration;
+
+/**
+ * Error de un proveedor que sabe si la operación puede tener éxito al repetirse.
+ * Permite que los reintentos y el outbox clasifiquen los fallos sin depender del transporte de cada proveedor.
+ */
+public interface RetryableFailure {
+
+    /**
+     * Indica si la operación puede tener éxito al repetirse.
+     *
+     * @return true si el fallo es transitorio
+     */
+    boolean isRetryable();
+
+    /**
+     * Espera solicitada por el proveedor antes de repetir la operación, como el encabezado Retry-After de HTTP.
+     *
+     * @return Espera solicitada, o null si el proveedor no indicó ninguna
+     */
+    Duration getRetryAfter();
+
+    /**
+     * Busca en la cadena de causas del error la primera espera solicitada por un proveedor.
+     *
+     * @param error Error a examinar
+     * @return Espera solicitada, o null si ninguna causa la indica
+     */
+    static Duration retryAfterOf(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetryableFailure failure && failure.getRetryAfter() != null) {
+                return failure.getRetryAfter();
+            }
+        }
+        return null;
+    }
+}
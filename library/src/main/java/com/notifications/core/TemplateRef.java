@@ -0,0 +1,37 @@
+package com.notifications.core;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Referencia a una plantilla registrada, utilizada en lugar del asunto y el contenido de la notificación.
+ * Las plantillas se identifican por id y versión; una versión publicada no debe modificarse.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TemplateRef {
+
+    private final String id;
+    private final int version;
+
+    private TemplateRef(String id, int version) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("El id de la plantilla es obligatorio");
+        }
+        this.id = id;
+        this.version = version;
+    }
+
+    /**
+     * Crea una referencia a una versión de una plantilla.
+     *
+     * @param id      Identificador de la plantilla
+     * @param version Versión de la plantilla
+     * @return Referencia a la plantilla
+     */
+    public static TemplateRef of(String id, int version) {
+        return new TemplateRef(id, version);
+    }
+}
@@ -0,0 +1,291 @@
+package com.notifications.dedup;
+
+import com.notifications.core.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada de envíos recientes que evita entregar dos veces la misma notificación.
+ * <p>
+ * Las claves se reducen a un hash de 64 bits y se guardan en tablas de direccionamiento abierto
+ * repartidas en segmentos, sin objetos por entrada más allá del resultado recordado. Cada segmento
+ * mantiene dos generaciones: cuando la actual se llena, la anterior se descarta y se reutiliza, de
+ * modo que la memoria queda fija y las entradas más antiguas se desalojan primero. Solo se recuerdan
+ * los envíos exitosos, para que el reintento de un envío fallido llegue al proveedor.
+ * <p>
+ * Los duplicados concurrentes esperan el resultado del único envío en curso para la misma clave.
+ */
+public class DeduplicationCache {
+
+    private static final int SEGMENTS = 64;
+    private static final long EMPTY = 0L;
+
+    private final DeduplicationKey keyStrategy;
+    private final long ttlNanos;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final ConcurrentHashMap<Long, CompletableFuture<NotificationResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+
+    public DeduplicationCache(DeduplicationConfig config) {
+        if (config.getMaxEntries() <= 0 || config.getTtl().isNegative() || config.getTtl().isZero()) {
+            throw new IllegalArgumentException("La deduplicación requiere capacidad y TTL positivos");
+        }
+        this.keyStrategy = config.getKey();
+        this.ttlNanos = config.getTtl().toNanos();
+        int generationCapacity = Math.max(1, config.getMaxEntries() / SEGMENTS / 2);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(generationCapacity);
+        }
+    }
+
+    /**
+     * Envía la notificación salvo que sea un duplicado reciente o esté en curso.
+     *
+     * @param notification Notificación a enviar
+     * @param sender       Envío real de la notificación
+     * @return Resultado del envío, o el resultado original si es un duplicado
+     * @throws NotificationException Si el envío falla
+     */
+    public NotificationResult execute(Notification notification, NotificationSender sender) throws NotificationException {
+        return AsyncResults.await(executeAsync(keyOf(notification), notification,
+                pending -> AsyncResults.completed(sender, pending)), notification.getPreferredChannel());
+    }
+
+    /**
+     * Versión asíncrona de {@link #execute(Notification, NotificationSender)}: los duplicados en curso
+     * reciben el mismo resultado pendiente en lugar de bloquear un hilo.
+     *
+     * @param notification Notificación a enviar
+     * @param sender       Envío asíncrono real de la notificación
+     * @return CompletableFuture con el resultado del envío, o el resultado original si es un duplicado
+     */
+    public CompletableFuture<NotificationResult> executeAsync(Notification notification, AsyncNotificationSender sender) {
+        return executeAsync(keyOf(notification), notification, sender);
+    }
+
+    /**
+     * Envía la notificación por un canal concreto salvo que sea un duplicado reciente para ese canal.
+     * Permite enviar la misma notificación por varios canales sin que se descarten entre sí.
+     *
+     * @param notification Notificación a enviar
+     * @param channelType  Canal por el que se envía
+     * @param sender       Envío asíncrono real de la notificación
+     * @return CompletableFuture con el resultado del envío, o el resultado original si es un duplicado
+     */
+    public CompletableFuture<NotificationResult> executeAsync(Notification notification, ChannelType channelType,
+                                                              AsyncNotificationSender sender) {
+        return executeAsync(scopedKeyOf(notification, channelType), notification, sender);
+    }
+
+    private CompletableFuture<NotificationResult> executeAsync(long key, Notification notification,
+                                                               AsyncNotificationSender sender) {
+        if (key == EMPTY) {
+            return sender.sendAsync(notification);
+        }
+
+        Segment segment = segmentFor(key);
+        NotificationResult cached = segment.get(key, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<NotificationResult> own = new CompletableFuture<>();
+        CompletableFuture<NotificationResult> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        // Otro envío pudo terminar entre la consulta y el registro en curso
+        cached = segment.get(key, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+            inFlight.remove(key, own);
+            own.complete(cached);
+            return own;
+        }
+
+        misses.increment();
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = sender.sendAsync(notification);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, error) -> {
+            if (error == null && result.isSuccess()) {
+                segment.put(key, result, System.nanoTime() + ttlNanos);
+                stored.increment();
+            }
+            inFlight.remove(key, own);
+            if (error != null) {
+                own.completeExceptionally(AsyncResults.unwrap(error));
+            } else {
+                own.complete(result);
+            }
+        });
+        return own;
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores de la caché.
+     *
+     * @return Contadores actuales
+     */
+    public DeduplicationStats getStats() {
+        return DeduplicationStats.builder()
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .coalesced(coalesced.sum())
+                .stored(stored.sum())
+                .inFlight(inFlight.size())
+                .build();
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) (key >>> 58) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * Calcula la clave de 64 bits de la notificación, o {@link #EMPTY} si no debe deduplicarse.
+     */
+    private long keyOf(Notification notification) {
+        String id = notification.getId();
+        if (keyStrategy == DeduplicationKey.ID && id == null) {
+            return EMPTY;
+        }
+        long key = keyStrategy == DeduplicationKey.CONTENT || id == null ? contentHash(notification) : hash(1, id);
+        return key == EMPTY ? 1L : key;
+    }
+
+    private long scopedKeyOf(Notification notification, ChannelType channelType) {
+        long key = keyOf(notification);
+        if (key == EMPTY) {
+            return EMPTY;
+        }
+        key = Hashing.mix(key ^ (channelType.ordinal() + 1L) * 0x9E3779B97F4A7C15L);
+        return key == EMPTY ? 1L : key;
+    }
+
+    private static long contentHash(Notification notification) {
+        // Los destinatarios se combinan sin depender del orden del conjunto
+        long recipients = 0;
+        for (String recipient : notification.getRecipients()) {
+            recipients += hash(2, recipient);
+        }
+        long hash = Hashing.mix(recipients ^ 0x9E3779B97F4A7C15L);
+        hash = Hashing.mix(hash ^ hash(3, notification.getSubject()));
+        hash = Hashing.mix(hash ^ hash(4, notification.getContent()));
+        if (notification.getTemplate() != null) {
+            // El texto final depende de la plantilla y de las variables con que se genera
+            hash = Hashing.mix(hash ^ hash(5, notification.getTemplate().getId()) ^ notification.getTemplate().getVersion());
+            hash = Hashing.mix(hash ^ notification.getMetadata().hashCode());
+            hash = Hashing.mix(hash ^ notification.getRecipientVariables().hashCode());
+        }
+        return Hashing.mix(hash ^ (notification.getPreferredChannel() == null ? 0 : notification.getPreferredChannel().ordinal() + 1));
+    }
+
+    private static long hash(long seed, String value) {
+        if (value == null) {
+            return Hashing.mix(seed);
+        }
+        long hash = seed * 0x9E3779B97F4A7C15L;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int i = 0;
+        for (; i + Long.BYTES <= bytes.length; i += Long.BYTES) {
+            long word = 0;
+            for (int b = 0; b < Long.BYTES; b++) {
+                word |= (bytes[i + b] & 0xFFL) << (b * 8);
+            }
+            hash = Hashing.mix(hash ^ word);
+        }
+        long tail = bytes.length;
+        for (int shift = 8; i < bytes.length; i++, shift += 8) {
+            tail ^= (bytes[i] & 0xFFL) << shift;
+        }
+        return Hashing.mix(hash ^ tail);
+    }
+
+    private static final class Segment {
+        private final int capacity;
+        private Table current;
+        private Table previous;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.current = new Table(capacity);
+            this.previous = new Table(capacity);
+        }
+
+        private synchronized NotificationResult get(long key, long now) {
+            NotificationResult result = current.get(key, now);
+            return result != null ? result : previous.get(key, now);
+        }
+
+        private synchronized void put(long key, NotificationResult result, long expiresAt) {
+            if (current.size >= capacity) {
+                Table recycled = previous;
+                recycled.clear();
+                previous = current;
+                current = recycled;
+            }
+            current.put(key, result, expiresAt);
+        }
+    }
+
+    /**
+     * Tabla de direccionamiento abierto con sondeo lineal y factor de carga máximo de 0,5.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final long[] expirations;
+        private final NotificationResult[] results;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            int slots = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            this.keys = new long[slots];
+            this.expirations = new long[slots];
+            this.results = new NotificationResult[slots];
+            this.mask = slots - 1;
+        }
+
+        private NotificationResult get(long key, long now) {
+            for (int slot = (int) key & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return expirations[slot] - now > 0 ? results[slot] : null;
+                }
+            }
+            return null;
+        }
+
+        private void put(long key, NotificationResult result, long expiresAt) {
+            int slot = (int) key & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            expirations[slot] = expiresAt;
+            results[slot] = result;
+        }
+
+        private void clear() {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(results, null);
+            size = 0;
+        }
+    }
+}
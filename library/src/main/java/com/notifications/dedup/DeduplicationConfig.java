@@ -0,0 +1,41 @@
+package com.notifications.dedup;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la caché de deduplicación.
+ */
+@Getter
+@Builder
+public class DeduplicationConfig {
+
+    /**
+     * Cantidad máxima de envíos recordados. La caché conserva entre la mitad y el total de este valor.
+     */
+    @Builder.Default
+    private final int maxEntries = 1_000_000;
+
+    /**
+     * Tiempo durante el que un envío exitoso se considera reciente.
+     */
+    @Builder.Default
+    private final Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Criterio de identificación de duplicados.
+     */
+    @Builder.Default
+    private final DeduplicationKey key = DeduplicationKey.ID;
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static DeduplicationConfig defaults() {
+        return DeduplicationConfig.builder().build();
+    }
+}
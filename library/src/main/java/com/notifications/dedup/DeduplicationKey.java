@@ -0,0 +1,22 @@
+package com.notifications.dedup;
+
+/**
+ * Criterio con el que se identifican las notificaciones duplicadas.
+ */
+public enum DeduplicationKey {
+
+    /**
+     * Por {@code Notification.getId()}. Las notificaciones sin id no se deduplican.
+     */
+    ID,
+
+    /**
+     * Por un hash de destinatarios, asunto, contenido y canal preferido.
+     */
+    CONTENT,
+
+    /**
+     * Por id cuando está presente y por hash del contenido en caso contrario.
+     */
+    ID_OR_CONTENT
+}
@@ -0,0 +1,18 @@
+package com.notifications.dedup;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea de los contadores de la caché de deduplicación.
+ */
+@Getter
+@Builder
+public class DeduplicationStats {
+
+    private final long hits;
+    private final long misses;
+    private final long coalesced;
+    private final long stored;
+    private final int inFlight;
+}
@@ -0,0 +1,292 @@
+package com.notifications.digest;
+
+import com.notifications.core.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Decorador de canal que retiene las notificaciones LOW y NORMAL de cada destinatario durante una ventana
+ * y las envía combinadas en un único resumen. Las notificaciones HIGH y URGENT, las que tienen plantilla
+ * o más de un destinatario se envían de inmediato.
+ * <p>
+ * Los resúmenes abiertos se registran en orden de apertura, que coincide con el de vencimiento porque
+ * la ventana es fija. Una sola tarea periódica envía los vencidos desde el principio de la cola, sin un
+ * temporizador por destinatario, y al superar {@link DigestConfig#getMaxPendingDigests()} se adelanta
+ * el envío del más antiguo. Cada notificación original recibe su propio resultado con el identificador
+ * del envío del resumen. Tras cerrar el canal las notificaciones se envían de inmediato, sin resumir.
+ */
+@Slf4j
+public class DigestChannel implements NotificationChannel, AutoCloseable {
+
+    private final NotificationChannel delegate;
+    private final DigestConfig config;
+    private final Executor executor;
+    private final long windowNanos;
+    private final ConcurrentMap<String, Digest> digests = new ConcurrentHashMap<>();
+    private final ArrayDeque<Digest> order = new ArrayDeque<>();
+    private final ScheduledFuture<?> sweeper;
+    private volatile boolean closed;
+
+    public DigestChannel(NotificationChannel delegate,
+                         DigestConfig config,
+                         ScheduledExecutorService scheduler,
+                         Executor executor) {
+        if (config.getMaxNotifications() <= 0 || config.getMaxPendingDigests() <= 0
+                || config.getWindow().isNegative() || config.getWindow().isZero()) {
+            throw new IllegalArgumentException("Los límites y la ventana de los resúmenes deben ser positivos");
+        }
+        this.delegate = delegate;
+        this.config = config;
+        this.executor = executor;
+        this.windowNanos = config.getWindow().toNanos();
+        long tick = Math.clamp(windowNanos / 10, TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(1));
+        this.sweeper = scheduler.scheduleAtFixedRate(this::sweep, tick, tick, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Envía la notificación. Si se retiene en un resumen, espera hasta que el resumen se envía;
+     * para no bloquear durante la ventana conviene usar {@link #sendAsync(Notification)}.
+     */
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        if (!digestible(notification)) {
+            return delegate.send(notification);
+        }
+        return AsyncResults.await(enqueue(notification), getType());
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        if (!digestible(notification)) {
+            return delegate.sendAsync(notification);
+        }
+        return enqueue(notification);
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    /**
+     * Cantidad de resúmenes abiertos o pendientes de salir de la cola de vencimientos.
+     *
+     * @return Resúmenes registrados
+     */
+    public int getPendingDigests() {
+        synchronized (order) {
+            return order.size();
+        }
+    }
+
+    /**
+     * Envía de inmediato todos los resúmenes abiertos, sin esperar a que venzan sus ventanas.
+     * Los envíos se inician en el hilo que invoca el método.
+     */
+    public void flush() {
+        List<Digest> open;
+        synchronized (order) {
+            open = new ArrayList<>(order);
+            order.clear();
+        }
+        for (Digest digest : open) {
+            if (digest.tryClose()) {
+                digests.remove(digest.recipient, digest);
+                deliver(digest);
+            }
+        }
+    }
+
+    /**
+     * Envía de inmediato todos los resúmenes abiertos y cierra el canal decorado.
+     */
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        sweeper.cancel(false);
+        flush();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private boolean digestible(Notification notification) {
+        Notification.Priority priority = notification.getPriority() != null
+                ? notification.getPriority() : Notification.Priority.NORMAL;
+        return !closed
+                && priority.compareTo(Notification.Priority.NORMAL) <= 0
+                && notification.getTemplate() == null
+                && notification.getRecipients().size() == 1
+                && delegate.supports(notification);
+    }
+
+    private CompletableFuture<NotificationResult> enqueue(Notification notification) {
+        String recipient = notification.getRecipients().iterator().next();
+        Pending pending = new Pending(notification);
+
+        while (true) {
+            Digest digest = digests.get(recipient);
+            if (digest == null) {
+                Digest opened = new Digest(recipient, System.nanoTime() + windowNanos);
+                digest = digests.putIfAbsent(recipient, opened);
+                if (digest == null) {
+                    digest = opened;
+                    track(opened);
+                }
+            }
+
+            boolean full;
+            synchronized (digest) {
+                if (digest.closed) {
+                    // Quien lo cerró lo quita del mapa; se quita aquí también para no volver a obtenerlo
+                    digests.remove(recipient, digest);
+                    continue;
+                }
+                digest.pending.add(pending);
+                full = digest.pending.size() >= config.getMaxNotifications();
+                if (full) {
+                    digest.closed = true;
+                }
+            }
+
+            if (full) {
+                digests.remove(recipient, digest);
+                dispatch(digest);
+            } else if (closed && digest.tryClose()) {
+                // El canal se cerró mientras se agregaba y su envío final pudo no ver este resumen
+                digests.remove(recipient, digest);
+                synchronized (order) {
+                    order.remove(digest);
+                }
+                deliver(digest);
+            }
+            return pending.future;
+        }
+    }
+
+    /**
+     * Registra un resumen recién abierto y adelanta el envío de los más antiguos si se supera el límite.
+     */
+    private void track(Digest digest) {
+        List<Digest> evicted = null;
+        synchronized (order) {
+            order.addLast(digest);
+            while (order.size() > config.getMaxPendingDigests()) {
+                Digest oldest = order.pollFirst();
+                if (oldest.tryClose()) {
+                    if (evicted == null) {
+                        evicted = new ArrayList<>();
+                    }
+                    evicted.add(oldest);
+                }
+            }
+        }
+        if (evicted != null) {
+            log.debug("Límite de {} resúmenes alcanzado en {}: se adelanta el envío de {}",
+                    config.getMaxPendingDigests(), getType(), evicted.size());
+            for (Digest oldest : evicted) {
+                digests.remove(oldest.recipient, oldest);
+                dispatch(oldest);
+            }
+        }
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        while (true) {
+            Digest digest;
+            synchronized (order) {
+                digest = order.peekFirst();
+                if (digest == null || digest.deadline - now > 0) {
+                    return;
+                }
+                order.pollFirst();
+            }
+            if (digest.tryClose()) {
+                digests.remove(digest.recipient, digest);
+                dispatch(digest);
+            }
+        }
+    }
+
+    private void dispatch(Digest digest) {
+        try {
+            executor.execute(() -> deliver(digest));
+        } catch (RejectedExecutionException e) {
+            deliver(digest);
+        }
+    }
+
+    private void deliver(Digest digest) {
+        List<Pending> batch = digest.pending;
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<NotificationResult> sent;
+        try {
+            Notification notification = batch.get(0).notification;
+            if (batch.size() > 1) {
+                List<Notification> notifications = new ArrayList<>(batch.size());
+                for (Pending pending : batch) {
+                    notifications.add(pending.notification);
+                }
+                notification = config.getCombiner().combine(notifications);
+                log.debug("Enviando resumen de {} notificaciones a {} por {}", batch.size(), digest.recipient, getType());
+            }
+            sent = delegate.sendAsync(notification);
+        } catch (Throwable e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = AsyncResults.unwrap(error);
+                for (Pending pending : batch) {
+                    pending.future.completeExceptionally(cause);
+                }
+                return;
+            }
+            for (Pending pending : batch) {
+                pending.future.complete(result.toBuilder()
+                        .notificationId(pending.notification.getId())
+                        .build());
+            }
+        });
+    }
+
+    private static final class Digest {
+        private final String recipient;
+        private final long deadline;
+        private final List<Pending> pending = new ArrayList<>(4);
+        private boolean closed;
+
+        private Digest(String recipient, long deadline) {
+            this.recipient = recipient;
+            this.deadline = deadline;
+        }
+
+        private synchronized boolean tryClose() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+    }
+
+    private static final class Pending {
+        private final Notification notification;
+        private final CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+
+        private Pending(Notification notification) {
+            this.notification = notification;
+        }
+    }
+}
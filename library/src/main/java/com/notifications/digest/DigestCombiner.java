@@ -0,0 +1,54 @@
+package com.notifications.digest;
+
+import com.notifications.core.Notification;
+
+import java.util.List;
+
+/**
+ * Combina las notificaciones retenidas para un destinatario en un único mensaje de resumen.
+ */
+@FunctionalInterface
+public interface DigestCombiner {
+
+    /**
+     * Genera la notificación de resumen.
+     *
+     * @param notifications Notificaciones retenidas, en orden de llegada; siempre más de una
+     *                      y todas para el mismo destinatario
+     * @return Notificación a enviar en lugar de las originales
+     */
+    Notification combine(List<Notification> notifications);
+
+    /**
+     * Combinador por defecto: concatena el asunto y el contenido de cada notificación
+     * y envía el resumen con la mayor prioridad entre las originales.
+     *
+     * @return Combinador por defecto
+     */
+    static DigestCombiner joining() {
+        return notifications -> {
+            Notification first = notifications.get(0);
+            StringBuilder content = new StringBuilder();
+            Notification.Priority priority = Notification.Priority.LOW;
+            for (Notification notification : notifications) {
+                if (!content.isEmpty()) {
+                    content.append("\n\n");
+                }
+                if (notification.getSubject() != null) {
+                    content.append(notification.getSubject()).append(": ");
+                }
+                content.append(notification.getContent());
+                Notification.Priority current = notification.getPriority() != null
+                        ? notification.getPriority() : Notification.Priority.NORMAL;
+                if (current.compareTo(priority) > 0) {
+                    priority = current;
+                }
+            }
+            return first.toBuilder()
+                    .subject("Tienes " + notifications.size() + " notificaciones")
+                    .content(content.toString())
+                    .priority(priority)
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.notifications.digest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la etapa de resúmenes de notificaciones de baja prioridad.
+ * Un resumen se envía cuando vence su ventana, cuando alcanza el máximo de notificaciones
+ * o cuando hace falta lugar para abrir uno nuevo.
+ */
+@Getter
+@Builder
+public class DigestConfig {
+
+    /**
+     * Tiempo que se retienen las notificaciones de un destinatario desde la primera de ellas.
+     */
+    @Builder.Default
+    private final Duration window = Duration.ofMinutes(5);
+
+    /**
+     * Cantidad máxima de notificaciones combinadas en un resumen.
+     */
+    @Builder.Default
+    private final int maxNotifications = 50;
+
+    /**
+     * Cantidad máxima de resúmenes abiertos por canal. Al alcanzarla se envía el resumen más antiguo,
+     * de modo que la memoria queda acotada aunque haya millones de destinatarios.
+     */
+    @Builder.Default
+    private final int maxPendingDigests = 100_000;
+
+    /**
+     * Genera el mensaje de resumen a partir de las notificaciones retenidas.
+     */
+    @Builder.Default
+    private final DigestCombiner combiner = DigestCombiner.joining();
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static DigestConfig defaults() {
+        return DigestConfig.builder().build();
+    }
+}
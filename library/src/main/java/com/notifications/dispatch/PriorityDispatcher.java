@@ -0,0 +1,274 @@
+package com.notifications.dispatch;
+
+import com.notifications.core.Notification;
+import com.notifications.core.Notification.Priority;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import com.notifications.core.NotificationSender;
+import com.notifications.metrics.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Despachador con una cola acotada por nivel de {@link Priority}.
+ * <p>
+ * Cada vez que se libera un permiso se elige la siguiente notificación así:
+ * <ol>
+ *     <li>URGENT tiene prioridad estricta sobre el resto.</li>
+ *     <li>Entre los demás niveles, la notificación más antigua que superó el umbral de envejecimiento.</li>
+ *     <li>En otro caso, round-robin ponderado suave entre los niveles con notificaciones en cola,
+ *     de modo que LOW sigue avanzando aunque HIGH nunca se vacíe.</li>
+ * </ol>
+ * Como el {@code Bulkhead}, no utiliza hilos propios: las tareas se inician al encolar y al terminar un envío.
+ */
+@Slf4j
+public class PriorityDispatcher {
+
+    private static final Priority[] WEIGHTED = {Priority.HIGH, Priority.NORMAL, Priority.LOW};
+
+    private final PriorityDispatcherConfig config;
+    private final NotificationSender sender;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final Map<Priority, Level> levels = new EnumMap<>(Priority.class);
+    private final Level urgent;
+    private final Level[] weighted = new Level[WEIGHTED.length];
+
+    public PriorityDispatcher(PriorityDispatcherConfig config, NotificationSender sender, Executor executor) {
+        if (config.getMaxConcurrent() <= 0) {
+            throw new IllegalArgumentException("El despachador requiere permisos positivos");
+        }
+        this.config = config;
+        this.sender = sender;
+        this.executor = executor;
+        this.permits = new Semaphore(config.getMaxConcurrent());
+
+        for (Priority priority : Priority.values()) {
+            int capacity = config.capacityFor(priority);
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("La cola del nivel " + priority + " debe tener capacidad positiva");
+            }
+            levels.put(priority, new Level(priority, capacity, config.weightFor(priority)));
+        }
+        this.urgent = levels.get(Priority.URGENT);
+        for (int i = 0; i < WEIGHTED.length; i++) {
+            weighted[i] = levels.get(WEIGHTED[i]);
+            if (weighted[i].weight <= 0) {
+                throw new IllegalArgumentException("El peso del nivel " + WEIGHTED[i] + " debe ser positivo");
+            }
+        }
+    }
+
+    /**
+     * Encola la notificación en el nivel de su prioridad.
+     * Si la cola está llena se aplica la política de desborde configurada.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado del envío o el error de rechazo
+     */
+    public CompletableFuture<NotificationResult> submit(Notification notification) {
+        Level level = levels.get(notification.getPriority() != null ? notification.getPriority() : Priority.NORMAL);
+        Task task = new Task(notification, System.nanoTime());
+
+        if (!enqueue(level, task)) {
+            level.rejected.increment();
+            task.future.completeExceptionally(new NotificationException(
+                    "Cola de prioridad " + level.priority + " llena",
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    notification.getPreferredChannel()
+            ));
+            return task.future;
+        }
+
+        level.accepted.increment();
+        drain();
+        return task.future;
+    }
+
+    /**
+     * Obtiene una instantánea de las métricas de cada nivel.
+     *
+     * @return Métricas por prioridad
+     */
+    public Map<Priority, PriorityLevelMetrics> getMetrics() {
+        Map<Priority, PriorityLevelMetrics> metrics = new EnumMap<>(Priority.class);
+        levels.forEach((priority, level) -> metrics.put(priority, PriorityLevelMetrics.builder()
+                .priority(priority)
+                .capacity(level.capacity)
+                .queued(level.queue.size())
+                .accepted(level.accepted.sum())
+                .rejected(level.rejected.sum())
+                .dropped(level.dropped.sum())
+                .dispatched(level.dispatched.sum())
+                .aged(level.aged.sum())
+                .waitTime(level.waitTime.snapshot())
+                .build()));
+        return metrics;
+    }
+
+    private boolean enqueue(Level level, Task task) {
+        switch (config.getOverflowPolicy()) {
+            case WAIT:
+                try {
+                    return level.queue.offer(task, config.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            case DROP_OLDEST:
+                while (!level.queue.offer(task)) {
+                    Task oldest = level.queue.poll();
+                    if (oldest != null) {
+                        level.dropped.increment();
+                        log.warn("Cola de prioridad {} llena, descartando la notificación más antigua", level.priority);
+                        oldest.future.completeExceptionally(new NotificationException(
+                                "Notificación descartada por saturación de la cola " + level.priority,
+                                NotificationException.ErrorType.CAPACITY_ERROR,
+                                oldest.notification.getPreferredChannel()
+                        ));
+                    }
+                }
+                return true;
+            case REJECT:
+            default:
+                return level.queue.offer(task);
+        }
+    }
+
+    /**
+     * Inicia notificaciones encoladas mientras haya permisos libres.
+     */
+    private void drain() {
+        while (hasQueued() && permits.tryAcquire()) {
+            Task next = next();
+            if (next == null) {
+                permits.release();
+            } else {
+                start(next);
+            }
+        }
+    }
+
+    private boolean hasQueued() {
+        for (Level level : levels.values()) {
+            if (!level.queue.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Elige la siguiente notificación. Sincronizado para que el estado del round-robin sea consistente.
+     */
+    private synchronized Task next() {
+        Task task = urgent.queue.poll();
+        if (task != null) {
+            return dequeued(urgent, task);
+        }
+
+        long now = System.nanoTime();
+        Level oldest = null;
+        long oldestEnqueued = 0;
+        for (Level level : weighted) {
+            Task head = level.queue.peek();
+            if (head != null && now - head.enqueuedAt >= config.getAgingThreshold().toNanos()
+                    && (oldest == null || head.enqueuedAt - oldestEnqueued < 0)) {
+                oldest = level;
+                oldestEnqueued = head.enqueuedAt;
+            }
+        }
+        if (oldest != null) {
+            task = oldest.queue.poll();
+            if (task != null) {
+                oldest.aged.increment();
+                return dequeued(oldest, task);
+            }
+        }
+
+        Level selected = null;
+        int available = 0;
+        for (Level level : weighted) {
+            if (!level.queue.isEmpty()) {
+                level.currentWeight += level.weight;
+                available += level.weight;
+                if (selected == null || level.currentWeight > selected.currentWeight) {
+                    selected = level;
+                }
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.currentWeight -= available;
+        task = selected.queue.poll();
+        return task != null ? dequeued(selected, task) : null;
+    }
+
+    private Task dequeued(Level level, Task task) {
+        level.dispatched.increment();
+        level.waitTime.record(System.nanoTime() - task.enqueuedAt);
+        return task;
+    }
+
+    private void start(Task task) {
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            task.future.completeExceptionally(new NotificationException(
+                    "El ejecutor rechazó el envío de la notificación " + task.notification.getId(),
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    task.notification.getPreferredChannel(),
+                    e
+            ));
+        }
+    }
+
+    private void run(Task task) {
+        try {
+            task.future.complete(sender.send(task.notification));
+        } catch (Throwable e) {
+            task.future.completeExceptionally(e);
+        } finally {
+            permits.release();
+            drain();
+        }
+    }
+
+    private static final class Level {
+        private final Priority priority;
+        private final int capacity;
+        private final int weight;
+        private final BlockingQueue<Task> queue;
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder aged = new LongAdder();
+        private final LatencyHistogram waitTime = new LatencyHistogram();
+        private int currentWeight;
+
+        private Level(Priority priority, int capacity, int weight) {
+            this.priority = priority;
+            this.capacity = capacity;
+            this.weight = weight;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static final class Task {
+        private final Notification notification;
+        private final long enqueuedAt;
+        private final CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+
+        private Task(Notification notification, long enqueuedAt) {
+            this.notification = notification;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
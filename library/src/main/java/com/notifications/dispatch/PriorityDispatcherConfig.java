@@ -0,0 +1,99 @@
+package com.notifications.dispatch;
+
+import com.notifications.core.Notification.Priority;
+import com.notifications.resilience.OverflowPolicy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuración del despachador por prioridad.
+ * Las notificaciones {@link Priority#URGENT} se atienden siempre primero; el resto de los niveles
+ * se reparte los envíos en proporción a su peso, y una notificación que espera más que el umbral
+ * de envejecimiento se atiende antes que las demás de su nivel o inferiores.
+ */
+@Getter
+@Builder
+public class PriorityDispatcherConfig {
+
+    private static final Map<Priority, Integer> DEFAULT_WEIGHTS = new EnumMap<>(Map.of(
+            Priority.HIGH, 8,
+            Priority.NORMAL, 4,
+            Priority.LOW, 1
+    ));
+
+    /**
+     * Cantidad máxima de envíos en curso.
+     */
+    @Builder.Default
+    private final int maxConcurrent = 64;
+
+    /**
+     * Capacidad de la cola de cada nivel sin capacidad específica.
+     */
+    @Builder.Default
+    private final int queueCapacity = 10_000;
+
+    /**
+     * Capacidad específica de la cola de algunos niveles.
+     */
+    @Singular("levelCapacity")
+    private final Map<Priority, Integer> queueCapacities;
+
+    /**
+     * Peso específico de los niveles no urgentes. Por defecto HIGH 8, NORMAL 4 y LOW 1.
+     */
+    @Singular
+    private final Map<Priority, Integer> weights;
+
+    /**
+     * Tiempo de espera a partir del cual una notificación se atiende antes que las de mayor peso.
+     */
+    @Builder.Default
+    private final Duration agingThreshold = Duration.ofSeconds(5);
+
+    /**
+     * Política aplicada cuando la cola de un nivel está llena.
+     */
+    @Builder.Default
+    private final OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+
+    /**
+     * Tiempo máximo que un llamador espera espacio en la cola con {@link OverflowPolicy#WAIT}.
+     */
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(1);
+
+    /**
+     * Obtiene la capacidad de la cola de un nivel.
+     *
+     * @param priority Nivel de prioridad
+     * @return Capacidad de la cola
+     */
+    public int capacityFor(Priority priority) {
+        return queueCapacities.getOrDefault(priority, queueCapacity);
+    }
+
+    /**
+     * Obtiene el peso de un nivel no urgente.
+     *
+     * @param priority Nivel de prioridad
+     * @return Peso del nivel
+     */
+    public int weightFor(Priority priority) {
+        return weights.getOrDefault(priority, DEFAULT_WEIGHTS.getOrDefault(priority, 1));
+    }
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static PriorityDispatcherConfig defaults() {
+        return PriorityDispatcherConfig.builder().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.notifications.dispatch;
+
+import com.notifications.core.Notification.Priority;
+import com.notifications.metrics.HistogramSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea de las métricas de un nivel del despachador por prioridad.
+ */
+@Getter
+@Builder
+public class PriorityLevelMetrics {
+
+    private final Priority priority;
+    private final int capacity;
+    private final int queued;
+    private final long accepted;
+    private final long rejected;
+    private final long dropped;
+    private final long dispatched;
+    private final long aged;
+    private final HistogramSnapshot waitTime;
+}
@@ -1,9 +1,9 @@
 package com.notifications.examples;
 
 import com.notifications.NotificationService;
-import com.notifications.channels.email.SendGridProvider;
-import com.notifications.channels.push.FirebaseProvider;
-import com.notifications.channels.sms.TwilioProvider;
+import com.notifications.channels.email.EmailProvider;
+import com.notifications.channels.push.PushProvider;
+import com.notifications.channels.sms.SmsProvider;
 import com.notifications.core.ChannelType;
 import com.notifications.core.Notification;
 import com.notifications.core.NotificationException;
@@ -11,9 +11,12 @@ import com.notifications.core.NotificationResult;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Ejemplos de uso de la librería de notificaciones.
+ * Utilizan proveedores de demostración que no realizan llamadas de red; en producción se configuran
+ * {@code SendGridProvider}, {@code TwilioProvider} y {@code FirebaseProvider} con credenciales reales.
  */
 public class NotificationExamples {
 
@@ -40,7 +43,7 @@ public class NotificationExamples {
         System.out.println("-----------------");
 
         NotificationService service = new NotificationService.Builder()
-                .withEmailChannel(new SendGridProvider("demo-api-key"))
+                .withEmailChannel(demoEmailProvider())
                 .build();
 
         Notification notification = Notification.builder()
@@ -69,7 +72,7 @@ public class NotificationExamples {
         System.out.println("---------------");
 
         NotificationService service = new NotificationService.Builder()
-                .withSmsChannel(new TwilioProvider("demo-sid", "demo-token", "+1234567890"))
+                .withSmsChannel(demoSmsProvider())
                 .build();
 
         Notification notification = Notification.builder()
@@ -97,7 +100,7 @@ public class NotificationExamples {
         System.out.println("-----------------------------");
 
         NotificationService service = new NotificationService.Builder()
-                .withPushChannel(new FirebaseProvider("demo-firebase-key"))
+                .withPushChannel(demoPushProvider())
                 .build();
 
         Notification notification = Notification.builder()
@@ -126,9 +129,9 @@ public class NotificationExamples {
         System.out.println("-------------------------");
 
         NotificationService service = new NotificationService.Builder()
-                .withEmailChannel(new SendGridProvider("demo-api-key"))
-                .withSmsChannel(new TwilioProvider("demo-sid", "demo-token", "+1234567890"))
-                .withPushChannel(new FirebaseProvider("demo-firebase-key"))
+                .withEmailChannel(demoEmailProvider())
+                .withSmsChannel(demoSmsProvider())
+                .withPushChannel(demoPushProvider())
                 .build();
 
         List<Notification> notifications = Arrays.asList(
@@ -163,4 +166,16 @@ public class NotificationExamples {
                     (result.isSuccess() ? "Exitoso" : "Fallido"));
         }
     }
+
+    private static EmailProvider demoEmailProvider() {
+        return (recipients, subject, content, metadata) -> "sg_" + UUID.randomUUID();
+    }
+
+    private static SmsProvider demoSmsProvider() {
+        return (recipients, message, metadata) -> "tw_" + UUID.randomUUID();
+    }
+
+    private static PushProvider demoPushProvider() {
+        return (deviceTokens, title, body, metadata) -> "fcm_" + UUID.randomUUID();
+    }
 }
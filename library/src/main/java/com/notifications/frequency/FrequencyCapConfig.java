@@ -0,0 +1,69 @@
+package com.notifications.frequency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuración del límite de frecuencia por destinatario de un canal.
+ * Los conteos se estiman con un count-min sketch de memoria fija, por lo que pueden sobrestimar
+ * levemente y limitar antes de tiempo, pero nunca permiten superar el límite por subestimación.
+ */
+@Getter
+@Builder
+public class FrequencyCapConfig {
+
+    /**
+     * Cantidad máxima de notificaciones por destinatario dentro de la ventana. Como mucho 254.
+     */
+    @Builder.Default
+    private final int maxPerWindow = 10;
+
+    /**
+     * Ventana deslizante en la que se cuentan los envíos.
+     */
+    @Builder.Default
+    private final Duration window = Duration.ofHours(1);
+
+    /**
+     * Cantidad de intervalos en que se divide la ventana; los conteos vencen de a un intervalo.
+     */
+    @Builder.Default
+    private final int slices = 6;
+
+    /**
+     * Cantidad de filas del sketch; más filas reducen la probabilidad de sobrestimar.
+     */
+    @Builder.Default
+    private final int depth = 4;
+
+    /**
+     * Memoria total de los contadores, en bytes.
+     */
+    @Builder.Default
+    private final long memoryBytes = 64L * 1024 * 1024;
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static FrequencyCapConfig defaults() {
+        return FrequencyCapConfig.builder().build();
+    }
+
+    /**
+     * Crea una configuración con el límite y la ventana indicados.
+     *
+     * @param maxPerWindow Notificaciones permitidas por destinatario
+     * @param window       Ventana de conteo
+     * @return Configuración del límite de frecuencia
+     */
+    public static FrequencyCapConfig of(int maxPerWindow, Duration window) {
+        return FrequencyCapConfig.builder()
+                .maxPerWindow(maxPerWindow)
+                .window(window)
+                .build();
+    }
+}
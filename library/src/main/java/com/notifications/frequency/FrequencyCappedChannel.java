@@ -0,0 +1,65 @@
+package com.notifications.frequency;
+
+import com.notifications.core.*;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de canal que limita la cantidad de notificaciones por destinatario dentro de una ventana.
+ * <p>
+ * Los destinatarios que alcanzaron el límite se quitan de la notificación y se informan como fallidos en
+ * el resultado; el resto la recibe normalmente. Si todos lo alcanzaron, el envío falla con
+ * {@link NotificationException.ErrorType#FREQUENCY_CAP_ERROR} sin llegar al proveedor. Cada destinatario
+ * admitido cuenta aunque el envío falle después. Al cerrarse cierra el canal decorado.
+ */
+public class FrequencyCappedChannel extends RecipientFilteringChannel {
+
+    private final int maxPerWindow;
+    private final WindowedCountMinSketch sketch;
+    private final LongAdder capped = new LongAdder();
+
+    public FrequencyCappedChannel(NotificationChannel delegate, FrequencyCapConfig config) {
+        super(delegate);
+        if (config.getMaxPerWindow() <= 0 || config.getMaxPerWindow() >= 0xFF) {
+            throw new IllegalArgumentException("El límite de frecuencia debe estar entre 1 y 254");
+        }
+        this.maxPerWindow = config.getMaxPerWindow();
+        this.sketch = new WindowedCountMinSketch(
+                config.getDepth(), config.getSlices(), config.getWindow(), config.getMemoryBytes());
+    }
+
+    /**
+     * Cantidad de destinatarios omitidos por haber alcanzado el límite.
+     *
+     * @return Destinatarios omitidos desde la creación del canal
+     */
+    public long getCapped() {
+        return capped.sum();
+    }
+
+    /**
+     * Registra el envío para el destinatario si aún no alcanzó el límite.
+     */
+    @Override
+    protected boolean admits(String recipient) {
+        if (sketch.tryIncrement(Hashing.hash(recipient), maxPerWindow)) {
+            return true;
+        }
+        capped.increment();
+        return false;
+    }
+
+    @Override
+    protected String rejectionReason() {
+        return "Límite de " + maxPerWindow + " notificaciones por destinatario alcanzado";
+    }
+
+    @Override
+    protected NotificationException rejectAll(Notification notification) {
+        return new NotificationException(
+                "Límite de " + maxPerWindow + " notificaciones por destinatario alcanzado en el canal " + getType(),
+                NotificationException.ErrorType.FREQUENCY_CAP_ERROR,
+                getType()
+        );
+    }
+}
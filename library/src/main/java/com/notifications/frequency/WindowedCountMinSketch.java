@@ -0,0 +1,155 @@
+package com.notifications.frequency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Count-min sketch con ventana deslizante y memoria fija para estimar cuántas veces
+ * aparece una clave en el último período.
+ * <p>
+ * La ventana se divide en intervalos, cada uno con su propia tabla de contadores de un byte
+ * ({@code depth} filas de {@code width} columnas); la estimación suma, para cada intervalo vigente,
+ * el mínimo entre las filas. Las tablas forman un anillo con una tabla de más, que se limpia por
+ * adelantado al rotar, de modo que los conteos vencen de a un intervalo sin detener las escrituras.
+ * <p>
+ * Los incrementos no usan bloqueos: cada contador se actualiza con compare-and-set aplicando
+ * actualización conservadora, que solo eleva los contadores que estaban en el mínimo y reduce
+ * la sobrestimación por colisiones. Solo la rotación entre intervalos se sincroniza.
+ */
+public class WindowedCountMinSketch {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final int MAX_COUNT = 0xFF;
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final int slices;
+    private final long sliceNanos;
+    private final long origin = System.nanoTime();
+    private final byte[][] ring;
+    private volatile long epoch;
+
+    /**
+     * Crea el sketch repartiendo la memoria indicada entre las tablas de todos los intervalos.
+     *
+     * @param depth       Filas por tabla
+     * @param slices      Intervalos en que se divide la ventana
+     * @param window      Duración de la ventana
+     * @param memoryBytes Memoria total de los contadores
+     */
+    public WindowedCountMinSketch(int depth, int slices, Duration window, long memoryBytes) {
+        if (depth <= 0 || slices <= 0 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("El sketch requiere filas, intervalos y ventana positivos");
+        }
+        long maxWidth = Long.highestOneBit((Integer.MAX_VALUE - 8) / depth);
+        long width = Math.min(maxWidth, Long.highestOneBit(Math.max(1, memoryBytes / ((long) depth * (slices + 1)))));
+        if (width < 64) {
+            throw new IllegalArgumentException("Memoria insuficiente para el sketch: " + memoryBytes + " bytes");
+        }
+        this.depth = depth;
+        this.width = (int) width;
+        this.mask = this.width - 1;
+        this.slices = slices;
+        this.sliceNanos = Math.max(1, window.toNanos() / slices);
+        this.ring = new byte[slices + 1][depth * this.width];
+    }
+
+    /**
+     * Estima las apariciones de la clave dentro de la ventana.
+     *
+     * @param hash Hash de 64 bits de la clave
+     * @return Estimación, nunca inferior a la cantidad real
+     */
+    public int estimate(long hash) {
+        return estimate(hash, currentEpoch());
+    }
+
+    /**
+     * Registra una aparición de la clave si su estimación está por debajo del límite.
+     * Dos llamadas concurrentes para la misma clave pueden superar el límite en una unidad cada una.
+     *
+     * @param hash  Hash de 64 bits de la clave
+     * @param limit Apariciones permitidas dentro de la ventana
+     * @return true si se registró la aparición; false si la clave alcanzó el límite
+     */
+    public boolean tryIncrement(long hash, int limit) {
+        long current = currentEpoch();
+        if (estimate(hash, current) >= limit) {
+            return false;
+        }
+
+        byte[] table = ring[(int) (current % ring.length)];
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int min = MAX_COUNT;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, (int) COUNTERS.getVolatile(table, index(row, h1, h2)) & 0xFF);
+        }
+        if (min == MAX_COUNT) {
+            return true;
+        }
+        byte target = (byte) (min + 1);
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, h1, h2);
+            byte value;
+            do {
+                value = (byte) COUNTERS.getVolatile(table, index);
+            } while ((value & 0xFF) <= min && !COUNTERS.compareAndSet(table, index, value, target));
+        }
+        return true;
+    }
+
+    /**
+     * Memoria ocupada por los contadores, en bytes.
+     *
+     * @return Bytes de todas las tablas
+     */
+    public long getMemoryBytes() {
+        return (long) ring.length * depth * width;
+    }
+
+    private int estimate(long hash, long current) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int total = 0;
+        for (long e = Math.max(0, current - slices + 1); e <= current; e++) {
+            byte[] table = ring[(int) (e % ring.length)];
+            int min = MAX_COUNT;
+            for (int row = 0; row < depth && min > 0; row++) {
+                min = Math.min(min, (int) COUNTERS.getVolatile(table, index(row, h1, h2)) & 0xFF);
+            }
+            total += min;
+        }
+        return total;
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * width + ((h1 + row * h2) & mask);
+    }
+
+    private long currentEpoch() {
+        long now = (System.nanoTime() - origin) / sliceNanos;
+        if (now > epoch) {
+            rotate(now);
+        }
+        return now;
+    }
+
+    /**
+     * Limpia las tablas de los intervalos vencidos y la del siguiente intervalo antes de publicar el actual.
+     */
+    private synchronized void rotate(long now) {
+        long previous = epoch;
+        if (now <= previous) {
+            return;
+        }
+        long last = Math.min(now + 1, previous + 1 + ring.length);
+        for (long e = previous + 2; e <= last; e++) {
+            Arrays.fill(ring[(int) (e % ring.length)], (byte) 0);
+        }
+        epoch = now;
+    }
+}
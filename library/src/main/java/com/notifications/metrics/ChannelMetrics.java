@@ -0,0 +1,98 @@
+package com.notifications.metrics;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+
+/**
+ * Ayudante que utilizan los canales para reportar sus métricas con las etiquetas de canal y proveedor ya fijadas.
+ * Con un listener deshabilitado todas las operaciones se reducen a una comprobación de un campo final.
+ */
+public final class ChannelMetrics {
+
+    private final MetricsListener listener;
+    private final boolean enabled;
+    private final ChannelType channelType;
+    private final String provider;
+
+    public ChannelMetrics(MetricsListener listener, ChannelType channelType, Object provider) {
+        this.listener = listener;
+        this.enabled = listener.isEnabled();
+        this.channelType = channelType;
+        this.provider = providerName(provider);
+    }
+
+    /**
+     * Nombre del proveedor para las etiquetas. Las lambdas se reportan con el nombre de la clase que las declara.
+     */
+    static String providerName(Object provider) {
+        String name = provider.getClass().getSimpleName();
+        int lambda = name.indexOf("$$");
+        return lambda > 0 ? name.substring(0, lambda) : name;
+    }
+
+    /**
+     * Marca el inicio de una fase.
+     *
+     * @return Instante de inicio, o 0 si las métricas están deshabilitadas
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Registra el fin de una fase iniciada con {@link #start()}.
+     */
+    public void phase(Phase phase, long start) {
+        if (enabled) {
+            listener.recordLatency(channelType, provider, phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Registra el inicio de una llamada al proveedor y devuelve su instante de inicio.
+     */
+    public long callStarted() {
+        if (!enabled) {
+            return 0L;
+        }
+        listener.recordInFlight(channelType, provider, 1);
+        return System.nanoTime();
+    }
+
+    /**
+     * Registra el fin de una llamada al proveedor iniciada con {@link #callStarted()}.
+     */
+    public void callFinished(long start) {
+        if (enabled) {
+            listener.recordLatency(channelType, provider, Phase.PROVIDER_CALL, System.nanoTime() - start);
+            listener.recordInFlight(channelType, provider, -1);
+        }
+    }
+
+    public void success() {
+        if (enabled) {
+            listener.recordSuccess(channelType, provider);
+        }
+    }
+
+    public void failure(NotificationException.ErrorType errorType) {
+        if (enabled) {
+            listener.recordFailure(channelType, provider, errorType);
+        }
+    }
+
+    /**
+     * Registra el desenlace de un envío: los resultados parciales cuentan como fallos.
+     *
+     * @param result Resultado del envío, o null si falló
+     * @param error  Error del envío, o null si terminó con resultado
+     */
+    public void completed(NotificationResult result, Throwable error) {
+        if (error == null && result.isSuccess()) {
+            success();
+        } else {
+            failure(NotificationException.ErrorType.SEND_ERROR);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.notifications.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea de un histograma de latencias.
+ * Los buckets acumulados corresponden a {@link LatencyHistogram#EXPORT_BOUNDS_SECONDS}.
+ */
+@Getter
+@Builder
+public class HistogramSnapshot {
+
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long[] cumulativeBuckets;
+}
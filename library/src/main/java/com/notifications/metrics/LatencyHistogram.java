@@ -0,0 +1,116 @@
+package com.notifications.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias sin bloqueos con buckets log-lineales.
+ * Cada potencia de dos se divide en 8 sub-buckets, lo que da un error relativo máximo de 12,5%
+ * con 352 contadores fijos para valores entre 1 ns y unas 9 horas. Registrar un valor es un
+ * incremento atómico sobre un arreglo, sin reservar memoria.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Límites superiores en segundos de los buckets exportados en formato Prometheus.
+     */
+    public static final double[] EXPORT_BOUNDS_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30
+    };
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 45;
+    private static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra un valor.
+     *
+     * @param nanos Duración en nanosegundos
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Obtiene una instantánea de los valores registrados.
+     *
+     * @return Instantánea con conteos, percentiles y buckets de exportación
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        long[] cumulative = new long[EXPORT_BOUNDS_SECONDS.length];
+        long accumulated = 0;
+        int bucket = 0;
+        for (int b = 0; b < EXPORT_BOUNDS_SECONDS.length; b++) {
+            long boundNanos = (long) (EXPORT_BOUNDS_SECONDS[b] * 1_000_000_000L);
+            while (bucket < BUCKETS && upperBound(bucket) <= boundNanos) {
+                accumulated += counts[bucket++];
+            }
+            cumulative[b] = accumulated;
+        }
+
+        return HistogramSnapshot.builder()
+                .count(total)
+                .sumNanos(sum.sum())
+                .maxNanos(max.get())
+                .p50Nanos(percentile(counts, total, 0.50))
+                .p90Nanos(percentile(counts, total, 0.90))
+                .p99Nanos(percentile(counts, total, 0.99))
+                .cumulativeBuckets(cumulative)
+                .build();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.notifications.metrics;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+
+/**
+ * SPI para recibir las métricas del servicio y de los canales.
+ * Las implementaciones deben ser seguras para uso concurrente y no bloquear,
+ * ya que se invocan en el camino crítico de cada envío.
+ */
+public interface MetricsListener {
+
+    /**
+     * Indica si el listener registra métricas. Si devuelve false, los canales omiten
+     * incluso la lectura del reloj.
+     *
+     * @return true si las métricas están habilitadas
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Registra la duración de una fase.
+     *
+     * @param channelType Tipo de canal
+     * @param provider    Nombre del proveedor, o null si la fase no involucra un proveedor
+     * @param phase       Fase medida
+     * @param nanos       Duración en nanosegundos
+     */
+    void recordLatency(ChannelType channelType, String provider, Phase phase, long nanos);
+
+    /**
+     * Registra un envío exitoso.
+     *
+     * @param channelType Tipo de canal
+     * @param provider    Nombre del proveedor
+     */
+    void recordSuccess(ChannelType channelType, String provider);
+
+    /**
+     * Registra un envío fallido.
+     *
+     * @param channelType Tipo de canal
+     * @param provider    Nombre del proveedor
+     * @param errorType   Tipo de error
+     */
+    void recordFailure(ChannelType channelType, String provider, NotificationException.ErrorType errorType);
+
+    /**
+     * Registra la variación de llamadas al proveedor en curso.
+     *
+     * @param channelType Tipo de canal
+     * @param provider    Nombre del proveedor
+     * @param delta       +1 al iniciar una llamada, -1 al terminarla
+     */
+    void recordInFlight(ChannelType channelType, String provider, int delta);
+
+    /**
+     * Registra el límite actual de llamadas en curso de un límite de concurrencia adaptativo.
+     * Se invoca al crearse el límite y cada vez que cambia.
+     *
+     * @param channelType Tipo de canal
+     * @param limit       Límite actual
+     */
+    default void recordConcurrencyLimit(ChannelType channelType, int limit) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.notifications.metrics;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementación en memoria del {@link MetricsListener}.
+ * Mantiene histogramas de latencia por canal, proveedor y fase, contadores de resultados por
+ * tipo de error, la cantidad de llamadas en curso y el límite de concurrencia de cada canal. Todas las actualizaciones son sin bloqueos;
+ * tras el primer registro de una combinación de etiquetas no se reserva memoria.
+ */
+public class MetricsRegistry implements MetricsListener {
+
+    private final ConcurrentMap<LatencyKey, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<OutcomeKey, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SeriesKey, LongAdder> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ChannelType, Integer> concurrencyLimits = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordLatency(ChannelType channelType, String provider, Phase phase, long nanos) {
+        latencies.computeIfAbsent(new LatencyKey(channelType, provider, phase), key -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    @Override
+    public void recordSuccess(ChannelType channelType, String provider) {
+        outcome(channelType, provider, null).increment();
+    }
+
+    @Override
+    public void recordFailure(ChannelType channelType, String provider, NotificationException.ErrorType errorType) {
+        outcome(channelType, provider, errorType).increment();
+    }
+
+    @Override
+    public void recordInFlight(ChannelType channelType, String provider, int delta) {
+        inFlight.computeIfAbsent(new SeriesKey(channelType, provider), key -> new LongAdder()).add(delta);
+    }
+
+    @Override
+    public void recordConcurrencyLimit(ChannelType channelType, int limit) {
+        concurrencyLimits.put(channelType, limit);
+    }
+
+    /**
+     * Obtiene una instantánea de todas las métricas.
+     *
+     * @return Instantánea lista para exportar
+     */
+    public MetricsSnapshot snapshot() {
+        MetricsSnapshot.MetricsSnapshotBuilder snapshot = MetricsSnapshot.builder();
+        latencies.forEach((key, histogram) -> snapshot.latency(MetricsSnapshot.Latency.builder()
+                .channelType(key.channelType())
+                .provider(key.provider())
+                .phase(key.phase())
+                .histogram(histogram.snapshot())
+                .build()));
+        outcomes.forEach((key, counter) -> snapshot.outcome(MetricsSnapshot.Outcome.builder()
+                .channelType(key.channelType())
+                .provider(key.provider())
+                .errorType(key.errorType())
+                .count(counter.sum())
+                .build()));
+        inFlight.forEach((key, gauge) -> snapshot.inFlight(MetricsSnapshot.InFlight.builder()
+                .channelType(key.channelType())
+                .provider(key.provider())
+                .value(gauge.sum())
+                .build()));
+        concurrencyLimits.forEach((channelType, limit) -> snapshot.concurrencyLimit(
+                MetricsSnapshot.ConcurrencyLimit.builder()
+                        .channelType(channelType)
+                        .value(limit)
+                        .build()));
+        return snapshot.build();
+    }
+
+    private LongAdder outcome(ChannelType channelType, String provider, NotificationException.ErrorType errorType) {
+        return outcomes.computeIfAbsent(new OutcomeKey(channelType, provider, errorType), key -> new LongAdder());
+    }
+
+    private record LatencyKey(ChannelType channelType, String provider, Phase phase) {
+    }
+
+    private record OutcomeKey(ChannelType channelType, String provider, NotificationException.ErrorType errorType) {
+    }
+
+    private record SeriesKey(ChannelType channelType, String provider) {
+    }
+}
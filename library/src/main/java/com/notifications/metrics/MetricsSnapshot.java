@@ -0,0 +1,74 @@
+package com.notifications.metrics;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.List;
+
+/**
+ * Instantánea de todas las métricas registradas por un {@link MetricsRegistry}.
+ */
+@Getter
+@Builder
+public class MetricsSnapshot {
+
+    @Singular
+    private final List<Latency> latencies;
+
+    @Singular
+    private final List<Outcome> outcomes;
+
+    @Singular("inFlight")
+    private final List<InFlight> inFlight;
+
+    @Singular
+    private final List<ConcurrencyLimit> concurrencyLimits;
+
+    /**
+     * Histograma de latencias de una fase para un canal y proveedor.
+     */
+    @Getter
+    @Builder
+    public static class Latency {
+        private final ChannelType channelType;
+        private final String provider;
+        private final Phase phase;
+        private final HistogramSnapshot histogram;
+    }
+
+    /**
+     * Contador de resultados. Un tipo de error nulo representa los envíos exitosos.
+     */
+    @Getter
+    @Builder
+    public static class Outcome {
+        private final ChannelType channelType;
+        private final String provider;
+        private final NotificationException.ErrorType errorType;
+        private final long count;
+    }
+
+    /**
+     * Cantidad de llamadas al proveedor en curso.
+     */
+    @Getter
+    @Builder
+    public static class InFlight {
+        private final ChannelType channelType;
+        private final String provider;
+        private final long value;
+    }
+
+    /**
+     * Límite actual de llamadas en curso de un canal con límite de concurrencia adaptativo.
+     */
+    @Getter
+    @Builder
+    public static class ConcurrencyLimit {
+        private final ChannelType channelType;
+        private final int value;
+    }
+}
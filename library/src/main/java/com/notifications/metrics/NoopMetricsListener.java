@@ -0,0 +1,36 @@
+package com.notifications.metrics;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+
+/**
+ * Listener que descarta todas las métricas. Es el valor por defecto del servicio y de los canales.
+ */
+public final class NoopMetricsListener implements MetricsListener {
+
+    public static final NoopMetricsListener INSTANCE = new NoopMetricsListener();
+
+    private NoopMetricsListener() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordLatency(ChannelType channelType, String provider, Phase phase, long nanos) {
+    }
+
+    @Override
+    public void recordSuccess(ChannelType channelType, String provider) {
+    }
+
+    @Override
+    public void recordFailure(ChannelType channelType, String provider, NotificationException.ErrorType errorType) {
+    }
+
+    @Override
+    public void recordInFlight(ChannelType channelType, String provider, int delta) {
+    }
+}
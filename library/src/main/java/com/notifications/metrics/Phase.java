@@ -0,0 +1,13 @@
+package com.notifications.metrics;
+
+/**
+ * Fases medidas del envío de una notificación.
+ */
+public enum Phase {
+    /** Selección del canal en el servicio */
+    SELECTION,
+    /** Validación de la notificación en el canal */
+    VALIDATION,
+    /** Llamada al proveedor externo */
+    PROVIDER_CALL
+}
@@ -0,0 +1,108 @@
+package com.notifications.metrics;
+
+import com.notifications.core.ChannelType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Serializa un {@link MetricsSnapshot} en el formato de texto de exposición de Prometheus.
+ */
+public final class PrometheusFormatter {
+
+    private static final String LATENCY = "notifications_phase_latency_seconds";
+    private static final String SENT = "notifications_sent_total";
+    private static final String FAILED = "notifications_failed_total";
+    private static final String IN_FLIGHT = "notifications_in_flight";
+    private static final String CONCURRENCY_LIMIT = "notifications_concurrency_limit";
+
+    private PrometheusFormatter() {
+    }
+
+    /**
+     * Genera el texto de exposición para una instantánea.
+     *
+     * @param snapshot Instantánea de métricas
+     * @return Texto en formato Prometheus
+     */
+    public static String format(MetricsSnapshot snapshot) {
+        StringBuilder out = new StringBuilder();
+
+        List<MetricsSnapshot.Latency> latencies = snapshot.getLatencies();
+        if (!latencies.isEmpty()) {
+            header(out, LATENCY, "histogram", "Latencia por fase del envío de notificaciones");
+            for (MetricsSnapshot.Latency latency : latencies) {
+                String labels = labels(latency.getChannelType(), latency.getProvider())
+                        + ",phase=\"" + latency.getPhase().name().toLowerCase(Locale.ROOT) + "\"";
+                HistogramSnapshot histogram = latency.getHistogram();
+                long[] cumulative = histogram.getCumulativeBuckets();
+                for (int i = 0; i < cumulative.length; i++) {
+                    out.append(LATENCY).append("_bucket{").append(labels)
+                            .append(",le=\"").append(LatencyHistogram.EXPORT_BOUNDS_SECONDS[i]).append("\"} ")
+                            .append(cumulative[i]).append('\n');
+                }
+                out.append(LATENCY).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+                        .append(histogram.getCount()).append('\n');
+                out.append(LATENCY).append("_sum{").append(labels).append("} ")
+                        .append(histogram.getSumNanos() / 1e9).append('\n');
+                out.append(LATENCY).append("_count{").append(labels).append("} ")
+                        .append(histogram.getCount()).append('\n');
+            }
+        }
+
+        List<MetricsSnapshot.Outcome> outcomes = snapshot.getOutcomes();
+        if (outcomes.stream().anyMatch(outcome -> outcome.getErrorType() == null)) {
+            header(out, SENT, "counter", "Notificaciones enviadas con éxito");
+            for (MetricsSnapshot.Outcome outcome : outcomes) {
+                if (outcome.getErrorType() == null) {
+                    out.append(SENT).append('{').append(labels(outcome.getChannelType(), outcome.getProvider()))
+                            .append("} ").append(outcome.getCount()).append('\n');
+                }
+            }
+        }
+        if (outcomes.stream().anyMatch(outcome -> outcome.getErrorType() != null)) {
+            header(out, FAILED, "counter", "Notificaciones fallidas por tipo de error");
+            for (MetricsSnapshot.Outcome outcome : outcomes) {
+                if (outcome.getErrorType() != null) {
+                    out.append(FAILED).append('{').append(labels(outcome.getChannelType(), outcome.getProvider()))
+                            .append(",error_type=\"").append(outcome.getErrorType().name()).append("\"} ")
+                            .append(outcome.getCount()).append('\n');
+                }
+            }
+        }
+
+        List<MetricsSnapshot.InFlight> inFlight = snapshot.getInFlight();
+        if (!inFlight.isEmpty()) {
+            header(out, IN_FLIGHT, "gauge", "Llamadas al proveedor en curso");
+            for (MetricsSnapshot.InFlight gauge : inFlight) {
+                out.append(IN_FLIGHT).append('{').append(labels(gauge.getChannelType(), gauge.getProvider()))
+                        .append("} ").append(gauge.getValue()).append('\n');
+            }
+        }
+
+        List<MetricsSnapshot.ConcurrencyLimit> limits = snapshot.getConcurrencyLimits();
+        if (!limits.isEmpty()) {
+            header(out, CONCURRENCY_LIMIT, "gauge", "Límite adaptativo de llamadas al proveedor en curso");
+            for (MetricsSnapshot.ConcurrencyLimit gauge : limits) {
+                out.append(CONCURRENCY_LIMIT).append("{channel=\"")
+                        .append(gauge.getChannelType().name().toLowerCase(Locale.ROOT))
+                        .append("\"} ").append(gauge.getValue()).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String labels(ChannelType channelType, String provider) {
+        String channel = channelType == null ? "none" : channelType.name().toLowerCase(Locale.ROOT);
+        return "channel=\"" + channel + "\",provider=\"" + escape(provider == null ? "none" : provider) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
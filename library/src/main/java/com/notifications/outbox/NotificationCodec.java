@@ -0,0 +1,185 @@
+package com.notifications.outbox;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.Notification;
+import com.notifications.core.TemplateRef;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serialización binaria compacta de notificaciones para su almacenamiento en disco.
+ * Los metadatos de tipo String, Integer, Long, Double y Boolean conservan su tipo;
+ * cualquier otro valor se almacena con su representación {@code toString()}.
+ */
+public final class NotificationCodec {
+
+    private static final byte VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+
+    private NotificationCodec() {
+    }
+
+    /**
+     * Serializa una notificación.
+     *
+     * @param notification Notificación a serializar
+     * @return Representación binaria
+     */
+    public static byte[] encode(Notification notification) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, notification.getId());
+            out.writeInt(notification.getRecipients().size());
+            for (String recipient : notification.getRecipients()) {
+                writeString(out, recipient);
+            }
+            writeString(out, notification.getContent());
+            writeString(out, notification.getSubject());
+            out.writeByte(notification.getPriority() == null ? -1 : notification.getPriority().ordinal());
+            out.writeByte(notification.getPreferredChannel() == null ? -1 : notification.getPreferredChannel().ordinal());
+            out.writeInt(notification.getMetadata().size());
+            writeVariables(out, notification.getMetadata());
+            TemplateRef template = notification.getTemplate();
+            out.writeBoolean(template != null);
+            if (template != null) {
+                writeString(out, template.getId());
+                out.writeInt(template.getVersion());
+            }
+            out.writeInt(notification.getRecipientVariables().size());
+            for (Map.Entry<String, Map<String, Object>> entry : notification.getRecipientVariables().entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                writeVariables(out, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reconstruye una notificación serializada con {@link #encode(Notification)}.
+     *
+     * @param data Representación binaria
+     * @return Notificación
+     */
+    public static Notification decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Versión de serialización no soportada: " + version);
+            }
+            Notification.NotificationBuilder builder = Notification.builder().id(readString(in));
+            int recipients = in.readInt();
+            for (int i = 0; i < recipients; i++) {
+                builder.recipient(readString(in));
+            }
+            builder.content(readString(in)).subject(readString(in));
+            byte priority = in.readByte();
+            builder.priority(priority >= 0 ? Notification.Priority.values()[priority] : null);
+            byte preferredChannel = in.readByte();
+            if (preferredChannel >= 0) {
+                builder.preferredChannel(ChannelType.values()[preferredChannel]);
+            }
+            int metadata = in.readInt();
+            for (int i = 0; i < metadata; i++) {
+                builder.metadata(readString(in), readValue(in));
+            }
+            // La versión 1 no incluía plantillas
+            if (version >= 2) {
+                if (in.readBoolean()) {
+                    builder.template(TemplateRef.of(readString(in), in.readInt()));
+                }
+                int personalized = in.readInt();
+                for (int i = 0; i < personalized; i++) {
+                    String recipient = readString(in);
+                    int variables = in.readInt();
+                    Map<String, Object> values = new LinkedHashMap<>();
+                    for (int j = 0; j < variables; j++) {
+                        values.put(readString(in), readValue(in));
+                    }
+                    builder.recipientVariables(recipient, values);
+                }
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeVariables(DataOutputStream out, Map<String, Object> variables) throws IOException {
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(INTEGER);
+            out.writeInt(integer);
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof Double number) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(bool);
+        } else {
+            out.writeByte(STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case INTEGER -> in.readInt();
+            case LONG -> in.readLong();
+            case DOUBLE -> in.readDouble();
+            case BOOLEAN -> in.readBoolean();
+            case STRING -> readString(in);
+            default -> throw new IllegalArgumentException("Tipo de metadato desconocido: " + type);
+        };
+    }
+}
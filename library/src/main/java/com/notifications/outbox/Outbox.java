@@ -0,0 +1,359 @@
+package com.notifications.outbox;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import com.notifications.core.NotificationSender;
+import com.notifications.core.RetryableFailure;
+import com.notifications.resilience.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Outbox durable: las notificaciones aceptadas se guardan en un {@link WriteAheadLog} antes de
+ * entregarse, y un despachador las envía a los canales con concurrencia acotada.
+ * <p>
+ * Una entrada se confirma en el registro cuando su envío termina con un resultado o con un error
+ * permanente. Ante un error transitorio la entrada vuelve a la cola y el despachador espera antes de
+ * seguir entregando, con una espera que crece exponencialmente mientras los errores continúan. Una
+ * entrada que agota {@code maxAttempts} se confirma y su entrega termina con el último error. Las
+ * entradas sin confirmar al detenerse la JVM se vuelven a entregar al abrir el outbox, por lo que la
+ * entrega es al menos una vez.
+ * <p>
+ * La memoria queda acotada aunque se acumulen entregas pendientes: solo {@code maxQueued} notificaciones
+ * esperan en memoria. Las que no caben, las que fallaron de forma transitoria y las recuperadas al abrir
+ * el outbox se recuerdan solo por su secuencia y se leen del registro cuando hay espacio en la cola.
+ */
+@Slf4j
+public class Outbox implements AutoCloseable {
+
+    /**
+     * Espera máxima del despachador sin entradas en memoria antes de volver a consultar el registro.
+     */
+    private static final long REFILL_INTERVAL_MILLIS = 100;
+
+    private final OutboxConfig config;
+    private final WriteAheadLog wal;
+    private final NotificationSender sender;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final BlockingQueue<Entry> queue;
+    private final ConcurrentSkipListSet<Long> spilled = new ConcurrentSkipListSet<>();
+    private final Map<Long, CompletableFuture<NotificationResult>> deliveries = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> attempts = new ConcurrentHashMap<>();
+    private final RetryPolicy transientErrors;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+    private volatile long resumeAt = System.nanoTime();
+    private volatile long backoffNanos;
+
+    /**
+     * Abre el outbox, recupera las entradas sin confirmar y comienza a despacharlas.
+     *
+     * @param config   Configuración del outbox
+     * @param sender   Envío de cada notificación
+     * @param executor Ejecutor de las entregas
+     * @throws IOException Si no es posible abrir el registro
+     */
+    public Outbox(OutboxConfig config, NotificationSender sender, Executor executor) throws IOException {
+        if (config.getMaxInFlight() <= 0 || config.getMaxQueued() <= 0 || config.getMaxAttempts() <= 0) {
+            throw new IllegalArgumentException("La concurrencia, la cola y los intentos del outbox deben ser positivos");
+        }
+        this.config = config;
+        this.sender = sender;
+        this.executor = executor;
+        this.permits = new Semaphore(config.getMaxInFlight());
+        this.queue = new ArrayBlockingQueue<>(config.getMaxQueued());
+        // Se clasifican los errores igual que en los reintentos, con los tipos transitorios del outbox
+        this.transientErrors = RetryPolicy.builder().retryableErrors(config.getRetryableErrors()).build();
+        this.wal = new WriteAheadLog(config.getDirectory(), config.getSegmentSize(), config.isFsync());
+
+        // Las entradas recuperadas se leen del registro a medida que el despachador tiene espacio
+        for (long sequence = wal.nextPending(-1); sequence >= 0; sequence = wal.nextPending(sequence)) {
+            spilled.add(sequence);
+        }
+
+        this.dispatcher = Thread.ofPlatform().name("notifications-outbox-dispatcher").daemon()
+                .start(this::dispatchLoop);
+    }
+
+    /**
+     * Persiste la notificación y la entrega en segundo plano.
+     * Los callbacks encadenados sin variante {@code Async} se ejecutan en el hilo de confirmación
+     * del registro, por lo que deben ser breves.
+     *
+     * @param notification Notificación a aceptar
+     * @return CompletableFuture completado cuando la notificación es durable
+     */
+    public CompletableFuture<Void> accept(Notification notification) {
+        return enqueue(notification, null);
+    }
+
+    /**
+     * Persiste la notificación y devuelve el resultado de su entrega.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado de la entrega
+     */
+    public CompletableFuture<NotificationResult> submit(Notification notification) {
+        CompletableFuture<NotificationResult> delivery = new CompletableFuture<>();
+        enqueue(notification, delivery).whenComplete((ignored, error) -> {
+            if (error != null) {
+                delivery.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+        return delivery;
+    }
+
+    /**
+     * Cantidad de notificaciones persistidas cuya entrega aún no terminó.
+     *
+     * @return Entradas sin confirmar
+     */
+    public int getPendingCount() {
+        return wal.pendingCount();
+    }
+
+    /**
+     * Detiene el despachador, espera las entregas en curso y cierra el registro.
+     * Las notificaciones aún no entregadas permanecen en disco y se entregan al volver a abrir el outbox.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join();
+            long timeout = config.getShutdownTimeout().toNanos();
+            if (!permits.tryAcquire(config.getMaxInFlight(), timeout, TimeUnit.NANOSECONDS)) {
+                log.warn("Se cerró el outbox con entregas en curso; se reenviarán al reiniciar");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failPending();
+        wal.close();
+    }
+
+    private CompletableFuture<Void> enqueue(Notification notification, CompletableFuture<NotificationResult> delivery) {
+        if (!running) {
+            return CompletableFuture.failedFuture(closedError("El outbox está cerrado"));
+        }
+
+        byte[] payload;
+        try {
+            payload = NotificationCodec.encode(notification);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(persistError(e));
+        }
+
+        return wal.append(payload).handle((sequence, error) -> {
+            if (error != null) {
+                throw new CompletionException(persistError(error));
+            }
+            if (delivery != null) {
+                deliveries.put(sequence, delivery);
+            }
+            if (!running) {
+                failPending();
+                return null;
+            }
+            place(new Entry(sequence, notification));
+            return null;
+        });
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            Entry entry;
+            try {
+                awaitBackoff();
+                refill();
+                entry = queue.poll(REFILL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (entry == null) {
+                continue;
+            }
+
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                spilled.add(entry.sequence());
+                return;
+            }
+
+            try {
+                executor.execute(() -> deliver(entry));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                spilled.add(entry.sequence());
+                log.error("El ejecutor rechazó la entrega del outbox; se detiene el despachador", e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Encola la entrada en memoria si hay espacio y no hay entradas anteriores esperando en el registro;
+     * en otro caso solo se recuerda su secuencia.
+     */
+    private void place(Entry entry) {
+        if (!spilled.isEmpty() || !queue.offer(entry)) {
+            spilled.add(entry.sequence());
+        }
+    }
+
+    /**
+     * Completa la cola en memoria con las entradas que esperan en el registro, en orden de secuencia.
+     */
+    private void refill() {
+        while (queue.remainingCapacity() > 0) {
+            Long sequence = spilled.pollFirst();
+            if (sequence == null) {
+                return;
+            }
+            byte[] payload = wal.read(sequence);
+            if (payload == null) {
+                continue;
+            }
+            Notification notification;
+            try {
+                notification = NotificationCodec.decode(payload);
+            } catch (RuntimeException e) {
+                log.error("Entrada {} del outbox ilegible, se descarta", sequence, e);
+                complete(sequence, null, e);
+                continue;
+            }
+            if (!queue.offer(new Entry(sequence, notification))) {
+                spilled.add(sequence);
+                return;
+            }
+        }
+    }
+
+    private void deliver(Entry entry) {
+        try {
+            NotificationResult result = sender.send(entry.notification());
+            resetBackoff();
+            complete(entry.sequence(), result, null);
+        } catch (NotificationException e) {
+            if (transientErrors.isRetryable(e)) {
+                int attempt = attempts.merge(entry.sequence(), 1, Integer::sum);
+                if (attempt >= config.getMaxAttempts()) {
+                    log.error("Notificación {} del outbox descartada tras {} intentos",
+                            entry.notification().getId(), attempt, e);
+                    complete(entry.sequence(), null, e);
+                    return;
+                }
+                log.warn("Error transitorio al entregar la notificación {} del outbox, se reintentará: {}",
+                        entry.notification().getId(), e.getMessage());
+                backOff(RetryableFailure.retryAfterOf(e));
+                // La notificación deja la memoria y se vuelve a leer del registro tras la espera
+                spilled.add(entry.sequence());
+                return;
+            }
+            log.error("Error al entregar la notificación {} del outbox", entry.notification().getId(), e);
+            complete(entry.sequence(), null, e);
+        } catch (Exception e) {
+            log.error("Error al entregar la notificación {} del outbox", entry.notification().getId(), e);
+            complete(entry.sequence(), null, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void complete(long sequence, NotificationResult result, Exception error) {
+        wal.acknowledge(sequence);
+        attempts.remove(sequence);
+        CompletableFuture<NotificationResult> delivery = deliveries.remove(sequence);
+        if (delivery != null) {
+            if (error != null) {
+                delivery.completeExceptionally(error);
+            } else {
+                delivery.complete(result);
+            }
+        }
+    }
+
+    /**
+     * Detiene el despachador tras un error transitorio. Los errores de las entregas que ya estaban en
+     * curso durante la espera no la prolongan, de modo que la espera crece una vez por ronda de fallos.
+     * Si el proveedor indicó una espera, se respeta sin superar la demora máxima.
+     */
+    private synchronized void backOff(Duration retryAfter) {
+        long now = System.nanoTime();
+        if (now - resumeAt < 0) {
+            return;
+        }
+        backoffNanos = backoffNanos == 0
+                ? config.getRetryDelay().toNanos()
+                : Math.min(backoffNanos * 2, config.getMaxRetryDelay().toNanos());
+        long wait = backoffNanos;
+        if (retryAfter != null) {
+            wait = Math.max(wait, Math.min(retryAfter.toNanos(), config.getMaxRetryDelay().toNanos()));
+        }
+        resumeAt = now + wait;
+    }
+
+    private void resetBackoff() {
+        if (backoffNanos != 0) {
+            backoffNanos = 0;
+        }
+    }
+
+    private void awaitBackoff() throws InterruptedException {
+        long wait;
+        while ((wait = resumeAt - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Completa con error las entregas pendientes tras el cierre. Las entradas siguen en el registro.
+     */
+    private void failPending() {
+        queue.clear();
+        spilled.clear();
+        attempts.clear();
+        for (Long sequence : deliveries.keySet()) {
+            CompletableFuture<NotificationResult> delivery = deliveries.remove(sequence);
+            if (delivery != null) {
+                delivery.completeExceptionally(closedError(
+                        "El outbox se cerró antes de la entrega; la notificación se entregará al reiniciar"));
+            }
+        }
+    }
+
+    private static NotificationException closedError(String message) {
+        return new NotificationException(
+                message,
+                NotificationException.ErrorType.CAPACITY_ERROR,
+                null
+        );
+    }
+
+    private static NotificationException persistError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return new NotificationException(
+                "No se pudo persistir la notificación en el outbox: " + cause.getMessage(),
+                cause instanceof IllegalArgumentException
+                        ? NotificationException.ErrorType.VALIDATION_ERROR
+                        : NotificationException.ErrorType.SEND_ERROR,
+                null,
+                cause
+        );
+    }
+
+    private record Entry(long sequence, Notification notification) {
+    }
+}
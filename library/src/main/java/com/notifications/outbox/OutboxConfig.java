@@ -0,0 +1,102 @@
+package com.notifications.outbox;
+
+import com.notifications.core.NotificationException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuración del outbox durable: ubicación y tamaño de los segmentos del registro,
+ * confirmación en disco y concurrencia del despachador.
+ */
+@Getter
+@Builder
+public class OutboxConfig {
+
+    /**
+     * Directorio donde se guardan los segmentos del registro.
+     */
+    @NonNull
+    private final Path directory;
+
+    /**
+     * Tamaño en bytes de cada segmento mapeado en memoria.
+     */
+    @Builder.Default
+    private final int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * Si la aceptación espera a que la entrada se fuerce a disco. Sin fsync las entradas
+     * sobreviven a una caída de la JVM pero no a una caída del sistema operativo.
+     */
+    @Builder.Default
+    private final boolean fsync = true;
+
+    /**
+     * Cantidad máxima de notificaciones que el despachador entrega simultáneamente.
+     */
+    @Builder.Default
+    private final int maxInFlight = 256;
+
+    /**
+     * Cantidad máxima de notificaciones que esperan entrega en memoria. Las demás se conservan solo en
+     * el registro y se leen de disco cuando la cola tiene espacio.
+     */
+    @Builder.Default
+    private final int maxQueued = 10_000;
+
+    /**
+     * Tipos de error transitorios: la entrada no se confirma y se vuelve a entregar tras una espera.
+     * Los demás errores son permanentes y confirman la entrada.
+     */
+    @Builder.Default
+    private final Set<NotificationException.ErrorType> retryableErrors = EnumSet.of(
+            NotificationException.ErrorType.SEND_ERROR,
+            NotificationException.ErrorType.PROVIDER_ERROR,
+            NotificationException.ErrorType.RATE_LIMIT_ERROR,
+            NotificationException.ErrorType.CIRCUIT_OPEN_ERROR,
+            NotificationException.ErrorType.CAPACITY_ERROR
+    );
+
+    /**
+     * Cantidad máxima de entregas de una entrada. Si la última también falla con un error transitorio,
+     * la entrada se confirma y su entrega termina con ese error. Los intentos se cuentan en memoria, por
+     * lo que vuelven a empezar al reabrir el outbox.
+     */
+    @Builder.Default
+    private final int maxAttempts = 10;
+
+    /**
+     * Espera del despachador tras el primer error transitorio; se duplica con cada error posterior
+     * hasta {@link #maxRetryDelay} y vuelve a cero con la primera entrega exitosa.
+     */
+    @Builder.Default
+    private final Duration retryDelay = Duration.ofSeconds(1);
+
+    /**
+     * Espera máxima del despachador tras errores transitorios consecutivos.
+     */
+    @Builder.Default
+    private final Duration maxRetryDelay = Duration.ofMinutes(1);
+
+    /**
+     * Tiempo máximo que el cierre espera a que terminen las entregas en curso.
+     */
+    @Builder.Default
+    private final Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Crea la configuración por defecto para el directorio indicado.
+     *
+     * @param directory Directorio de los segmentos
+     * @return Configuración con los valores predeterminados
+     */
+    public static OutboxConfig of(Path directory) {
+        return OutboxConfig.builder().directory(directory).build();
+    }
+}
@@ -0,0 +1,451 @@
+package com.notifications.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Registro de escritura anticipada segmentado sobre archivos mapeados en memoria.
+ * <p>
+ * Cada registro ocupa {@code [tamaño][tipo][secuencia][crc][datos]}, donde el tamaño incluye la cabecera.
+ * Las entradas se confirman en disco por grupos: un único hilo ejecuta {@code force()} sobre el segmento
+ * activo y completa de una vez todas las escrituras acumuladas mientras tanto. Las confirmaciones de entrega se escriben como registros
+ * {@code ACK} sin esperar a disco; perder una confirmación solo provoca un reenvío.
+ * <p>
+ * Un segmento se elimina cuando está cerrado, todas sus entradas fueron confirmadas y todos los
+ * segmentos anteriores ya fueron eliminados. Al abrir el registro se reproducen las entradas sin
+ * confirmación y se comienza a escribir en un segmento nuevo, de modo que un final de archivo
+ * incompleto nunca se sobrescribe.
+ * <p>
+ * En memoria solo se guarda la ubicación de cada entrada sin confirmar; los datos se leen del segmento
+ * con {@link #read(long)} cuando hacen falta.
+ */
+@Slf4j
+public class WriteAheadLog implements AutoCloseable {
+
+    private static final byte ENTRY = 1;
+    private static final byte ACK = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+    private static final String SUFFIX = ".wal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final ConcurrentNavigableMap<Long, Location> unacknowledged = new ConcurrentSkipListMap<>();
+    private final List<Long> recovered;
+    private volatile Segment active;
+    private long nextSequence;
+    private long nextSegmentId;
+
+    private final ConcurrentLinkedQueue<Durability> awaitingSync = new ConcurrentLinkedQueue<>();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    /**
+     * Abre el registro en el directorio indicado y recupera las entradas sin confirmar.
+     *
+     * @param directory   Directorio de los segmentos
+     * @param segmentSize Tamaño en bytes de cada segmento
+     * @param fsync       Si las escrituras esperan a ser forzadas a disco
+     * @throws IOException Si no es posible leer o crear los segmentos
+     */
+    public WriteAheadLog(Path directory, int segmentSize, boolean fsync) throws IOException {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("El tamaño del segmento es demasiado pequeño");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        this.recovered = recover();
+        this.active = openSegment();
+        compact();
+
+        this.flusher = Thread.ofPlatform().name("notifications-wal-flusher").daemon().unstarted(this::flushLoop);
+        if (fsync) {
+            flusher.start();
+        }
+    }
+
+    /**
+     * Entradas sin confirmar encontradas al abrir el registro y aún no confirmadas, en orden de secuencia.
+     * Los datos se leen de disco en cada invocación.
+     *
+     * @return Entradas recuperadas
+     */
+    public List<Record> recovered() {
+        List<Record> records = new ArrayList<>(recovered.size());
+        for (long sequence : recovered) {
+            byte[] payload = read(sequence);
+            if (payload != null) {
+                records.add(new Record(sequence, payload));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Lee los datos de una entrada sin confirmar.
+     *
+     * @param sequence Secuencia de la entrada
+     * @return Datos de la entrada, o null si no existe o ya fue confirmada
+     */
+    public byte[] read(long sequence) {
+        Location location = unacknowledged.get(sequence);
+        if (location == null) {
+            return null;
+        }
+        // Lectura absoluta sobre una vista propia, sin alterar la posición de escritura del segmento
+        ByteBuffer view = location.segment().buffer.duplicate();
+        int size = view.getInt(location.position());
+        byte[] payload = new byte[size - HEADER_SIZE];
+        view.get(location.position() + HEADER_SIZE, payload);
+        return payload;
+    }
+
+    /**
+     * Obtiene la siguiente entrada sin confirmar en orden de secuencia.
+     *
+     * @param after Secuencia a partir de la cual buscar (excluida); -1 para empezar desde el principio
+     * @return Secuencia de la siguiente entrada sin confirmar, o -1 si no hay más
+     */
+    public long nextPending(long after) {
+        Long next = unacknowledged.higherKey(after);
+        return next != null ? next : -1;
+    }
+
+    /**
+     * Agrega una entrada al registro.
+     *
+     * @param payload Datos de la entrada
+     * @return Future con la secuencia asignada, completado cuando la entrada es durable
+     */
+    public CompletableFuture<Long> append(byte[] payload) {
+        if (HEADER_SIZE + payload.length > segmentSize) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "La entrada de " + payload.length + " bytes excede el tamaño del segmento"));
+        }
+
+        long sequence;
+        appendLock.lock();
+        try {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("El registro está cerrado"));
+            }
+            sequence = nextSequence++;
+            Location location = write(ENTRY, sequence, payload);
+            location.segment().live.incrementAndGet();
+            unacknowledged.put(sequence, location);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (!fsync) {
+            return CompletableFuture.completedFuture(sequence);
+        }
+        Durability durability = new Durability(sequence);
+        awaitingSync.add(durability);
+        LockSupport.unpark(flusher);
+        return durability.future;
+    }
+
+    /**
+     * Confirma la entrega de una entrada. Las secuencias desconocidas o ya confirmadas se ignoran.
+     *
+     * @param sequence Secuencia de la entrada
+     */
+    public void acknowledge(long sequence) {
+        Location location = unacknowledged.remove(sequence);
+        if (location == null) {
+            return;
+        }
+        Segment segment = location.segment();
+
+        boolean releasable;
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            write(ACK, sequence, new byte[0]);
+            releasable = segment.live.decrementAndGet() == 0 && segment.sealed;
+        } catch (IOException e) {
+            log.warn("No se pudo registrar la confirmación de la entrada {}", sequence, e);
+            return;
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (releasable) {
+            compact();
+        }
+    }
+
+    /**
+     * Cantidad de entradas aún no confirmadas.
+     *
+     * @return Entradas pendientes de entrega
+     */
+    public int pendingCount() {
+        return unacknowledged.size();
+    }
+
+    /**
+     * Cantidad de segmentos presentes en disco.
+     *
+     * @return Segmentos activos y cerrados
+     */
+    public int segmentCount() {
+        appendLock.lock();
+        try {
+            return segments.size();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.force();
+        } finally {
+            appendLock.unlock();
+        }
+        LockSupport.unpark(flusher);
+        if (fsync) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        appendLock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Escribe un registro en el segmento activo, abriendo uno nuevo si no hay espacio.
+     * Debe invocarse con el lock de escritura tomado.
+     */
+    private Location write(byte type, long sequence, byte[] payload) throws IOException {
+        int size = HEADER_SIZE + payload.length;
+        Segment segment = active;
+        if (segment.buffer.remaining() < size) {
+            segment.force();
+            segment.sealed = true;
+            segment = openSegment();
+            active = segment;
+            compactLocked();
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+
+        MappedByteBuffer buffer = segment.buffer;
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.put(type).putLong(sequence).putInt((int) crc.getValue()).put(payload);
+        // El tamaño se escribe al final para que un registro a medio escribir parezca el fin del segmento.
+        buffer.putInt(start, size);
+        return new Location(segment, start);
+    }
+
+    private void flushLoop() {
+        List<Durability> batch = new ArrayList<>();
+        while (true) {
+            Durability next;
+            while ((next = awaitingSync.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                if (closed) {
+                    return;
+                }
+                LockSupport.park(this);
+                continue;
+            }
+
+            try {
+                // Las entradas de segmentos anteriores ya se forzaron al cerrar cada segmento.
+                active.force();
+                for (Durability durability : batch) {
+                    durability.future.complete(durability.sequence);
+                }
+            } catch (RuntimeException e) {
+                for (Durability durability : batch) {
+                    durability.future.completeExceptionally(e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void compact() {
+        appendLock.lock();
+        try {
+            compactLocked();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void compactLocked() {
+        while (!segments.isEmpty() && segments.peekFirst().sealed && segments.peekFirst().live.get() == 0) {
+            Segment segment = segments.pollFirst();
+            segment.close();
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("No se pudo eliminar el segmento {}", segment.path, e);
+            }
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", nextSegmentId++, SUFFIX));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Segment segment = new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        segments.addLast(segment);
+        return segment;
+    }
+
+    /**
+     * Lee los segmentos existentes en orden y conserva las entradas sin confirmación.
+     * Cada segmento recuperado queda cerrado para escritura.
+     */
+    private List<Long> recover() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+
+        Map<Long, Location> pending = new TreeMap<>();
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            nextSegmentId = Math.max(nextSegmentId, Long.parseLong(name.substring(0, name.length() - SUFFIX.length())) + 1);
+
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(path, channel,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize)));
+            segment.sealed = true;
+            segments.addLast(segment);
+
+            MappedByteBuffer buffer = segment.buffer;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                int start = buffer.position();
+                int size = buffer.getInt();
+                if (size < HEADER_SIZE || size - Integer.BYTES > buffer.remaining()) {
+                    break;
+                }
+                byte type = buffer.get();
+                long sequence = buffer.getLong();
+                int checksum = buffer.getInt();
+                CRC32C crc = new CRC32C();
+                crc.update(type);
+                crc.update(buffer.slice(buffer.position(), size - HEADER_SIZE));
+                buffer.position(buffer.position() + size - HEADER_SIZE);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Registro corrupto en {} posición {}, se descarta el resto del segmento", path, start);
+                    break;
+                }
+
+                nextSequence = Math.max(nextSequence, sequence + 1);
+                if (type == ENTRY) {
+                    pending.put(sequence, new Location(segment, start));
+                } else if (type == ACK) {
+                    pending.remove(sequence);
+                }
+            }
+        }
+
+        pending.forEach((sequence, location) -> {
+            location.segment().live.incrementAndGet();
+            unacknowledged.put(sequence, location);
+        });
+        if (!pending.isEmpty()) {
+            log.info("Recuperadas {} entradas sin confirmar de {} segmentos", pending.size(), paths.size());
+        }
+        return List.copyOf(pending.keySet());
+    }
+
+    /**
+     * Entrada recuperada del registro.
+     *
+     * @param sequence Secuencia de la entrada
+     * @param payload  Datos de la entrada
+     */
+    public record Record(long sequence, byte[] payload) {
+    }
+
+    /**
+     * Posición de un registro dentro de su segmento.
+     */
+    private record Location(Segment segment, int position) {
+    }
+
+    private record Durability(long sequence, CompletableFuture<Long> future) {
+        Durability(long sequence) {
+            this(sequence, new CompletableFuture<>());
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger live = new AtomicInteger();
+        private volatile boolean sealed;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void force() {
+            buffer.force();
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
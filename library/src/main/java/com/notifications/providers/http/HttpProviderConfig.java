@@ -0,0 +1,49 @@
+package com.notifications.providers.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuración del cliente HTTP compartido por los proveedores.
+ */
+@Getter
+@Builder
+public class HttpProviderConfig {
+
+    /**
+     * Tiempo máximo para establecer una conexión nueva.
+     */
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Tiempo máximo de cada petición, desde su envío hasta recibir los encabezados de la respuesta.
+     */
+    @Builder.Default
+    private final Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Peticiones simultáneas como máximo de un mismo envío, en los proveedores que envían un mensaje
+     * por destinatario. Las demás esperan a que termine alguna, de modo que un envío a muchos
+     * destinatarios no acapara las conexiones ni dispara los límites del proveedor.
+     */
+    @Builder.Default
+    private final int maxRequestsPerSend = 8;
+
+    /**
+     * Ejecutor de las tareas internas del cliente. Si es null se utiliza el ejecutor por defecto del JDK.
+     */
+    private final Executor executor;
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static HttpProviderConfig defaults() {
+        return HttpProviderConfig.builder().build();
+    }
+}
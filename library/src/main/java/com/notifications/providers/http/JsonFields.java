@@ -0,0 +1,120 @@
+package com.notifications.providers.http;
+
+/**
+ * Lectura de campos sueltos de las respuestas JSON de los proveedores, sin construir el documento completo.
+ * Solo se interpretan las cadenas necesarias para reconocer nombres de campo; el resto se recorre carácter a carácter.
+ */
+public final class JsonFields {
+
+    private JsonFields() {
+    }
+
+    /**
+     * Busca el primer campo con el nombre indicado cuyo valor es una cadena, en cualquier nivel del documento.
+     *
+     * @param json  Documento JSON
+     * @param field Nombre del campo
+     * @return Valor del campo, o null si no existe o no es una cadena
+     */
+    public static String string(String json, String field) {
+        int valueStart = valueOf(json, field);
+        if (valueStart < 0 || json.charAt(valueStart) != '"') {
+            return null;
+        }
+        StringBuilder value = new StringBuilder();
+        parseString(json, valueStart, value);
+        return value.toString();
+    }
+
+    /**
+     * Busca el primer campo numérico entero con el nombre indicado.
+     *
+     * @param json         Documento JSON
+     * @param field        Nombre del campo
+     * @param defaultValue Valor si el campo no existe o no es un entero
+     * @return Valor del campo
+     */
+    public static long number(String json, String field, long defaultValue) {
+        int start = valueOf(json, field);
+        if (start < 0) {
+            return defaultValue;
+        }
+        int end = start;
+        while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) {
+            end++;
+        }
+        try {
+            return Long.parseLong(json.substring(start, end));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Obtiene la posición del valor del campo indicado, o -1 si no existe.
+     */
+    private static int valueOf(String json, String field) {
+        if (json == null) {
+            return -1;
+        }
+        StringBuilder token = new StringBuilder();
+        int i = 0;
+        while (i < json.length()) {
+            if (json.charAt(i) != '"') {
+                i++;
+                continue;
+            }
+            token.setLength(0);
+            i = parseString(json, i, token);
+            int next = skipWhitespace(json, i);
+            if (next < json.length() && json.charAt(next) == ':') {
+                if (field.contentEquals(token)) {
+                    int value = skipWhitespace(json, next + 1);
+                    return value < json.length() ? value : -1;
+                }
+                i = next + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Interpreta la cadena que comienza en la comilla indicada y devuelve la posición siguiente a su cierre.
+     */
+    private static int parseString(String json, int quote, StringBuilder out) {
+        int i = quote + 1;
+        while (i < json.length()) {
+            char c = json.charAt(i++);
+            if (c == '"') {
+                return i;
+            }
+            if (c != '\\' || i >= json.length()) {
+                out.append(c);
+                continue;
+            }
+            char escaped = json.charAt(i++);
+            switch (escaped) {
+                case 'n' -> out.append('\n');
+                case 'r' -> out.append('\r');
+                case 't' -> out.append('\t');
+                case 'b' -> out.append('\b');
+                case 'f' -> out.append('\f');
+                case 'u' -> {
+                    if (i + 4 <= json.length()) {
+                        out.append((char) Integer.parseInt(json.substring(i, i + 4), 16));
+                        i += 4;
+                    }
+                }
+                default -> out.append(escaped);
+            }
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(String json, int i) {
+        while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,144 @@
+package com.notifications.providers.http;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escritor JSON mínimo que acumula el documento en fragmentos de tamaño acotado.
+ * El cuerpo se publica fragmento a fragmento, de modo que un envío con muchos destinatarios
+ * no necesita un único arreglo contiguo del tamaño de toda la petición.
+ */
+public final class JsonWriter {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final StringBuilder buffer = new StringBuilder(256);
+    private boolean needsComma;
+
+    public JsonWriter beginObject() {
+        separate();
+        buffer.append('{');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        buffer.append('}');
+        needsComma = true;
+        return flushIfFull();
+    }
+
+    public JsonWriter beginArray() {
+        separate();
+        buffer.append('[');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        buffer.append(']');
+        needsComma = true;
+        return flushIfFull();
+    }
+
+    /**
+     * Escribe el nombre de un campo; el siguiente valor escrito es su valor.
+     */
+    public JsonWriter name(String name) {
+        separate();
+        quote(name);
+        buffer.append(':');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        separate();
+        if (value == null) {
+            buffer.append("null");
+        } else {
+            quote(value);
+        }
+        needsComma = true;
+        return flushIfFull();
+    }
+
+    public JsonWriter value(long value) {
+        separate();
+        buffer.append(value);
+        needsComma = true;
+        return flushIfFull();
+    }
+
+    /**
+     * Escribe un campo de texto.
+     */
+    public JsonWriter field(String name, String value) {
+        return name(name).value(value);
+    }
+
+    /**
+     * Obtiene el cuerpo de la petición. El escritor no debe utilizarse después.
+     *
+     * @return Cuerpo publicado por fragmentos
+     */
+    public HttpRequest.BodyPublisher publisher() {
+        flush();
+        return HttpRequest.BodyPublishers.ofByteArrays(chunks);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder json = new StringBuilder();
+        for (byte[] chunk : chunks) {
+            json.append(new String(chunk, StandardCharsets.UTF_8));
+        }
+        return json.append(buffer).toString();
+    }
+
+    private void separate() {
+        if (needsComma) {
+            buffer.append(',');
+            needsComma = false;
+        }
+    }
+
+    private void quote(String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+        buffer.append('"');
+    }
+
+    private JsonWriter flushIfFull() {
+        if (buffer.length() >= CHUNK_SIZE) {
+            flush();
+        }
+        return this;
+    }
+
+    private void flush() {
+        if (!buffer.isEmpty()) {
+            chunks.add(buffer.toString().getBytes(StandardCharsets.UTF_8));
+            buffer.setLength(0);
+        }
+    }
+}
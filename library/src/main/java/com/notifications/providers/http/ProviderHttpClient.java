@@ -0,0 +1,204 @@
+package com.notifications.providers.http;
+
+import com.notifications.core.RecipientResult;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Cliente HTTP/2 compartido por los proveedores.
+ * Las conexiones se reutilizan entre peticiones y, con HTTP/2, las peticiones concurrentes a un mismo
+ * host se multiplexan sobre una sola conexión. Todas las llamadas son asíncronas.
+ */
+public class ProviderHttpClient {
+
+    private static volatile ProviderHttpClient shared;
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final int maxRequestsPerSend;
+
+    public ProviderHttpClient(HttpProviderConfig config) {
+        if (config.getMaxRequestsPerSend() <= 0) {
+            throw new IllegalArgumentException("Las peticiones simultáneas por envío deben ser positivas");
+        }
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(config.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (config.getExecutor() != null) {
+            builder.executor(config.getExecutor());
+        }
+        this.client = builder.build();
+        this.requestTimeout = config.getRequestTimeout();
+        this.maxRequestsPerSend = config.getMaxRequestsPerSend();
+    }
+
+    /**
+     * Obtiene el cliente compartido con la configuración por defecto, que utilizan los proveedores
+     * creados sin un cliente explícito.
+     *
+     * @return Cliente compartido
+     */
+    public static ProviderHttpClient shared() {
+        ProviderHttpClient client = shared;
+        if (client == null) {
+            synchronized (ProviderHttpClient.class) {
+                client = shared;
+                if (client == null) {
+                    client = new ProviderHttpClient(HttpProviderConfig.defaults());
+                    shared = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Envía una petición aplicando el timeout configurado.
+     *
+     * @param provider Nombre del proveedor, para los errores
+     * @param request  Petición a enviar
+     * @return CompletableFuture con la respuesta 2xx, o con una {@link ProviderHttpException}
+     */
+    public CompletableFuture<HttpResponse<String>> send(String provider, HttpRequest.Builder request) {
+        return client.sendAsync(request.timeout(requestTimeout).build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        throw new CompletionException(new ProviderHttpException(
+                                provider, response.statusCode(), response.body(), retryAfter(response)));
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Envía un mensaje a cada destinatario con a lo sumo {@code maxRequestsPerSend} peticiones en curso.
+     * El fallo de un destinatario no interrumpe a los demás: queda en su resultado y el envío solo
+     * falla si ningún destinatario recibió el mensaje.
+     *
+     * @param recipients Destinatarios
+     * @param call       Inicia el envío a un destinatario y devuelve el identificador del mensaje
+     * @return CompletableFuture con el resultado de cada destinatario, en el orden de la colección,
+     * o con el error del primer destinatario si fallaron todos
+     */
+    public CompletableFuture<List<RecipientResult>> sendToEach(Collection<String> recipients,
+                                                               Function<String, CompletableFuture<String>> call) {
+        FanOut fanOut = new FanOut(List.copyOf(recipients), call);
+        if (fanOut.recipients.isEmpty()) {
+            fanOut.result.complete(List.of());
+        }
+        for (int i = 0; i < Math.min(maxRequestsPerSend, fanOut.recipients.size()); i++) {
+            fanOut.next();
+        }
+        return fanOut.result;
+    }
+
+    /**
+     * Espera el resultado de una llamada asíncrona, para las variantes síncronas de los proveedores.
+     *
+     * @param future Llamada en curso
+     * @return Resultado de la llamada
+     * @throws Exception El error original de la llamada
+     */
+    public static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    private static Duration retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Duration.ofSeconds(Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    /**
+     * Envío en curso a varios destinatarios. Cada petición que termina inicia la siguiente, de modo que
+     * la cantidad de peticiones en curso se mantiene sin bloquear hilos.
+     */
+    private static final class FanOut {
+        private final List<String> recipients;
+        private final Function<String, CompletableFuture<String>> call;
+        private final RecipientResult[] results;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<List<RecipientResult>> result = new CompletableFuture<>();
+        private volatile Throwable firstError;
+
+        private FanOut(List<String> recipients, Function<String, CompletableFuture<String>> call) {
+            this.recipients = recipients;
+            this.call = call;
+            this.results = new RecipientResult[recipients.size()];
+            this.remaining = new AtomicInteger(recipients.size());
+        }
+
+        private void next() {
+            // Las peticiones que terminan de inmediato se procesan en el bucle en lugar de anidar llamadas
+            int index;
+            while ((index = next.getAndIncrement()) < recipients.size()) {
+                CompletableFuture<String> request;
+                try {
+                    request = call.apply(recipients.get(index));
+                } catch (RuntimeException e) {
+                    request = CompletableFuture.failedFuture(e);
+                }
+                int slot = index;
+                if (!request.isDone()) {
+                    request.whenComplete((messageId, error) -> {
+                        record(slot, messageId, error);
+                        next();
+                    });
+                    return;
+                }
+                request.whenComplete((messageId, error) -> record(slot, messageId, error));
+            }
+        }
+
+        private void record(int index, String messageId, Throwable error) {
+            String recipient = recipients.get(index);
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (firstError == null) {
+                    firstError = cause;
+                }
+                results[index] = RecipientResult.failed(recipient, cause.getMessage());
+            } else {
+                results[index] = RecipientResult.delivered(recipient, messageId);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                if (Arrays.stream(results).noneMatch(RecipientResult::isSuccess)) {
+                    result.completeExceptionally(firstError);
+                } else {
+                    result.complete(List.of(results));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.notifications.providers.http;
+
+import com.notifications.core.RetryableFailure;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Respuesta HTTP no exitosa de un proveedor.
+ * Los errores 408, 429 y 5xx son transitorios; el resto indica una petición que no tendrá éxito al repetirse.
+ */
+@Getter
+public class ProviderHttpException extends Exception implements RetryableFailure {
+
+    private static final int MAX_BODY_LENGTH = 512;
+
+    private final String provider;
+    private final int statusCode;
+    private final String responseBody;
+    private final Duration retryAfter;
+
+    public ProviderHttpException(String provider, int statusCode, String responseBody, Duration retryAfter) {
+        super(provider + " respondió HTTP " + statusCode + ": " + abbreviate(responseBody));
+        this.provider = provider;
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Indica si la petición puede tener éxito al repetirse.
+     *
+     * @return true para los errores 408, 429 y 5xx
+     */
+    @Override
+    public boolean isRetryable() {
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    private static String abbreviate(String body) {
+        if (body == null) {
+            return "";
+        }
+        return body.length() > MAX_BODY_LENGTH ? body.substring(0, MAX_BODY_LENGTH) + "..." : body;
+    }
+}
@@ -0,0 +1,106 @@
+package com.notifications.resilience;
+
+import com.notifications.core.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decorador de canal que limita las llamadas en curso al proveedor con un {@link AdaptiveConcurrencyLimiter}.
+ * La latencia de cada llamada y su resultado alimentan el ajuste del límite.
+ */
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyChannel implements NotificationChannel {
+
+    private final NotificationChannel delegate;
+    @Getter
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        if (!limiter.tryAcquire()) {
+            await(limiter.acquire());
+        }
+
+        long start = System.nanoTime();
+        try {
+            NotificationResult result = delegate.send(notification);
+            limiter.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (NotificationException e) {
+            limiter.onError(System.nanoTime() - start, e.getErrorType());
+            throw e;
+        } catch (RuntimeException e) {
+            limiter.onIgnored();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        if (limiter.tryAcquire()) {
+            return call(notification);
+        }
+        return limiter.acquire().thenCompose(ignored -> call(notification));
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    private CompletableFuture<NotificationResult> call(Notification notification) {
+        long start = System.nanoTime();
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = delegate.sendAsync(notification);
+        } catch (RuntimeException e) {
+            limiter.onIgnored();
+            return CompletableFuture.failedFuture(e);
+        }
+        return sent.whenComplete((result, error) -> {
+            if (error == null) {
+                limiter.onSuccess(System.nanoTime() - start);
+            } else if (AsyncResults.unwrap(error) instanceof NotificationException notificationException) {
+                limiter.onError(System.nanoTime() - start, notificationException.getErrorType());
+            } else {
+                limiter.onIgnored();
+            }
+        });
+    }
+
+    private void await(CompletableFuture<Void> permit) throws NotificationException {
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // El permiso pudo concederse mientras tanto; si es así se devuelve
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                limiter.onIgnored();
+            }
+            throw new NotificationException(
+                    "Envío interrumpido mientras esperaba el límite de concurrencia",
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    getType(),
+                    e
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof NotificationException notificationException) {
+                throw notificationException;
+            }
+            throw new NotificationException(
+                    "Error al esperar el límite de concurrencia: " + e.getCause().getMessage(),
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    getType(),
+                    e.getCause()
+            );
+        }
+    }
+}
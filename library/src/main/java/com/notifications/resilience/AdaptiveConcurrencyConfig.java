@@ -0,0 +1,114 @@
+package com.notifications.resilience;
+
+import com.notifications.core.NotificationException;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuración del límite de concurrencia adaptativo de las llamadas a un proveedor.
+ */
+@Getter
+@Builder
+public class AdaptiveConcurrencyConfig {
+
+    /**
+     * Algoritmo de ajuste del límite.
+     */
+    @Builder.Default
+    private final ConcurrencyLimitAlgorithm algorithm = ConcurrencyLimitAlgorithm.GRADIENT;
+
+    /**
+     * Límite inicial de llamadas en curso.
+     */
+    @Builder.Default
+    private final int initialLimit = 20;
+
+    /**
+     * Límite mínimo; el límite nunca baja de este valor aunque el proveedor falle.
+     */
+    @Builder.Default
+    private final int minLimit = 1;
+
+    /**
+     * Límite máximo.
+     */
+    @Builder.Default
+    private final int maxLimit = 1000;
+
+    /**
+     * Factor por el que se multiplica el límite ante un fallo o una llamada más lenta que el timeout.
+     */
+    @Builder.Default
+    private final double backoffRatio = 0.9;
+
+    /**
+     * Latencia a partir de la cual una llamada exitosa se trata como un fallo.
+     */
+    @Builder.Default
+    private final Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Con {@link ConcurrencyLimitAlgorithm#GRADIENT}, cuánto puede crecer la latencia reciente respecto
+     * de la de largo plazo antes de reducir el límite.
+     */
+    @Builder.Default
+    private final double rttTolerance = 1.5;
+
+    /**
+     * Con {@link ConcurrencyLimitAlgorithm#GRADIENT}, peso de cada nuevo límite calculado (entre 0 y 1).
+     */
+    @Builder.Default
+    private final double smoothing = 0.2;
+
+    /**
+     * Con {@link ConcurrencyLimitAlgorithm#GRADIENT}, cantidad de llamadas que promedia la latencia de largo plazo.
+     */
+    @Builder.Default
+    private final int longWindow = 600;
+
+    /**
+     * Cantidad máxima de llamadas esperando un permiso. Con 0 las llamadas que superan el límite se
+     * rechazan de inmediato.
+     */
+    @Builder.Default
+    private final int maxQueueSize = 1000;
+
+    /**
+     * Tiempo máximo que una llamada espera un permiso antes de rechazarse.
+     */
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(1);
+
+    /**
+     * Tipos de error que indican sobrecarga del proveedor y reducen el límite.
+     * Los demás errores, como los de validación, no afectan al límite.
+     */
+    @Builder.Default
+    private final Set<NotificationException.ErrorType> recordedErrors = EnumSet.of(
+            NotificationException.ErrorType.SEND_ERROR,
+            NotificationException.ErrorType.PROVIDER_ERROR
+    );
+
+    /**
+     * Crea la configuración por defecto, con el algoritmo de gradiente.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static AdaptiveConcurrencyConfig defaults() {
+        return AdaptiveConcurrencyConfig.builder().build();
+    }
+
+    /**
+     * Crea la configuración por defecto con el algoritmo indicado.
+     *
+     * @param algorithm Algoritmo de ajuste del límite
+     * @return Configuración del límite adaptativo
+     */
+    public static AdaptiveConcurrencyConfig of(ConcurrencyLimitAlgorithm algorithm) {
+        return AdaptiveConcurrencyConfig.builder().algorithm(algorithm).build();
+    }
+}
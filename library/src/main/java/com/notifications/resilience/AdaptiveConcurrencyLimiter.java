@@ -0,0 +1,269 @@
+package com.notifications.resilience;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+import com.notifications.metrics.MetricsListener;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite de llamadas en curso a un proveedor que se ajusta según la latencia y los fallos observados.
+ * <p>
+ * Cada llamada terminada aporta una muestra: su latencia y si indicó sobrecarga. Con
+ * {@link ConcurrencyLimitAlgorithm#AIMD} el límite crece en uno por cada ventana de llamadas exitosas y
+ * se multiplica por {@code backoffRatio} ante una sobrecarga. Con {@link ConcurrencyLimitAlgorithm#GRADIENT}
+ * se compara una media reciente de la latencia con una de largo plazo: mientras el proveedor no encola
+ * la relación es cercana a uno y el límite crece; cuando empieza a encolar la latencia reciente sube y
+ * el límite se reduce antes de que aparezcan los timeouts. Si la latencia mayor se mantiene durante
+ * {@code longWindow} llamadas pasa a ser la nueva referencia y el límite vuelve a crecer. En ambos casos el límite solo crece si está
+ * en uso, para no inflarse durante los períodos de poco tráfico.
+ * <p>
+ * Las llamadas que superan el límite esperan en una cola acotada, como máximo {@code maxWait}; con la
+ * cola llena o de tamaño 0 se rechazan de inmediato con {@code CAPACITY_ERROR}.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Muestras que promedia la latencia reciente del algoritmo de gradiente.
+     */
+    private static final int SHORT_WINDOW = 10;
+
+    @Getter
+    private final ChannelType channelType;
+    private final AdaptiveConcurrencyConfig config;
+    private final MetricsListener metricsListener;
+    private final long timeoutNanos;
+    private final double shortAlpha;
+    private final double longAlpha;
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private double shortRtt;
+    private double longRtt;
+    private long minRtt;
+    private long rejected;
+
+    public AdaptiveConcurrencyLimiter(ChannelType channelType, AdaptiveConcurrencyConfig config,
+                                      MetricsListener metricsListener) {
+        if (config.getMinLimit() <= 0 || config.getMaxLimit() < config.getMinLimit()
+                || config.getInitialLimit() < config.getMinLimit() || config.getInitialLimit() > config.getMaxLimit()) {
+            throw new IllegalArgumentException("El límite adaptativo requiere 0 < mínimo <= inicial <= máximo");
+        }
+        if (config.getBackoffRatio() <= 0 || config.getBackoffRatio() >= 1
+                || config.getSmoothing() <= 0 || config.getSmoothing() > 1
+                || config.getRttTolerance() < 1 || config.getLongWindow() <= 0 || config.getMaxQueueSize() < 0) {
+            throw new IllegalArgumentException("Parámetros del límite adaptativo fuera de rango");
+        }
+        this.channelType = channelType;
+        this.config = config;
+        this.metricsListener = metricsListener;
+        this.timeoutNanos = config.getTimeout().toNanos();
+        this.shortAlpha = 2.0 / (SHORT_WINDOW + 1);
+        this.longAlpha = 2.0 / (config.getLongWindow() + 1);
+        this.limit = config.getInitialLimit();
+        publish(config.getInitialLimit());
+    }
+
+    /**
+     * Obtiene un permiso si hay capacidad libre y nadie espera.
+     *
+     * @return true si se obtuvo el permiso
+     */
+    public synchronized boolean tryAcquire() {
+        if (waiters.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene un permiso, esperando en la cola si el límite está alcanzado.
+     *
+     * @return CompletableFuture que se completa al obtener el permiso, o con CAPACITY_ERROR si la cola
+     * está llena o la espera supera {@code maxWait}. Cancelarlo abandona la espera
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (waiters.size() >= config.getMaxQueueSize()) {
+                rejected++;
+                return CompletableFuture.failedFuture(overloaded());
+            }
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        }
+        CompletableFuture.delayedExecutor(config.getMaxWait().toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            // Si ya no está en la cola, la espera obtuvo su permiso o fue cancelada
+            synchronized (this) {
+                if (!waiters.remove(waiter)) {
+                    return;
+                }
+                rejected++;
+            }
+            waiter.completeExceptionally(overloaded());
+        });
+        return waiter;
+    }
+
+    /**
+     * Libera el permiso de una llamada exitosa.
+     *
+     * @param rttNanos Latencia de la llamada
+     */
+    public void onSuccess(long rttNanos) {
+        release(rttNanos, rttNanos > timeoutNanos);
+    }
+
+    /**
+     * Libera el permiso de una llamada fallida.
+     *
+     * @param rttNanos  Latencia de la llamada
+     * @param errorType Tipo de error; solo los configurados en {@code recordedErrors} reducen el límite
+     */
+    public void onError(long rttNanos, NotificationException.ErrorType errorType) {
+        if (config.getRecordedErrors().contains(errorType)) {
+            release(rttNanos, true);
+        } else {
+            onIgnored();
+        }
+    }
+
+    /**
+     * Libera el permiso de una llamada cuyo resultado no dice nada sobre la carga del proveedor.
+     */
+    public void onIgnored() {
+        release(-1, false);
+    }
+
+    /**
+     * Límite actual de llamadas en curso.
+     *
+     * @return Límite actual
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Obtiene una instantánea del estado del límite.
+     *
+     * @return Estado actual
+     */
+    public synchronized ConcurrencyLimitSnapshot getSnapshot() {
+        return ConcurrencyLimitSnapshot.builder()
+                .channelType(channelType)
+                .algorithm(config.getAlgorithm())
+                .limit((int) limit)
+                .inFlight(inFlight)
+                .queued(waiters.size())
+                .rejected(rejected)
+                .minRttNanos(minRtt)
+                .build();
+    }
+
+    private void release(long rttNanos, boolean overload) {
+        List<CompletableFuture<Void>> granted = null;
+        int published = -1;
+        synchronized (this) {
+            int previous = (int) limit;
+            if (rttNanos >= 0) {
+                sample(rttNanos, overload);
+            }
+            inFlight--;
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                CompletableFuture<Void> waiter = waiters.poll();
+                if (waiter.isDone()) {
+                    continue;
+                }
+                inFlight++;
+                if (granted == null) {
+                    granted = new ArrayList<>(2);
+                }
+                granted.add(waiter);
+            }
+            if ((int) limit != previous) {
+                published = (int) limit;
+            }
+        }
+
+        if (published >= 0) {
+            log.debug("Límite de concurrencia del canal {} ajustado a {}", channelType, published);
+            publish(published);
+        }
+        if (granted != null) {
+            for (CompletableFuture<Void> waiter : granted) {
+                // La espera pudo vencer después de retirarla de la cola; el permiso se devuelve
+                if (!waiter.complete(null)) {
+                    onIgnored();
+                }
+            }
+        }
+    }
+
+    private void sample(long rttNanos, boolean overload) {
+        if (minRtt == 0 || rttNanos < minRtt) {
+            minRtt = Math.max(1, rttNanos);
+        }
+        // Solo se crece si el límite está en uso; con poco tráfico la latencia no dice nada del máximo
+        boolean saturated = inFlight * 2 >= limit;
+
+        if (overload) {
+            limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+            return;
+        }
+        if (config.getAlgorithm() == ConcurrencyLimitAlgorithm.AIMD) {
+            if (saturated) {
+                limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+            }
+            return;
+        }
+
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        } else {
+            shortRtt += (rttNanos - shortRtt) * shortAlpha;
+            longRtt += (rttNanos - longRtt) * longAlpha;
+        }
+        // Tras una sobrecarga prolongada la media de largo plazo queda alta; se acerca a la reciente
+        // para que el límite no vuelva a crecer sobre una referencia desactualizada
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, config.getRttTolerance() * longRtt / Math.max(1, shortRtt)));
+        double target = limit * gradient + Math.sqrt(limit);
+        if (target > limit && !saturated) {
+            return;
+        }
+        double next = limit * (1 - config.getSmoothing()) + target * config.getSmoothing();
+        limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), next));
+    }
+
+    private void publish(int value) {
+        if (metricsListener.isEnabled()) {
+            metricsListener.recordConcurrencyLimit(channelType, value);
+        }
+    }
+
+    private NotificationException overloaded() {
+        return new NotificationException(
+                "Límite de concurrencia del canal " + channelType + " alcanzado",
+                NotificationException.ErrorType.CAPACITY_ERROR,
+                channelType
+        );
+    }
+}
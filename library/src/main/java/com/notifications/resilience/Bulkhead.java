@@ -0,0 +1,193 @@
+package com.notifications.resilience;
+
+import com.notifications.core.AsyncResults;
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aísla los envíos de un canal con un número fijo de permisos y una cola acotada.
+ * Un proveedor lento solo puede ocupar los recursos de su propio bulkhead, sin afectar
+ * al resto de los canales ni al ejecutor compartido.
+ */
+@Slf4j
+public class Bulkhead {
+
+    @Getter
+    private final ChannelType channelType;
+    private final BulkheadConfig config;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final BlockingQueue<Task<?>> queue;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public Bulkhead(ChannelType channelType, BulkheadConfig config, Executor executor) {
+        if (config.getMaxConcurrent() <= 0 || config.getMaxQueueSize() <= 0) {
+            throw new IllegalArgumentException("El bulkhead requiere permisos y cola positivos");
+        }
+        this.channelType = channelType;
+        this.config = config;
+        this.executor = executor;
+        this.permits = new Semaphore(config.getMaxConcurrent());
+        this.queue = new ArrayBlockingQueue<>(config.getMaxQueueSize());
+    }
+
+    /**
+     * Ejecuta la tarea en cuanto haya un permiso disponible.
+     * Si no hay permisos la tarea se encola; si la cola está llena se aplica la política configurada.
+     *
+     * @param callable Tarea a ejecutar
+     * @return CompletableFuture con el resultado de la tarea o el error de rechazo
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> callable) {
+        return submitAsync(() -> CompletableFuture.completedFuture(callable.call()));
+    }
+
+    /**
+     * Inicia una tarea asíncrona en cuanto haya un permiso disponible.
+     * El permiso se conserva hasta que se completa el CompletableFuture devuelto por la tarea,
+     * sin ocupar un hilo del ejecutor mientras tanto.
+     *
+     * @param action Tarea que inicia la operación y devuelve su resultado pendiente
+     * @return CompletableFuture con el resultado de la tarea o el error de rechazo
+     */
+    public <T> CompletableFuture<T> submitAsync(Callable<CompletableFuture<T>> action) {
+        Task<T> task = new Task<>(action);
+
+        if (queue.isEmpty() && permits.tryAcquire()) {
+            accepted.increment();
+            start(task);
+            return task.future;
+        }
+
+        if (!enqueue(task)) {
+            rejected.increment();
+            task.future.completeExceptionally(new NotificationException(
+                    "Capacidad del canal " + channelType + " agotada",
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    channelType
+            ));
+            return task.future;
+        }
+
+        accepted.increment();
+        drain();
+        return task.future;
+    }
+
+    /**
+     * Obtiene una instantánea de las métricas del bulkhead.
+     *
+     * @return Métricas actuales
+     */
+    public BulkheadMetrics getMetrics() {
+        return BulkheadMetrics.builder()
+                .channelType(channelType)
+                .maxConcurrent(config.getMaxConcurrent())
+                .inFlight(config.getMaxConcurrent() - permits.availablePermits())
+                .queued(queue.size())
+                .accepted(accepted.sum())
+                .rejected(rejected.sum())
+                .dropped(dropped.sum())
+                .completed(completed.sum())
+                .build();
+    }
+
+    private boolean enqueue(Task<?> task) {
+        switch (config.getOverflowPolicy()) {
+            case WAIT:
+                try {
+                    return queue.offer(task, config.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            case DROP_OLDEST:
+                while (!queue.offer(task)) {
+                    Task<?> oldest = queue.poll();
+                    if (oldest != null) {
+                        dropped.increment();
+                        log.warn("Bulkhead {} lleno, descartando el envío más antiguo", channelType);
+                        oldest.future.completeExceptionally(new NotificationException(
+                                "Envío descartado por saturación del canal " + channelType,
+                                NotificationException.ErrorType.CAPACITY_ERROR,
+                                channelType
+                        ));
+                    }
+                }
+                return true;
+            case REJECT:
+            default:
+                return queue.offer(task);
+        }
+    }
+
+    /**
+     * Inicia tareas encoladas mientras haya permisos libres.
+     * Se invoca después de encolar y después de liberar un permiso, de modo que ninguna
+     * tarea queda encolada con permisos disponibles.
+     */
+    private void drain() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Task<?> next = queue.poll();
+            if (next == null) {
+                permits.release();
+            } else {
+                start(next);
+            }
+        }
+    }
+
+    private <T> void start(Task<T> task) {
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            task.future.completeExceptionally(new NotificationException(
+                    "El ejecutor rechazó el envío por el canal " + channelType,
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    channelType,
+                    e
+            ));
+        }
+    }
+
+    private <T> void run(Task<T> task) {
+        CompletableFuture<T> stage;
+        try {
+            stage = task.action.call();
+        } catch (Throwable e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((value, error) -> {
+            try {
+                if (error != null) {
+                    task.future.completeExceptionally(AsyncResults.unwrap(error));
+                } else {
+                    task.future.complete(value);
+                }
+            } finally {
+                completed.increment();
+                permits.release();
+                drain();
+            }
+        });
+    }
+
+    private static final class Task<T> {
+        private final Callable<CompletableFuture<T>> action;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Task(Callable<CompletableFuture<T>> action) {
+            this.action = action;
+        }
+    }
+}
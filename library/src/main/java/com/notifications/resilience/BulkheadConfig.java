@@ -0,0 +1,48 @@
+package com.notifications.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuración de un bulkhead: permisos simultáneos, tamaño de la cola de espera
+ * y política a aplicar cuando la cola se llena.
+ */
+@Getter
+@Builder
+public class BulkheadConfig {
+
+    /**
+     * Cantidad máxima de envíos en curso.
+     */
+    @Builder.Default
+    private final int maxConcurrent = 64;
+
+    /**
+     * Cantidad máxima de envíos esperando un permiso.
+     */
+    @Builder.Default
+    private final int maxQueueSize = 1000;
+
+    /**
+     * Política aplicada cuando la cola está llena.
+     */
+    @Builder.Default
+    private final OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+
+    /**
+     * Tiempo máximo que un llamador espera espacio en la cola con {@link OverflowPolicy#WAIT}.
+     */
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(1);
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static BulkheadConfig defaults() {
+        return BulkheadConfig.builder().build();
+    }
+}
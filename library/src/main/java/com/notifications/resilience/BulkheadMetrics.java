@@ -0,0 +1,22 @@
+package com.notifications.resilience;
+
+import com.notifications.core.ChannelType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea de las métricas de un bulkhead.
+ */
+@Getter
+@Builder
+public class BulkheadMetrics {
+
+    private final ChannelType channelType;
+    private final int maxConcurrent;
+    private final int inFlight;
+    private final int queued;
+    private final long accepted;
+    private final long rejected;
+    private final long dropped;
+    private final long completed;
+}
@@ -0,0 +1,221 @@
+package com.notifications.resilience;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker con ventana deslizante de las últimas llamadas.
+ * Con el circuito abierto las llamadas se rechazan sin contactar al proveedor; tras el tiempo
+ * configurado se admiten algunas llamadas de prueba que deciden si el circuito se cierra o vuelve a abrirse.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * Estados posibles del circuito.
+     */
+    public enum State {
+        /** Las llamadas fluyen normalmente */
+        CLOSED,
+        /** Las llamadas se rechazan sin contactar al proveedor */
+        OPEN,
+        /** Se admite una cantidad limitada de llamadas de prueba */
+        HALF_OPEN
+    }
+
+    @Getter
+    private final ChannelType channelType;
+    private final CircuitBreakerConfig config;
+    private final boolean[] window;
+    private final LongAdder notPermitted = new LongAdder();
+
+    private volatile State state = State.CLOSED;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private long openedAt;
+    private int halfOpenAttempts;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(ChannelType channelType, CircuitBreakerConfig config) {
+        if (config.getSlidingWindowSize() <= 0 || config.getHalfOpenPermittedCalls() <= 0) {
+            throw new IllegalArgumentException("La ventana y las llamadas de prueba deben ser positivas");
+        }
+        this.channelType = channelType;
+        this.config = config;
+        this.window = new boolean[config.getSlidingWindowSize()];
+    }
+
+    /**
+     * Indica si el circuito admitiría una llamada ahora, sin reservar un permiso.
+     * Se utiliza para decidir la conmutación a otro canal.
+     *
+     * @return true si el canal puede recibir llamadas
+     */
+    public boolean isCallPermitted() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            switch (state) {
+                case OPEN:
+                    return openDurationElapsed();
+                case HALF_OPEN:
+                    return halfOpenAttempts < config.getHalfOpenPermittedCalls();
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * Reserva el permiso para una llamada. Cada permiso obtenido debe cerrarse con
+     * {@link #onSuccess()}, {@link #onError(NotificationException)} o {@link #onIgnored()}.
+     *
+     * @return true si la llamada puede realizarse
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN && openDurationElapsed()) {
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN && halfOpenAttempts < config.getHalfOpenPermittedCalls()) {
+                halfOpenAttempts++;
+                return true;
+            }
+            if (state == State.CLOSED) {
+                return true;
+            }
+        }
+        notPermitted.increment();
+        return false;
+    }
+
+    /**
+     * Registra una llamada exitosa.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= config.getHalfOpenPermittedCalls()) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Registra una llamada fallida. Los tipos de error no configurados como fallo se ignoran.
+     *
+     * @param error Error de la llamada
+     */
+    public synchronized void onError(NotificationException error) {
+        onFailure(error.getErrorType());
+    }
+
+    /**
+     * Registra una llamada que terminó con resultado. Un resultado fallido, aunque algunos destinatarios
+     * hayan recibido el mensaje, cuenta como un fallo de envío.
+     *
+     * @param result Resultado de la llamada
+     */
+    public synchronized void onResult(NotificationResult result) {
+        if (result.isSuccess()) {
+            onSuccess();
+        } else {
+            onFailure(NotificationException.ErrorType.SEND_ERROR);
+        }
+    }
+
+    private void onFailure(NotificationException.ErrorType errorType) {
+        if (!config.getRecordedErrors().contains(errorType)) {
+            onIgnored();
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+        }
+    }
+
+    /**
+     * Libera un permiso sin registrar resultado, por ejemplo ante un error de validación.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenAttempts > 0) {
+            halfOpenAttempts--;
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Obtiene una instantánea del estado del circuito.
+     *
+     * @return Estado, tasa de fallos y contadores actuales
+     */
+    public synchronized CircuitBreakerSnapshot getSnapshot() {
+        return CircuitBreakerSnapshot.builder()
+                .channelType(channelType)
+                .state(state)
+                .failureRate(failureRate())
+                .bufferedCalls(bufferedCalls)
+                .failedCalls(failedCalls)
+                .notPermittedCalls(notPermitted.sum())
+                .build();
+    }
+
+    private void record(boolean failed) {
+        if (bufferedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (bufferedCalls >= config.getMinimumCalls() && failureRate() >= config.getFailureRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private double failureRate() {
+        return bufferedCalls == 0 ? 0.0 : failedCalls * 100.0 / bufferedCalls;
+    }
+
+    private boolean openDurationElapsed() {
+        return System.nanoTime() - openedAt >= config.getOpenDuration().toNanos();
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Circuito del canal {} pasa de {} a {}", channelType, state, next);
+        state = next;
+        halfOpenAttempts = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next != State.HALF_OPEN) {
+            windowIndex = 0;
+            bufferedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.notifications.resilience;
+
+import com.notifications.core.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorador de canal que protege las llamadas al proveedor con un circuit breaker. Los resultados
+ * parciales, con algún destinatario fallido, cuentan como fallos.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakerChannel implements NotificationChannel {
+
+    private final NotificationChannel delegate;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new NotificationException(
+                    "Circuito del canal " + getType() + " abierto",
+                    NotificationException.ErrorType.CIRCUIT_OPEN_ERROR,
+                    getType()
+            );
+        }
+
+        try {
+            NotificationResult result = delegate.send(notification);
+            circuitBreaker.onResult(result);
+            return result;
+        } catch (NotificationException e) {
+            circuitBreaker.onError(e);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new NotificationException(
+                    "Circuito del canal " + getType() + " abierto",
+                    NotificationException.ErrorType.CIRCUIT_OPEN_ERROR,
+                    getType()
+            ));
+        }
+
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = delegate.sendAsync(notification);
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored();
+            return CompletableFuture.failedFuture(e);
+        }
+        return sent.whenComplete((result, error) -> {
+            if (error == null) {
+                circuitBreaker.onResult(result);
+            } else if (AsyncResults.unwrap(error) instanceof NotificationException notificationException) {
+                circuitBreaker.onError(notificationException);
+            } else {
+                circuitBreaker.onIgnored();
+            }
+        });
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+}
@@ -0,0 +1,66 @@
+package com.notifications.resilience;
+
+import com.notifications.core.NotificationException;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuración de un circuit breaker con ventana deslizante por cantidad de llamadas.
+ */
+@Getter
+@Builder
+public class CircuitBreakerConfig {
+
+    /**
+     * Cantidad de llamadas recientes consideradas para calcular la tasa de fallos.
+     */
+    @Builder.Default
+    private final int slidingWindowSize = 50;
+
+    /**
+     * Cantidad mínima de llamadas en la ventana antes de evaluar la tasa de fallos.
+     */
+    @Builder.Default
+    private final int minimumCalls = 20;
+
+    /**
+     * Porcentaje de fallos a partir del cual se abre el circuito.
+     */
+    @Builder.Default
+    private final double failureRateThreshold = 50.0;
+
+    /**
+     * Tiempo que el circuito permanece abierto antes de admitir llamadas de prueba.
+     */
+    @Builder.Default
+    private final Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * Cantidad de llamadas de prueba admitidas en estado semiabierto.
+     */
+    @Builder.Default
+    private final int halfOpenPermittedCalls = 5;
+
+    /**
+     * Tipos de error que cuentan como fallo del proveedor.
+     * Los demás errores, como los de validación, no afectan al circuito.
+     */
+    @Builder.Default
+    private final Set<NotificationException.ErrorType> recordedErrors = EnumSet.of(
+            NotificationException.ErrorType.SEND_ERROR,
+            NotificationException.ErrorType.PROVIDER_ERROR
+    );
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static CircuitBreakerConfig defaults() {
+        return CircuitBreakerConfig.builder().build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.notifications.resilience;
+
+import com.notifications.core.ChannelType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea del estado de un circuit breaker.
+ */
+@Getter
+@Builder
+public class CircuitBreakerSnapshot {
+
+    private final ChannelType channelType;
+    private final CircuitBreaker.State state;
+    private final double failureRate;
+    private final int bufferedCalls;
+    private final int failedCalls;
+    private final long notPermittedCalls;
+}
@@ -0,0 +1,17 @@
+package com.notifications.resilience;
+
+/**
+ * Algoritmo con el que el {@link AdaptiveConcurrencyLimiter} ajusta el límite de llamadas en curso.
+ */
+public enum ConcurrencyLimitAlgorithm {
+    /**
+     * Incremento aditivo y reducción multiplicativa: el límite crece en uno por cada ventana de llamadas
+     * exitosas y se reduce en proporción ante un fallo o una respuesta más lenta que el timeout.
+     */
+    AIMD,
+    /**
+     * Gradiente de latencia: el límite se ajusta según la relación entre la latencia de largo plazo y la
+     * reciente, de modo que se reduce en cuanto el proveedor empieza a encolar y antes de que falle.
+     */
+    GRADIENT
+}
@@ -0,0 +1,25 @@
+package com.notifications.resilience;
+
+import com.notifications.core.ChannelType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea del estado de un límite de concurrencia adaptativo.
+ */
+@Getter
+@Builder
+public class ConcurrencyLimitSnapshot {
+
+    private final ChannelType channelType;
+    private final ConcurrencyLimitAlgorithm algorithm;
+    private final int limit;
+    private final int inFlight;
+    private final int queued;
+    private final long rejected;
+
+    /**
+     * Latencia mínima observada en nanosegundos, o 0 si aún no hubo llamadas.
+     */
+    private final long minRttNanos;
+}
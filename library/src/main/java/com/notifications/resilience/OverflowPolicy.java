@@ -0,0 +1,13 @@
+package com.notifications.resilience;
+
+/**
+ * Políticas aplicables cuando una cola acotada no admite más elementos.
+ */
+public enum OverflowPolicy {
+    /** Rechaza inmediatamente el nuevo elemento */
+    REJECT,
+    /** Bloquea al llamador hasta que haya espacio o venza el tiempo máximo de espera */
+    WAIT,
+    /** Descarta el elemento más antiguo de la cola para admitir el nuevo */
+    DROP_OLDEST
+}
@@ -0,0 +1,48 @@
+package com.notifications.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Configuración del límite de tasa de un canal.
+ * Para aplicar un mismo límite de cuenta a varios canales basta con compartir el limitador.
+ */
+@Getter
+@Builder
+public class RateLimitConfig {
+
+    /**
+     * Limitador que controla los mensajes enviados al proveedor. Cada envío consume un permiso por
+     * destinatario del canal, por lo que la tasa se expresa en mensajes por segundo.
+     */
+    @NonNull
+    private final TokenBucketRateLimiter limiter;
+
+    /**
+     * Comportamiento cuando no hay permisos disponibles.
+     */
+    @Builder.Default
+    private final RateLimitPolicy policy = RateLimitPolicy.BLOCK;
+
+    /**
+     * Espera máxima por un permiso con {@link RateLimitPolicy#BLOCK}.
+     */
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(1);
+
+    /**
+     * Crea una configuración bloqueante con un limitador propio.
+     *
+     * @param permitsPerSecond Permisos por segundo
+     * @param burst            Permisos disponibles en una ráfaga
+     * @return Configuración del límite de tasa
+     */
+    public static RateLimitConfig of(double permitsPerSecond, int burst) {
+        return RateLimitConfig.builder()
+                .limiter(new TokenBucketRateLimiter(permitsPerSecond, burst))
+                .build();
+    }
+}
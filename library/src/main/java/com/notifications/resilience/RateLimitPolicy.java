@@ -0,0 +1,11 @@
+package com.notifications.resilience;
+
+/**
+ * Comportamiento de un canal cuando su limitador de tasa no tiene permisos disponibles.
+ */
+public enum RateLimitPolicy {
+    /** Espera hasta obtener un permiso, como máximo el tiempo configurado */
+    BLOCK,
+    /** Rechaza el envío de inmediato con {@code RATE_LIMIT_ERROR} */
+    FAIL_FAST
+}
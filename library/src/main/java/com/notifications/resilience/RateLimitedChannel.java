@@ -0,0 +1,120 @@
+package com.notifications.resilience;
+
+import com.notifications.core.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Decorador de canal que aplica un límite de tasa antes de cada llamada al proveedor.
+ * Los envíos que no obtienen permiso se rechazan localmente en lugar de consumir
+ * una petición que el proveedor respondería con un error de throttling.
+ * <p>
+ * Cada envío consume un permiso por destinatario del canal, ya que los proveedores limitan los mensajes
+ * entregados y no las llamadas: un SMS a diez números cuenta como diez mensajes.
+ */
+@Slf4j
+public class RateLimitedChannel implements NotificationChannel {
+
+    private final NotificationChannel delegate;
+    private final RateLimitConfig config;
+    private final Executor executor;
+
+    /**
+     * Crea el decorador indicando el ejecutor en el que se reanudan los envíos asíncronos
+     * que esperaron un permiso.
+     */
+    public RateLimitedChannel(NotificationChannel delegate, RateLimitConfig config, Executor executor) {
+        this.delegate = delegate;
+        this.config = config;
+        this.executor = executor;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        if (!acquirePermits(permitsFor(notification))) {
+            log.warn("Límite de tasa alcanzado en el canal {} para la notificación {}",
+                    getType(), notification.getId());
+            throw new NotificationException(
+                    "Límite de tasa del canal " + getType() + " alcanzado",
+                    NotificationException.ErrorType.RATE_LIMIT_ERROR,
+                    getType()
+            );
+        }
+        return delegate.send(notification);
+    }
+
+    /**
+     * Envía la notificación sin bloquear. Con {@link RateLimitPolicy#BLOCK} el permiso se reserva
+     * y el envío se programa para el instante en que es válido, en lugar de estacionar el hilo.
+     */
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        TokenBucketRateLimiter limiter = config.getLimiter();
+        int permits = permitsFor(notification);
+        long delay = config.getPolicy() == RateLimitPolicy.FAIL_FAST
+                ? (limiter.tryAcquire(permits) ? 0L : -1L)
+                : limiter.reserve(permits, config.getMaxWait());
+        if (delay < 0) {
+            log.warn("Límite de tasa alcanzado en el canal {} para la notificación {}",
+                    getType(), notification.getId());
+            return CompletableFuture.failedFuture(new NotificationException(
+                    "Límite de tasa del canal " + getType() + " alcanzado",
+                    NotificationException.ErrorType.RATE_LIMIT_ERROR,
+                    getType()
+            ));
+        }
+        if (delay == 0) {
+            return delegate.sendAsync(notification);
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor);
+        return CompletableFuture.supplyAsync(() -> delegate.sendAsync(notification), delayed)
+                .thenCompose(Function.identity());
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    /**
+     * Permisos que consume la notificación: uno por cada destinatario que entrega el canal.
+     * Un canal personalizado que no reconoce a ninguno como propio consume uno por destinatario.
+     */
+    private int permitsFor(Notification notification) {
+        RecipientType type = switch (getType()) {
+            case EMAIL -> RecipientType.EMAIL;
+            case SMS -> RecipientType.PHONE;
+            case PUSH -> RecipientType.DEVICE_TOKEN;
+        };
+        int matching = notification.getRecipientClassification().count(type);
+        return matching > 0 ? matching : Math.max(1, notification.getRecipients().size());
+    }
+
+    private boolean acquirePermits(int permits) throws NotificationException {
+        TokenBucketRateLimiter limiter = config.getLimiter();
+        if (config.getPolicy() == RateLimitPolicy.FAIL_FAST) {
+            return limiter.tryAcquire(permits);
+        }
+
+        try {
+            return limiter.acquire(permits, config.getMaxWait());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(
+                    "Envío interrumpido mientras esperaba el límite de tasa",
+                    NotificationException.ErrorType.RATE_LIMIT_ERROR,
+                    getType(),
+                    e
+            );
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.notifications.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto global de reintentos basado en tokens.
+ * Cada envío original deposita una fracción de token y cada reintento consume un token completo,
+ * de modo que los reintentos nunca superan esa fracción del tráfico. Durante una caída del
+ * proveedor el presupuesto se agota y los reintentos dejan de multiplicar la carga.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+
+    /**
+     * @param retryRatio     Reintentos admitidos por cada envío original (por ejemplo 0.2)
+     * @param initialRetries Reintentos disponibles al inicio, útiles con poco tráfico
+     * @param maxRetries     Reintentos acumulables como máximo
+     */
+    public RetryBudget(double retryRatio, int initialRetries, int maxRetries) {
+        if (retryRatio < 0 || initialRetries < 0 || maxRetries < initialRetries) {
+            throw new IllegalArgumentException("Parámetros inválidos para el presupuesto de reintentos");
+        }
+        this.depositPerRequest = (long) (retryRatio * SCALE);
+        this.maxTokens = maxRetries * SCALE;
+        this.tokens = new AtomicLong(initialRetries * SCALE);
+    }
+
+    /**
+     * Crea un presupuesto del 20% del tráfico con reserva inicial de 10 reintentos.
+     *
+     * @return Presupuesto por defecto
+     */
+    public static RetryBudget defaults() {
+        return new RetryBudget(0.2, 10, 1000);
+    }
+
+    /**
+     * Registra un envío original y deposita su fracción de token.
+     */
+    public void recordRequest() {
+        tokens.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxTokens, current + deposit));
+    }
+
+    /**
+     * Intenta consumir el token de un reintento.
+     *
+     * @return true si el presupuesto admite el reintento
+     */
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de reintentos disponibles.
+     *
+     * @return Reintentos que el presupuesto admite en este momento
+     */
+    public long availableRetries() {
+        return tokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,175 @@
+package com.notifications.resilience;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.RetryableFailure;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Política de reintentos con backoff exponencial y jitter.
+ * La cantidad de intentos y las demoras se escalan según la prioridad de la notificación:
+ * un factor mayor concede más intentos y demoras más cortas.
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+
+    /**
+     * Cantidad máxima de intentos, incluido el primero, para prioridad NORMAL.
+     */
+    @Builder.Default
+    private final int maxAttempts = 3;
+
+    /**
+     * Demora antes del primer reintento.
+     */
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(200);
+
+    /**
+     * Demora máxima entre intentos.
+     */
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(10);
+
+    /**
+     * Factor de crecimiento de la demora entre intentos consecutivos.
+     */
+    @Builder.Default
+    private final double multiplier = 2.0;
+
+    /**
+     * Fracción de la demora que se aleatoriza (0 sin jitter, 1 jitter completo).
+     */
+    @Builder.Default
+    private final double jitter = 0.5;
+
+    /**
+     * Tipos de error que admiten reintento. {@code RATE_LIMIT_ERROR} no se incluye por defecto: lo emite
+     * el límite de tasa local, que ya esperó lo que admite su {@code maxWait}, y reintentarlo solo
+     * consumiría el presupuesto de reintentos mientras el limitador sigue sin permisos.
+     */
+    @Builder.Default
+    private final Set<NotificationException.ErrorType> retryableErrors = EnumSet.of(
+            NotificationException.ErrorType.SEND_ERROR,
+            NotificationException.ErrorType.PROVIDER_ERROR
+    );
+
+    /**
+     * Si es true, un envío que llegó solo a algunos destinatarios se reintenta únicamente para los
+     * destinatarios fallidos, sin importar la causa de cada fallo. Si es false, el resultado parcial se
+     * devuelve sin reintentar, para no repetir el mensaje a quienes ya lo recibieron.
+     */
+    @Builder.Default
+    private final boolean retryFailedRecipients = false;
+
+    /**
+     * Causas que indican un error permanente aunque el tipo de error sea reintentable.
+     */
+    @Builder.Default
+    private final Set<Class<? extends Throwable>> nonRetryableCauses = Set.of(
+            IllegalArgumentException.class,
+            NullPointerException.class,
+            SecurityException.class,
+            UnsupportedOperationException.class
+    );
+
+    /**
+     * Factor de escala por prioridad aplicado a los intentos (multiplica) y a las demoras (divide).
+     */
+    @Builder.Default
+    private final Map<Notification.Priority, Double> priorityFactors = Map.of(
+            Notification.Priority.LOW, 0.5,
+            Notification.Priority.NORMAL, 1.0,
+            Notification.Priority.HIGH, 1.5,
+            Notification.Priority.URGENT, 2.0
+    );
+
+    /**
+     * Crea la política por defecto.
+     *
+     * @return Política con los valores predeterminados
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * Determina si el error admite reintento según su tipo y su cadena de causas.
+     * Los errores de proveedor que implementan {@link RetryableFailure} solo se reintentan si son transitorios,
+     * como las respuestas HTTP 408, 429 o 5xx.
+     *
+     * @param error Error del intento fallido
+     * @return true si el error es transitorio
+     */
+    public boolean isRetryable(NotificationException error) {
+        if (!retryableErrors.contains(error.getErrorType())) {
+            return false;
+        }
+        for (Throwable cause = error.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetryableFailure failure && !failure.isRetryable()) {
+                return false;
+            }
+            for (Class<? extends Throwable> type : nonRetryableCauses) {
+                if (type.isInstance(cause)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula la cantidad máxima de intentos para la prioridad indicada.
+     *
+     * @param priority Prioridad de la notificación
+     * @return Intentos permitidos, como mínimo uno
+     */
+    public int attemptsFor(Notification.Priority priority) {
+        return Math.max(1, (int) Math.round(maxAttempts * factorFor(priority)));
+    }
+
+    /**
+     * Calcula la demora antes del siguiente intento.
+     *
+     * @param failedAttempts Intentos fallidos hasta el momento (1 para el primer reintento)
+     * @param priority       Prioridad de la notificación
+     * @return Demora en nanosegundos
+     */
+    public long delayNanos(int failedAttempts, Notification.Priority priority) {
+        double base = initialDelay.toNanos() * Math.pow(multiplier, failedAttempts - 1);
+        double capped = Math.min(base, maxDelay.toNanos()) / factorFor(priority);
+        double randomized = capped * (1 - jitter * ThreadLocalRandom.current().nextDouble());
+        return (long) randomized;
+    }
+
+    /**
+     * Calcula la demora antes del siguiente intento respetando el encabezado Retry-After
+     * de una respuesta 429 o 503, sin superar la demora máxima.
+     *
+     * @param failedAttempts Cantidad de intentos fallidos hasta el momento
+     * @param priority       Prioridad de la notificación
+     * @param error          Error del último intento
+     * @return Demora en nanosegundos
+     */
+    public long delayNanos(int failedAttempts, Notification.Priority priority, NotificationException error) {
+        long delay = delayNanos(failedAttempts, priority);
+        Duration retryAfter = RetryableFailure.retryAfterOf(error.getCause());
+        if (retryAfter != null) {
+            return Math.max(delay, Math.min(retryAfter.toNanos(), maxDelay.toNanos()));
+        }
+        return delay;
+    }
+
+    private double factorFor(Notification.Priority priority) {
+        Double factor = priority != null ? priorityFactors.get(priority) : null;
+        return factor != null && factor > 0 ? factor : 1.0;
+    }
+}
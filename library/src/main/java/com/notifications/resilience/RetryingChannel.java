@@ -0,0 +1,215 @@
+package com.notifications.resilience;
+
+import com.notifications.core.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Decorador de canal que reintenta los envíos fallidos por errores transitorios.
+ * Las esperas entre intentos se programan en un planificador, por lo que ningún hilo
+ * queda dormido durante el backoff; cada reintento consume un token del presupuesto global.
+ * <p>
+ * Un envío que llegó solo a algunos destinatarios termina con un resultado fallido y no con un error,
+ * por lo que nunca se repite completo. Con {@link RetryPolicy#isRetryFailedRecipients()} se reintenta
+ * solo para los destinatarios fallidos y el resultado final reúne los de todos los intentos.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RetryingChannel implements NotificationChannel {
+
+    private final NotificationChannel delegate;
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        try {
+            return sendAsync(notification).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(
+                    "Envío interrumpido mientras esperaba un reintento",
+                    NotificationException.ErrorType.SEND_ERROR,
+                    getType(),
+                    e
+            );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NotificationException notificationException) {
+                throw notificationException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NotificationException(
+                    "Error al reintentar el envío: " + cause.getMessage(),
+                    NotificationException.ErrorType.SEND_ERROR,
+                    getType(),
+                    cause
+            );
+        }
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+        budget.recordRequest();
+        attempt(notification, 1, List.of(), 0, result);
+        return result;
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    /**
+     * Realiza un intento.
+     *
+     * @param notification Notificación del intento, limitada a los destinatarios pendientes
+     * @param attempt      Número de intento, desde 1
+     * @param delivered    Destinatarios que recibieron el mensaje en los intentos anteriores
+     * @param segments     Segmentos SMS enviados en los intentos anteriores
+     */
+    private void attempt(Notification notification, int attempt, List<RecipientResult> delivered, int segments,
+                         CompletableFuture<NotificationResult> result) {
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = delegate.sendAsync(notification);
+        } catch (RuntimeException e) {
+            fail(notification, delivered, segments, e, result);
+            return;
+        }
+
+        sent.whenComplete((value, error) -> {
+            if (error == null) {
+                completeOrRetryFailedRecipients(notification, attempt, delivered, segments, value, result);
+                return;
+            }
+            Throwable cause = AsyncResults.unwrap(error);
+            if (!(cause instanceof NotificationException e) || !shouldRetry(notification, attempt, e)) {
+                fail(notification, delivered, segments, cause, result);
+                return;
+            }
+
+            long delay = policy.delayNanos(attempt, notification.getPriority(), e);
+            log.warn("Reintentando notificación {} por {} (intento {}) en {} ms: {}",
+                    notification.getId(), getType(), attempt + 1,
+                    TimeUnit.NANOSECONDS.toMillis(delay), e.getMessage());
+            scheduleRetry(() -> attempt(notification, attempt + 1, delivered, segments, result), delay,
+                    () -> fail(notification, delivered, segments, e, result));
+        });
+    }
+
+    /**
+     * Termina el envío con el error del último intento. Si los intentos anteriores llegaron a algunos
+     * destinatarios, el envío es parcial y termina con un resultado fallido en lugar del error.
+     */
+    private void fail(Notification notification, List<RecipientResult> delivered, int segments, Throwable error,
+                      CompletableFuture<NotificationResult> result) {
+        if (delivered.isEmpty()) {
+            result.completeExceptionally(error);
+            return;
+        }
+        List<RecipientResult> recipients = new ArrayList<>(delivered);
+        for (String recipient : notification.getRecipients()) {
+            recipients.add(RecipientResult.failed(recipient, error.getMessage()));
+        }
+        result.complete(NotificationResult.of(notification.getId(), getType(), recipients, segments));
+    }
+
+    /**
+     * Completa el envío con el resultado del intento, o reintenta los destinatarios fallidos si el
+     * resultado es parcial y la política lo permite.
+     */
+    private void completeOrRetryFailedRecipients(Notification notification, int attempt,
+                                                 List<RecipientResult> delivered, int segments,
+                                                 NotificationResult value,
+                                                 CompletableFuture<NotificationResult> result) {
+        if (!policy.isRetryFailedRecipients() || value.getRecipientResults().isEmpty()) {
+            result.complete(value);
+            return;
+        }
+
+        List<RecipientResult> succeeded = new ArrayList<>(delivered);
+        Set<String> failed = new LinkedHashSet<>();
+        for (RecipientResult recipient : value.getRecipientResults()) {
+            if (recipient.isSuccess()) {
+                succeeded.add(recipient);
+            } else {
+                failed.add(recipient.getRecipient());
+            }
+        }
+        int sentSegments = segments + value.getSegments();
+
+        NotificationResult combined = value;
+        if (!delivered.isEmpty()) {
+            List<RecipientResult> recipients = new ArrayList<>(delivered);
+            recipients.addAll(value.getRecipientResults());
+            combined = NotificationResult.of(notification.getId(), getType(), recipients, sentSegments);
+        }
+        if (failed.isEmpty() || !shouldRetry(notification, attempt, null)) {
+            result.complete(combined);
+            return;
+        }
+
+        long delay = policy.delayNanos(attempt, notification.getPriority());
+        log.warn("Reintentando notificación {} por {} para {} destinatarios fallidos (intento {}) en {} ms",
+                notification.getId(), getType(), failed.size(), attempt + 1, TimeUnit.NANOSECONDS.toMillis(delay));
+        Notification pending = notification.toBuilder().clearRecipients().recipients(failed).build();
+        NotificationResult partial = combined;
+        scheduleRetry(() -> attempt(pending, attempt + 1, succeeded, sentSegments, result), delay,
+                () -> result.complete(partial));
+    }
+
+    /**
+     * Determina si corresponde otro intento.
+     *
+     * @param error Error del intento, o null si el intento terminó con destinatarios fallidos
+     */
+    private boolean shouldRetry(Notification notification, int attempt, NotificationException error) {
+        if (attempt >= policy.attemptsFor(notification.getPriority())
+                || (error != null && !policy.isRetryable(error))) {
+            return false;
+        }
+        if (!budget.tryAcquireRetry()) {
+            log.warn("Presupuesto de reintentos agotado, descartando reintento de {}", notification.getId());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Programa el reintento tras la demora indicada.
+     *
+     * @param retry      Intento a ejecutar
+     * @param delayNanos Demora antes del intento
+     * @param giveUp     Termina el envío con el último resultado si el planificador o el ejecutor rechazan el intento
+     */
+    private void scheduleRetry(Runnable retry, long delayNanos, Runnable giveUp) {
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    executor.execute(retry);
+                } catch (RejectedExecutionException e) {
+                    giveUp.run();
+                }
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            giveUp.run();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.notifications.resilience;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limitador de tasa de tipo token bucket sin bloqueos.
+ * Se implementa como el algoritmo GCRA equivalente: el estado completo es un único instante
+ * teórico de llegada que se actualiza con CAS, por lo que no hay hilos de recarga ni locks.
+ * Una misma instancia puede compartirse entre canales que usan la misma cuenta del proveedor.
+ */
+public class TokenBucketRateLimiter {
+
+    @Getter
+    private final double permitsPerSecond;
+    @Getter
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond Permisos repuestos por segundo
+     * @param burst            Capacidad del bucket, es decir, permisos disponibles en una ráfaga
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("La tasa y la ráfaga deben ser positivas");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - toleranceNanos - intervalNanos);
+    }
+
+    /**
+     * Intenta obtener un permiso sin esperar.
+     *
+     * @return true si se obtuvo el permiso
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Intenta obtener varios permisos sin esperar.
+     * Una solicitud mayor que la ráfaga se concede con el bucket lleno y deja en deuda a las siguientes.
+     *
+     * @param permits Permisos a obtener
+     * @return true si se obtuvieron los permisos
+     */
+    public boolean tryAcquire(int permits) {
+        long cost = cost(permits);
+        long slack = slack(permits);
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long start = Math.max(tat, now);
+            if (start - now > slack) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + cost)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserva un permiso si la espera necesaria no supera el máximo indicado.
+     * El permiso queda consumido; el llamador debe esperar la demora devuelta antes de usarlo.
+     *
+     * @param maxWait Espera máxima aceptable
+     * @return Demora en nanosegundos hasta que el permiso es válido, o -1 si superaría la espera máxima
+     */
+    public long reserve(Duration maxWait) {
+        return reserve(1, maxWait);
+    }
+
+    /**
+     * Reserva varios permisos si la espera necesaria no supera el máximo indicado.
+     *
+     * @param permits Permisos a reservar
+     * @param maxWait Espera máxima aceptable
+     * @return Demora en nanosegundos hasta que los permisos son válidos, o -1 si superaría la espera máxima
+     * @see #reserve(Duration)
+     */
+    public long reserve(int permits, Duration maxWait) {
+        long cost = cost(permits);
+        long slack = slack(permits);
+        long maxWaitNanos = maxWait.toNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long start = Math.max(tat, now);
+            long delay = Math.max(0, start - now - slack);
+            if (delay > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + cost)) {
+                return delay;
+            }
+        }
+    }
+
+    /**
+     * Obtiene un permiso esperando como máximo el tiempo indicado.
+     * La espera estaciona el hilo actual, lo que en hilos virtuales no ocupa un hilo de plataforma.
+     *
+     * @param maxWait Espera máxima aceptable
+     * @return true si se obtuvo el permiso dentro del plazo
+     * @throws InterruptedException Si el hilo es interrumpido durante la espera
+     */
+    public boolean acquire(Duration maxWait) throws InterruptedException {
+        return acquire(1, maxWait);
+    }
+
+    /**
+     * Obtiene varios permisos esperando como máximo el tiempo indicado.
+     *
+     * @param permits Permisos a obtener
+     * @param maxWait Espera máxima aceptable
+     * @return true si se obtuvieron los permisos dentro del plazo
+     * @throws InterruptedException Si el hilo es interrumpido durante la espera
+     * @see #acquire(Duration)
+     */
+    public boolean acquire(int permits, Duration maxWait) throws InterruptedException {
+        long delay = reserve(permits, maxWait);
+        if (delay < 0) {
+            return false;
+        }
+
+        long deadline = System.nanoTime() + delay;
+        long remaining = delay;
+        while (remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        return true;
+    }
+
+    /**
+     * Estima los permisos disponibles de inmediato.
+     *
+     * @return Permisos que podrían obtenerse ahora sin esperar
+     */
+    public int availablePermits() {
+        long now = System.nanoTime();
+        long start = Math.max(theoreticalArrival.get(), now);
+        long slack = toleranceNanos - (start - now);
+        return slack < 0 ? 0 : (int) Math.min(burst, slack / intervalNanos + 1);
+    }
+
+    private long cost(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("La cantidad de permisos debe ser positiva");
+        }
+        return intervalNanos * permits;
+    }
+
+    /**
+     * Adelanto máximo del instante teórico con el que aún caben los permisos en la ráfaga.
+     */
+    private long slack(int permits) {
+        return toleranceNanos - intervalNanos * (Math.min(permits, burst) - 1);
+    }
+}
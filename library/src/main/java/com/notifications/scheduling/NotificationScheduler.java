@@ -0,0 +1,301 @@
+package com.notifications.scheduling;
+
+import com.notifications.core.AsyncResults;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import com.notifications.outbox.NotificationCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Programa envíos para un momento futuro sobre una {@link TimingWheel}.
+ * <p>
+ * Programar y cancelar son O(1). Una tarea periódica avanza la rueda en cada unidad de tiempo y entrega
+ * en un solo lote al ejecutor todas las notificaciones vencidas, que siguen el camino de envío normal.
+ * Opcionalmente los envíos pendientes se guardan en una instantánea que se recupera al reiniciar;
+ * los que vencieron mientras el servicio estaba detenido se envían al recuperarlos.
+ */
+@Slf4j
+public class NotificationScheduler implements AutoCloseable {
+
+    private static final int MAGIC = 0x53434844;
+    private static final byte VERSION = 1;
+
+    private final long tickMillis;
+    private final Path snapshotFile;
+    private final Function<Notification, CompletableFuture<NotificationResult>> sender;
+    private final Executor executor;
+    private final TimingWheel<ScheduledNotification> wheel;
+    private final Map<Long, TimingWheel.Entry<ScheduledNotification>> entries = new HashMap<>();
+    private final ScheduledFuture<?> ticker;
+    private final ScheduledFuture<?> snapshots;
+    private final Object snapshotLock = new Object();
+    private long nextId = 1;
+    private boolean dirty;
+    private boolean closed;
+
+    /**
+     * Crea el programador y recupera la instantánea si existe.
+     *
+     * @param config   Configuración de los envíos programados
+     * @param sender   Envío de las notificaciones vencidas
+     * @param timer    Planificador de la tarea periódica
+     * @param executor Ejecutor en el que se entregan los lotes vencidos
+     * @throws IOException Si la instantánea existe y no puede leerse
+     */
+    public NotificationScheduler(SchedulerConfig config,
+                                 Function<Notification, CompletableFuture<NotificationResult>> sender,
+                                 ScheduledExecutorService timer,
+                                 Executor executor) throws IOException {
+        this.tickMillis = Math.max(1, config.getTick().toMillis());
+        this.snapshotFile = config.getSnapshotFile();
+        this.sender = sender;
+        this.executor = executor;
+        this.wheel = new TimingWheel<>(System.currentTimeMillis() / tickMillis);
+
+        if (snapshotFile != null && Files.exists(snapshotFile)) {
+            dispatch(restore());
+        }
+        this.ticker = timer.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        long interval = config.getSnapshotInterval().toMillis();
+        this.snapshots = snapshotFile != null
+                ? timer.scheduleWithFixedDelay(this::snapshotIfDirty, interval, interval, TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    /**
+     * Programa el envío de una notificación. Si el momento ya pasó, se envía de inmediato.
+     *
+     * @param notification Notificación a enviar
+     * @param at           Momento del envío
+     * @return Envío programado
+     */
+    public ScheduledNotification schedule(Notification notification, Instant at) {
+        List<ScheduledNotification> due = new ArrayList<>(0);
+        ScheduledNotification scheduled;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("El programador de envíos está cerrado");
+            }
+            scheduled = new ScheduledNotification(nextId++, notification, at, this);
+            add(scheduled, due);
+        }
+        dispatch(due);
+        return scheduled;
+    }
+
+    /**
+     * Cancela un envío programado que aún no venció.
+     *
+     * @param id Identificador del envío programado
+     * @return true si se canceló
+     */
+    public boolean cancel(long id) {
+        TimingWheel.Entry<ScheduledNotification> entry;
+        synchronized (this) {
+            entry = entries.remove(id);
+            if (entry == null || !wheel.remove(entry)) {
+                return false;
+            }
+            dirty = true;
+        }
+        entry.value.getResult().cancel(false);
+        return true;
+    }
+
+    /**
+     * Cantidad de envíos pendientes.
+     *
+     * @return Envíos programados que aún no vencieron
+     */
+    public synchronized int getPending() {
+        return wheel.size();
+    }
+
+    /**
+     * Escribe la instantánea de los envíos pendientes, si la persistencia está activa. Las escrituras
+     * se serializan: comparten el archivo temporal y la última en tomar los pendientes es la que queda.
+     *
+     * @throws IOException Si no puede escribirse el archivo
+     */
+    public void snapshot() throws IOException {
+        if (snapshotFile == null) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            write();
+        }
+    }
+
+    private void write() throws IOException {
+        List<ScheduledNotification> pending;
+        long next;
+        synchronized (this) {
+            pending = new ArrayList<>(entries.size());
+            for (TimingWheel.Entry<ScheduledNotification> entry : entries.values()) {
+                pending.add(entry.value);
+            }
+            next = nextId;
+            dirty = false;
+        }
+
+        // Se escribe en un archivo temporal y se reemplaza, para no dejar una instantánea a medias
+        Path temporary = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(next);
+            out.writeInt(pending.size());
+            for (ScheduledNotification scheduled : pending) {
+                byte[] encoded = NotificationCodec.encode(scheduled.getNotification());
+                out.writeLong(scheduled.getId());
+                out.writeLong(scheduled.getDeadline().toEpochMilli());
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Detiene el programador y guarda los envíos pendientes. Sin persistencia, los pendientes se cancelan.
+     */
+    @Override
+    public void close() {
+        List<ScheduledNotification> pending = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (TimingWheel.Entry<ScheduledNotification> entry : entries.values()) {
+                pending.add(entry.value);
+            }
+        }
+        ticker.cancel(false);
+        if (snapshots != null) {
+            snapshots.cancel(false);
+        }
+        if (snapshotFile != null) {
+            try {
+                snapshot();
+            } catch (IOException e) {
+                log.error("No se pudo guardar la instantánea de envíos programados en {}", snapshotFile, e);
+            }
+        } else if (!pending.isEmpty()) {
+            log.warn("Se descartan {} envíos programados pendientes al cerrar", pending.size());
+        }
+        for (ScheduledNotification scheduled : pending) {
+            scheduled.getResult().cancel(false);
+        }
+    }
+
+    private void tick() {
+        List<ScheduledNotification> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis() / tickMillis, due);
+            for (ScheduledNotification scheduled : due) {
+                entries.remove(scheduled.getId());
+            }
+            if (!due.isEmpty()) {
+                dirty = true;
+            }
+        }
+        dispatch(due);
+    }
+
+    private void add(ScheduledNotification scheduled, List<ScheduledNotification> due) {
+        // El vencimiento se redondea hacia arriba para no enviar nunca antes de tiempo
+        long deadline = scheduled.getDeadline().toEpochMilli();
+        TimingWheel.Entry<ScheduledNotification> entry =
+                new TimingWheel.Entry<>(scheduled, Math.floorDiv(deadline + tickMillis - 1, tickMillis));
+        int before = due.size();
+        wheel.add(entry, due);
+        if (due.size() == before) {
+            entries.put(scheduled.getId(), entry);
+        }
+        dirty = true;
+    }
+
+    private void dispatch(List<ScheduledNotification> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> due.forEach(this::send));
+        } catch (RejectedExecutionException e) {
+            due.forEach(this::send);
+        }
+    }
+
+    private void send(ScheduledNotification scheduled) {
+        CompletableFuture<NotificationResult> sent;
+        try {
+            sent = sender.apply(scheduled.getNotification());
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("Falló el envío programado {} de la notificación {}",
+                        scheduled.getId(), scheduled.getNotification().getId(), AsyncResults.unwrap(error));
+                scheduled.getResult().completeExceptionally(AsyncResults.unwrap(error));
+            } else {
+                scheduled.getResult().complete(result);
+            }
+        });
+    }
+
+    private List<ScheduledNotification> restore() throws IOException {
+        List<ScheduledNotification> due = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("El archivo " + snapshotFile + " no es una instantánea de envíos programados");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Versión de instantánea no soportada: " + version);
+            }
+            long next = in.readLong();
+            int count = in.readInt();
+            synchronized (this) {
+                nextId = next;
+                for (int i = 0; i < count; i++) {
+                    long id = in.readLong();
+                    Instant deadline = Instant.ofEpochMilli(in.readLong());
+                    byte[] encoded = new byte[in.readInt()];
+                    in.readFully(encoded);
+                    add(new ScheduledNotification(id, NotificationCodec.decode(encoded), deadline, this), due);
+                }
+                dirty = false;
+            }
+            log.info("Recuperados {} envíos programados desde {}, {} vencidos", count, snapshotFile, due.size());
+        }
+        return due;
+    }
+
+    private void snapshotIfDirty() {
+        boolean changed;
+        synchronized (this) {
+            changed = dirty;
+        }
+        if (changed) {
+            try {
+                snapshot();
+            } catch (IOException e) {
+                log.error("No se pudo guardar la instantánea de envíos programados en {}", snapshotFile, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.notifications.scheduling;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Envío programado pendiente.
+ */
+public final class ScheduledNotification {
+
+    private final long id;
+    private final Notification notification;
+    private final Instant deadline;
+    private final CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+    private final NotificationScheduler scheduler;
+
+    ScheduledNotification(long id, Notification notification, Instant deadline, NotificationScheduler scheduler) {
+        this.id = id;
+        this.notification = notification;
+        this.deadline = deadline;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Identificador del envío programado; se conserva entre reinicios si la persistencia está activa.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+
+    /**
+     * Momento a partir del cual se envía la notificación.
+     */
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Resultado del envío, completado cuando la notificación se entrega o falla.
+     * Se cancela si el envío programado se cancela.
+     *
+     * @return CompletableFuture con el resultado
+     */
+    public CompletableFuture<NotificationResult> getResult() {
+        return result;
+    }
+
+    /**
+     * Cancela el envío si aún no venció.
+     *
+     * @return true si se canceló
+     */
+    public boolean cancel() {
+        return scheduler.cancel(id);
+    }
+}
@@ -0,0 +1,42 @@
+package com.notifications.scheduling;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración de los envíos programados.
+ */
+@Getter
+@Builder
+public class SchedulerConfig {
+
+    /**
+     * Resolución de la rueda de tiempo; los envíos se entregan con un retraso menor a este valor.
+     */
+    @Builder.Default
+    private final Duration tick = Duration.ofMillis(10);
+
+    /**
+     * Archivo donde se guarda una instantánea de los envíos pendientes para recuperarlos al reiniciar,
+     * o null para no persistirlos.
+     */
+    private final Path snapshotFile;
+
+    /**
+     * Frecuencia con que se escribe la instantánea si hubo cambios. También se escribe al cerrar el servicio.
+     */
+    @Builder.Default
+    private final Duration snapshotInterval = Duration.ofSeconds(30);
+
+    /**
+     * Crea la configuración por defecto, sin persistencia.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static SchedulerConfig defaults() {
+        return SchedulerConfig.builder().build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.notifications.scheduling;
+
+import java.util.List;
+
+/**
+ * Rueda de tiempo jerárquica de cuatro niveles con 512 posiciones cada uno.
+ * <p>
+ * Cada entrada se guarda en la lista doblemente enlazada de una posición: en el nivel 0 si vence
+ * dentro de las próximas 512 unidades, y en niveles superiores, de granularidad 512 veces mayor, si
+ * vence más adelante. Al completar una vuelta de un nivel, la posición siguiente del nivel superior
+ * se redistribuye hacia abajo. Agregar y cancelar son O(1); avanzar recoge de una vez todas las
+ * entradas vencidas de cada posición. Con unidades de 10 ms la rueda abarca más de veinte años.
+ * <p>
+ * No es segura para uso concurrente; {@link NotificationScheduler} la protege con su bloqueo.
+ */
+final class TimingWheel<T> {
+
+    private static final int LEVELS = 4;
+    private static final int BITS = 9;
+    private static final int SLOTS = 1 << BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long SPAN = 1L << (BITS * LEVELS);
+
+    private final Entry<T>[][] heads;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.heads = (Entry<T>[][]) new Entry<?>[LEVELS][SLOTS];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Agrega una entrada que vence en la unidad indicada.
+     *
+     * @param entry Entrada a agregar, que no debe estar en la rueda
+     * @param due   Entradas ya vencidas, que se agregan aquí en lugar de a la rueda
+     */
+    void add(Entry<T> entry, List<T> due) {
+        size++;
+        place(entry, due);
+    }
+
+    /**
+     * Quita una entrada de la rueda.
+     *
+     * @return true si la entrada estaba en la rueda
+     */
+    boolean remove(Entry<T> entry) {
+        if (entry.level < 0) {
+            return false;
+        }
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            heads[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.level = -1;
+        size--;
+        return true;
+    }
+
+    /**
+     * Avanza la rueda hasta la unidad indicada y recoge las entradas vencidas.
+     *
+     * @param tick Unidad actual
+     * @param due  Lista donde se agregan los valores de las entradas vencidas
+     */
+    void advance(long tick, List<T> due) {
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) (currentTick >>> (BITS * level)) & SLOT_MASK, due);
+                }
+            }
+            int slot = (int) currentTick & SLOT_MASK;
+            Entry<T> entry = heads[0][slot];
+            heads[0][slot] = null;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                detach(entry);
+                size--;
+                due.add(entry.value);
+                entry = next;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    private void cascade(int level, int slot, List<T> due) {
+        Entry<T> entry = heads[level][slot];
+        heads[level][slot] = null;
+        while (entry != null) {
+            Entry<T> next = entry.next;
+            detach(entry);
+            place(entry, due);
+            entry = next;
+        }
+    }
+
+    private void place(Entry<T> entry, List<T> due) {
+        long delta = entry.tick - currentTick;
+        if (delta <= 0) {
+            size--;
+            due.add(entry.value);
+            return;
+        }
+        // Los vencimientos fuera del alcance se ubican en el último nivel y se reubican al redistribuirlo
+        long tick = delta < SPAN ? entry.tick : currentTick + SPAN - 1;
+        int level = 0;
+        while (level < LEVELS - 1 && (tick - currentTick) >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (tick >>> (BITS * level)) & SLOT_MASK;
+        Entry<T> head = heads[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        heads[level][slot] = entry;
+    }
+
+    private static <T> void detach(Entry<T> entry) {
+        entry.previous = null;
+        entry.next = null;
+        entry.level = -1;
+    }
+
+    /**
+     * Entrada de la rueda, con los enlaces de la lista de su posición.
+     */
+    static final class Entry<T> {
+        final T value;
+        final long tick;
+        private Entry<T> previous;
+        private Entry<T> next;
+        private int level = -1;
+        private int slot;
+
+        Entry(T value, long tick) {
+            this.value = value;
+            this.tick = tick;
+        }
+    }
+}
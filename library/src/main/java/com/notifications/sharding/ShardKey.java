@@ -0,0 +1,18 @@
+package com.notifications.sharding;
+
+/**
+ * Criterio con el que se elige el shard de cada notificación. Las notificaciones con la misma clave
+ * van siempre al mismo shard y se envían en el orden en que se despacharon.
+ */
+public enum ShardKey {
+
+    /**
+     * Por {@code Notification.getId()}. Las notificaciones sin id se reparten por destinatarios.
+     */
+    ID,
+
+    /**
+     * Por el conjunto de destinatarios, de modo que se conserva el orden de cada destinatario.
+     */
+    RECIPIENT
+}
@@ -0,0 +1,24 @@
+package com.notifications.sharding;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Instantánea de las métricas de un shard del despachador particionado.
+ */
+@Getter
+@Builder
+public class ShardMetrics {
+
+    private final int shard;
+    private final int queued;
+    private final long accepted;
+    private final long rejected;
+    private final long sent;
+    private final long failed;
+
+    /**
+     * Envíos terminados por segundo desde la instantánea anterior, o desde la creación del despachador.
+     */
+    private final double throughput;
+}
@@ -0,0 +1,311 @@
+package com.notifications.sharding;
+
+import com.notifications.NotificationService;
+import com.notifications.core.AsyncResults;
+import com.notifications.core.Hashing;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+
+/**
+ * Despachador que reparte las notificaciones entre shards independientes, sin estado compartido.
+ * <p>
+ * Cada shard tiene su propio hilo, su propia cola y su propio {@link NotificationService}, construido
+ * por la fábrica indicada, de modo que canales, bulkheads, limitadores y demás decoradores no se
+ * comparten entre shards. El servicio de cada shard ejecuta su trabajo en el hilo que lo inicia: los
+ * envíos en el hilo del shard, y los reintentos y envíos agrupados en el planificador propio del servicio.
+ * <p>
+ * La notificación se asigna a un shard con un hash consistente de su clave (id o destinatarios):
+ * las notificaciones con la misma clave se envían en el orden en que se despacharon, y al cambiar la
+ * cantidad de shards solo se reasigna la fracción mínima de claves.
+ * <p>
+ * Los proveedores deberían implementar su variante asíncrona: un envío bloqueante ocupa el hilo del
+ * shard hasta que el proveedor responde. Los despachadores se crean con {@link #start}.
+ */
+@Slf4j
+public class ShardedDispatcher implements AutoCloseable {
+
+    private final ShardKey key;
+    private final int queueCapacity;
+    private final Shard[] shards;
+    // Los despachos comparten el bloqueo de lectura; el cierre toma el de escritura para no dejar
+    // ninguno a medio encolar cuando los shards se vacían
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private ShardedDispatcher(ShardedDispatcherConfig config, Shard[] shards) {
+        this.key = config.getKey();
+        this.queueCapacity = config.getQueueCapacity();
+        this.shards = shards;
+    }
+
+    /**
+     * Crea los shards, con sus hilos y servicios, y devuelve el despachador listo para recibir notificaciones.
+     *
+     * @param config       Configuración del despachador
+     * @param shardFactory Crea el builder del servicio de cada shard a partir de su índice. Debe crear
+     *                     instancias nuevas de todo lo que no pueda compartirse entre shards.
+     * @return Despachador iniciado
+     */
+    public static ShardedDispatcher start(ShardedDispatcherConfig config,
+                                          IntFunction<NotificationService.Builder> shardFactory) {
+        if (config.getShards() <= 0 || config.getQueueCapacity() <= 0) {
+            throw new IllegalArgumentException("El despachador particionado requiere shards y capacidad positivos");
+        }
+        Shard[] shards = new Shard[config.getShards()];
+        try {
+            for (int i = 0; i < shards.length; i++) {
+                shards[i] = new Shard(i, shardFactory);
+            }
+        } catch (RuntimeException e) {
+            for (Shard shard : shards) {
+                if (shard != null) {
+                    shard.close();
+                }
+            }
+            throw e;
+        }
+        log.info("Despachador particionado iniciado con {} shards", shards.length);
+        return new ShardedDispatcher(config, shards);
+    }
+
+    /**
+     * Encola la notificación en el shard que le corresponde.
+     *
+     * @param notification Notificación a enviar
+     * @return CompletableFuture con el resultado del envío, o con CAPACITY_ERROR si la cola del shard está
+     * llena o el despachador está cerrado
+     */
+    public CompletableFuture<NotificationResult> dispatch(Notification notification) {
+        lifecycle.readLock().lock();
+        try {
+            if (closed) {
+                return CompletableFuture.failedFuture(new NotificationException(
+                        "El despachador particionado está cerrado",
+                        NotificationException.ErrorType.CAPACITY_ERROR,
+                        notification.getPreferredChannel()
+                ));
+            }
+            return enqueue(notification);
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    private CompletableFuture<NotificationResult> enqueue(Notification notification) {
+        Shard shard = shards[shardOf(notification)];
+        if (shard.queued.incrementAndGet() > queueCapacity) {
+            shard.queued.decrementAndGet();
+            shard.rejected.increment();
+            return CompletableFuture.failedFuture(new NotificationException(
+                    "Cola del shard " + shard.index + " llena",
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    notification.getPreferredChannel()
+            ));
+        }
+
+        CompletableFuture<NotificationResult> future = new CompletableFuture<>();
+        try {
+            shard.thread.execute(() -> shard.send(notification, future));
+        } catch (RejectedExecutionException e) {
+            shard.queued.decrementAndGet();
+            shard.rejected.increment();
+            future.completeExceptionally(new NotificationException(
+                    "El despachador particionado está cerrado",
+                    NotificationException.ErrorType.CAPACITY_ERROR,
+                    notification.getPreferredChannel(),
+                    e
+            ));
+            return future;
+        }
+        shard.accepted.increment();
+        return future;
+    }
+
+    /**
+     * Calcula el shard al que se asigna la notificación.
+     *
+     * @param notification Notificación a asignar
+     * @return Índice del shard, entre 0 y la cantidad de shards menos uno
+     */
+    public int shardOf(Notification notification) {
+        return jumpHash(keyOf(notification), shards.length);
+    }
+
+    /**
+     * Obtiene el servicio de un shard, por ejemplo para consultar sus bulkheads o circuit breakers.
+     *
+     * @param shard Índice del shard
+     * @return Servicio del shard
+     */
+    public NotificationService getService(int shard) {
+        return shards[shard].service;
+    }
+
+    /**
+     * Cantidad de shards del despachador.
+     *
+     * @return Cantidad de shards
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Obtiene una instantánea de las métricas de cada shard. El rendimiento se calcula desde la
+     * instantánea anterior, de modo que consultarlas periódicamente da el rendimiento de cada período.
+     *
+     * @return Métricas por shard, ordenadas por índice
+     */
+    public List<ShardMetrics> getShardMetrics() {
+        List<ShardMetrics> metrics = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            metrics.add(shard.snapshot());
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
+    /**
+     * Deja de aceptar notificaciones, espera a que cada shard vacíe su cola y cierra sus servicios.
+     */
+    @Override
+    public void close() {
+        lifecycle.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        for (Shard shard : shards) {
+            shard.close();
+        }
+        log.info("Despachador particionado detenido");
+    }
+
+    private long keyOf(Notification notification) {
+        if (key == ShardKey.ID && notification.getId() != null) {
+            return Hashing.hash(notification.getId());
+        }
+        // Los destinatarios se combinan sin depender del orden del conjunto
+        long hash = 0;
+        for (String recipient : notification.getRecipients()) {
+            hash += Hashing.hash(recipient);
+        }
+        return hash;
+    }
+
+    /**
+     * Hash consistente de Lamping y Veach: sin tablas ni nodos virtuales, y al pasar de n a n + 1
+     * shards solo se mueve una fracción 1/(n + 1) de las claves.
+     */
+    private static int jumpHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final ExecutorService thread;
+        private final NotificationService service;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private long lastSnapshotNanos = System.nanoTime();
+        private long lastCompleted;
+
+        private Shard(int index, IntFunction<NotificationService.Builder> shardFactory) {
+            this.index = index;
+            // Un hilo de plataforma por shard; el límite de su cola se aplica al despachar
+            this.thread = Executors.newSingleThreadExecutor(runnable -> {
+                Thread shardThread = new Thread(runnable, "notifications-shard-" + index);
+                shardThread.setDaemon(true);
+                return shardThread;
+            });
+            try {
+                this.service = shardFactory.apply(index).withExecutor(Runnable::run).build();
+            } catch (RuntimeException e) {
+                thread.shutdownNow();
+                throw e;
+            }
+        }
+
+        private void send(Notification notification, CompletableFuture<NotificationResult> future) {
+            queued.decrementAndGet();
+            CompletableFuture<NotificationResult> result;
+            try {
+                result = service.sendAsync(notification);
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            result.whenComplete((value, error) -> {
+                if (error != null) {
+                    failed.increment();
+                    future.completeExceptionally(AsyncResults.unwrap(error));
+                } else {
+                    if (value.isSuccess()) {
+                        sent.increment();
+                    } else {
+                        failed.increment();
+                    }
+                    future.complete(value);
+                }
+            });
+        }
+
+        private synchronized ShardMetrics snapshot() {
+            long now = System.nanoTime();
+            long sentCount = sent.sum();
+            long failedCount = failed.sum();
+            long completed = sentCount + failedCount;
+            double elapsedSeconds = Math.max(1, now - lastSnapshotNanos) / 1e9;
+            double throughput = (completed - lastCompleted) / elapsedSeconds;
+            lastSnapshotNanos = now;
+            lastCompleted = completed;
+
+            return ShardMetrics.builder()
+                    .shard(index)
+                    .queued(Math.max(0, queued.get()))
+                    .accepted(accepted.sum())
+                    .rejected(rejected.sum())
+                    .sent(sentCount)
+                    .failed(failedCount)
+                    .throughput(throughput)
+                    .build();
+        }
+
+        private void close() {
+            // Se espera a que el hilo atienda las notificaciones ya encoladas antes de cerrar el servicio
+            try {
+                thread.submit(() -> { }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | RejectedExecutionException e) {
+                log.warn("Error al vaciar el shard {}: {}", index, e.getMessage());
+            }
+            service.close();
+            thread.close();
+        }
+    }
+}
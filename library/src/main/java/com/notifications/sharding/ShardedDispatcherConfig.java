@@ -0,0 +1,39 @@
+package com.notifications.sharding;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuración del despachador particionado.
+ */
+@Getter
+@Builder
+public class ShardedDispatcherConfig {
+
+    /**
+     * Cantidad de shards independientes. Por defecto uno por procesador disponible.
+     */
+    @Builder.Default
+    private final int shards = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Cantidad máxima de notificaciones en espera por shard; al superarla se rechazan con CAPACITY_ERROR.
+     */
+    @Builder.Default
+    private final int queueCapacity = 10_000;
+
+    /**
+     * Clave con la que se asigna cada notificación a un shard.
+     */
+    @Builder.Default
+    private final ShardKey key = ShardKey.RECIPIENT;
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static ShardedDispatcherConfig defaults() {
+        return ShardedDispatcherConfig.builder().build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.notifications.streaming;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publicador que recorre un iterador a medida que el suscriptor solicita elementos.
+ * Admite un único suscriptor, ya que el iterador solo puede recorrerse una vez.
+ *
+ * @param <T> Tipo de los elementos
+ */
+public class IteratorPublisher<T> implements Flow.Publisher<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public IteratorPublisher(Iterator<? extends T> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(Subscriptions.EMPTY);
+            subscriber.onError(new IllegalStateException("El publicador admite un único suscriptor"));
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    private final class IteratorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+
+        private IteratorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("La demanda debe ser positiva: " + n));
+                return;
+            }
+            // Solo el hilo que encuentra la demanda en cero emite; el resto suma demanda
+            if (Subscriptions.addDemand(demand, n) == 0) {
+                emit();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void emit() {
+            long emitted = 0;
+            long requested = demand.get();
+            while (true) {
+                while (emitted != requested) {
+                    if (cancelled) {
+                        return;
+                    }
+                    T next;
+                    try {
+                        if (!iterator.hasNext()) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        next = iterator.next();
+                    } catch (RuntimeException e) {
+                        cancelled = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    subscriber.onNext(next);
+                    emitted++;
+                }
+
+                requested = demand.get();
+                if (requested == emitted) {
+                    requested = demand.addAndGet(-emitted);
+                    if (requested == 0) {
+                        return;
+                    }
+                    emitted = 0;
+                }
+            }
+        }
+    }
+}
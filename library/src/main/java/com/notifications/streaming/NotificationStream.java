@@ -0,0 +1,220 @@
+package com.notifications.streaming;
+
+import com.notifications.core.AsyncNotificationSender;
+import com.notifications.core.AsyncResults;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envía las notificaciones de una fuente a medida que llegan y publica sus resultados en orden de finalización.
+ * <p>
+ * Las notificaciones solicitadas a la fuente, las que están en envío y los resultados aún no entregados
+ * al suscriptor nunca superan {@link StreamingOptions#getMaxInFlight()}: se solicitan más notificaciones
+ * solo cuando el suscriptor consume resultados, por lo que la memoria es constante para cualquier tamaño
+ * de entrada. Los errores de envío se publican como resultados fallidos; un error de la fuente se propaga
+ * al suscriptor después de entregar los resultados de las notificaciones ya recibidas.
+ * <p>
+ * Admite un único suscriptor.
+ */
+public class NotificationStream implements Flow.Publisher<NotificationResult> {
+
+    private final Flow.Publisher<? extends Notification> source;
+    private final AsyncNotificationSender sender;
+    private final int maxInFlight;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public NotificationStream(Flow.Publisher<? extends Notification> source,
+                              AsyncNotificationSender sender,
+                              StreamingOptions options) {
+        if (options.getMaxInFlight() <= 0) {
+            throw new IllegalArgumentException("La cantidad máxima de notificaciones en curso debe ser positiva");
+        }
+        this.source = source;
+        this.sender = sender;
+        this.maxInFlight = options.getMaxInFlight();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super NotificationResult> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(Subscriptions.EMPTY);
+            subscriber.onError(new IllegalStateException("El envío en streaming admite un único suscriptor"));
+            return;
+        }
+        Bridge bridge = new Bridge(subscriber);
+        subscriber.onSubscribe(bridge);
+        source.subscribe(bridge);
+    }
+
+    /**
+     * Suscriptor de la fuente y suscripción del consumidor de resultados.
+     * Todas las señales hacia el consumidor y las solicitudes a la fuente se emiten desde {@link #drain()},
+     * que se ejecuta en un solo hilo a la vez.
+     */
+    private final class Bridge implements Flow.Subscriber<Notification>, Flow.Subscription {
+        private final Flow.Subscriber<? super NotificationResult> downstream;
+        private final Queue<NotificationResult> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        /** Notificaciones solicitadas a la fuente, en envío o con resultado sin entregar */
+        private final AtomicInteger retained = new AtomicInteger();
+        /** Notificaciones solicitadas a la fuente y aún no recibidas */
+        private final AtomicInteger requested = new AtomicInteger();
+
+        private volatile Flow.Subscription upstream;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile Throwable demandError;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        private Bridge(Flow.Subscriber<? super NotificationResult> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(Notification notification) {
+            requested.decrementAndGet();
+            if (cancelled) {
+                return;
+            }
+
+            CompletableFuture<NotificationResult> sent;
+            try {
+                sent = sender.sendAsync(notification);
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            sent.whenComplete((result, error) -> {
+                ready.add(error == null ? result : failure(notification, AsyncResults.unwrap(error)));
+                drain();
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            upstreamError = error;
+            onComplete();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            retained.addAndGet(-requested.getAndSet(0));
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                demandError = new IllegalArgumentException("La demanda debe ser positiva: " + n);
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                drain();
+                return;
+            }
+            Subscriptions.addDemand(demand, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled || terminated) {
+                    ready.clear();
+                    return;
+                }
+                if (demandError != null) {
+                    terminated = true;
+                    ready.clear();
+                    downstream.onError(demandError);
+                    return;
+                }
+
+                long available = demand.get();
+                long emitted = 0;
+                while (emitted != available) {
+                    NotificationResult result = ready.poll();
+                    if (result == null) {
+                        break;
+                    }
+                    retained.decrementAndGet();
+                    downstream.onNext(result);
+                    emitted++;
+                    if (cancelled) {
+                        return;
+                    }
+                }
+                if (emitted > 0 && available != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+
+                if (upstreamDone && retained.get() == 0) {
+                    terminated = true;
+                    if (upstreamError != null) {
+                        downstream.onError(upstreamError);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+
+                Flow.Subscription subscription = upstream;
+                int free = maxInFlight - retained.get();
+                if (subscription != null && !upstreamDone && free > 0) {
+                    retained.addAndGet(free);
+                    requested.addAndGet(free);
+                    subscription.request(free);
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private NotificationResult failure(Notification notification, Throwable error) {
+            return NotificationResult.failure(
+                    notification.getId(),
+                    error instanceof NotificationException notificationException
+                            ? notificationException.getChannelType() : null,
+                    error.getMessage()
+            );
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.notifications.streaming;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Opciones del envío en streaming.
+ */
+@Getter
+@Builder
+public class StreamingOptions {
+
+    /**
+     * Cantidad máxima de notificaciones retenidas a la vez: solicitadas a la fuente, en envío
+     * o con el resultado pendiente de entrega al suscriptor. Acota la memoria del envío
+     * independientemente del tamaño de la entrada.
+     */
+    @Builder.Default
+    private final int maxInFlight = 256;
+
+    /**
+     * Crea las opciones por defecto.
+     *
+     * @return Opciones con los valores predeterminados
+     */
+    public static StreamingOptions defaults() {
+        return StreamingOptions.builder().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.notifications.streaming;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utilidades compartidas por los publicadores del paquete.
+ */
+final class Subscriptions {
+
+    /**
+     * Suscripción sin efecto, utilizada para rechazar suscriptores.
+     */
+    static final Flow.Subscription EMPTY = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private Subscriptions() {
+    }
+
+    /**
+     * Suma demanda sin desbordar: la demanda acumulada se satura en {@link Long#MAX_VALUE}.
+     *
+     * @return Demanda anterior
+     */
+    static long addDemand(AtomicLong demand, long n) {
+        while (true) {
+            long current = demand.get();
+            long next = current + n;
+            if (next < 0) {
+                next = Long.MAX_VALUE;
+            }
+            if (demand.compareAndSet(current, next)) {
+                return current;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.notifications.suppression;
+
+import com.notifications.core.*;
+
+/**
+ * Decorador de canal que quita de cada notificación los destinatarios presentes en la lista de supresión
+ * y los informa como fallidos en el resultado. Si no queda ninguno, el envío falla con
+ * {@link NotificationException.ErrorType#SUPPRESSED_ERROR} sin llegar al proveedor. Al cerrarse cierra
+ * el canal decorado.
+ */
+public class SuppressingChannel extends RecipientFilteringChannel {
+
+    private final SuppressionList suppressionList;
+
+    public SuppressingChannel(NotificationChannel delegate, SuppressionList suppressionList) {
+        super(delegate);
+        this.suppressionList = suppressionList;
+    }
+
+    @Override
+    protected boolean admits(String recipient) {
+        return !suppressionList.contains(recipient);
+    }
+
+    @Override
+    protected String rejectionReason() {
+        return "Destinatario en la lista de supresión";
+    }
+
+    @Override
+    protected NotificationException rejectAll(Notification notification) {
+        return new NotificationException(
+                "Todos los destinatarios de la notificación están en la lista de supresión",
+                NotificationException.ErrorType.SUPPRESSED_ERROR,
+                getType()
+        );
+    }
+}
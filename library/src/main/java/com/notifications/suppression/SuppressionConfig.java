@@ -0,0 +1,46 @@
+package com.notifications.suppression;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración de la lista de supresión: archivo mapeado en memoria y dimensionamiento
+ * de la tabla y del filtro de Bloom.
+ */
+@Getter
+@Builder
+public class SuppressionConfig {
+
+    /**
+     * Archivo donde se guarda la tabla de destinatarios suprimidos. Si ya existe se reutiliza su capacidad.
+     */
+    @NonNull
+    private final Path file;
+
+    /**
+     * Cantidad de destinatarios que se espera suprimir. La tabla reserva el doble de posiciones
+     * y rechaza altas al superar tres cuartos de su capacidad.
+     */
+    @Builder.Default
+    private final long expectedEntries = 10_000_000;
+
+    /**
+     * Bits del filtro de Bloom por destinatario esperado; 10 bits dan cerca de un 1 % de falsos positivos.
+     */
+    @Builder.Default
+    private final int bloomBitsPerEntry = 10;
+
+    /**
+     * Crea la configuración por defecto para el archivo indicado.
+     *
+     * @param file            Archivo de la tabla
+     * @param expectedEntries Destinatarios que se espera suprimir
+     * @return Configuración de la lista de supresión
+     */
+    public static SuppressionConfig of(Path file, long expectedEntries) {
+        return SuppressionConfig.builder().file(file).expectedEntries(expectedEntries).build();
+    }
+}
@@ -0,0 +1,344 @@
+package com.notifications.suppression;
+
+import com.notifications.core.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Conjunto persistente de destinatarios que no deben recibir notificaciones: emails rebotados,
+ * números dados de baja o tokens de dispositivo inválidos.
+ * <p>
+ * Cada destinatario se reduce a una huella de 64 bits que se guarda en una tabla de direccionamiento
+ * abierto con sondeo lineal, dentro de un archivo mapeado en memoria fuera del heap. Delante de la tabla,
+ * un filtro de Bloom en memoria descarta sin acceder al archivo a casi todos los destinatarios que no están
+ * suprimidos, que son la mayoría de las consultas. El filtro se reconstruye al abrir el archivo.
+ * <p>
+ * Las altas y bajas son concurrentes y no usan bloqueos: cada posición se ocupa con compare-and-set,
+ * y las bajas dejan una marca de borrado porque el filtro de Bloom no admite eliminar. La capacidad
+ * se fija al crear el archivo. Dos destinatarios distintos con la misma huella se consideran iguales;
+ * con 64 bits la probabilidad es despreciable incluso con decenas de millones de entradas.
+ */
+@Slf4j
+public class SuppressionList implements AutoCloseable {
+
+    private static final int MAGIC = 0x53555052;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SEGMENT_SHIFT = 27;
+    private static final int BLOOM_HASHES = 7;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = Long.MIN_VALUE;
+
+    private static final VarHandle SLOT = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle WORD = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long slotMask;
+    private final long maxUsed;
+    private final long[] bloom;
+    private final long bloomMask;
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * Abre la lista de supresión, creando el archivo si no existe.
+     *
+     * @param config Configuración de la lista
+     * @throws IOException Si el archivo no puede abrirse o no es una lista de supresión compatible
+     */
+    public SuppressionList(SuppressionConfig config) throws IOException {
+        if (config.getExpectedEntries() <= 0 || config.getBloomBitsPerEntry() <= 0) {
+            throw new IllegalArgumentException("La lista de supresión requiere capacidad y bits de Bloom positivos");
+        }
+        this.file = config.getFile();
+        boolean exists = Files.exists(file) && Files.size(file) >= HEADER_SIZE;
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long slots;
+        try {
+            slots = exists ? readHeader() : writeHeader(nextPowerOfTwo(Math.max(64, config.getExpectedEntries() * 2)));
+            this.slotMask = slots - 1;
+            this.segmentShift = Math.min(SEGMENT_SHIFT, Long.numberOfTrailingZeros(slots));
+            this.segmentMask = (1L << segmentShift) - 1;
+            this.segments = new MappedByteBuffer[(int) (slots >>> segmentShift)];
+            long segmentBytes = (1L << segmentShift) * Long.BYTES;
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * segmentBytes, segmentBytes);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.maxUsed = slots / 4 * 3;
+
+        long bloomBits = nextPowerOfTwo(Math.max(64, Math.max(config.getExpectedEntries(), slots / 2)
+                * config.getBloomBitsPerEntry()));
+        this.bloom = new long[(int) (bloomBits >>> 6)];
+        this.bloomMask = bloomBits - 1;
+        rebuild();
+    }
+
+    /**
+     * Agrega un destinatario a la lista.
+     *
+     * @param recipient Email, número o token a suprimir
+     * @return true si no estaba suprimido
+     * @throws IllegalStateException Si la tabla alcanzó su capacidad
+     */
+    public boolean add(String recipient) {
+        long fingerprint = fingerprint(recipient);
+        // El filtro se actualiza antes que la tabla para que nunca oculte una entrada visible
+        bloomAdd(fingerprint);
+        for (long index = fingerprint & slotMask, probes = 0; probes <= slotMask; index = (index + 1) & slotMask, probes++) {
+            long current = slot(index);
+            if (current == fingerprint) {
+                return false;
+            }
+            if (current == EMPTY) {
+                if (used.get() >= maxUsed) {
+                    throw full();
+                }
+                if (SLOT.compareAndSet(segments[(int) (index >>> segmentShift)], offset(index), EMPTY, fingerprint)) {
+                    used.incrementAndGet();
+                    size.incrementAndGet();
+                    return true;
+                }
+                if (slot(index) == fingerprint) {
+                    return false;
+                }
+            }
+        }
+        throw full();
+    }
+
+    /**
+     * Quita un destinatario de la lista.
+     *
+     * @param recipient Email, número o token
+     * @return true si estaba suprimido
+     */
+    public boolean remove(String recipient) {
+        long fingerprint = fingerprint(recipient);
+        if (!bloomMightContain(fingerprint)) {
+            return false;
+        }
+        for (long index = fingerprint & slotMask, probes = 0; probes <= slotMask; index = (index + 1) & slotMask, probes++) {
+            long current = slot(index);
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == fingerprint
+                    && SLOT.compareAndSet(segments[(int) (index >>> segmentShift)], offset(index), fingerprint, TOMBSTONE)) {
+                size.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si el destinatario está suprimido.
+     *
+     * @param recipient Email, número o token
+     * @return true si no debe recibir notificaciones
+     */
+    public boolean contains(String recipient) {
+        long fingerprint = fingerprint(recipient);
+        if (!bloomMightContain(fingerprint)) {
+            return false;
+        }
+        for (long index = fingerprint & slotMask, probes = 0; probes <= slotMask; index = (index + 1) & slotMask, probes++) {
+            long current = slot(index);
+            if (current == fingerprint) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Agrega los destinatarios de un archivo de texto, uno por línea. Las líneas vacías y las que
+     * comienzan con {@code #} se ignoran. Puede ejecutarse mientras se envían notificaciones.
+     *
+     * @param source Archivo en UTF-8
+     * @return Cantidad de destinatarios que no estaban suprimidos
+     * @throws IOException Si el archivo no puede leerse
+     */
+    public long load(Path source) throws IOException {
+        long added = 0;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String recipient = line.trim();
+                if (!recipient.isEmpty() && recipient.charAt(0) != '#' && add(recipient)) {
+                    added++;
+                }
+            }
+        }
+        log.info("Cargados {} destinatarios suprimidos desde {}", added, source);
+        return added;
+    }
+
+    /**
+     * Cantidad de destinatarios suprimidos.
+     *
+     * @return Entradas vigentes
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Cantidad de posiciones que pueden ocuparse antes de rechazar altas. Las bajas no liberan posiciones.
+     *
+     * @return Capacidad de la tabla
+     */
+    public long getCapacity() {
+        return maxUsed;
+    }
+
+    /**
+     * Fuerza a disco las modificaciones de la tabla.
+     */
+    public void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private long readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("El archivo " + file + " no es una lista de supresión");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de lista de supresión no soportada: " + version);
+        }
+        if (header.get() != byteOrderFlag()) {
+            throw new IOException("La lista de supresión " + file + " fue creada con otro orden de bytes");
+        }
+        header.position(16);
+        long slots = header.getLong();
+        if (slots < 64 || Long.bitCount(slots) != 1) {
+            throw new IOException("Capacidad inválida en la lista de supresión " + file + ": " + slots);
+        }
+        return slots;
+    }
+
+    private long writeHeader(long slots) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).put(byteOrderFlag());
+        header.position(16);
+        header.putLong(slots);
+        header.rewind();
+        channel.write(header, 0);
+        return slots;
+    }
+
+    /**
+     * Recorre la tabla para contar las entradas y cargar el filtro de Bloom.
+     */
+    private void rebuild() {
+        long live = 0;
+        long occupied = 0;
+        for (long index = 0; index <= slotMask; index++) {
+            long current = slot(index);
+            if (current != EMPTY) {
+                occupied++;
+                if (current != TOMBSTONE) {
+                    live++;
+                    bloomAdd(current);
+                }
+            }
+        }
+        size.set(live);
+        used.set(occupied);
+        if (live > 0) {
+            log.info("Lista de supresión {} abierta con {} destinatarios", file, live);
+        }
+    }
+
+    private long slot(long index) {
+        return (long) SLOT.getVolatile(segments[(int) (index >>> segmentShift)], offset(index));
+    }
+
+    private int offset(long index) {
+        return (int) ((index & segmentMask) << 3);
+    }
+
+    private void bloomAdd(long fingerprint) {
+        long step = Long.rotateLeft(fingerprint, 32) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = (fingerprint + i * step) & bloomMask;
+            WORD.getAndBitwiseOr(bloom, (int) (bit >>> 6), 1L << bit);
+        }
+    }
+
+    private boolean bloomMightContain(long fingerprint) {
+        long step = Long.rotateLeft(fingerprint, 32) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = (fingerprint + i * step) & bloomMask;
+            if (((long) WORD.getVolatile(bloom, (int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IllegalStateException full() {
+        return new IllegalStateException("La lista de supresión " + file + " alcanzó su capacidad de " + maxUsed + " entradas");
+    }
+
+    /**
+     * Huella de 64 bits del destinatario normalizado: sin espacios en los extremos y, si es un email,
+     * en minúsculas. Los valores reservados para posiciones vacías y borradas se desplazan.
+     */
+    private static long fingerprint(String recipient) {
+        String normalized = recipient.trim();
+        if (normalized.indexOf('@') >= 0) {
+            normalized = normalized.toLowerCase(Locale.ROOT);
+        }
+        long hash = Hashing.hash(normalized);
+        return hash == EMPTY || hash == TOMBSTONE ? 1L : hash;
+    }
+
+    private static byte byteOrderFlag() {
+        return (byte) (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 1 : 0);
+    }
+
+    private static long nextPowerOfTwo(long value) {
+        return Long.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,107 @@
+package com.notifications.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Texto de plantilla analizado una sola vez en fragmentos literales y variables intercaladas.
+ * Generar el texto solo concatena los fragmentos sobre un búfer reutilizable.
+ */
+final class CompiledText {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] names;
+    private final String[] defaults;
+    private final int literalLength;
+
+    private CompiledText(String[] literals, String[] names, String[] defaults) {
+        this.literals = literals;
+        this.names = names;
+        this.defaults = defaults;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Analiza el texto de una plantilla.
+     *
+     * @param source Texto con variables {@code {{nombre}}} o {@code {{nombre|valor}}}
+     * @return Texto compilado
+     * @throws IllegalArgumentException Si una variable no está cerrada o no tiene nombre
+     */
+    static CompiledText parse(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> defaults = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Variable sin cerrar en la posición " + open);
+            }
+            String expression = source.substring(open + OPEN.length(), close);
+            int separator = expression.indexOf('|');
+            String name = (separator >= 0 ? expression.substring(0, separator) : expression).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Variable sin nombre en la posición " + open);
+            }
+            literals.add(source.substring(position, open));
+            names.add(name);
+            defaults.add(separator >= 0 ? expression.substring(separator + 1).trim() : null);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new CompiledText(
+                literals.toArray(String[]::new),
+                names.toArray(String[]::new),
+                defaults.toArray(String[]::new));
+    }
+
+    /**
+     * Indica si el texto utiliza la variable indicada.
+     */
+    boolean references(String name) {
+        for (String variable : names) {
+            if (variable.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Escribe el texto generado en el búfer, que se vacía antes de escribir.
+     *
+     * @param resolver Obtiene el valor de cada variable, o null si no está definida
+     * @param out      Búfer de salida
+     * @return Nombre de la primera variable sin valor ni valor por defecto, o null si se generó completo
+     */
+    String render(Function<String, Object> resolver, StringBuilder out) {
+        out.setLength(0);
+        out.ensureCapacity(literalLength + names.length * 16);
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            Object value = resolver.apply(names[i]);
+            if (value == null) {
+                if (defaults[i] == null) {
+                    return names[i];
+                }
+                out.append(defaults[i]);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[names.length]);
+        return null;
+    }
+}
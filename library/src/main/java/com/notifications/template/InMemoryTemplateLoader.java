@@ -0,0 +1,34 @@
+package com.notifications.template;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cargador de plantillas registradas en memoria.
+ */
+public class InMemoryTemplateLoader implements TemplateLoader {
+
+    private final Map<String, TemplateSource> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una versión de una plantilla.
+     *
+     * @param id      Identificador de la plantilla
+     * @param version Versión de la plantilla
+     * @param source  Texto fuente
+     * @return Este cargador, para encadenar registros
+     */
+    public InMemoryTemplateLoader register(String id, int version, TemplateSource source) {
+        sources.put(key(id, version), source);
+        return this;
+    }
+
+    @Override
+    public TemplateSource load(String id, int version) {
+        return sources.get(key(id, version));
+    }
+
+    private static String key(String id, int version) {
+        return id + '@' + version;
+    }
+}
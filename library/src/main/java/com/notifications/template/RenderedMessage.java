@@ -0,0 +1,19 @@
+package com.notifications.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Asunto y contenido generados por una plantilla junto con los destinatarios que los reciben.
+ * Los destinatarios cuyo texto generado coincide se agrupan en un único mensaje.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RenderedMessage {
+
+    private final Set<String> recipients;
+    private final String subject;
+    private final String content;
+}
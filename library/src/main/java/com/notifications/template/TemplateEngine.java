@@ -0,0 +1,196 @@
+package com.notifications.template;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.TemplateRef;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Genera el asunto y el contenido de las notificaciones que referencian una plantilla.
+ * <p>
+ * Las plantillas se obtienen del {@link TemplateLoader}, se compilan una sola vez y se conservan en una
+ * caché LRU por id y versión. Cada variable se resuelve, en orden, desde las variables del destinatario,
+ * los metadatos de la notificación y la variable integrada {@code recipient}. Si ninguna variable depende
+ * del destinatario, el texto se genera una sola vez para todos.
+ */
+public class TemplateEngine {
+
+    /**
+     * Variable integrada con la dirección del destinatario.
+     */
+    public static final String RECIPIENT_VARIABLE = "recipient";
+
+    private final TemplateLoader loader;
+    private final Map<TemplateRef, CompiledTemplate> cache;
+
+    public TemplateEngine(TemplateLoader loader) {
+        this(loader, 1000);
+    }
+
+    /**
+     * Crea el motor con una caché de plantillas compiladas de tamaño acotado.
+     *
+     * @param loader    Cargador de los textos fuente
+     * @param cacheSize Cantidad máxima de versiones compiladas en memoria
+     */
+    public TemplateEngine(TemplateLoader loader, int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("La caché de plantillas debe tener capacidad positiva");
+        }
+        this.loader = loader;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TemplateRef, CompiledTemplate> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Obtiene los mensajes a enviar para una notificación: su asunto y contenido literales,
+     * o los generados por la plantilla que referencia.
+     *
+     * @param engine       Motor de plantillas del canal, o null si no tiene
+     * @param notification Notificación a enviar
+     * @param channelType  Canal que envía la notificación
+     * @return Mensajes a enviar
+     * @throws NotificationException Si la notificación referencia una plantilla y no puede generarse
+     */
+    public static List<RenderedMessage> messagesFor(TemplateEngine engine, Notification notification,
+                                                    ChannelType channelType) throws NotificationException {
+        if (notification.getTemplate() == null) {
+            return List.of(new RenderedMessage(
+                    notification.getRecipients(), notification.getSubject(), notification.getContent()));
+        }
+        if (engine == null) {
+            throw new NotificationException(
+                    "El canal " + channelType + " no tiene un motor de plantillas configurado",
+                    NotificationException.ErrorType.CONFIGURATION_ERROR,
+                    channelType
+            );
+        }
+        return engine.render(notification, channelType);
+    }
+
+    /**
+     * Genera los mensajes de una notificación con plantilla, agrupando a los destinatarios
+     * que reciben el mismo texto.
+     *
+     * @param notification Notificación con plantilla
+     * @param channelType  Canal que solicita la generación, para los errores
+     * @return Mensajes generados, con al menos un destinatario cada uno
+     * @throws NotificationException Si la plantilla no existe, es inválida o falta una variable
+     */
+    public List<RenderedMessage> render(Notification notification, ChannelType channelType) throws NotificationException {
+        CompiledTemplate template = compiled(notification.getTemplate(), channelType);
+        Map<String, Object> metadata = notification.getMetadata();
+        StringBuilder subject = new StringBuilder();
+        StringBuilder content = new StringBuilder();
+
+        boolean perRecipient = !notification.getRecipientVariables().isEmpty()
+                || template.references(RECIPIENT_VARIABLE);
+        if (!perRecipient) {
+            renderInto(template, metadata::get, notification, null, subject, content, channelType);
+            return List.of(new RenderedMessage(notification.getRecipients(),
+                    template.subject != null ? subject.toString() : null, content.toString()));
+        }
+
+        Map<Rendered, Set<String>> groups = new LinkedHashMap<>();
+        for (String recipient : notification.getRecipients()) {
+            Map<String, Object> variables = notification.getRecipientVariables().getOrDefault(recipient, Map.of());
+            Function<String, Object> resolver = name -> {
+                Object value = variables.get(name);
+                if (value == null) {
+                    value = metadata.get(name);
+                }
+                return value == null && RECIPIENT_VARIABLE.equals(name) ? recipient : value;
+            };
+            renderInto(template, resolver, notification, recipient, subject, content, channelType);
+            Rendered rendered = new Rendered(template.subject != null ? subject.toString() : null, content.toString());
+            groups.computeIfAbsent(rendered, key -> new LinkedHashSet<>()).add(recipient);
+        }
+
+        List<RenderedMessage> messages = new ArrayList<>(groups.size());
+        groups.forEach((rendered, recipients) ->
+                messages.add(new RenderedMessage(recipients, rendered.subject(), rendered.content())));
+        return messages;
+    }
+
+    /**
+     * Cantidad de versiones de plantillas compiladas en la caché.
+     *
+     * @return Plantillas en caché
+     */
+    public int getCachedTemplates() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private CompiledTemplate compiled(TemplateRef ref, ChannelType channelType) throws NotificationException {
+        synchronized (cache) {
+            CompiledTemplate template = cache.get(ref);
+            if (template != null) {
+                return template;
+            }
+        }
+
+        TemplateSource source = loader.load(ref.getId(), ref.getVersion());
+        if (source == null) {
+            throw new NotificationException(
+                    "Plantilla no encontrada: " + ref.getId() + " versión " + ref.getVersion(),
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    channelType
+            );
+        }
+
+        CompiledTemplate template;
+        try {
+            template = new CompiledTemplate(
+                    source.getSubject() != null ? CompiledText.parse(source.getSubject()) : null,
+                    CompiledText.parse(source.getContent()));
+        } catch (IllegalArgumentException e) {
+            throw new NotificationException(
+                    "Plantilla inválida " + ref.getId() + " versión " + ref.getVersion() + ": " + e.getMessage(),
+                    NotificationException.ErrorType.CONFIGURATION_ERROR,
+                    channelType,
+                    e
+            );
+        }
+
+        synchronized (cache) {
+            CompiledTemplate existing = cache.putIfAbsent(ref, template);
+            return existing != null ? existing : template;
+        }
+    }
+
+    private static void renderInto(CompiledTemplate template, Function<String, Object> resolver,
+                                   Notification notification, String recipient,
+                                   StringBuilder subject, StringBuilder content,
+                                   ChannelType channelType) throws NotificationException {
+        String missing = template.subject != null ? template.subject.render(resolver, subject) : null;
+        if (missing == null) {
+            missing = template.content.render(resolver, content);
+        }
+        if (missing != null) {
+            throw new NotificationException(
+                    "La variable '" + missing + "' de la plantilla " + notification.getTemplate().getId()
+                            + (recipient != null ? " no tiene valor para " + recipient : " no tiene valor"),
+                    NotificationException.ErrorType.VALIDATION_ERROR,
+                    channelType
+            );
+        }
+    }
+
+    private record CompiledTemplate(CompiledText subject, CompiledText content) {
+        boolean references(String name) {
+            return (subject != null && subject.references(name)) || content.references(name);
+        }
+    }
+
+    private record Rendered(String subject, String content) {
+    }
+}
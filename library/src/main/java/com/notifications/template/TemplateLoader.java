@@ -0,0 +1,18 @@
+package com.notifications.template;
+
+/**
+ * SPI que obtiene el texto fuente de las plantillas, por ejemplo desde una base de datos o un CMS.
+ * Solo se invoca cuando la versión solicitada no está en la caché de plantillas compiladas.
+ */
+@FunctionalInterface
+public interface TemplateLoader {
+
+    /**
+     * Obtiene una versión de una plantilla.
+     *
+     * @param id      Identificador de la plantilla
+     * @param version Versión de la plantilla
+     * @return Texto fuente, o null si la plantilla no existe
+     */
+    TemplateSource load(String id, int version);
+}
@@ -0,0 +1,25 @@
+package com.notifications.template;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Texto fuente de una plantilla. Las variables se escriben como {@code {{nombre}}} y admiten
+ * un valor por defecto con {@code {{nombre|valor}}}.
+ */
+@Getter
+@Builder
+public class TemplateSource {
+
+    /**
+     * Asunto de la plantilla, o null si el canal no utiliza asunto.
+     */
+    private final String subject;
+
+    /**
+     * Contenido de la plantilla.
+     */
+    @NonNull
+    private final String content;
+}
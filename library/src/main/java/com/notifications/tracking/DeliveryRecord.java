@@ -0,0 +1,39 @@
+package com.notifications.tracking;
+
+import com.notifications.core.ChannelType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Estado conocido de un mensaje enviado.
+ */
+@Getter
+@Builder
+public class DeliveryRecord {
+
+    private final String providerMessageId;
+
+    /**
+     * Destinatario del mensaje, o null si el envío o el estado recibido no lo indicaron.
+     */
+    private final String recipient;
+
+    /**
+     * Notificación que originó el mensaje, o null si solo se recibió el estado desde el proveedor.
+     */
+    private final String notificationId;
+
+    /**
+     * Canal del envío, o null si solo se recibió el estado desde el proveedor.
+     */
+    private final ChannelType channelType;
+
+    private final DeliveryStatus status;
+
+    /**
+     * Momento de la última actualización.
+     */
+    private final Instant updatedAt;
+}
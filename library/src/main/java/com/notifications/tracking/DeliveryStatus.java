@@ -0,0 +1,24 @@
+package com.notifications.tracking;
+
+/**
+ * Estado de entrega de un mensaje según el proveedor.
+ */
+public enum DeliveryStatus {
+    /** Aceptado por el proveedor, sin confirmación de entrega */
+    SENT,
+    /** Entregado al destinatario */
+    DELIVERED,
+    /** Rechazado por el destino, por ejemplo un email inexistente o un token inválido */
+    BOUNCED,
+    /** Falló la entrega por otro motivo */
+    FAILED;
+
+    /**
+     * Indica si el estado es definitivo y no puede volver a {@link #SENT}.
+     *
+     * @return true salvo para {@link #SENT}
+     */
+    public boolean isFinal() {
+        return this != SENT;
+    }
+}
@@ -0,0 +1,498 @@
+package com.notifications.tracking;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.Hashing;
+import com.notifications.core.NotificationResult;
+import com.notifications.core.RecipientResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Registro del estado de entrega de los mensajes enviados, indexado por el identificador del proveedor.
+ * <p>
+ * Cada mensaje ocupa una posición en tablas de direccionamiento abierto de arreglos primitivos, repartidas
+ * en segmentos con dos generaciones como la caché de deduplicación: la posición se elige con un hash de
+ * 64 bits del identificador del proveedor; el estado, el canal y el momento de actualización se empaquetan
+ * en un {@code long}; y los identificadores de notificación con formato UUID se guardan como dos
+ * {@code long}. El identificador del proveedor y el destinatario se guardan como texto junto al hash: se
+ * comparan en cada búsqueda, de modo que una colisión del hash no mezcla mensajes distintos, y son los
+ * que devuelven las consultas, así que no pueden reemplazarse por su hash. Una generación se
+ * descarta cuando la siguiente se llena o supera el TTL, y las entradas vencidas no se devuelven en las
+ * consultas.
+ * <p>
+ * Se registra una entrada por destinatario entregado. Los proveedores que envían un mensaje por
+ * destinatario asignan un identificador propio a cada uno; los que envían un único mensaje a varios
+ * destinatarios comparten el identificador, y las entradas se distinguen por el destinatario. Una
+ * actualización sin destinatario se aplica a todos los destinatarios del mensaje.
+ * <p>
+ * Los estados pueden llegar antes que el resultado del envío; en ese caso el mensaje se registra sin
+ * notificación y se completa cuando llega el resultado. Un estado definitivo no vuelve a {@code SENT}
+ * ni es reemplazado por otro más antiguo.
+ */
+public class DeliveryTracker {
+
+    private static final int SEGMENTS = 64;
+    private static final long EMPTY = 0L;
+
+    private static final int STATUS_BITS = 3;
+    private static final int CHANNEL_SHIFT = 3;
+    private static final long UUID_FLAG = 1L << 6;
+    private static final int TIME_SHIFT = 8;
+
+    private static final DeliveryStatus[] STATUSES = DeliveryStatus.values();
+    private static final ChannelType[] CHANNELS = ChannelType.values();
+
+    private final long ttlMillis;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    public DeliveryTracker(DeliveryTrackingConfig config) {
+        if (config.getMaxEntries() <= 0 || config.getTtl().isNegative() || config.getTtl().isZero()) {
+            throw new IllegalArgumentException("El registro de entregas requiere capacidad y TTL positivos");
+        }
+        this.ttlMillis = config.getTtl().toMillis();
+        int generationCapacity = Math.max(1, config.getMaxEntries() / SEGMENTS / 2);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(generationCapacity);
+        }
+    }
+
+    /**
+     * Registra los mensajes de un envío con estado {@link DeliveryStatus#SENT}. Si el resultado informa
+     * cada destinatario se registra una entrada por destinatario entregado, aunque el envío haya fallado
+     * para otros; si no, se registra su {@code providerMessageId} cuando el envío fue exitoso.
+     *
+     * @param result Resultado del envío
+     */
+    public void record(NotificationResult result) {
+        long now = System.currentTimeMillis();
+        if (!result.getRecipientResults().isEmpty()) {
+            for (RecipientResult recipient : result.getRecipientResults()) {
+                if (recipient.isSuccess() && recipient.getProviderMessageId() != null) {
+                    record(recipient.getProviderMessageId(), recipient.getRecipient(), result, now);
+                }
+            }
+        } else if (result.isSuccess() && result.getProviderMessageId() != null) {
+            record(result.getProviderMessageId(), null, result, now);
+        }
+    }
+
+    /**
+     * Aplica una actualización de estado recibida del proveedor a todos los destinatarios del mensaje.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @param status            Nuevo estado
+     * @return true si el mensaje correspondía a un envío registrado
+     */
+    public boolean update(String providerMessageId, DeliveryStatus status) {
+        return update(providerMessageId, null, status);
+    }
+
+    /**
+     * Aplica una actualización de estado recibida del proveedor para uno de los destinatarios del mensaje.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @param recipient         Destinatario al que se refiere el estado, o null para todos
+     * @param status            Nuevo estado
+     * @return true si el mensaje correspondía a un envío registrado
+     */
+    public boolean update(String providerMessageId, String recipient, DeliveryStatus status) {
+        long key = keyOf(providerMessageId);
+        long now = System.currentTimeMillis();
+        return segmentFor(key).update(key, providerMessageId, recipient, status, now, now);
+    }
+
+    /**
+     * Aplica un lote de actualizaciones, pensado para absorber ráfagas de webhooks: las actualizaciones
+     * se ordenan por segmento y cada segmento se bloquea una sola vez por lote.
+     *
+     * @param updates Actualizaciones recibidas
+     * @return Cantidad de actualizaciones que correspondían a envíos registrados
+     */
+    public int ingest(List<DeliveryUpdate> updates) {
+        int count = updates.size();
+        long[] keys = new long[count];
+        int[] offsets = new int[SEGMENTS + 1];
+        for (int i = 0; i < count; i++) {
+            keys[i] = keyOf(updates.get(i).providerMessageId());
+            offsets[segmentIndex(keys[i]) + 1]++;
+        }
+        for (int s = 0; s < SEGMENTS; s++) {
+            offsets[s + 1] += offsets[s];
+        }
+        int[] order = new int[count];
+        int[] positions = Arrays.copyOf(offsets, SEGMENTS);
+        for (int i = 0; i < count; i++) {
+            order[positions[segmentIndex(keys[i])]++] = i;
+        }
+
+        long now = System.currentTimeMillis();
+        int matched = 0;
+        for (int s = 0; s < SEGMENTS; s++) {
+            if (offsets[s] == offsets[s + 1]) {
+                continue;
+            }
+            Segment segment = segments[s];
+            synchronized (segment) {
+                for (int i = offsets[s]; i < offsets[s + 1]; i++) {
+                    DeliveryUpdate update = updates.get(order[i]);
+                    long timestamp = update.timestamp() != null ? update.timestamp().toEpochMilli() : now;
+                    if (segment.update(keys[order[i]], update.providerMessageId(), update.recipient(),
+                            update.status(), timestamp, now)) {
+                        matched++;
+                    }
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Consulta el estado de un mensaje. Si el mensaje tiene varios destinatarios devuelve el de uno de
+     * ellos; {@link #findAll} los devuelve todos.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @return Estado del mensaje, o vacío si no está registrado o venció
+     */
+    public Optional<DeliveryRecord> find(String providerMessageId) {
+        return find(providerMessageId, null);
+    }
+
+    /**
+     * Consulta el estado de un mensaje para un destinatario.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @param recipient         Destinatario, o null para cualquiera
+     * @return Estado del mensaje, o vacío si no está registrado o venció
+     */
+    public Optional<DeliveryRecord> find(String providerMessageId, String recipient) {
+        List<DeliveryRecord> records = collect(providerMessageId, recipient, true);
+        return records.isEmpty() ? Optional.empty() : Optional.of(records.get(0));
+    }
+
+    /**
+     * Consulta el estado de un mensaje para cada uno de sus destinatarios.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @return Estado por destinatario, vacío si el mensaje no está registrado o venció
+     */
+    public List<DeliveryRecord> findAll(String providerMessageId) {
+        return collect(providerMessageId, null, false);
+    }
+
+    /**
+     * Cantidad de mensajes en las tablas, incluidos los vencidos que aún no se descartaron.
+     *
+     * @return Mensajes registrados
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.current.size + segment.previous.size;
+            }
+        }
+        return size;
+    }
+
+    private void record(String messageId, String recipient, NotificationResult result, long now) {
+        long key = keyOf(messageId);
+        segmentFor(key).record(key, messageId, recipient, result.getNotificationId(), result.getChannelType(), now);
+    }
+
+    /**
+     * Obtiene las entradas vigentes de un mensaje, primero las de envíos registrados. Un estado recibido
+     * antes que el resultado ya se copió a las entradas registradas de sus destinatarios, así que solo
+     * se devuelve si no corresponde a ninguna de ellas.
+     */
+    private List<DeliveryRecord> collect(String messageId, String recipient, boolean first) {
+        long key = keyOf(messageId);
+        Segment segment = segmentFor(key);
+        List<DeliveryRecord> tracked = new ArrayList<>(1);
+        List<DeliveryRecord> untracked = new ArrayList<>(0);
+        synchronized (segment) {
+            long now = System.currentTimeMillis();
+            for (Table table : segment.tables()) {
+                for (int slot = table.home(key); table.keys[slot] != EMPTY; slot = table.next(slot)) {
+                    if (!table.matches(slot, key, messageId, recipient) || expired(table.states[slot], now)) {
+                        continue;
+                    }
+                    DeliveryRecord record = table.record(slot);
+                    if (tracked(table.states[slot])) {
+                        tracked.add(record);
+                        if (first) {
+                            return tracked;
+                        }
+                    } else {
+                        untracked.add(record);
+                    }
+                }
+            }
+        }
+        for (DeliveryRecord early : untracked) {
+            if (!covers(tracked, early.getRecipient())) {
+                tracked.add(early);
+            }
+        }
+        return tracked;
+    }
+
+    private static boolean covers(List<DeliveryRecord> tracked, String recipient) {
+        for (DeliveryRecord record : tracked) {
+            if (recipient == null || recipient.equals(record.getRecipient())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean expired(long state, long now) {
+        return now - (state >>> TIME_SHIFT) > ttlMillis;
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[segmentIndex(key)];
+    }
+
+    private static int segmentIndex(long key) {
+        return (int) (key >>> 58) & (SEGMENTS - 1);
+    }
+
+    private static long keyOf(String providerMessageId) {
+        long hash = Hashing.hash(providerMessageId);
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    /**
+     * Indica si la entrada proviene de un envío registrado y no solo de un estado recibido del proveedor.
+     */
+    private static boolean tracked(long state) {
+        return (state & (0x7L << CHANNEL_SHIFT)) != 0;
+    }
+
+    private static long pack(DeliveryStatus status, ChannelType channel, boolean uuid, long millis) {
+        return (millis << TIME_SHIFT)
+                | (uuid ? UUID_FLAG : 0)
+                | ((long) (channel == null ? 0 : channel.ordinal() + 1) << CHANNEL_SHIFT)
+                | status.ordinal();
+    }
+
+    private final class Segment {
+        private final int capacity;
+        private Table current;
+        private Table previous;
+        private long generationStart = System.currentTimeMillis();
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.current = new Table(capacity);
+            this.previous = new Table(capacity);
+        }
+
+        private Table[] tables() {
+            return new Table[]{current, previous};
+        }
+
+        private synchronized void record(long key, String messageId, String recipient, String notificationId,
+                                         ChannelType channel, long now) {
+            Table exactTable = null;
+            int exact = -1;
+            long early = 0;
+            for (Table table : tables()) {
+                for (int slot = table.home(key); table.keys[slot] != EMPTY; slot = table.next(slot)) {
+                    if (!table.matches(slot, key, messageId, recipient) || expired(table.states[slot], now)) {
+                        continue;
+                    }
+                    if (Objects.equals(table.recipients[slot], recipient)) {
+                        exactTable = table;
+                        exact = slot;
+                    } else if (table.recipients[slot] == null && !tracked(table.states[slot])) {
+                        early = table.states[slot];
+                    }
+                }
+            }
+
+            if (exact >= 0) {
+                long state = exactTable.states[exact];
+                if (tracked(state)) {
+                    return;
+                }
+                early = state;
+            }
+            // El estado llegó antes que el resultado: se conserva y se completa la notificación
+            DeliveryStatus status = early == 0 ? DeliveryStatus.SENT : STATUSES[(int) early & ((1 << STATUS_BITS) - 1)];
+            long millis = status.isFinal() ? early >>> TIME_SHIFT : now;
+            if (exact >= 0) {
+                exactTable.set(exact, key, messageId, recipient, status, channel, notificationId, millis);
+            } else {
+                insert(key, messageId, recipient, status, channel, notificationId, millis);
+            }
+        }
+
+        private synchronized boolean update(long key, String messageId, String recipient, DeliveryStatus status,
+                                            long timestamp, long now) {
+            boolean found = false;
+            boolean tracked = false;
+            for (Table table : tables()) {
+                for (int slot = table.home(key); table.keys[slot] != EMPTY; slot = table.next(slot)) {
+                    if (!table.matches(slot, key, messageId, recipient) || expired(table.states[slot], now)) {
+                        continue;
+                    }
+                    found = true;
+                    long state = table.states[slot];
+                    tracked |= tracked(state);
+                    DeliveryStatus known = STATUSES[(int) state & ((1 << STATUS_BITS) - 1)];
+                    if (known.isFinal() && (!status.isFinal() || timestamp < state >>> TIME_SHIFT)) {
+                        continue;
+                    }
+                    table.states[slot] = (state & ((1L << TIME_SHIFT) - 1) & ~((1L << STATUS_BITS) - 1))
+                            | (timestamp << TIME_SHIFT)
+                            | status.ordinal();
+                }
+            }
+            if (!found) {
+                insert(key, messageId, recipient, status, null, null, timestamp);
+            }
+            return tracked;
+        }
+
+        private void insert(long key, String messageId, String recipient, DeliveryStatus status, ChannelType channel,
+                            String notificationId, long millis) {
+            long now = System.currentTimeMillis();
+            if (current.size >= capacity || now - generationStart > ttlMillis) {
+                Table recycled = previous;
+                recycled.clear();
+                previous = current;
+                current = recycled;
+                generationStart = now;
+            }
+            current.set(current.freeSlot(key), key, messageId, recipient, status, channel, notificationId, millis);
+        }
+    }
+    /**
+     * Tabla de direccionamiento abierto con sondeo lineal y factor de carga máximo de 0,5.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final long[] states;
+        private final long[] uuidHigh;
+        private final long[] uuidLow;
+        private final String[] ids;
+        private final String[] messageIds;
+        private final String[] recipients;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            int slots = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            this.keys = new long[slots];
+            this.states = new long[slots];
+            this.uuidHigh = new long[slots];
+            this.uuidLow = new long[slots];
+            this.ids = new String[slots];
+            this.messageIds = new String[slots];
+            this.recipients = new String[slots];
+            this.mask = slots - 1;
+        }
+
+        private int home(long key) {
+            return (int) key & mask;
+        }
+
+        private int next(int slot) {
+            return (slot + 1) & mask;
+        }
+
+        /**
+         * Indica si la posición guarda el mensaje indicado; un destinatario null en la consulta o en la
+         * entrada abarca a todos los destinatarios del mensaje.
+         */
+        private boolean matches(int slot, long key, String messageId, String recipient) {
+            return keys[slot] == key
+                    && messageIds[slot].equals(messageId)
+                    && (recipient == null || recipients[slot] == null || recipient.equals(recipients[slot]));
+        }
+
+        private int freeSlot(long key) {
+            int slot = home(key);
+            while (keys[slot] != EMPTY) {
+                slot = next(slot);
+            }
+            return slot;
+        }
+
+        private void set(int slot, long key, String messageId, String recipient, DeliveryStatus status,
+                         ChannelType channel, String notificationId, long millis) {
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            messageIds[slot] = messageId;
+            recipients[slot] = recipient;
+            boolean uuid = isCanonicalUuid(notificationId);
+            if (uuid) {
+                UUID parsed = UUID.fromString(notificationId);
+                uuidHigh[slot] = parsed.getMostSignificantBits();
+                uuidLow[slot] = parsed.getLeastSignificantBits();
+                ids[slot] = null;
+            } else {
+                ids[slot] = notificationId;
+            }
+            states[slot] = pack(status, channel, uuid, millis);
+        }
+
+        private DeliveryRecord record(int slot) {
+            long state = states[slot];
+            int channel = (int) (state >>> CHANNEL_SHIFT) & 0x7;
+            return DeliveryRecord.builder()
+                    .providerMessageId(messageIds[slot])
+                    .recipient(recipients[slot])
+                    .notificationId(notificationId(slot))
+                    .channelType(channel == 0 ? null : CHANNELS[channel - 1])
+                    .status(STATUSES[(int) state & ((1 << STATUS_BITS) - 1)])
+                    .updatedAt(Instant.ofEpochMilli(state >>> TIME_SHIFT))
+                    .build();
+        }
+
+        private String notificationId(int slot) {
+            if ((states[slot] & UUID_FLAG) != 0) {
+                return new UUID(uuidHigh[slot], uuidLow[slot]).toString();
+            }
+            return ids[slot];
+        }
+
+        private void clear() {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(ids, null);
+            Arrays.fill(messageIds, null);
+            Arrays.fill(recipients, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Indica si el identificador es un UUID en minúsculas con el formato de {@link UUID#toString()},
+     * que puede reconstruirse exactamente desde sus 128 bits.
+     */
+    private static boolean isCanonicalUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
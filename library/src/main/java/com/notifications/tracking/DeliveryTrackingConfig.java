@@ -0,0 +1,35 @@
+package com.notifications.tracking;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuración del registro de estados de entrega.
+ */
+@Getter
+@Builder
+public class DeliveryTrackingConfig {
+
+    /**
+     * Cantidad máxima de mensajes registrados. El registro conserva entre la mitad y el total de este valor.
+     */
+    @Builder.Default
+    private final int maxEntries = 5_000_000;
+
+    /**
+     * Tiempo que se conserva un mensaje desde su última actualización.
+     */
+    @Builder.Default
+    private final Duration ttl = Duration.ofDays(3);
+
+    /**
+     * Crea la configuración por defecto.
+     *
+     * @return Configuración con los valores predeterminados
+     */
+    public static DeliveryTrackingConfig defaults() {
+        return DeliveryTrackingConfig.builder().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.notifications.tracking;
+
+import java.time.Instant;
+
+/**
+ * Actualización de estado recibida desde el webhook de un proveedor.
+ *
+ * @param providerMessageId Identificador asignado por el proveedor
+ * @param recipient         Destinatario al que se refiere el estado, o null para todos los del mensaje
+ * @param status            Nuevo estado
+ * @param timestamp         Momento del evento según el proveedor, o null para usar el momento de recepción
+ */
+public record DeliveryUpdate(String providerMessageId, String recipient, DeliveryStatus status, Instant timestamp) {
+
+    /**
+     * Crea una actualización que se aplica a todos los destinatarios del mensaje.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @param status            Nuevo estado
+     * @param timestamp         Momento del evento según el proveedor, o null para usar el momento de recepción
+     */
+    public DeliveryUpdate(String providerMessageId, DeliveryStatus status, Instant timestamp) {
+        this(providerMessageId, null, status, timestamp);
+    }
+
+    /**
+     * Crea una actualización con el momento de recepción.
+     *
+     * @param providerMessageId Identificador asignado por el proveedor
+     * @param status            Nuevo estado
+     * @return Actualización
+     */
+    public static DeliveryUpdate of(String providerMessageId, DeliveryStatus status) {
+        return new DeliveryUpdate(providerMessageId, null, status, null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.notifications.tracking;
+
+import com.notifications.core.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorador de canal que registra en el {@link DeliveryTracker} los mensajes entregados de cada envío.
+ * Al cerrarse cierra el canal decorado, para que las etapas que retienen notificaciones las envíen.
+ */
+public class TrackingChannel implements NotificationChannel, AutoCloseable {
+
+    private final NotificationChannel delegate;
+    private final DeliveryTracker tracker;
+
+    public TrackingChannel(NotificationChannel delegate, DeliveryTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public NotificationResult send(Notification notification) throws NotificationException {
+        NotificationResult result = delegate.send(notification);
+        tracker.record(result);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        return delegate.sendAsync(notification).thenApply(result -> {
+            tracker.record(result);
+            return result;
+        });
+    }
+
+    @Override
+    public boolean supports(Notification notification) {
+        return delegate.supports(notification);
+    }
+
+    @Override
+    public ChannelType getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
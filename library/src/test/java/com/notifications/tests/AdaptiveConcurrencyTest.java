@@ -0,0 +1,149 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.ChannelType;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import com.notifications.metrics.MetricsRegistry;
+import com.notifications.resilience.AdaptiveConcurrencyConfig;
+import com.notifications.resilience.AdaptiveConcurrencyLimiter;
+import com.notifications.resilience.ConcurrencyLimitAlgorithm;
+import com.notifications.resilience.ConcurrencyLimitSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void aimdBacksOffOnOverloadAndGrowsWhileSaturated() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ChannelType.EMAIL,
+                AdaptiveConcurrencyConfig.builder()
+                        .algorithm(ConcurrencyLimitAlgorithm.AIMD)
+                        .initialLimit(10)
+                        .timeout(Duration.ofMillis(100))
+                        .build(),
+                registry);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+
+        limiter.onError(MILLIS, NotificationException.ErrorType.VALIDATION_ERROR);
+        assertEquals(10, limiter.getLimit());
+        limiter.onError(MILLIS, NotificationException.ErrorType.PROVIDER_ERROR);
+        assertEquals(9, limiter.getLimit());
+        limiter.onSuccess(200 * MILLIS);
+        assertEquals(8, limiter.getLimit());
+        for (int i = 0; i < 7; i++) {
+            limiter.onSuccess(MILLIS);
+        }
+
+        // Mientras los permisos están en uso cada ronda de llamadas exitosas hace crecer el límite
+        for (int round = 0; round < 5; round++) {
+            int limit = limiter.getLimit();
+            for (int i = 0; i < limit; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < limit; i++) {
+                limiter.onSuccess(MILLIS);
+            }
+        }
+        assertTrue(limiter.getLimit() >= 10, "Límite: " + limiter.getLimit());
+        assertEquals(limiter.getLimit(), registry.snapshot().getConcurrencyLimits().get(0).getValue());
+    }
+
+    @Test
+    void gradientShrinksWhenLatencyRisesAboveTheLongTermBaseline() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ChannelType.SMS,
+                AdaptiveConcurrencyConfig.builder().initialLimit(20).maxLimit(200).build(),
+                new MetricsRegistry());
+
+        runSaturated(limiter, 200, MILLIS);
+        int grown = limiter.getLimit();
+        assertTrue(grown > 20, "Límite: " + grown);
+
+        // El proveedor empieza a encolar: la latencia se multiplica por diez
+        runSaturated(limiter, 1, 10 * MILLIS);
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < grown / 2, "Límite: " + grown + " -> " + shrunk);
+        assertEquals(MILLIS, limiter.getSnapshot().getMinRttNanos());
+    }
+
+    @Test
+    void queuesUpToTheLimitAndShedsTheRest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    started.countDown();
+                    release.await();
+                    return "msg";
+                })
+                .withAdaptiveConcurrency(AdaptiveConcurrencyConfig.builder()
+                        .initialLimit(1)
+                        .maxLimit(1)
+                        .maxQueueSize(1)
+                        .maxWait(Duration.ofMillis(200))
+                        .build())
+                .build()) {
+
+            CompletableFuture<NotificationResult> first = service.sendAsync(email());
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<NotificationResult> queued = service.sendAsync(email());
+            while (service.getConcurrencyLimits().get(ChannelType.EMAIL).getQueued() == 0) {
+                Thread.sleep(1);
+            }
+            CompletableFuture<NotificationResult> shed = service.sendAsync(email());
+
+            assertCapacityError(shed);
+            assertCapacityError(queued);
+            release.countDown();
+            assertTrue(first.get(5, TimeUnit.SECONDS).isSuccess());
+
+            ConcurrencyLimitSnapshot snapshot = service.getConcurrencyLimits().get(ChannelType.EMAIL);
+            assertEquals(1, snapshot.getLimit());
+            assertEquals(2, snapshot.getRejected());
+            assertEquals(0, snapshot.getInFlight());
+            assertEquals(0, snapshot.getQueued());
+        }
+    }
+
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int limit = limiter.getLimit();
+            for (int i = 0; i < limit; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < limit; i++) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+
+    private static Notification email() {
+        return Notification.builder()
+                .recipient("ana@example.com")
+                .subject("Aviso")
+                .content("hola")
+                .build();
+    }
+
+    private static void assertCapacityError(CompletableFuture<NotificationResult> future) {
+        ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals(NotificationException.ErrorType.CAPACITY_ERROR,
+                ((NotificationException) error.getCause()).getErrorType());
+    }
+}
@@ -0,0 +1,113 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.channels.sms.SmsProvider;
+import com.notifications.core.*;
+import com.notifications.resilience.BulkheadConfig;
+import com.notifications.resilience.RetryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncProviderTest {
+
+    @Test
+    void keepsThousandsOfCallsInFlightOnTwoThreads() throws Exception {
+        Queue<CompletableFuture<String>> calls = new ConcurrentLinkedQueue<>();
+        SmsProvider provider = new SmsProvider() {
+            @Override
+            public String sendSms(Set<String> recipients, String message, Map<String, Object> metadata) {
+                throw new UnsupportedOperationException("solo asíncrono");
+            }
+
+            @Override
+            public CompletableFuture<String> sendSmsAsync(Set<String> recipients, String message,
+                                                         Map<String, Object> metadata) {
+                CompletableFuture<String> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel(provider)
+                .withExecutor(executor)
+                .withDefaultBulkhead(BulkheadConfig.builder().maxConcurrent(5_000).build())
+                .build()) {
+
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                results.add(service.sendAsync(Notification.builder()
+                        .id("n-" + i)
+                        .recipient("+549111111" + String.format("%04d", i))
+                        .content("hola")
+                        .build()));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (calls.size() < 2_000 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(2_000, calls.size());
+            assertTrue(results.stream().noneMatch(CompletableFuture::isDone));
+
+            int id = 0;
+            for (CompletableFuture<String> call : calls) {
+                call.complete("sms-" + id++);
+            }
+            for (CompletableFuture<NotificationResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void retriesAsyncFailuresAndKeepsSyncProvidersWorking() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel(new SmsProvider() {
+                    @Override
+                    public String sendSms(Set<String> recipients, String message, Map<String, Object> metadata) {
+                        throw new UnsupportedOperationException("solo asíncrono");
+                    }
+
+                    @Override
+                    public CompletableFuture<String> sendSmsAsync(Set<String> recipients, String message,
+                                                                 Map<String, Object> metadata) {
+                        return attempts.incrementAndGet() == 1
+                                ? CompletableFuture.failedFuture(new IOException("timeout"))
+                                : CompletableFuture.completedFuture("sms-ok");
+                    }
+                })
+                .withEmailChannel((recipients, subject, content, metadata) -> "email-ok")
+                .withRetry(RetryPolicy.builder().initialDelay(Duration.ofMillis(1)).build())
+                .build()) {
+
+            NotificationResult sms = service.sendAsync(Notification.builder()
+                    .recipient("+5491111111111")
+                    .content("hola")
+                    .build()).get(5, TimeUnit.SECONDS);
+            assertEquals("sms-ok", sms.getProviderMessageId());
+            assertEquals(2, attempts.get());
+
+            NotificationResult email = service.send(Notification.builder()
+                    .recipient("ana@example.com")
+                    .content("hola")
+                    .build());
+            assertEquals("email-ok", email.getProviderMessageId());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.broadcast.BroadcastMode;
+import com.notifications.broadcast.BroadcastOptions;
+import com.notifications.broadcast.BroadcastResult;
+import com.notifications.core.*;
+import com.notifications.dedup.DeduplicationConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadcastTest {
+
+    private static final Notification ALERT = Notification.builder()
+            .id("alerta-1")
+            .recipient("ops@example.com")
+            .content("Base de datos caída")
+            .build();
+
+    @Test
+    void allModeDeliversThroughEveryChannelDespiteDeduplication() throws NotificationException {
+        AtomicInteger calls = new AtomicInteger();
+        try (NotificationService service = new NotificationService.Builder()
+                .withCustomChannel(ChannelType.EMAIL, channel(ChannelType.EMAIL, calls, null, false))
+                .withCustomChannel(ChannelType.SMS, channel(ChannelType.SMS, calls, null, false))
+                .withCustomChannel(ChannelType.PUSH, channel(ChannelType.PUSH, calls, null, true))
+                .withDeduplication(DeduplicationConfig.defaults())
+                .build()) {
+
+            BroadcastResult result = service.broadcast(ALERT, BroadcastOptions.defaults());
+
+            assertFalse(result.isSuccess());
+            assertEquals(3, calls.get());
+            assertEquals(Set.of(ChannelType.EMAIL, ChannelType.SMS), result.getSuccessfulChannels());
+            assertFalse(result.getResult(ChannelType.PUSH).isSuccess());
+            assertTrue(result.getPendingChannels().isEmpty());
+
+            BroadcastResult repeated = service.broadcast(ALERT, BroadcastOptions.builder()
+                    .channel(ChannelType.EMAIL)
+                    .channel(ChannelType.SMS)
+                    .build());
+            assertTrue(repeated.isSuccess());
+            assertEquals(3, calls.get());
+        }
+    }
+
+    @Test
+    void firstSuccessCompletesWithoutWaitingForSlowChannels() throws NotificationException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        try (NotificationService service = new NotificationService.Builder()
+                .withCustomChannel(ChannelType.EMAIL, channel(ChannelType.EMAIL, calls, release, false))
+                .withCustomChannel(ChannelType.PUSH, channel(ChannelType.PUSH, calls, null, false))
+                .build()) {
+
+            BroadcastResult result = service.broadcast(ALERT, BroadcastOptions.builder()
+                    .mode(BroadcastMode.FIRST_SUCCESS)
+                    .build());
+
+            assertTrue(result.isSuccess());
+            assertEquals(Set.of(ChannelType.PUSH), result.getSuccessfulChannels());
+            assertEquals(Set.of(ChannelType.EMAIL), result.getPendingChannels());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void quorumFailsAsSoonAsItCannotBeReached() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        try (NotificationService service = new NotificationService.Builder()
+                .withCustomChannel(ChannelType.EMAIL, channel(ChannelType.EMAIL, calls, release, false))
+                .withCustomChannel(ChannelType.SMS, channel(ChannelType.SMS, calls, null, true))
+                .withCustomChannel(ChannelType.PUSH, channel(ChannelType.PUSH, calls, null, true))
+                .build()) {
+
+            BroadcastResult result = service.broadcastAsync(ALERT, BroadcastOptions.builder()
+                    .mode(BroadcastMode.QUORUM)
+                    .quorum(2)
+                    .build()).join();
+
+            assertFalse(result.isSuccess());
+            assertEquals(Set.of(ChannelType.EMAIL), result.getPendingChannels());
+            release.countDown();
+
+            assertThrows(IllegalArgumentException.class, () -> service.broadcast(ALERT, BroadcastOptions.builder()
+                    .mode(BroadcastMode.QUORUM)
+                    .quorum(4)
+                    .build()));
+        }
+    }
+
+    @Test
+    void eachChannelOnlyReceivesItsOwnRecipients() throws NotificationException {
+        Map<ChannelType, Set<String>> delivered = new ConcurrentHashMap<>();
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    delivered.put(ChannelType.EMAIL, recipients);
+                    return "email-1";
+                })
+                .withSmsChannel((recipients, message, metadata) -> {
+                    delivered.put(ChannelType.SMS, recipients);
+                    return "sms-1";
+                })
+                .withPushChannel((tokens, title, body, metadata) -> {
+                    delivered.put(ChannelType.PUSH, tokens);
+                    return "push-1";
+                })
+                .build()) {
+
+            BroadcastResult result = service.broadcast(Notification.builder()
+                    .id("alerta-2")
+                    .recipient("ops@example.com")
+                    .recipient("+5491155550000")
+                    .content("Base de datos caída")
+                    .build(), BroadcastOptions.defaults());
+
+            assertTrue(result.isSuccess());
+            assertEquals(Set.of(ChannelType.EMAIL, ChannelType.SMS), result.getSuccessfulChannels());
+            assertEquals(Map.of(
+                    ChannelType.EMAIL, Set.of("ops@example.com"),
+                    ChannelType.SMS, Set.of("+5491155550000")), delivered);
+
+            // Un canal solicitado sin destinatarios de su tipo figura como fallido sin llamar al proveedor
+            BroadcastResult requested = service.broadcast(Notification.builder()
+                    .recipient("ops@example.com")
+                    .content("Base de datos caída")
+                    .build(), BroadcastOptions.builder()
+                    .channel(ChannelType.EMAIL)
+                    .channel(ChannelType.PUSH)
+                    .build());
+            assertFalse(requested.getResult(ChannelType.PUSH).isSuccess());
+            assertEquals(Set.of(ChannelType.EMAIL), requested.getSuccessfulChannels());
+            assertFalse(delivered.containsKey(ChannelType.PUSH));
+        }
+    }
+
+    private static NotificationChannel channel(ChannelType type, AtomicInteger calls, CountDownLatch gate, boolean fail) {
+        return new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) throws NotificationException {
+                calls.incrementAndGet();
+                if (gate != null) {
+                    try {
+                        gate.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if (fail) {
+                    throw new NotificationException("proveedor caído", NotificationException.ErrorType.PROVIDER_ERROR, type);
+                }
+                return NotificationResult.success(notification.getId(), type, type + "-1");
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return type;
+            }
+        };
+    }
+}
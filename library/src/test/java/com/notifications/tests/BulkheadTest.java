@@ -0,0 +1,68 @@
+package com.notifications.tests;
+
+import com.notifications.core.ChannelType;
+import com.notifications.core.NotificationException;
+import com.notifications.resilience.Bulkhead;
+import com.notifications.resilience.BulkheadConfig;
+import com.notifications.resilience.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsWhenPermitsAndQueueAreExhausted() throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Bulkhead bulkhead = new Bulkhead(ChannelType.SMS, BulkheadConfig.builder()
+                .maxConcurrent(1)
+                .maxQueueSize(1)
+                .overflowPolicy(OverflowPolicy.REJECT)
+                .build(), executor);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = bulkhead.submit(() -> {
+            release.await();
+            return "a";
+        });
+        CompletableFuture<String> queued = bulkhead.submit(() -> "b");
+        CompletableFuture<String> rejected = bulkhead.submit(() -> "c");
+
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        NotificationException cause = assertInstanceOf(NotificationException.class, error.getCause());
+        assertEquals(NotificationException.ErrorType.CAPACITY_ERROR, cause.getErrorType());
+        assertEquals(1, bulkhead.getMetrics().getQueued());
+
+        release.countDown();
+        assertEquals("a", running.get(1, TimeUnit.SECONDS));
+        assertEquals("b", queued.get(1, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getMetrics().getRejected());
+        executor.close();
+    }
+
+    @Test
+    void dropOldestFailsTheOldestQueuedTask() throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Bulkhead bulkhead = new Bulkhead(ChannelType.EMAIL, BulkheadConfig.builder()
+                .maxConcurrent(1)
+                .maxQueueSize(1)
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+                .build(), executor);
+
+        CountDownLatch release = new CountDownLatch(1);
+        bulkhead.submit(() -> {
+            release.await();
+            return "a";
+        });
+        CompletableFuture<String> oldest = bulkhead.submit(() -> "b");
+        CompletableFuture<String> newest = bulkhead.submit(() -> "c");
+
+        assertThrows(ExecutionException.class, () -> oldest.get(1, TimeUnit.SECONDS));
+        release.countDown();
+        assertEquals("c", newest.get(1, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getMetrics().getDropped());
+        executor.close();
+    }
+}
@@ -0,0 +1,122 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.resilience.CircuitBreaker;
+import com.notifications.resilience.CircuitBreakerChannel;
+import com.notifications.resilience.CircuitBreakerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterFailuresAndFailsOverToNextChannel() throws NotificationException {
+        AtomicInteger emailCalls = new AtomicInteger();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    emailCalls.incrementAndGet();
+                    throw new IOException("SendGrid no responde");
+                })
+                .withPushChannel((tokens, title, body, metadata) -> "fcm-ok")
+                .withCircuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(10)
+                        .minimumCalls(4)
+                        .failureRateThreshold(50)
+                        .openDuration(Duration.ofMinutes(1))
+                        .build())
+                .build()) {
+
+            Notification notification = Notification.builder()
+                    .id("alert-1")
+                    .recipient("ops@example.com")
+                    .recipient("fcm-token-ops")
+                    .subject("Alerta")
+                    .content("Servicio degradado")
+                    .preferredChannel(ChannelType.EMAIL)
+                    .build();
+
+            for (int i = 0; i < 4; i++) {
+                assertThrows(NotificationException.class, () -> service.send(notification));
+            }
+            assertEquals(CircuitBreaker.State.OPEN, service.getCircuitBreakerState(ChannelType.EMAIL).orElseThrow());
+
+            NotificationResult result = service.send(notification);
+
+            assertEquals(ChannelType.PUSH, result.getChannelType());
+            assertEquals(4, emailCalls.get());
+        }
+    }
+
+    @Test
+    void halfOpenTrialsCloseTheCircuit() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(ChannelType.SMS, CircuitBreakerConfig.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .openDuration(Duration.ofMillis(20))
+                .halfOpenPermittedCalls(1)
+                .build());
+        NotificationException failure = new NotificationException(
+                "fallo", NotificationException.ErrorType.SEND_ERROR, ChannelType.SMS);
+
+        breaker.onError(failure);
+        breaker.onError(failure);
+        assertFalse(breaker.tryAcquirePermission());
+
+        Thread.sleep(30);
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void partialResultsCountAsFailures() throws NotificationException {
+        CircuitBreaker breaker = new CircuitBreaker(ChannelType.SMS, CircuitBreakerConfig.builder()
+                .slidingWindowSize(4)
+                .minimumCalls(4)
+                .failureRateThreshold(50)
+                .openDuration(Duration.ofMinutes(1))
+                .build());
+        CircuitBreakerChannel channel = new CircuitBreakerChannel(new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) {
+                return NotificationResult.of(notification.getId(), ChannelType.SMS, List.of(
+                        RecipientResult.delivered("+34600000001", "sms-1"),
+                        RecipientResult.failed("+34600000002", "Número no disponible")), 2);
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.SMS;
+            }
+        }, breaker);
+        Notification notification = Notification.builder()
+                .id("otp-1")
+                .recipient("+34600000001")
+                .recipient("+34600000002")
+                .content("Código 1234")
+                .build();
+
+        channel.send(notification);
+        channel.send(notification);
+        channel.sendAsync(notification).join();
+        channel.sendAsync(notification).join();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(NotificationException.class, () -> channel.send(notification));
+    }
+}
@@ -0,0 +1,140 @@
+package com.notifications.tests;
+
+import com.notifications.coalescing.CoalescingChannel;
+import com.notifications.coalescing.CoalescingConfig;
+import com.notifications.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingChannelTest {
+
+    @Test
+    void mergesIdenticalNotificationsIntoOneProviderCall() throws Exception {
+        List<Notification> calls = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        // La ventana no vence durante la prueba: las ventanas se envían al llenarse o de forma explícita
+        CoalescingChannel channel = new CoalescingChannel(recordingEmail(calls), CoalescingConfig.builder()
+                .window(Duration.ofHours(1))
+                .maxBatchSize(50)
+                .build(), scheduler, Runnable::run);
+        try {
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 101; i++) {
+                results.add(channel.sendAsync(Notification.builder()
+                        .id("otp-" + i)
+                        .recipient("user" + i + "@example.com")
+                        .subject("Código")
+                        .content("Tu código expira en 5 minutos")
+                        .build()));
+            }
+
+            assertEquals(2, calls.size());
+            assertFalse(results.get(100).isDone());
+
+            channel.flush();
+
+            assertEquals(3, calls.size());
+            assertEquals(101, calls.stream().mapToInt(call -> call.getRecipients().size()).sum());
+            for (int i = 0; i < 101; i++) {
+                NotificationResult result = results.get(i).get(5, TimeUnit.SECONDS);
+                assertTrue(result.isSuccess());
+                assertEquals("otp-" + i, result.getNotificationId());
+                assertEquals("sg-" + (i / 50 + 1), result.getProviderMessageId());
+            }
+
+            // Sin ventanas abiertas el envío explícito no llama al proveedor
+            channel.flush();
+            assertEquals(3, calls.size());
+        } finally {
+            channel.close();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void doesNotMergeNotificationsThatShareRecipients() throws Exception {
+        List<Notification> calls = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CoalescingChannel channel = new CoalescingChannel(recordingEmail(calls), CoalescingConfig.builder()
+                .window(Duration.ofHours(1))
+                .build(), scheduler, Runnable::run);
+        try {
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (String recipient : List.of("ana@example.com", "luis@example.com", "ana@example.com")) {
+                results.add(channel.sendAsync(Notification.builder()
+                        .recipient(recipient)
+                        .subject("Recordatorio")
+                        .content("Tu turno es mañana")
+                        .build()));
+            }
+            channel.flush();
+            for (CompletableFuture<NotificationResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+
+            // La segunda notificación para ana no se pierde dentro del primer envío agrupado
+            assertEquals(2, calls.size());
+            assertEquals(Set.of("ana@example.com", "luis@example.com"), calls.get(0).getRecipients());
+            assertEquals(Set.of("ana@example.com"), calls.get(1).getRecipients());
+            assertNotEquals(results.get(0).get().getProviderMessageId(), results.get(2).get().getProviderMessageId());
+        } finally {
+            channel.close();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void sendsImmediatelyAfterClose() throws Exception {
+        List<Notification> calls = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CoalescingChannel channel = new CoalescingChannel(recordingEmail(calls), CoalescingConfig.builder()
+                .window(Duration.ofHours(1))
+                .build(), scheduler, Runnable::run);
+        try {
+            CompletableFuture<NotificationResult> held = channel.sendAsync(Notification.builder()
+                    .recipient("ana@example.com")
+                    .content("hola")
+                    .build());
+            assertFalse(held.isDone());
+
+            channel.close();
+            assertTrue(held.get(5, TimeUnit.SECONDS).isSuccess());
+
+            NotificationResult late = channel.send(Notification.builder()
+                    .recipient("luis@example.com")
+                    .content("hola")
+                    .build());
+            assertTrue(late.isSuccess());
+            assertEquals(2, calls.size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static NotificationChannel recordingEmail(List<Notification> calls) {
+        return new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) {
+                calls.add(notification);
+                return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "sg-" + calls.size());
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.EMAIL;
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.dedup.DeduplicationCache;
+import com.notifications.dedup.DeduplicationConfig;
+import com.notifications.dedup.DeduplicationKey;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeduplicationTest {
+
+    @Test
+    void duplicateReturnsOriginalResultWithoutCallingProvider() throws NotificationException {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> "sms-" + calls.incrementAndGet())
+                .withDeduplication(DeduplicationConfig.defaults())
+                .build()) {
+
+            Notification notification = Notification.builder()
+                    .id("otp-123")
+                    .recipient("+5491112345678")
+                    .content("Tu código es 4321")
+                    .build();
+
+            NotificationResult first = service.send(notification);
+            NotificationResult second = service.send(notification);
+
+            assertSame(first, second);
+            assertEquals(1, calls.get());
+            assertEquals(1, service.getDeduplicationStats().orElseThrow().getHits());
+        }
+    }
+
+    @Test
+    void concurrentDuplicatesShareOneSend() throws Exception {
+        DeduplicationCache cache = new DeduplicationCache(DeduplicationConfig.builder()
+                .key(DeduplicationKey.CONTENT)
+                .build());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSender sender = notification -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "msg-1");
+        };
+
+        List<Future<NotificationResult>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                Notification notification = Notification.builder()
+                        .id("intento-" + i)
+                        .recipient("user@example.com")
+                        .content("Hola")
+                        .build();
+                futures.add(executor.submit(() -> cache.execute(notification, sender)));
+            }
+            while (cache.getStats().getCoalesced() + cache.getStats().getMisses() < 20) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+        }
+
+        assertEquals(1, calls.get());
+        for (Future<NotificationResult> future : futures) {
+            assertEquals("msg-1", future.get().getProviderMessageId());
+        }
+    }
+
+    @Test
+    void failedSendsAreNotRemembered() throws NotificationException {
+        DeduplicationCache cache = new DeduplicationCache(DeduplicationConfig.defaults());
+        AtomicInteger calls = new AtomicInteger();
+        Notification notification = Notification.builder().id("n-1").recipient("user@example.com").content("Hola").build();
+
+        assertThrows(NotificationException.class, () -> cache.execute(notification, n -> {
+            calls.incrementAndGet();
+            throw new NotificationException("Proveedor caído", NotificationException.ErrorType.PROVIDER_ERROR,
+                    ChannelType.EMAIL, new IOException("timeout"));
+        }));
+        NotificationResult result = cache.execute(notification, n -> {
+            calls.incrementAndGet();
+            return NotificationResult.success(n.getId(), ChannelType.EMAIL, "ok");
+        });
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, calls.get());
+    }
+}
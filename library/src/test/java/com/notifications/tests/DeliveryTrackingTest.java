@@ -0,0 +1,156 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.coalescing.CoalescingConfig;
+import com.notifications.core.*;
+import com.notifications.digest.DigestConfig;
+import com.notifications.tracking.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryTrackingTest {
+
+    @Test
+    void closingTheServiceFlushesNotificationsHeldBelowTheTracker() {
+        CompletableFuture<NotificationResult> held;
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> "SM-1")
+                .withDigest(DigestConfig.builder().window(Duration.ofHours(1)).build())
+                .withDeliveryTracking(DeliveryTrackingConfig.defaults())
+                .withExecutor(Runnable::run)
+                .build()) {
+            held = service.sendAsync(Notification.builder()
+                    .id("resumen-1")
+                    .recipient("+5491100000001")
+                    .content("hola")
+                    .priority(Notification.Priority.LOW)
+                    .build());
+            assertFalse(held.isDone());
+        }
+
+        NotificationResult result = held.orTimeout(5, TimeUnit.SECONDS).join();
+        assertTrue(result.isSuccess());
+        assertEquals("SM-1", result.getProviderMessageId());
+    }
+
+    @Test
+    void tracksSentMessagesAndAppliesProviderCallbacks() throws NotificationException {
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> "SM-" + recipients.iterator().next())
+                .withDeliveryTracking(DeliveryTrackingConfig.defaults())
+                .build()) {
+            DeliveryTracker tracker = service.getDeliveryTracker().orElseThrow();
+            String id = UUID.randomUUID().toString();
+
+            // El webhook puede llegar antes que el resultado del envío
+            assertFalse(tracker.update("SM-+5491100000002", DeliveryStatus.DELIVERED));
+
+            service.send(Notification.builder().id(id).recipient("+5491100000001").content("hola").build());
+            service.send(Notification.builder().id("pedido-42").recipient("+5491100000002").content("hola").build());
+
+            DeliveryRecord sent = tracker.find("SM-+5491100000001").orElseThrow();
+            assertEquals(id, sent.getNotificationId());
+            assertEquals(ChannelType.SMS, sent.getChannelType());
+            assertEquals(DeliveryStatus.SENT, sent.getStatus());
+
+            DeliveryRecord early = tracker.find("SM-+5491100000002").orElseThrow();
+            assertEquals("pedido-42", early.getNotificationId());
+            assertEquals(DeliveryStatus.DELIVERED, early.getStatus());
+
+            assertEquals(1, tracker.ingest(List.of(
+                    DeliveryUpdate.of("SM-+5491100000001", DeliveryStatus.BOUNCED),
+                    DeliveryUpdate.of("desconocido", DeliveryStatus.FAILED))));
+            assertTrue(tracker.update("SM-+5491100000001", DeliveryStatus.SENT));
+            tracker.ingest(List.of(new DeliveryUpdate("SM-+5491100000001", DeliveryStatus.DELIVERED, Instant.EPOCH)));
+            assertEquals(DeliveryStatus.BOUNCED, tracker.find("SM-+5491100000001").orElseThrow().getStatus());
+
+            assertNull(tracker.find("desconocido").orElseThrow().getNotificationId());
+            assertTrue(tracker.find("otro").isEmpty());
+        }
+    }
+
+    @Test
+    void absorbsCallbackBurstsAndEvictsExpiredEntries() throws InterruptedException {
+        DeliveryTracker tracker = new DeliveryTracker(DeliveryTrackingConfig.builder()
+                .maxEntries(500_000)
+                .build());
+        int messages = 200_000;
+        for (int i = 0; i < messages; i++) {
+            tracker.record(NotificationResult.of(UUID.randomUUID().toString(), ChannelType.SMS, List.of(
+                    RecipientResult.delivered("+54911" + i, "msg-" + i),
+                    RecipientResult.delivered("+54922" + i, "alt-" + i)), 0));
+        }
+
+        List<DeliveryUpdate> burst = new ArrayList<>(50_000);
+        int matched = 0;
+        for (int i = 0; i < messages; i++) {
+            burst.add(DeliveryUpdate.of((i % 2 == 0 ? "msg-" : "alt-") + i, DeliveryStatus.DELIVERED));
+            if (burst.size() == 50_000) {
+                matched += tracker.ingest(burst);
+                burst.clear();
+            }
+        }
+        assertEquals(messages, matched);
+        assertEquals(DeliveryStatus.DELIVERED, tracker.find("alt-199999").orElseThrow().getStatus());
+        assertEquals(DeliveryStatus.SENT, tracker.find("msg-199999").orElseThrow().getStatus());
+
+        DeliveryTracker shortLived = new DeliveryTracker(DeliveryTrackingConfig.builder()
+                .ttl(Duration.ofMillis(100))
+                .build());
+        shortLived.record(NotificationResult.success("n-1", ChannelType.EMAIL, "msg-1"));
+        assertTrue(shortLived.find("msg-1").isPresent());
+        Thread.sleep(200);
+        assertTrue(shortLived.find("msg-1").isEmpty());
+    }
+
+    @Test
+    void attributesSharedMessagesOfCoalescedSendsToEachRecipient() throws Exception {
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> "sg-1")
+                .withCoalescing(CoalescingConfig.builder()
+                        .window(Duration.ofSeconds(5))
+                        .maxBatchSize(2)
+                        .build())
+                .withDeliveryTracking(DeliveryTrackingConfig.defaults())
+                .build()) {
+            DeliveryTracker tracker = service.getDeliveryTracker().orElseThrow();
+
+            CompletableFuture<NotificationResult> ana = service.sendAsync(Notification.builder()
+                    .id("pedido-1").recipient("ana@example.com").subject("Envío").content("En camino").build());
+            CompletableFuture<NotificationResult> luis = service.sendAsync(Notification.builder()
+                    .id("pedido-2").recipient("luis@example.com").subject("Envío").content("En camino").build());
+            assertEquals("sg-1", ana.get(5, TimeUnit.SECONDS).getProviderMessageId());
+            assertEquals("sg-1", luis.get(5, TimeUnit.SECONDS).getProviderMessageId());
+
+            assertEquals("pedido-1", tracker.find("sg-1", "ana@example.com").orElseThrow().getNotificationId());
+            assertEquals("pedido-2", tracker.find("sg-1", "luis@example.com").orElseThrow().getNotificationId());
+            assertEquals(2, tracker.findAll("sg-1").size());
+
+            assertTrue(tracker.update("sg-1", "luis@example.com", DeliveryStatus.BOUNCED));
+            assertEquals(DeliveryStatus.SENT, tracker.find("sg-1", "ana@example.com").orElseThrow().getStatus());
+            assertEquals(DeliveryStatus.BOUNCED, tracker.find("sg-1", "luis@example.com").orElseThrow().getStatus());
+
+            // Un identificador sin registrar no coincide con los registrados; se conserva sin notificación
+            assertFalse(tracker.update("sg-2", DeliveryStatus.DELIVERED));
+            assertNull(tracker.find("sg-2").orElseThrow().getNotificationId());
+
+            // El estado anticipado se copia a cada destinatario registrado y no vuelve a listarse aparte
+            tracker.record(NotificationResult.of("pedido-3", ChannelType.EMAIL, List.of(
+                    RecipientResult.delivered("ana@example.com", "sg-2"),
+                    RecipientResult.delivered("luis@example.com", "sg-2")), 0));
+            List<DeliveryRecord> records = tracker.findAll("sg-2");
+            assertEquals(2, records.size());
+            assertTrue(records.stream().allMatch(record -> record.getStatus() == DeliveryStatus.DELIVERED
+                    && "pedido-3".equals(record.getNotificationId())));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.notifications.tests;
+
+import com.notifications.core.*;
+import com.notifications.digest.DigestChannel;
+import com.notifications.digest.DigestConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigestTest {
+
+    @Test
+    void combinesLowPriorityNotificationsPerRecipientAndBypassesUrgentOnes() throws Exception {
+        List<Notification> sent = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        NotificationChannel email = new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) {
+                sent.add(notification);
+                return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "msg-" + sent.size());
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.EMAIL;
+            }
+        };
+        // La ventana no vence durante la prueba: el resumen se envía de forma explícita
+        DigestChannel channel = new DigestChannel(email, DigestConfig.builder()
+                .window(Duration.ofHours(1))
+                .build(), scheduler, Runnable::run);
+        try {
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(channel.sendAsync(Notification.builder()
+                        .id("n-" + i)
+                        .recipient("ana@example.com")
+                        .subject("Aviso " + i)
+                        .content("contenido " + i)
+                        .priority(i % 2 == 0 ? Notification.Priority.LOW : Notification.Priority.NORMAL)
+                        .build()));
+            }
+            NotificationResult urgent = channel.send(Notification.builder()
+                    .id("urgente")
+                    .recipient("ana@example.com")
+                    .content("ahora")
+                    .priority(Notification.Priority.URGENT)
+                    .build());
+
+            assertEquals(1, sent.size());
+            assertEquals("msg-1", urgent.getProviderMessageId());
+            assertTrue(results.stream().noneMatch(CompletableFuture::isDone));
+            assertEquals(1, channel.getPendingDigests());
+
+            channel.flush();
+
+            for (int i = 0; i < results.size(); i++) {
+                NotificationResult result = results.get(i).get(5, TimeUnit.SECONDS);
+                assertTrue(result.isSuccess());
+                assertEquals("n-" + i, result.getNotificationId());
+                assertEquals("msg-2", result.getProviderMessageId());
+            }
+            assertEquals(2, sent.size());
+            assertEquals(0, channel.getPendingDigests());
+            Notification digest = sent.get(1);
+            assertEquals("Tienes 4 notificaciones", digest.getSubject());
+            assertTrue(digest.getContent().startsWith("Aviso 0: contenido 0\n\nAviso 1: contenido 1"));
+        } finally {
+            channel.close();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void treatsMissingPriorityAsNormalAndSendsImmediatelyAfterClose() throws Exception {
+        List<Notification> sent = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        NotificationChannel email = new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) {
+                sent.add(notification);
+                return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "msg-" + sent.size());
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.EMAIL;
+            }
+        };
+        DigestChannel channel = new DigestChannel(email, DigestConfig.builder()
+                .window(Duration.ofHours(1))
+                .build(), scheduler, Runnable::run);
+        try {
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(channel.sendAsync(Notification.builder()
+                        .id("n-" + i)
+                        .recipient("ana@example.com")
+                        .content("contenido " + i)
+                        .priority(null)
+                        .build()));
+            }
+            assertEquals(1, channel.getPendingDigests());
+
+            channel.close();
+
+            for (CompletableFuture<NotificationResult> result : results) {
+                assertEquals("msg-1", result.get(5, TimeUnit.SECONDS).getProviderMessageId());
+            }
+            assertEquals(Notification.Priority.NORMAL, sent.get(0).getPriority());
+
+            // Tras el cierre nada queda retenido en un resumen que ya no se enviaría
+            CompletableFuture<NotificationResult> late = channel.sendAsync(Notification.builder()
+                    .id("tarde")
+                    .recipient("ana@example.com")
+                    .content("hola")
+                    .priority(Notification.Priority.LOW)
+                    .build());
+            assertEquals("msg-2", late.get(5, TimeUnit.SECONDS).getProviderMessageId());
+            assertEquals(0, channel.getPendingDigests());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void boundsPendingDigestsByFlushingTheOldest() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        NotificationChannel email = new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) {
+                calls.incrementAndGet();
+                return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "m");
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.EMAIL;
+            }
+        };
+        DigestChannel channel = new DigestChannel(email, DigestConfig.builder()
+                .window(Duration.ofHours(1))
+                .maxPendingDigests(100)
+                .maxNotifications(3)
+                .build(), scheduler, Runnable::run);
+        try {
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                results.add(channel.sendAsync(Notification.builder()
+                        .id("n-" + i)
+                        .recipient("u" + i + "@example.com")
+                        .content("hola")
+                        .priority(Notification.Priority.LOW)
+                        .build()));
+            }
+            assertEquals(100, channel.getPendingDigests());
+            assertEquals(9_900, calls.get());
+            assertTrue(results.get(0).isDone());
+
+            // El destinatario más reciente completa su resumen y se envía sin esperar la ventana
+            for (int i = 0; i < 2; i++) {
+                channel.sendAsync(Notification.builder().id("r-" + i).recipient("u9999@example.com").content("más").build());
+            }
+            assertEquals(9_901, calls.get());
+
+            channel.close();
+            assertEquals(10_000, calls.get());
+            assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.coalescing.CoalescingConfig;
+import com.notifications.core.*;
+import com.notifications.frequency.FrequencyCapConfig;
+import com.notifications.frequency.WindowedCountMinSketch;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrequencyCapTest {
+
+    @Test
+    void closingTheServiceFlushesHeldNotificationsAndStopsAcceptingSends() {
+        NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> "msg")
+                .withCoalescing(CoalescingConfig.builder().window(Duration.ofHours(1)).build())
+                .withFrequencyCap(ChannelType.EMAIL, FrequencyCapConfig.builder().maxPerWindow(5).build())
+                .withExecutor(Runnable::run)
+                .build();
+        Notification notification = Notification.builder().recipient("ana@example.com").content("hola").build();
+
+        CompletableFuture<NotificationResult> held = service.sendAsync(notification);
+        assertFalse(held.isDone());
+        service.close();
+
+        assertTrue(held.orTimeout(5, TimeUnit.SECONDS).join().isSuccess());
+        NotificationException closed = assertThrows(NotificationException.class, () -> service.send(notification));
+        assertEquals(NotificationException.ErrorType.CAPACITY_ERROR, closed.getErrorType());
+    }
+
+    @Test
+    void capsEachRecipientAndSendsToTheRest() throws NotificationException {
+        List<Set<String>> calls = new CopyOnWriteArrayList<>();
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    calls.add(Set.copyOf(recipients));
+                    return "msg";
+                })
+                .withFrequencyCap(ChannelType.EMAIL, FrequencyCapConfig.builder()
+                        .maxPerWindow(3)
+                        .memoryBytes(1024 * 1024)
+                        .build())
+                .build()) {
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(service.send(email("ana@example.com")).isSuccess());
+            }
+            NotificationException capped = assertThrows(NotificationException.class,
+                    () -> service.send(email("ana@example.com")));
+            assertEquals(NotificationException.ErrorType.FREQUENCY_CAP_ERROR, capped.getErrorType());
+
+            NotificationResult partial = service.send(Notification.builder()
+                    .recipient("ana@example.com")
+                    .recipient("luis@example.com")
+                    .content("hola")
+                    .build());
+            // El destinatario omitido figura como fallido con el motivo, sin afectar al resto
+            assertFalse(partial.isSuccess());
+            assertEquals("Notificación enviada a 1 de 2 destinatarios", partial.getMessage());
+            RecipientResult omitted = partial.getRecipientResults().stream()
+                    .filter(recipient -> recipient.getRecipient().equals("ana@example.com"))
+                    .findFirst().orElseThrow();
+            assertFalse(omitted.isSuccess());
+            assertTrue(omitted.getErrorMessage().startsWith("Límite de 3 notificaciones"));
+            assertTrue(partial.getRecipientResults().stream()
+                    .anyMatch(recipient -> recipient.getRecipient().equals("luis@example.com") && recipient.isSuccess()));
+            assertEquals(Set.of("luis@example.com"), calls.get(calls.size() - 1));
+            assertEquals(4, calls.size());
+        }
+    }
+
+    @Test
+    void sketchForgetsCountsAfterTheWindowAndRarelyOverestimates() throws InterruptedException {
+        WindowedCountMinSketch sliding = new WindowedCountMinSketch(4, 2, Duration.ofMillis(200), 64 * 1024);
+        assertTrue(sliding.tryIncrement(42L, 2));
+        assertTrue(sliding.tryIncrement(42L, 2));
+        assertFalse(sliding.tryIncrement(42L, 2));
+        Thread.sleep(350);
+        assertTrue(sliding.tryIncrement(42L, 2));
+
+        WindowedCountMinSketch sketch = new WindowedCountMinSketch(4, 1, Duration.ofHours(1), 4 * 1024 * 1024);
+        int keys = 100_000;
+        int falsePositives = 0;
+        for (long key = 0; key < keys; key++) {
+            if (!sketch.tryIncrement(mix(key), 1)) {
+                falsePositives++;
+            }
+        }
+        for (long key = 0; key < keys; key++) {
+            assertTrue(sketch.estimate(mix(key)) >= 1);
+            assertFalse(sketch.tryIncrement(mix(key), 1));
+        }
+        assertTrue(falsePositives < keys / 100, "sobrestimaciones: " + falsePositives);
+        assertEquals(4 * 1024 * 1024, sketch.getMemoryBytes());
+    }
+
+    private static Notification email(String recipient) {
+        return Notification.builder().recipient(recipient).content("hola").build();
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
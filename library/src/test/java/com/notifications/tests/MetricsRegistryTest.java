@@ -0,0 +1,95 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.metrics.MetricsRegistry;
+import com.notifications.metrics.MetricsSnapshot;
+import com.notifications.metrics.Phase;
+import com.notifications.metrics.PrometheusFormatter;
+import com.notifications.resilience.RateLimitConfig;
+import com.notifications.resilience.RateLimitPolicy;
+import com.notifications.resilience.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void recordsPhasesOutcomesAndExportsPrometheusText() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicBoolean fail = new AtomicBoolean();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    if (fail.get()) {
+                        throw new IOException("SMTP caído");
+                    }
+                    return "msg-1";
+                })
+                .withMetrics(registry)
+                .build()) {
+
+            Notification notification = Notification.builder()
+                    .recipient("user@example.com")
+                    .content("Hola")
+                    .build();
+
+            assertDoesNotThrow(() -> service.send(notification));
+            fail.set(true);
+            assertThrows(NotificationException.class, () -> service.send(notification));
+        }
+
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        MetricsSnapshot.Latency providerCall = snapshot.getLatencies().stream()
+                .filter(latency -> latency.getPhase() == Phase.PROVIDER_CALL)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(ChannelType.EMAIL, providerCall.getChannelType());
+        assertEquals(2, providerCall.getHistogram().getCount());
+        assertTrue(snapshot.getLatencies().stream().anyMatch(latency -> latency.getPhase() == Phase.SELECTION));
+        assertTrue(snapshot.getLatencies().stream().anyMatch(latency -> latency.getPhase() == Phase.VALIDATION));
+        assertEquals(0, snapshot.getInFlight().get(0).getValue());
+
+        String text = PrometheusFormatter.format(snapshot);
+        assertTrue(text.contains("# TYPE notifications_phase_latency_seconds histogram"));
+        assertTrue(text.contains("notifications_phase_latency_seconds_count{channel=\"email\",provider=\"MetricsRegistryTest\",phase=\"provider_call\"} 2"));
+        assertTrue(text.contains("notifications_sent_total{channel=\"email\",provider=\"MetricsRegistryTest\"} 1"));
+        assertTrue(text.contains("notifications_failed_total{channel=\"email\",provider=\"MetricsRegistryTest\",error_type=\"SEND_ERROR\"} 1"));
+    }
+
+    @Test
+    void recordsFailuresOfSendsRejectedBeforeReachingTheProvider() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> "msg-1")
+                .withRateLimit(ChannelType.EMAIL, RateLimitConfig.builder()
+                        .limiter(new TokenBucketRateLimiter(0.001, 1))
+                        .policy(RateLimitPolicy.FAIL_FAST)
+                        .build())
+                .withMetrics(registry)
+                .build()) {
+
+            Notification notification = Notification.builder()
+                    .recipient("user@example.com")
+                    .content("Hola")
+                    .build();
+
+            assertDoesNotThrow(() -> service.send(notification));
+            assertThrows(NotificationException.class, () -> service.send(notification));
+            assertThrows(CompletionException.class,
+                    () -> service.sendAsync(notification).orTimeout(5, TimeUnit.SECONDS).join());
+        }
+
+        String text = PrometheusFormatter.format(registry.snapshot());
+        assertTrue(text.contains("notifications_sent_total{channel=\"email\",provider=\"MetricsRegistryTest\"} 1"));
+        assertTrue(text.contains("notifications_failed_total{channel=\"email\",provider=\"none\",error_type=\"RATE_LIMIT_ERROR\"} 2"));
+    }
+}
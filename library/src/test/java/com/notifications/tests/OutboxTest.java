@@ -0,0 +1,217 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.outbox.NotificationCodec;
+import com.notifications.outbox.OutboxConfig;
+import com.notifications.outbox.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysUnacknowledgedEntriesAndCompactsSegments() throws Exception {
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 4096, true)) {
+            for (int i = 0; i < 100; i++) {
+                Notification notification = Notification.builder()
+                        .id("n-" + i)
+                        .recipient("user" + i + "@example.com")
+                        .content("Mensaje " + i)
+                        .metadata("intento", i)
+                        .build();
+                long sequence = wal.append(NotificationCodec.encode(notification)).get(5, TimeUnit.SECONDS);
+                if (i != 42) {
+                    wal.acknowledge(sequence);
+                }
+            }
+            assertTrue(wal.segmentCount() > 1);
+        }
+
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 4096, true)) {
+            List<WriteAheadLog.Record> recovered = wal.recovered();
+            assertEquals(1, recovered.size());
+
+            Notification notification = NotificationCodec.decode(recovered.get(0).payload());
+            assertEquals("n-42", notification.getId());
+            assertEquals(Set.of("user42@example.com"), notification.getRecipients());
+            assertEquals(42, notification.getMetadata().get("intento"));
+
+            wal.acknowledge(recovered.get(0).sequence());
+            assertEquals(1, wal.segmentCount());
+        }
+    }
+
+    @Test
+    void deliversAcceptedNotificationsAfterRestart() throws Exception {
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+        OutboxConfig config = OutboxConfig.builder().directory(directory).segmentSize(64 * 1024).build();
+
+        // Entrada persistida por una instancia anterior que se detuvo antes de entregarla.
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 64 * 1024, true)) {
+            wal.append(NotificationCodec.encode(Notification.builder()
+                    .id("pendiente")
+                    .recipient("user@example.com")
+                    .content("Hola")
+                    .build())).get(5, TimeUnit.SECONDS);
+        }
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    delivered.add(content);
+                    return "msg";
+                })
+                .withOutbox(config)
+                .build()) {
+            service.accept(Notification.builder()
+                    .id("nueva")
+                    .recipient("user@example.com")
+                    .content("Nueva")
+                    .build()).get(5, TimeUnit.SECONDS);
+
+            NotificationResult result = service.sendAsync(Notification.builder()
+                    .recipient("user@example.com")
+                    .content("Async")
+                    .build()).get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (service.getOutbox().orElseThrow().getPendingCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(Set.of("Hola", "Nueva", "Async"), delivered);
+        }
+    }
+
+    @Test
+    void redeliversAfterTransientErrorsAndAcknowledgesPermanentOnes() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        OutboxConfig config = OutboxConfig.builder()
+                .directory(directory)
+                .segmentSize(64 * 1024)
+                .retryDelay(Duration.ofMillis(20))
+                .build();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    if (content.equals("transitorio") && attempts.incrementAndGet() == 1) {
+                        throw new IOException("conexión reiniciada");
+                    }
+                    return "msg";
+                })
+                .withOutbox(config)
+                .build()) {
+
+            NotificationResult result = service.sendAsync(Notification.builder()
+                    .recipient("user@example.com")
+                    .content("transitorio")
+                    .build()).get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+            assertEquals(2, attempts.get());
+
+            // Un destinatario inválido no tendrá éxito al repetirse: se informa y se confirma
+            ExecutionException error = assertThrows(ExecutionException.class, () -> service.sendAsync(
+                    Notification.builder()
+                            .recipient("no-es-un-email")
+                            .content("permanente")
+                            .preferredChannel(ChannelType.EMAIL)
+                            .build())
+                    .get(5, TimeUnit.SECONDS));
+            assertEquals(NotificationException.ErrorType.VALIDATION_ERROR,
+                    ((NotificationException) error.getCause()).getErrorType());
+            assertEquals(0, service.getOutbox().orElseThrow().getPendingCount());
+        }
+    }
+
+    @Test
+    void acknowledgesPermanentCausesAndEntriesThatExhaustTheirAttempts() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        OutboxConfig config = OutboxConfig.builder()
+                .directory(directory)
+                .segmentSize(64 * 1024)
+                .retryDelay(Duration.ofMillis(1))
+                .maxRetryDelay(Duration.ofMillis(5))
+                .maxAttempts(3)
+                .build();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    attempts.incrementAndGet();
+                    if (content.equals("inválido")) {
+                        throw new IllegalArgumentException("plantilla corrupta");
+                    }
+                    throw new IOException("conexión reiniciada");
+                })
+                .withOutbox(config)
+                .build()) {
+
+            // Una causa permanente no se reintenta aunque el tipo de error sea transitorio
+            assertThrows(ExecutionException.class, () -> service.sendAsync(Notification.builder()
+                    .recipient("user@example.com")
+                    .content("inválido")
+                    .build()).get(5, TimeUnit.SECONDS));
+            assertEquals(1, attempts.get());
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> service.sendAsync(
+                    Notification.builder()
+                            .recipient("user@example.com")
+                            .content("caído")
+                            .build())
+                    .get(5, TimeUnit.SECONDS));
+            assertEquals(NotificationException.ErrorType.SEND_ERROR,
+                    ((NotificationException) error.getCause()).getErrorType());
+            assertEquals(4, attempts.get());
+            assertEquals(0, service.getOutbox().orElseThrow().getPendingCount());
+        }
+    }
+
+    @Test
+    void readsEntriesThatDoNotFitInMemoryFromTheLog() throws Exception {
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+        OutboxConfig config = OutboxConfig.builder()
+                .directory(directory)
+                .segmentSize(64 * 1024)
+                .maxQueued(4)
+                .maxInFlight(1)
+                .build();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    delivered.add(content);
+                    return "msg";
+                })
+                .withOutbox(config)
+                .build()) {
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(service.sendAsync(Notification.builder()
+                        .recipient("user@example.com")
+                        .content("Mensaje " + i)
+                        .priority(i == 0 ? null : Notification.Priority.NORMAL)
+                        .build()));
+            }
+            for (CompletableFuture<NotificationResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+            assertEquals(200, delivered.size());
+            assertEquals(0, service.getOutbox().orElseThrow().getPendingCount());
+        }
+    }
+}
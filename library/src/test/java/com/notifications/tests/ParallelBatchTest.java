@@ -0,0 +1,181 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBatchTest {
+
+    @Test
+    void preservesInputOrderAndRespectsChannelLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        NotificationChannel channel = new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) throws NotificationException {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(2);
+                    if (notification.getId().endsWith("7")) {
+                        throw new NotificationException("fallo", NotificationException.ErrorType.SEND_ERROR, ChannelType.EMAIL);
+                    }
+                    return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "pm-" + notification.getId());
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.EMAIL;
+            }
+        };
+
+        NotificationService service = new NotificationService.Builder()
+                .withCustomChannel(ChannelType.EMAIL, channel)
+                .build();
+
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            notifications.add(Notification.builder()
+                    .id("n-" + i)
+                    .recipient("user" + i + "@example.com")
+                    .content("hola")
+                    .build());
+        }
+
+        List<NotificationResult> results = service.sendBatch(notifications, BatchOptions.builder()
+                .maxConcurrency(64)
+                .channelConcurrency(ChannelType.EMAIL, 8)
+                .build());
+
+        assertEquals(200, results.size());
+        for (int i = 0; i < 200; i++) {
+            NotificationResult result = results.get(i);
+            assertEquals("n-" + i, result.getNotificationId());
+            assertEquals(!result.getNotificationId().endsWith("7"), result.isSuccess());
+        }
+        assertTrue(maxInFlight.get() <= 8);
+    }
+
+    @Test
+    void saturatedChannelDoesNotHoldBackOtherChannels() {
+        CountDownLatch smsSent = new CountDownLatch(4);
+
+        NotificationChannel email = new TestChannel(ChannelType.EMAIL, notification -> {
+            // El correo solo termina cuando los SMS ya se enviaron, aunque ocupen el límite global
+            boolean released = smsSent.await(5, TimeUnit.SECONDS);
+            return NotificationResult.success(notification.getId(), ChannelType.EMAIL, String.valueOf(released));
+        });
+        NotificationChannel sms = new TestChannel(ChannelType.SMS, notification -> {
+            smsSent.countDown();
+            return NotificationResult.success(notification.getId(), ChannelType.SMS, "sms");
+        });
+
+        NotificationService service = new NotificationService.Builder()
+                .withCustomChannel(ChannelType.EMAIL, email)
+                .withCustomChannel(ChannelType.SMS, sms)
+                .build();
+
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            notifications.add(notification("email-" + i, ChannelType.EMAIL));
+        }
+        for (int i = 0; i < 4; i++) {
+            notifications.add(notification("sms-" + i, ChannelType.SMS));
+        }
+
+        List<NotificationResult> results = service.sendBatch(notifications, BatchOptions.builder()
+                .maxConcurrency(2)
+                .channelConcurrency(ChannelType.EMAIL, 1)
+                .build());
+
+        assertEquals(0, smsSent.getCount());
+        for (int i = 0; i < 4; i++) {
+            assertEquals("true", results.get(i).getProviderMessageId());
+            assertTrue(results.get(i + 4).isSuccess());
+        }
+    }
+
+    @Test
+    void queuedSendsRunOnTheThreadsHoldingTheChannelPermits() {
+        Set<Thread> senders = ConcurrentHashMap.newKeySet();
+        NotificationChannel email = new TestChannel(ChannelType.EMAIL, notification -> {
+            senders.add(Thread.currentThread());
+            Thread.sleep(1);
+            return NotificationResult.success(notification.getId(), ChannelType.EMAIL, "pm");
+        });
+
+        NotificationService service = new NotificationService.Builder()
+                .withCustomChannel(ChannelType.EMAIL, email)
+                .build();
+
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            notifications.add(notification("email-" + i, ChannelType.EMAIL));
+        }
+
+        List<NotificationResult> results = service.sendBatch(notifications, BatchOptions.builder()
+                .maxConcurrency(200)
+                .channelConcurrency(ChannelType.EMAIL, 2)
+                .build());
+
+        assertTrue(results.stream().allMatch(NotificationResult::isSuccess));
+        // Las notificaciones encoladas no esperan en un hilo propio: las envían los hilos que liberan el permiso
+        assertTrue(senders.size() < 50, "Hilos de envío: " + senders.size());
+    }
+
+    private static Notification notification(String id, ChannelType channel) {
+        return Notification.builder()
+                .id(id)
+                .recipient(channel == ChannelType.EMAIL ? id + "@example.com" : "+5491100000000")
+                .content("hola")
+                .preferredChannel(channel)
+                .build();
+    }
+
+    private interface Sender {
+        NotificationResult send(Notification notification) throws InterruptedException;
+    }
+
+    private record TestChannel(ChannelType type, Sender sender) implements NotificationChannel {
+
+        @Override
+        public NotificationResult send(Notification notification) throws NotificationException {
+            try {
+                return sender.send(notification);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean supports(Notification notification) {
+            return true;
+        }
+
+        @Override
+        public ChannelType getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.Notification;
+import com.notifications.core.Notification.Priority;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import com.notifications.dispatch.PriorityDispatcher;
+import com.notifications.dispatch.PriorityDispatcherConfig;
+import com.notifications.dispatch.PriorityLevelMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityDispatcherTest {
+
+    @Test
+    void serviceCreatesTheDispatcherOnFirstSubmit() throws Exception {
+        try (NotificationService service = new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> "msg-1")
+                .build()) {
+
+            assertTrue(service.getPriorityMetrics().isEmpty());
+
+            NotificationResult result = service.submit(Notification.builder()
+                    .recipient("user@example.com")
+                    .content("Hola")
+                    .build()).get(5, TimeUnit.SECONDS);
+
+            assertTrue(result.isSuccess());
+            assertEquals(1, service.getPriorityMetrics().get(Priority.NORMAL).getDispatched());
+        }
+    }
+
+    @Test
+    void urgentGoesFirstAndWeightsShareTheRest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        PriorityDispatcher dispatcher = new PriorityDispatcher(PriorityDispatcherConfig.builder()
+                .maxConcurrent(1)
+                .weight(Priority.HIGH, 2)
+                .weight(Priority.LOW, 1)
+                .agingThreshold(Duration.ofMinutes(1))
+                .build(), notification -> {
+            if (notification.getId().equals("bloqueo")) {
+                await(release);
+            } else {
+                order.add(notification.getId());
+            }
+            return NotificationResult.success(notification.getId(), null, "ok");
+        }, executor);
+
+        dispatcher.submit(notification("bloqueo", Priority.NORMAL));
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(dispatcher.submit(notification("low-" + i, Priority.LOW)));
+        }
+        for (int i = 0; i < 4; i++) {
+            futures.add(dispatcher.submit(notification("high-" + i, Priority.HIGH)));
+        }
+        futures.add(dispatcher.submit(notification("urgent", Priority.URGENT)));
+
+        assertEquals(3, dispatcher.getMetrics().get(Priority.LOW).getQueued());
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals(List.of("urgent", "high-0", "low-0", "high-1", "high-2", "low-1", "high-3", "low-2"), order);
+
+        PriorityLevelMetrics low = dispatcher.getMetrics().get(Priority.LOW);
+        assertEquals(3, low.getDispatched());
+        assertEquals(3, low.getWaitTime().getCount());
+    }
+
+    @Test
+    void rejectsWhenTheLevelQueueIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        PriorityDispatcher dispatcher = new PriorityDispatcher(PriorityDispatcherConfig.builder()
+                .maxConcurrent(1)
+                .levelCapacity(Priority.LOW, 1)
+                .build(), notification -> {
+            await(release);
+            return NotificationResult.success(notification.getId(), null, "ok");
+        }, executor);
+
+        dispatcher.submit(notification("en-curso", Priority.LOW));
+        dispatcher.submit(notification("en-cola", Priority.LOW));
+        CompletableFuture<NotificationResult> rejected = dispatcher.submit(notification("rechazada", Priority.LOW));
+        CompletableFuture<NotificationResult> high = dispatcher.submit(notification("alta", Priority.HIGH));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertEquals(NotificationException.ErrorType.CAPACITY_ERROR,
+                ((NotificationException) error.getCause()).getErrorType());
+        assertFalse(high.isCompletedExceptionally());
+
+        Map<Priority, PriorityLevelMetrics> metrics = dispatcher.getMetrics();
+        assertEquals(1, metrics.get(Priority.LOW).getRejected());
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Notification notification(String id, Priority priority) {
+        return Notification.builder()
+                .id(id)
+                .recipient("user@example.com")
+                .content("Hola")
+                .priority(priority)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.notifications.tests;
+
+import com.notifications.core.Notification;
+import com.notifications.core.RecipientClassification;
+import com.notifications.core.RecipientClassifier;
+import com.notifications.core.RecipientType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipientClassifierTest {
+
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PHONE_PATTERN =
+            Pattern.compile("^\\+?[1-9]\\d{1,14}$");
+
+    @Test
+    void matchesRegexSemanticsOnKnownCases() {
+        List<String> samples = List.of(
+                "usuario@ejemplo.com", "a@b.co", "a@b.c", "@b.com", "a@.com", "a@b..com", "a@b.c0m",
+                "a@@b.com", "a b@c.com", "a@b.com.", "first.last+tag@sub.domain.org", "a@b-c.io",
+                "+5491123456789", "5491123456789", "+0123456", "+1", "12", "1234567890123456",
+                "123456789012345", "+123456789012345", "++12345", "+12a45", "device-token-abc123",
+                "", "+", "a@b.COM", "ñ@b.com", "a@b.çom", "１２３");
+
+        for (String sample : samples) {
+            assertEquals(EMAIL_PATTERN.matcher(sample).matches(), RecipientClassifier.isEmail(sample), sample);
+            assertEquals(PHONE_PATTERN.matcher(sample).matches(), RecipientClassifier.isPhone(sample), sample);
+        }
+    }
+
+    @Test
+    void matchesRegexSemanticsOnRandomInputs() {
+        Random random = new Random(42);
+        String alphabet = "ab9+0_.-@ZX1.";
+        for (int i = 0; i < 200_000; i++) {
+            int length = random.nextInt(12);
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String sample = sb.toString();
+            assertEquals(EMAIL_PATTERN.matcher(sample).matches(), RecipientClassifier.isEmail(sample), sample);
+            assertEquals(PHONE_PATTERN.matcher(sample).matches(), RecipientClassifier.isPhone(sample), sample);
+        }
+    }
+
+    @Test
+    void classificationIsComputedOncePerNotification() {
+        Notification notification = Notification.builder()
+                .id("n-1")
+                .recipient("usuario@ejemplo.com")
+                .recipient("+5491123456789")
+                .recipient("device-token-abc123")
+                .content("hola")
+                .build();
+
+        RecipientClassification classification = notification.getRecipientClassification();
+
+        assertSame(classification, notification.getRecipientClassification());
+        assertEquals(1, classification.count(RecipientType.EMAIL));
+        assertEquals(1, classification.count(RecipientType.PHONE));
+        assertEquals(1, classification.count(RecipientType.DEVICE_TOKEN));
+    }
+}
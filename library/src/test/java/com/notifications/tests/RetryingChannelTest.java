@@ -0,0 +1,187 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.channels.sms.SmsProvider;
+import com.notifications.core.ChannelType;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import com.notifications.core.RecipientResult;
+import com.notifications.resilience.RetryBudget;
+import com.notifications.resilience.RetryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryingChannelTest {
+
+    private static Notification sms(String id, Notification.Priority priority) {
+        return Notification.builder()
+                .id(id)
+                .recipient("+5491123456789")
+                .content("Tu código es 123456")
+                .priority(priority)
+                .build();
+    }
+
+    private static RetryPolicy fastPolicy() {
+        return RetryPolicy.builder()
+                .maxAttempts(3)
+                .initialDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofMillis(5))
+                .build();
+    }
+
+    @Test
+    void retriesTransientFailuresUntilSuccess() throws NotificationException {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new IOException("timeout");
+                    }
+                    return "tw-ok";
+                })
+                .withRetry(fastPolicy())
+                .build()) {
+
+            NotificationResult result = service.send(sms("r-1", Notification.Priority.NORMAL));
+
+            assertTrue(result.isSuccess());
+            assertEquals(3, calls.get());
+        }
+    }
+
+    @Test
+    void stopsWhenBudgetIsExhausted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> {
+                    calls.incrementAndGet();
+                    throw new IOException("proveedor caído");
+                })
+                .withRetry(fastPolicy())
+                .withRetryBudget(new RetryBudget(0.0, 1, 1))
+                .build()) {
+
+            assertThrows(NotificationException.class, () -> service.send(sms("r-2", Notification.Priority.URGENT)));
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Test
+    void doesNotRetryPermanentCauses() {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> {
+                    calls.incrementAndGet();
+                    throw new IllegalArgumentException("número bloqueado");
+                })
+                .withRetry(fastPolicy())
+                .build()) {
+
+            assertThrows(NotificationException.class, () -> service.send(sms("r-3", Notification.Priority.NORMAL)));
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    void doesNotRetryLocalRateLimitErrorsByDefault() {
+        NotificationException rateLimited = new NotificationException(
+                "Límite de tasa del canal SMS alcanzado", NotificationException.ErrorType.RATE_LIMIT_ERROR, ChannelType.SMS);
+
+        assertFalse(RetryPolicy.defaults().isRetryable(rateLimited));
+    }
+
+    @Test
+    void returnsPartialResultsWithoutRetryingByDefault() throws NotificationException {
+        PartialSmsProvider provider = new PartialSmsProvider(1);
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel(provider)
+                .withRetry(fastPolicy())
+                .build()) {
+
+            NotificationResult result = service.send(smsToAll("r-4"));
+
+            assertFalse(result.isSuccess());
+            assertEquals(1, provider.calls.size());
+            assertEquals(2, result.getRecipientResults().stream().filter(RecipientResult::isSuccess).count());
+        }
+    }
+
+    @Test
+    void retriesOnlyTheFailedRecipientsWhenEnabled() throws NotificationException {
+        PartialSmsProvider provider = new PartialSmsProvider(1);
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel(provider)
+                .withRetry(RetryPolicy.builder()
+                        .initialDelay(Duration.ofMillis(1))
+                        .maxDelay(Duration.ofMillis(5))
+                        .retryFailedRecipients(true)
+                        .build())
+                .build()) {
+
+            NotificationResult result = service.send(smsToAll("r-5"));
+
+            assertTrue(result.isSuccess());
+            assertEquals(3, result.getRecipientResults().size());
+            assertEquals(2, provider.calls.size());
+            assertEquals(Set.of("+5491100000001"), provider.calls.get(1));
+        }
+    }
+
+    private static Notification smsToAll(String id) {
+        return Notification.builder()
+                .id(id)
+                .recipient("+5491100000001")
+                .recipient("+5491100000002")
+                .recipient("+5491100000003")
+                .content("Tu código es 123456")
+                .build();
+    }
+
+    /**
+     * Proveedor que falla para el primer destinatario durante las primeras llamadas.
+     */
+    private static final class PartialSmsProvider implements SmsProvider {
+        private final List<Set<String>> calls = new CopyOnWriteArrayList<>();
+        private final int failingCalls;
+
+        private PartialSmsProvider(int failingCalls) {
+            this.failingCalls = failingCalls;
+        }
+
+        @Override
+        public String sendSms(Set<String> recipients, String message, Map<String, Object> metadata) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<List<RecipientResult>> sendSmsPerRecipient(Set<String> recipients, String message,
+                                                                           Map<String, Object> metadata) {
+            calls.add(Set.copyOf(recipients));
+            List<RecipientResult> results = new ArrayList<>();
+            for (String recipient : recipients) {
+                results.add(calls.size() <= failingCalls && recipient.endsWith("1")
+                        ? RecipientResult.failed(recipient, "número no disponible")
+                        : RecipientResult.delivered(recipient, "tw-" + recipient));
+            }
+            return CompletableFuture.completedFuture(results);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.scheduling.NotificationScheduler;
+import com.notifications.scheduling.ScheduledNotification;
+import com.notifications.scheduling.SchedulerConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduledDeliveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sendsWhenDueAndSupportsCancellation() throws Exception {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        try (NotificationService service = serviceRecording(sent, SchedulerConfig.defaults())) {
+            Instant start = Instant.now();
+            ScheduledNotification late = service.schedule(email("tarde"), Duration.ofMillis(150));
+            ScheduledNotification early = service.schedule(email("pronto"), Duration.ofMillis(50));
+            ScheduledNotification cancelled = service.schedule(email("cancelada"), Duration.ofMillis(100));
+            ScheduledNotification tomorrow = service.schedule(email("local"), LocalTime.of(9, 0), ZoneId.of("America/Argentina/Buenos_Aires"));
+            assertEquals(4, service.getScheduledCount());
+
+            assertTrue(cancelled.cancel());
+            assertFalse(service.cancelScheduled(cancelled.getId()));
+
+            assertEquals("tarde", late.getResult().get(5, TimeUnit.SECONDS).getNotificationId());
+            assertTrue(early.getResult().isDone());
+            assertFalse(Duration.between(start, Instant.now()).minusMillis(150).isNegative());
+            assertEquals(List.of("pronto", "tarde"), sent);
+            assertTrue(cancelled.getResult().isCancelled());
+
+            ZonedDateTime local = tomorrow.getDeadline().atZone(ZoneId.of("America/Argentina/Buenos_Aires"));
+            assertEquals(LocalTime.of(9, 0), local.toLocalTime());
+            assertTrue(Duration.between(Instant.now(), tomorrow.getDeadline()).compareTo(Duration.ofDays(1)) <= 0);
+            assertEquals(1, service.getScheduledCount());
+        }
+    }
+
+    @Test
+    void restoresPendingSendsFromTheSnapshotAfterRestart() throws Exception {
+        SchedulerConfig config = SchedulerConfig.builder().snapshotFile(directory.resolve("scheduled.bin")).build();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        long futureId;
+        try (NotificationService service = serviceRecording(sent, config)) {
+            service.schedule(email("vencida"), Duration.ofMillis(200));
+            futureId = service.schedule(email("futura"), Duration.ofDays(30)).getId();
+        }
+        assertTrue(sent.isEmpty());
+        Thread.sleep(300);
+
+        try (NotificationService restarted = serviceRecording(sent, config)) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("vencida"), sent);
+            assertEquals(1, restarted.getScheduledCount());
+            assertTrue(restarted.cancelScheduled(futureId));
+            assertTrue(restarted.schedule(email("nueva"), Duration.ofDays(1)).getId() > futureId);
+        }
+    }
+
+    @Test
+    void concurrentSnapshotsReplaceTheFileOneAtATime() throws Exception {
+        SchedulerConfig config = SchedulerConfig.builder()
+                .snapshotFile(directory.resolve("scheduled.bin"))
+                .snapshotInterval(Duration.ofMillis(1))
+                .build();
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        try {
+            NotificationScheduler scheduler = new NotificationScheduler(
+                    config, notification -> new CompletableFuture<>(), timer, Runnable::run);
+            Instant tomorrow = Instant.now().plus(Duration.ofDays(1));
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int id = writer;
+                tasks.add(writers.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        scheduler.schedule(email("w" + id + "-" + i), tomorrow);
+                        // Compite con la tarea periódica, que escribe cada milisegundo
+                        scheduler.snapshot();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+            scheduler.close();
+
+            NotificationScheduler restored = new NotificationScheduler(
+                    config, notification -> new CompletableFuture<>(), timer, Runnable::run);
+            assertEquals(200, restored.getPending());
+            restored.close();
+        } finally {
+            writers.shutdownNow();
+            timer.shutdownNow();
+        }
+    }
+
+    private static NotificationService serviceRecording(List<String> sent, SchedulerConfig config) {
+        return new NotificationService.Builder()
+                .withEmailChannel((recipients, subject, content, metadata) -> {
+                    sent.add(content);
+                    return "msg";
+                })
+                .withScheduling(config)
+                .build();
+    }
+
+    private static Notification email(String content) {
+        return Notification.builder().id(content).recipient("ana@example.com").content(content).build();
+    }
+}
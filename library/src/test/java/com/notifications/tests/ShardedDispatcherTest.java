@@ -0,0 +1,167 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationException;
+import com.notifications.core.NotificationResult;
+import com.notifications.sharding.ShardMetrics;
+import com.notifications.sharding.ShardedDispatcher;
+import com.notifications.sharding.ShardedDispatcherConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedDispatcherTest {
+
+    @Test
+    void preservesPerRecipientOrderAndReportsPerShardMetrics() throws Exception {
+        int recipients = 16;
+        int perRecipient = 500;
+        AtomicInteger builtShards = new AtomicInteger();
+        Map<String, List<Integer>> delivered = new ConcurrentHashMap<>();
+        Map<String, String> threads = new ConcurrentHashMap<>();
+
+        try (ShardedDispatcher dispatcher = ShardedDispatcher.start(
+                ShardedDispatcherConfig.builder().shards(4).build(),
+                shard -> {
+                    builtShards.incrementAndGet();
+                    return new NotificationService.Builder()
+                            .withEmailChannel((to, subject, content, metadata) -> {
+                                String recipient = to.iterator().next();
+                                delivered.computeIfAbsent(recipient, r -> new CopyOnWriteArrayList<>())
+                                        .add(Integer.parseInt(content));
+                                threads.merge(recipient, Thread.currentThread().getName(),
+                                        (a, b) -> a.equals(b) ? a : "varios");
+                                return "msg-" + shard;
+                            });
+                })) {
+
+            assertEquals(4, builtShards.get());
+            List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+            for (int i = 0; i < perRecipient; i++) {
+                for (int r = 0; r < recipients; r++) {
+                    results.add(dispatcher.dispatch(Notification.builder()
+                            .recipient("usuario" + r + "@example.com")
+                            .subject("Aviso")
+                            .content(String.valueOf(i))
+                            .build()));
+                }
+            }
+            for (CompletableFuture<NotificationResult> result : results) {
+                assertTrue(result.get(10, TimeUnit.SECONDS).isSuccess());
+            }
+
+            for (int r = 0; r < recipients; r++) {
+                String recipient = "usuario" + r + "@example.com";
+                int shard = dispatcher.shardOf(Notification.builder().recipient(recipient).content("x").build());
+                List<Integer> order = delivered.get(recipient);
+                assertEquals(perRecipient, order.size());
+                for (int i = 0; i < perRecipient; i++) {
+                    assertEquals(i, order.get(i), "Orden alterado para " + recipient);
+                }
+                assertEquals("notifications-shard-" + shard, threads.get(recipient));
+            }
+
+            List<ShardMetrics> metrics = dispatcher.getShardMetrics();
+            assertEquals(4, metrics.size());
+            assertEquals(recipients * perRecipient, metrics.stream().mapToLong(ShardMetrics::getSent).sum());
+            assertEquals(recipients * perRecipient, metrics.stream().mapToLong(ShardMetrics::getAccepted).sum());
+            assertTrue(metrics.stream().filter(m -> m.getSent() > 0).count() > 1);
+            assertTrue(metrics.stream().allMatch(m -> m.getQueued() == 0 && m.getFailed() == 0));
+        }
+    }
+
+    @Test
+    void rejectsWhenTheShardQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ShardedDispatcher dispatcher = ShardedDispatcher.start(
+                ShardedDispatcherConfig.builder().shards(1).queueCapacity(2).build(),
+                shard -> new NotificationService.Builder()
+                        .withEmailChannel((to, subject, content, metadata) -> {
+                            started.countDown();
+                            release.await();
+                            return "msg";
+                        }))) {
+
+            Notification notification = Notification.builder()
+                    .recipient("ana@example.com")
+                    .content("hola")
+                    .build();
+            CompletableFuture<NotificationResult> first = dispatcher.dispatch(notification);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<NotificationResult> second = dispatcher.dispatch(notification);
+            CompletableFuture<NotificationResult> third = dispatcher.dispatch(notification);
+            CompletableFuture<NotificationResult> rejected = dispatcher.dispatch(notification);
+
+            ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+            assertEquals(NotificationException.ErrorType.CAPACITY_ERROR,
+                    ((NotificationException) error.getCause()).getErrorType());
+            ShardMetrics metrics = dispatcher.getShardMetrics().get(0);
+            assertEquals(2, metrics.getQueued());
+            assertEquals(1, metrics.getRejected());
+
+            release.countDown();
+            assertTrue(first.get(5, TimeUnit.SECONDS).isSuccess());
+            assertTrue(second.get(5, TimeUnit.SECONDS).isSuccess());
+            assertTrue(third.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+    }
+
+    @Test
+    void dispatchesRacingCloseAreEitherSentOrRejected() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        ShardedDispatcher dispatcher = ShardedDispatcher.start(
+                ShardedDispatcherConfig.builder().shards(4).queueCapacity(100_000).build(),
+                shard -> new NotificationService.Builder()
+                        .withEmailChannel((to, subject, content, metadata) -> {
+                            sent.incrementAndGet();
+                            return "msg";
+                        }));
+
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<NotificationResult>> results = new CopyOnWriteArrayList<>();
+        CountDownLatch running = new CountDownLatch(4);
+        try {
+            for (int producer = 0; producer < 4; producer++) {
+                int id = producer;
+                producers.execute(() -> {
+                    running.countDown();
+                    for (int i = 0; i < 2_000; i++) {
+                        results.add(dispatcher.dispatch(Notification.builder()
+                                .recipient("u" + id + "-" + i + "@example.com")
+                                .content("hola")
+                                .build()));
+                    }
+                });
+            }
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            dispatcher.close();
+        } finally {
+            producers.shutdown();
+            assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        // Lo aceptado antes del cierre se envía; lo posterior se rechaza sin quedar pendiente
+        int rejected = 0;
+        for (CompletableFuture<NotificationResult> result : results) {
+            try {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            } catch (ExecutionException e) {
+                assertEquals(NotificationException.ErrorType.CAPACITY_ERROR,
+                        ((NotificationException) e.getCause()).getErrorType());
+                assertTrue(e.getCause().getMessage().contains("cerrado"));
+                rejected++;
+            }
+        }
+        assertEquals(8_000, results.size());
+        assertEquals(8_000 - rejected, sent.get());
+    }
+}
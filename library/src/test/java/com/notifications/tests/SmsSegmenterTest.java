@@ -0,0 +1,70 @@
+package com.notifications.tests;
+
+import com.notifications.channels.sms.SmsChannel;
+import com.notifications.channels.sms.SmsEncoding;
+import com.notifications.channels.sms.SmsSegmentation;
+import com.notifications.channels.sms.SmsSegmenter;
+import com.notifications.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmsSegmenterTest {
+
+    @Test
+    void countsSegmentsPerEncoding() {
+        assertEquals(new SmsSegmentation(SmsEncoding.GSM_7, 160, 1), SmsSegmenter.analyze("a".repeat(160)));
+        assertEquals(new SmsSegmentation(SmsEncoding.GSM_7, 161, 2), SmsSegmenter.analyze("a".repeat(161)));
+        assertEquals(new SmsSegmentation(SmsEncoding.GSM_7, 160, 1), SmsSegmenter.analyze("€".repeat(80)));
+        assertEquals(new SmsSegmentation(SmsEncoding.GSM_7, 12, 1), SmsSegmenter.analyze("Año: ¿señal?"));
+
+        // El carácter de extensión no se divide: 152 + 2 septetos no caben en el primer segmento
+        SmsSegmentation extension = SmsSegmenter.analyze("a".repeat(152) + "{" + "a".repeat(152));
+        assertEquals(306, extension.units());
+        assertEquals(3, extension.segments());
+
+        assertEquals(new SmsSegmentation(SmsEncoding.UCS_2, 70, 1), SmsSegmenter.analyze("á".repeat(69) + "ç"));
+        assertEquals(new SmsSegmentation(SmsEncoding.UCS_2, 71, 2), SmsSegmenter.analyze("Привет".repeat(11) + "мир!!"));
+    }
+
+    @Test
+    void splitsIntoUdhSizedPartsWithoutBreakingSurrogatePairs() {
+        List<String> gsm = SmsSegmenter.split("a".repeat(152) + "{" + "b".repeat(10));
+        assertEquals(List.of("a".repeat(152), "{" + "b".repeat(10)), gsm);
+
+        String text = "x".repeat(66) + "😀" + "y".repeat(10);
+        List<String> ucs2 = SmsSegmenter.split(text);
+        assertEquals(List.of("x".repeat(66), "😀" + "y".repeat(10)), ucs2);
+        assertEquals(text, String.join("", ucs2));
+
+        assertEquals(List.of("corto"), SmsSegmenter.split("corto"));
+    }
+
+    @Test
+    void sendsFullTextAndReportsSegments() throws NotificationException {
+        AtomicReference<String> sent = new AtomicReference<>();
+        SmsChannel channel = new SmsChannel((recipients, message, metadata) -> {
+            sent.set(message);
+            return "SM1";
+        });
+        String content = "Tu código es 1234 😀 ".repeat(10);
+
+        NotificationResult result = channel.send(Notification.builder()
+                .recipient("+5491112345678")
+                .recipient("+5491187654321")
+                .content(content)
+                .build());
+
+        assertEquals(content, sent.get());
+        assertEquals(SmsSegmenter.analyze(content).segments() * 2, result.getSegments());
+
+        NotificationException tooLong = assertThrows(NotificationException.class, () -> channel.send(Notification.builder()
+                .recipient("+5491112345678")
+                .content("ñ".repeat(1531))
+                .build()));
+        assertEquals(NotificationException.ErrorType.VALIDATION_ERROR, tooLong.getErrorType());
+    }
+}
@@ -0,0 +1,147 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.streaming.StreamingOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSendTest {
+
+    private final ScheduledExecutorService provider = Executors.newScheduledThreadPool(4);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+
+    @AfterEach
+    void stopProvider() {
+        provider.shutdownNow();
+    }
+
+    @Test
+    void boundsInFlightNotificationsForLazilyGeneratedInput() throws Exception {
+        int total = 20_000;
+        Iterator<Notification> input = IntStream.range(0, total)
+                .mapToObj(i -> Notification.builder().id("n-" + i).recipient("u" + i + "@example.com").content("hola").build())
+                .iterator();
+
+        try (NotificationService service = serviceWithAsyncChannel()) {
+            CollectingSubscriber subscriber = new CollectingSubscriber(64);
+            service.sendStream(input, StreamingOptions.builder().maxInFlight(100).build()).subscribe(subscriber);
+
+            assertTrue(subscriber.done.await(30, TimeUnit.SECONDS));
+            assertNull(subscriber.error);
+            assertEquals(total, subscriber.received.get());
+            assertEquals(total / 10, subscriber.failures.get());
+            assertTrue(maxInFlight.get() <= 100, "en curso: " + maxInFlight.get());
+        }
+    }
+
+    @Test
+    void stopsPullingInputWhileSubscriberIsNotConsuming() throws Exception {
+        try (NotificationService service = serviceWithAsyncChannel()) {
+            CollectingSubscriber subscriber = new CollectingSubscriber(0);
+            service.sendStream(IntStream.range(0, 1_000)
+                            .mapToObj(i -> Notification.builder().id("n-" + i).recipient("u@example.com").content("hola").build()),
+                    StreamingOptions.builder().maxInFlight(50).build()).subscribe(subscriber);
+
+            Thread.sleep(200);
+            assertEquals(50, started.get());
+            assertEquals(0, subscriber.received.get());
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+            assertEquals(1_000, subscriber.received.get());
+        }
+    }
+
+    private NotificationService serviceWithAsyncChannel() {
+        NotificationChannel channel = new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) throws NotificationException {
+                return AsyncResults.await(sendAsync(notification), ChannelType.EMAIL);
+            }
+
+            @Override
+            public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+                started.incrementAndGet();
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+                provider.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    if (notification.getId().endsWith("0") && Integer.parseInt(notification.getId().substring(2)) % 10 == 0) {
+                        result.completeExceptionally(new NotificationException(
+                                "rechazado", NotificationException.ErrorType.PROVIDER_ERROR, ChannelType.EMAIL));
+                    } else {
+                        result.complete(NotificationResult.success(notification.getId(), ChannelType.EMAIL, "pm"));
+                    }
+                }, 100, TimeUnit.MICROSECONDS);
+                return result;
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.EMAIL;
+            }
+        };
+        return new NotificationService.Builder().withCustomChannel(ChannelType.EMAIL, channel).build();
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<NotificationResult> {
+        private final int batch;
+        private final AtomicInteger received = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private int outstanding;
+
+        private CollectingSubscriber(int batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                outstanding = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(NotificationResult result) {
+            received.incrementAndGet();
+            if (!result.isSuccess()) {
+                failures.incrementAndGet();
+            }
+            if (batch > 0 && --outstanding == 0) {
+                outstanding = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.digest.DigestConfig;
+import com.notifications.suppression.SuppressionConfig;
+import com.notifications.suppression.SuppressionList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuppressionListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void bulkLoadsConcurrentlyAndSurvivesReopening() throws Exception {
+        Path source = directory.resolve("bounces.txt");
+        Files.write(source, IntStream.range(0, 50_000).mapToObj(i -> "u" + i + "@example.com").toList());
+        Path file = directory.resolve("suppression.dat");
+
+        try (SuppressionList list = new SuppressionList(SuppressionConfig.of(file, 200_000));
+             ExecutorService writers = Executors.newFixedThreadPool(4)) {
+            assertEquals(50_000, list.load(source));
+
+            List<Future<Integer>> added = IntStream.range(0, 4)
+                    .mapToObj(t -> writers.submit(() -> {
+                        int count = 0;
+                        for (int i = 0; i < 20_000; i++) {
+                            if (list.add("+54911" + (10_000_000 + i))) {
+                                count++;
+                            }
+                        }
+                        return count;
+                    }))
+                    .toList();
+            int total = 0;
+            for (Future<Integer> future : added) {
+                total += future.get();
+            }
+            assertEquals(20_000, total);
+            assertEquals(70_000, list.size());
+
+            assertTrue(list.contains(" U7@Example.com "));
+            assertFalse(list.contains("otro@example.com"));
+            assertTrue(list.remove("u7@example.com"));
+            assertFalse(list.contains("u7@example.com"));
+        }
+
+        try (SuppressionList reopened = new SuppressionList(SuppressionConfig.of(file, 10))) {
+            assertEquals(69_999, reopened.size());
+            assertTrue(reopened.contains("u49999@example.com"));
+            assertTrue(reopened.contains("+5491110019999"));
+            assertFalse(reopened.contains("u7@example.com"));
+            assertTrue(reopened.add("u7@example.com"));
+        }
+    }
+
+    @Test
+    void stripsSuppressedRecipientsBeforeTheProviderCall() throws IOException, NotificationException {
+        List<Set<String>> calls = new CopyOnWriteArrayList<>();
+        try (SuppressionList list = new SuppressionList(SuppressionConfig.of(directory.resolve("s.dat"), 1_000));
+             NotificationService service = new NotificationService.Builder()
+                     .withEmailChannel((recipients, subject, content, metadata) -> {
+                         calls.add(Set.copyOf(recipients));
+                         return "msg";
+                     })
+                     .withSuppression(list)
+                     .build()) {
+            list.add("rebote@example.com");
+
+            NotificationResult result = service.send(Notification.builder()
+                    .recipient("ana@example.com")
+                    .recipient("rebote@example.com")
+                    .content("hola")
+                    .build());
+            assertFalse(result.isSuccess());
+            assertEquals(List.of(Set.of("ana@example.com")), calls);
+            for (RecipientResult recipient : result.getRecipientResults()) {
+                assertEquals(recipient.getRecipient().equals("ana@example.com"), recipient.isSuccess());
+            }
+            assertEquals(2, result.getRecipientResults().size());
+            assertEquals("Destinatario en la lista de supresión", result.getRecipientResults().get(1).getErrorMessage());
+
+            NotificationException suppressed = assertThrows(NotificationException.class, () -> service.send(
+                    Notification.builder().recipient("rebote@example.com").content("hola").build()));
+            assertEquals(NotificationException.ErrorType.SUPPRESSED_ERROR, suppressed.getErrorType());
+            assertEquals(1, calls.size());
+        }
+    }
+
+    @Test
+    void closingTheServiceFlushesNotificationsHeldBelowTheSuppression() throws IOException {
+        CompletableFuture<NotificationResult> held;
+        try (SuppressionList list = new SuppressionList(SuppressionConfig.of(directory.resolve("c.dat"), 1_000));
+             NotificationService service = new NotificationService.Builder()
+                     .withEmailChannel((recipients, subject, content, metadata) -> "msg")
+                     .withDigest(DigestConfig.builder().window(Duration.ofHours(1)).build())
+                     .withSuppression(list)
+                     .withExecutor(Runnable::run)
+                     .build()) {
+            held = service.sendAsync(Notification.builder()
+                    .recipient("ana@example.com")
+                    .content("hola")
+                    .priority(Notification.Priority.LOW)
+                    .build());
+            assertFalse(held.isDone());
+        }
+
+        assertTrue(held.orTimeout(5, TimeUnit.SECONDS).join().isSuccess());
+    }
+}
@@ -0,0 +1,90 @@
+package com.notifications.tests;
+
+import com.notifications.NotificationService;
+import com.notifications.core.*;
+import com.notifications.template.InMemoryTemplateLoader;
+import com.notifications.template.RenderedMessage;
+import com.notifications.template.TemplateEngine;
+import com.notifications.template.TemplateSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateEngineTest {
+
+    @Test
+    void rendersPerRecipientAndGroupsIdenticalMessages() throws NotificationException {
+        AtomicInteger loads = new AtomicInteger();
+        TemplateEngine engine = new TemplateEngine((id, version) -> {
+            loads.incrementAndGet();
+            return TemplateSource.builder()
+                    .subject("Hola {{nombre|cliente}}")
+                    .content("Tu pedido {{pedido}} de {{tienda}} está en camino")
+                    .build();
+        });
+
+        Notification notification = Notification.builder()
+                .recipient("ana@example.com")
+                .recipient("luis@example.com")
+                .recipient("otro@example.com")
+                .template(TemplateRef.of("envio", 3))
+                .metadata("tienda", "Tienda Sur")
+                .recipientVariables("ana@example.com", Map.of("nombre", "Ana", "pedido", "A-1"))
+                .recipientVariables("luis@example.com", Map.of("nombre", "Luis", "pedido", "A-1"))
+                .recipientVariables("otro@example.com", Map.of("pedido", "A-1"))
+                .build();
+
+        List<RenderedMessage> messages = engine.render(notification, ChannelType.EMAIL);
+        engine.render(notification, ChannelType.EMAIL);
+
+        assertEquals(3, messages.size());
+        assertEquals("Hola Ana", messages.get(0).getSubject());
+        assertEquals("Tu pedido A-1 de Tienda Sur está en camino", messages.get(0).getContent());
+        assertEquals("Hola cliente", messages.get(2).getSubject());
+        assertEquals(1, loads.get());
+        assertEquals(1, engine.getCachedTemplates());
+    }
+
+    @Test
+    void channelSendsOneProviderCallPerDistinctMessage() throws NotificationException {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        InMemoryTemplateLoader loader = new InMemoryTemplateLoader()
+                .register("otp", 1, TemplateSource.builder().content("Código {{codigo}}").build());
+
+        try (NotificationService service = new NotificationService.Builder()
+                .withSmsChannel((recipients, message, metadata) -> {
+                    sent.add(recipients + ":" + message);
+                    return "sms-" + sent.size();
+                })
+                .withTemplates(new TemplateEngine(loader))
+                .build()) {
+
+            NotificationResult result = service.send(Notification.builder()
+                    .recipient("+5491111111111")
+                    .recipient("+5491122222222")
+                    .template(TemplateRef.of("otp", 1))
+                    .recipientVariables("+5491111111111", Map.of("codigo", "1234"))
+                    .recipientVariables("+5491122222222", Map.of("codigo", "9876"))
+                    .build());
+
+            assertTrue(result.isSuccess());
+            assertNull(result.getProviderMessageId());
+            assertEquals(List.of("sms-1", "sms-2"), result.getRecipientResults().stream()
+                    .map(RecipientResult::getProviderMessageId)
+                    .toList());
+            assertEquals(List.of("[+5491111111111]:Código 1234", "[+5491122222222]:Código 9876"), sent);
+
+            NotificationException error = assertThrows(NotificationException.class, () -> service.send(
+                    Notification.builder()
+                            .recipient("+5491111111111")
+                            .template(TemplateRef.of("otp", 1))
+                            .build()));
+            assertEquals(NotificationException.ErrorType.VALIDATION_ERROR, error.getErrorType());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.notifications.tests;
+
+import com.notifications.core.*;
+import com.notifications.resilience.RateLimitConfig;
+import com.notifications.resilience.RateLimitPolicy;
+import com.notifications.resilience.RateLimitedChannel;
+import com.notifications.resilience.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.availablePermits());
+    }
+
+    @Test
+    void blockingAcquireWaitsForRefill() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1);
+        assertTrue(limiter.tryAcquire());
+
+        long start = System.nanoTime();
+        assertTrue(limiter.acquire(Duration.ofSeconds(1)));
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(waitedMillis >= 50, "espera: " + waitedMillis + " ms");
+        assertEquals(-1, limiter.reserve(Duration.ZERO));
+    }
+
+    @Test
+    void requestsLargerThanTheBurstAreGrantedOnlyWithAFullBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 3);
+
+        assertTrue(limiter.tryAcquire(2));
+        assertFalse(limiter.tryAcquire(5));
+        assertTrue(limiter.tryAcquire());
+
+        TokenBucketRateLimiter full = new TokenBucketRateLimiter(1, 3);
+        assertTrue(full.tryAcquire(5));
+        assertFalse(full.tryAcquire());
+        assertTrue(full.reserve(Duration.ofSeconds(10)) > 0);
+    }
+
+    @Test
+    void rateLimitedChannelChargesOnePermitPerRecipient() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 5);
+        NotificationChannel sms = new NotificationChannel() {
+            @Override
+            public NotificationResult send(Notification notification) {
+                return NotificationResult.success(notification.getId(), ChannelType.SMS, "sms");
+            }
+
+            @Override
+            public boolean supports(Notification notification) {
+                return true;
+            }
+
+            @Override
+            public ChannelType getType() {
+                return ChannelType.SMS;
+            }
+        };
+        RateLimitedChannel channel = new RateLimitedChannel(sms, RateLimitConfig.builder()
+                .limiter(limiter)
+                .policy(RateLimitPolicy.FAIL_FAST)
+                .build(), Runnable::run);
+
+        Notification notification = Notification.builder()
+                .id("n-1")
+                .recipient("+5491100000001")
+                .recipient("+5491100000002")
+                .recipient("+5491100000003")
+                .recipient("ana@example.com")
+                .content("hola")
+                .build();
+
+        assertDoesNotThrow(() -> channel.send(notification));
+        assertEquals(2, limiter.availablePermits());
+        NotificationException error = assertThrows(NotificationException.class, () -> channel.send(notification));
+        assertEquals(NotificationException.ErrorType.RATE_LIMIT_ERROR, error.getErrorType());
+    }
+}